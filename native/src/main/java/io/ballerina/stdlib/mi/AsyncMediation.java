@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.synapse.MessageContext;
+import org.apache.synapse.SynapseConstants;
+import org.apache.synapse.mediators.base.SequenceMediator;
+import org.apache.synapse.mediators.template.TemplateContext;
+
+import java.util.Stack;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Non-blocking execution mode for connector operations.
+ * <p>
+ * When the flow sets the {@value Constants#ASYNC_COMPLETION_SEQUENCE} property before invoking an operation,
+ * the Ballerina call is handed to a virtual thread and the mediator returns {@code false}, releasing the
+ * Synapse worker thread. When the call completes, the response is written to the message context as in the
+ * blocking mode and mediation continues by injecting the message into the completion sequence. Failures set
+ * the usual {@code ERROR_*} properties and inject the message into the sequence named by
+ * {@value Constants#ASYNC_FAULT_SEQUENCE}, or the current fault sequence when none is given. Calls run on the
+ * {@link ModuleRuntime#asyncExecutor() executor} of the operation's module runtime.
+ * </p>
+ * <p>
+ * The Ballerina runtime API only offers blocking calls, which run the function on a Ballerina strand and wait for
+ * it. Rather than being scheduled on the Ballerina scheduler with a callback, a call therefore parks one virtual
+ * thread until it completes. A parked virtual thread holds no platform thread, only its stack on the heap.
+ * </p>
+ * <p>
+ * Since the call writes its response to the message context from another thread, the mediator
+ * {@link #suspend suspends} the message before starting the call. It reads the sequences and the operation's
+ * template frame up front. Mediation resumes only once the call completes and the mediator has returned.
+ * </p>
+ */
+public final class AsyncMediation {
+
+    private static final Log log = LogFactory.getLog(AsyncMediation.class);
+
+    private AsyncMediation() {
+    }
+
+    /**
+     * Returns whether the current message requested non-blocking execution.
+     */
+    public static boolean isRequested(MessageContext context) {
+        return completionSequence(context) != null;
+    }
+
+    /**
+     * Suspends mediation of the message for a non-blocking call. Must be called before the call is started.
+     *
+     * @param context the message being mediated
+     * @return the continuation that resumes mediation once the call completes
+     */
+    public static Continuation suspend(MessageContext context) {
+        String completionSequence = completionSequence(context);
+        Object faultSequence = context.getProperty(Constants.ASYNC_FAULT_SEQUENCE);
+        // Consume the request so operations invoked from the completion sequence run in blocking mode
+        // unless the flow opts in again
+        context.getPropertyKeySet().remove(Constants.ASYNC_COMPLETION_SEQUENCE);
+        context.getPropertyKeySet().remove(Constants.ASYNC_FAULT_SEQUENCE);
+        return new Continuation(context, completionSequence, faultSequence != null ? faultSequence.toString() : null,
+                currentTemplate(context));
+    }
+
+    /**
+     * Sets the error properties used by the blocking mode so fault handlers behave the same in both modes. The
+     * error code is the one the failure carries.
+     */
+    static void setErrorProperties(MessageContext context, Throwable e) {
+        context.setProperty(SynapseConstants.ERROR_CODE, e instanceof BallerinaExecutionException executionException
+                ? executionException.getErrorCode() : BallerinaExecutionException.ERROR_CODE);
+        context.setProperty(SynapseConstants.ERROR_MESSAGE, e.getMessage());
+        context.setProperty(SynapseConstants.ERROR_DETAIL, e.getCause() != null ? e.getCause().toString() : e.toString());
+        context.setProperty(SynapseConstants.ERROR_EXCEPTION, e);
+    }
+
+    /**
+     * Removes the operation template's frame, and any frame above it, from the function stack. Synapse only pops
+     * the frame when the template mediates to the end, so the sequences injected after a suspended operation
+     * would otherwise read the operation's parameters instead of those of the flow that invoked it.
+     */
+    static void leaveTemplate(MessageContext context, TemplateContext operationFrame) {
+        Stack<?> functionStack = (Stack<?>) context.getProperty(Constants.SYNAPSE_FUNCTION_STACK);
+        if (operationFrame == null || functionStack == null) {
+            return;
+        }
+        int index = functionStack.lastIndexOf(operationFrame);
+        if (index >= 0) {
+            functionStack.setSize(index);
+        }
+    }
+
+    private static TemplateContext currentTemplate(MessageContext context) {
+        Stack<?> functionStack = (Stack<?>) context.getProperty(Constants.SYNAPSE_FUNCTION_STACK);
+        return functionStack != null && !functionStack.isEmpty()
+                && functionStack.peek() instanceof TemplateContext frame ? frame : null;
+    }
+
+    private static void inject(MessageContext context, String sequenceKey) {
+        if (context.getSequence(sequenceKey) instanceof SequenceMediator sequence) {
+            context.getEnvironment().injectAsync(context, sequence);
+        } else {
+            log.error("Sequence '" + sequenceKey + "' not found; asynchronous response for message "
+                    + context.getMessageID() + " is dropped");
+        }
+    }
+
+    private static String completionSequence(MessageContext context) {
+        Object value = context.getProperty(Constants.ASYNC_COMPLETION_SEQUENCE);
+        return value != null && !value.toString().isEmpty() ? value.toString() : null;
+    }
+
+    /**
+     * The state of a suspended message that mediation resumes with.
+     */
+    public static final class Continuation {
+
+        private final MessageContext context;
+        private final String completionSequence;
+        private final String faultSequence;
+        private final TemplateContext operationFrame;
+        private final CompletableFuture<Void> suspended = new CompletableFuture<>();
+
+        private Continuation(MessageContext context, String completionSequence, String faultSequence,
+                             TemplateContext operationFrame) {
+            this.context = context;
+            this.completionSequence = completionSequence;
+            this.faultSequence = faultSequence;
+            this.operationFrame = operationFrame;
+        }
+
+        /**
+         * Continues mediation once the execution completes and {@link #suspended()} was called.
+         *
+         * @param execution the pending execution returned by the executor
+         */
+        public void resumeOn(CompletableFuture<Void> execution) {
+            execution.handle((ignored, failure) -> failure)
+                    .thenCombine(suspended, (failure, ignored) -> failure)
+                    .thenAccept(this::resume);
+        }
+
+        /**
+         * Records that the mediator returned. This way the message is never injected into the next sequence
+         * while the thread that started the call still mediates it.
+         */
+        public void suspended() {
+            suspended.complete(null);
+        }
+
+        private void resume(Throwable failure) {
+            leaveTemplate(context, operationFrame);
+            if (failure == null) {
+                inject(context, completionSequence);
+                return;
+            }
+            Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                    ? failure.getCause() : failure;
+            setErrorProperties(context, cause);
+            if (faultSequence != null) {
+                inject(context, faultSequence);
+            } else if (context.getFaultSequence() instanceof SequenceMediator sequence) {
+                context.getEnvironment().injectAsync(context, sequence);
+            } else {
+                log.error("No fault sequence available to handle asynchronous failure: " + cause.getMessage(), cause);
+            }
+        }
+    }
+}
@@ -18,6 +18,7 @@
 
 package io.ballerina.stdlib.mi;
 
+import io.ballerina.runtime.api.types.XmlNodeType;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BXml;
@@ -27,13 +28,31 @@ import io.ballerina.runtime.internal.values.XmlSequence;
 import org.apache.axiom.om.*;
 import org.apache.commons.lang3.tuple.Pair;
 
+import javax.xml.namespace.QName;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Map;
-
+import java.util.Set;
+
+/**
+ * Converts Ballerina XML to AXIOM elements.
+ * <p>
+ * The tree is walked with an explicit stack, so nesting depth is bounded by the heap rather than the Java stack.
+ * Namespaces are created once per conversion and shared by the elements and attributes that use them. A
+ * sequence of several items is converted in full under a {@link #SEQUENCE_ELEMENT} wrapper.
+ * </p>
+ */
 public class BXmlConverter {
     private static final OMFactory factory = OMAbstractFactory.getOMFactory();
     private static final String XMLNS_PREFIX = "xmlns:";
 
+    /**
+     * Wrapper for results that are sequences of several XML items, in the namespace Axis2 uses for its own
+     * payload wrappers.
+     */
+    public static final QName SEQUENCE_ELEMENT = new QName("http://ws.apache.org/commons/ns/payload", "sequence");
+
     private static boolean isNamespaceDeclarationAttribute(String attributeName) {
         return attributeName.equals(BXmlItem.XMLNS_PREFIX)
                 || attributeName.startsWith(XMLNS_PREFIX)
@@ -68,79 +87,121 @@ public class BXmlConverter {
 
     public static OMElement toOMElement(BXml bXml) {
         if (bXml instanceof XmlSequence xmlSequence) {
-            if (!xmlSequence.isEmpty()) {
-                BXml firstItem = xmlSequence.getItem(0);
-                return toOMElement(firstItem);
-            }
+            return sequenceToOMElement(xmlSequence);
+        }
+        if (!(bXml instanceof BXmlItem xmlItem)) {
             return null;
         }
+        TreeBuilder builder = new TreeBuilder();
+        OMElement rootElement = builder.createElement(xmlItem);
+        builder.addChildren(rootElement, xmlItem.children());
+        return rootElement;
+    }
 
-        if (!(bXml instanceof BXmlItem xmlItem)) {
+    private static OMElement sequenceToOMElement(XmlSequence xmlSequence) {
+        if (xmlSequence.isEmpty()) {
             return null;
         }
+        // Whitespace between the items of a parsed sequence does not make it a multi-item result
+        BXml single = null;
+        int significant = 0;
+        for (int i = 0; i < xmlSequence.size(); i++) {
+            BXml item = xmlSequence.getItem(i);
+            if (item.getNodeType() != XmlNodeType.TEXT || !item.getTextValue().isBlank()) {
+                single = item;
+                significant++;
+            }
+        }
+        if (significant == 1) {
+            return toOMElement(single);
+        }
+        OMElement wrapper = factory.createOMElement(SEQUENCE_ELEMENT);
+        new TreeBuilder().addChildren(wrapper, xmlSequence);
+        return wrapper;
+    }
 
-        OMNamespace namespace = factory.createOMNamespace(xmlItem.getQName().getNamespaceURI(),
-                xmlItem.getQName().getPrefix());
-        BMap<BString, BString> bMap = xmlItem.getAttributesMap();
+    private static final class TreeBuilder {
 
-        OMElement rootElement = factory.createOMElement(xmlItem.getQName().getLocalPart(), namespace);
-        // create a map of namespaces with key:"" and value:null
-        Map<String, OMNamespace> namespaceMap = new HashMap<>();
-        namespaceMap.put("", null);
-        if (namespace != null && namespace.getNamespaceURI() != null && !namespace.getNamespaceURI().isEmpty()) {
-            namespaceMap.put(namespace.getNamespaceURI(), namespace);
-        }
+        // Namespaces in use by URI for attribute lookup, and created namespaces by URI and prefix for reuse
+        private final Map<String, OMNamespace> inScope = new HashMap<>();
+        private final Map<Pair<String, String>, OMNamespace> created = new HashMap<>();
+
+        OMElement createElement(BXmlItem xmlItem) {
+            QName qName = xmlItem.getQName();
+            OMNamespace namespace = namespace(qName.getNamespaceURI(), qName.getPrefix());
+            OMElement element = factory.createOMElement(qName.getLocalPart(), namespace);
+            if (namespace != null && namespace.getNamespaceURI() != null && !namespace.getNamespaceURI().isEmpty()) {
+                inScope.put(namespace.getNamespaceURI(), namespace);
+            }
 
-        for (Map.Entry<BString, BString> entry : bMap.entrySet()) {
-            String attributeName = entry.getKey().getValue();
-            if (isNamespaceDeclarationAttribute(attributeName)) {
-                String prefix = getNamespacePrefix(attributeName);
-                OMNamespace omNamespace = factory.createOMNamespace(entry.getValue().getValue(), prefix);
-                namespaceMap.put(entry.getValue().getValue(), omNamespace);
+            Set<Map.Entry<BString, BString>> attributes = xmlItem.getAttributesMap().entrySet();
+            for (Map.Entry<BString, BString> entry : attributes) {
+                String attributeName = entry.getKey().getValue();
+                if (isNamespaceDeclarationAttribute(attributeName)) {
+                    String uri = entry.getValue().getValue();
+                    inScope.put(uri, namespace(uri, getNamespacePrefix(attributeName)));
+                }
+            }
+            for (Map.Entry<BString, BString> attribute : attributes) {
+                String attributeName = attribute.getKey().getValue();
+                if (!isNamespaceDeclarationAttribute(attributeName)) {
+                    Pair<String, String> pair = extractNamespace(attributeName);
+                    OMNamespace attributeNamespace = pair.getLeft().isEmpty() ? null : inScope.get(pair.getLeft());
+                    element.addAttribute(factory.createOMAttribute(pair.getRight(), attributeNamespace,
+                            attribute.getValue().getValue()));
+                }
             }
+            return element;
         }
-        for (Map.Entry<BString, BString> attribute : bMap.entrySet()) {
-            String attributeName = attribute.getKey().getValue();
-            if (!isNamespaceDeclarationAttribute(attributeName)) {
-                Pair<String, String> pair = extractNamespace(attribute.getKey().getValue());
-                OMAttribute omattribute = factory.createOMAttribute(pair.getRight(), namespaceMap.get(pair.getLeft()),
-                        attribute.getValue().getValue());
-                rootElement.addAttribute(omattribute);
+
+        void addChildren(OMElement parent, BXml children) {
+            Deque<Frame> open = new ArrayDeque<>();
+            open.push(new Frame(parent, children));
+            while (!open.isEmpty()) {
+                Frame frame = open.peek();
+                if (frame.next >= frame.children.size()) {
+                    open.pop();
+                    continue;
+                }
+                BXml child = frame.children.getItem(frame.next++);
+                switch (child.getNodeType()) {
+                    case ELEMENT:
+                        if (child instanceof BXmlItem childItem) {
+                            OMElement childElement = createElement(childItem);
+                            frame.element.addChild(childElement);
+                            open.push(new Frame(childElement, childItem.children()));
+                        }
+                        break;
+                    case TEXT:
+                        factory.createOMText(frame.element, child.getTextValue());
+                        break;
+                    case COMMENT:
+                        factory.createOMComment(frame.element, child.getTextValue());
+                        break;
+                    case PI:
+                        XmlPi xmlPi = (XmlPi) child;
+                        factory.createOMProcessingInstruction(frame.element, xmlPi.getTarget(), xmlPi.getData());
+                        break;
+                    default:
+                        break;
+                }
             }
+        }
 
+        private OMNamespace namespace(String uri, String prefix) {
+            return created.computeIfAbsent(Pair.of(uri, prefix), key -> factory.createOMNamespace(uri, prefix));
         }
-        addChildrenElements(rootElement, bXml);
-        return rootElement;
     }
 
-    static void addChildrenElements(OMElement rootElement, BXml bXml) {
-        BXmlItem xmlItem = (BXmlItem) bXml;
-        for (int i = 0; i < xmlItem.children().size(); i++) {
-            BXml child = xmlItem.children().getItem(i);
-            switch (child.getNodeType()) {
-                case ELEMENT:
-                    OMElement childElement = toOMElement(child);
-                    if (childElement != null) {
-                        rootElement.addChild(childElement);
-                    }
-                    break;
-                case TEXT:
-                    OMText omText = factory.createOMText(rootElement, child.getTextValue());
-                    rootElement.addChild(omText);
-                    break;
-                case COMMENT:
-                    OMComment omComment = factory.createOMComment(rootElement, child.getTextValue());
-                    rootElement.addChild(omComment);
-                    break;
-                case PI:
-                    XmlPi xmlPi = (XmlPi) child;
-                    OMProcessingInstruction omProcessingInstruction = factory.createOMProcessingInstruction(null,
-                            xmlPi.getTarget(), xmlPi.getData());
-                    rootElement.addChild(omProcessingInstruction);
-                    break;
-                default:
-                    break;
-            }
+    private static final class Frame {
+
+        final OMElement element;
+        final BXml children;
+        int next;
+
+        Frame(OMElement element, BXml children) {
+            this.element = element;
+            this.children = children;
         }
     }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi;
+
+import io.ballerina.runtime.api.values.BXml;
+import org.apache.axiom.om.OMDataSource;
+import org.apache.axiom.om.OMOutputFormat;
+import org.apache.axiom.om.impl.MTOMXMLStreamWriter;
+import org.apache.axiom.om.impl.serialize.StreamingOMSerializer;
+import org.apache.axiom.om.util.StAXUtils;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Data source of an XML element backed by a Ballerina XML value.
+ * <p>
+ * An element created over this source is serialized by the Ballerina XML serializer straight to the output,
+ * so a result that is only written out never becomes an AXIOM tree. AXIOM expands the element through
+ * {@link #getReader()} only when a mediator navigates into it. The source can be read any number of times.
+ * </p>
+ */
+final class BXmlDataSource implements OMDataSource {
+
+    private final BXml bXml;
+
+    BXmlDataSource(BXml bXml) {
+        this.bXml = bXml;
+    }
+
+    @Override
+    public void serialize(OutputStream output, OMOutputFormat format) throws XMLStreamException {
+        String encoding = format != null ? format.getCharSetEncoding() : null;
+        try {
+            if (encoding == null || Charset.forName(encoding).equals(StandardCharsets.UTF_8)) {
+                bXml.serialize(output);
+            } else {
+                output.write(new String(toBytes(), StandardCharsets.UTF_8).getBytes(encoding));
+            }
+            output.flush();
+        } catch (IOException | RuntimeException e) {
+            throw new XMLStreamException("Failed to serialize Ballerina XML value", e);
+        }
+    }
+
+    @Override
+    public void serialize(Writer writer, OMOutputFormat format) throws XMLStreamException {
+        try {
+            writer.write(new String(toBytes(), StandardCharsets.UTF_8));
+            writer.flush();
+        } catch (IOException e) {
+            throw new XMLStreamException("Failed to serialize Ballerina XML value", e);
+        }
+    }
+
+    @Override
+    public void serialize(XMLStreamWriter xmlWriter) throws XMLStreamException {
+        // The message formatters write through an MTOM writer whose raw stream can take the bytes directly,
+        // unless attachments are being optimized
+        if (xmlWriter instanceof MTOMXMLStreamWriter mtomWriter && !mtomWriter.isOptimized()) {
+            OutputStream output = mtomWriter.getOutputStream();
+            if (output != null) {
+                serialize(output, mtomWriter.getOutputFormat());
+                return;
+            }
+        }
+        XMLStreamReader reader = getReader();
+        try {
+            new StreamingOMSerializer().serialize(reader, xmlWriter);
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Override
+    public XMLStreamReader getReader() throws XMLStreamException {
+        return StAXUtils.createXMLStreamReader(new ByteArrayInputStream(toBytes()));
+    }
+
+    private byte[] toBytes() throws XMLStreamException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        serialize(output, null);
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi;
+
+import org.apache.synapse.ManagedLifecycle;
+import org.apache.synapse.MessageContext;
+import org.apache.synapse.core.SynapseEnvironment;
+import org.wso2.integration.connector.core.AbstractConnector;
+import org.wso2.integration.connector.core.ConnectException;
+
+/**
+ * First step of the generated init template, run before the connection properties are populated.
+ * <p>
+ * Building a connection needs the object type name, parameter count and one property per flattened config field
+ * of every connection type, but once the connection's clients exist none of them are read again. This mediator
+ * sets {@value Constants#CONNECTION_CACHED} to {@code true} when the connection already has clients built from
+ * the current init parameter values, and the template then skips to the operation; otherwise it is set to
+ * {@code false} and the properties are populated for {@link BalConnectorConfig}.
+ * </p>
+ */
+public class BalConnectionLookup extends AbstractConnector implements ManagedLifecycle {
+    private String orgName;
+    private String moduleName;
+    private String version;
+    private volatile ModuleRuntime moduleRuntime;
+
+    @Override
+    public void connect(MessageContext messageContext) throws ConnectException {
+        ModuleRuntime runtime = moduleRuntime;
+        if (runtime == null || runtime.isStopped()) {
+            runtime = RuntimeRegistry.getOrStart(orgName, moduleName, version);
+            moduleRuntime = runtime;
+        }
+        boolean cached = BalConnectorConfig.useCachedConnection(messageContext, runtime);
+        messageContext.setProperty(Constants.CONNECTION_CACHED, Boolean.toString(cached));
+    }
+
+    /**
+     * Keeps the module runtime running while the init template is deployed.
+     */
+    @Override
+    public void init(SynapseEnvironment synapseEnvironment) {
+        if (moduleName != null) {
+            RuntimeRegistry.retain(orgName, moduleName, version);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (moduleName == null) {
+            return;
+        }
+        moduleRuntime = null;
+        RuntimeRegistry.release(orgName, moduleName, version);
+    }
+
+    public String getOrgName() {
+        return orgName;
+    }
+
+    public void setOrgName(String orgName) {
+        this.orgName = orgName;
+    }
+
+    public String getModuleName() {
+        return moduleName;
+    }
+
+    public void setModuleName(String moduleName) {
+        this.moduleName = moduleName;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public void setVersion(String version) {
+        this.version = version;
+    }
+}
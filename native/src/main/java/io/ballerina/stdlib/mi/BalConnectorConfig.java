@@ -19,31 +19,37 @@
 package io.ballerina.stdlib.mi;
 
 import io.ballerina.runtime.api.Module;
-import io.ballerina.runtime.api.Runtime;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BRefValue;
 import io.ballerina.stdlib.mi.executor.DataTransformer;
 import io.ballerina.stdlib.mi.executor.ParamHandler;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.synapse.ManagedLifecycle;
 import org.apache.synapse.MessageContext;
 import org.apache.synapse.SynapseException;
 import org.apache.synapse.SynapseConstants;
+import org.apache.synapse.core.SynapseEnvironment;
 import org.apache.synapse.mediators.template.TemplateContext;
 import org.wso2.integration.connector.core.AbstractConnector;
 import org.wso2.integration.connector.core.ConnectException;
 import org.wso2.integration.connector.core.connection.ConnectionHandler;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Stack;
 
-public class BalConnectorConfig extends AbstractConnector {
-    private static volatile Runtime rt = null;
-    private static Module module = null;
+public class BalConnectorConfig extends AbstractConnector implements ManagedLifecycle {
+    private static final Log log = LogFactory.getLog(BalConnectorConfig.class);
     private String orgName;
     private String moduleName;
     private String version;
+    private volatile ModuleRuntime moduleRuntime;
     private final ParamHandler paramHandler = new ParamHandler();
 
     public BalConnectorConfig() {
@@ -55,92 +61,235 @@ public class BalConnectorConfig extends AbstractConnector {
         this.orgName = moduleInfo.getOrgName();
         this.moduleName = moduleInfo.getModuleName();
         this.version = moduleInfo.getModuleVersion();
-        init();
+        getModuleRuntime();
     }
 
     @Override
     public void connect(MessageContext messageContext) throws ConnectException {
         // Connection metadata is resolved from template parameters and message properties.
         // A distinct connection entry is created per connector/module and connection name.
-        if (rt == null) {
-            synchronized (BalConnectorConfig.class) {
-                if (rt == null) {
-                    init();
-                }
-            }
-        }
+        ModuleRuntime runtime = getModuleRuntime();
+        Module module = runtime.module();
+        RuntimeRegistry.bind(messageContext, runtime);
         String connectorName = module.getName();
         String connectionName = lookupTemplateParamater(messageContext, "name");
         String connectionType = lookupTemplateParamater(messageContext, "connectionType");
-        BObject clientObject = null;
+        Map<String, Object> initValues = initValues(messageContext);
         ConnectionHandler handler = ConnectionHandler.getConnectionHandler();
-        if (!handler.checkIfConnectionExists(connectorName, connectionName)) {
-            try {
-
-                // Using json string to create a record value
-//                BString jsonString = StringUtils.fromString("");
-//                BMap<BString, Object> recValue = ValueCreator.createRecordValue(module, "ConnectionConfig");
-////                TypeCreator.createRecordType(module, StringUtils.fromString("https://disease.sh"))
-//                Type type = recValue.getType();
-//                Object o = FromJsonStringWithType.fromJsonStringWithType(jsonString, ValueCreator.createTypedescValue(type));
-
-                String paramSizeName = connectionType + "_" + Constants.SIZE;
-                String paramSize = getPropertyAsString(messageContext, paramSizeName);
-                if (paramSize == null) {
-                    throw new ConnectException("Required property '" + paramSizeName + "' is missing in message context");
-                }
-                
-                int paramCount;
-                try {
-                    paramCount = Integer.parseInt(paramSize);
-                } catch (NumberFormatException e) {
-                    throw new ConnectException("Invalid value for property '" + paramSizeName + "': expected an integer but got '" + paramSize + "'");
-                }
-                Object[] args = new Object[paramCount];
-                setParameters(args, messageContext, connectionType);
-                
-                String objectTypeNameKey = connectionType + "_objectTypeName";
-                String objectTypeName = getPropertyAsString(messageContext, objectTypeNameKey);
-                if (objectTypeName == null) {
-                    throw new ConnectException("Required property '" + objectTypeNameKey + "' is missing in message context");
+        if (handler.checkIfConnectionExists(connectorName, connectionName)) {
+            if (handler.getConnection(connectorName, connectionName) instanceof BalConnectorConnection balConnection) {
+                balConnection.touch();
+                if (!balConnection.isCurrent(initValues)) {
+                    // The init arguments changed, or the clients were evicted after being idle
+                    synchronized (balConnection) {
+                        if (!balConnection.isCurrent(initValues)) {
+                            Bulkhead bulkhead = createBulkhead(messageContext, connectionName, balConnection.getBulkhead());
+                            ClientPool.Factory factory = createClientFactory(messageContext, runtime, connectionType);
+                            try {
+                                balConnection.refresh(runtime, factory, initValues, bulkhead);
+                            } catch (BError clientError) {
+                                throw clientError(messageContext, clientError);
+                            }
+                            // Tracked again when it was closed along with the runtime it was built on
+                            ClientConnections.register(balConnection);
+                            ClientConnections.recordRebuild();
+                        }
+                    }
                 }
-                
-                clientObject = ValueCreator.createObjectValue(module, objectTypeName, args);
+            }
+        } else {
+            Bulkhead bulkhead = createBulkhead(messageContext, connectionName, null);
+            ClientPool.Factory factory = createClientFactory(messageContext, runtime, connectionType);
+            BalConnectorConnection balConnection;
+            try {
+                balConnection = new BalConnectorConnection(runtime, factory, initValues, bulkhead);
             } catch (BError clientError) {
-                messageContext.setProperty(SynapseConstants.ERROR_CODE, "BALLERINA_CLIENT_ERROR");
-                messageContext.setProperty(SynapseConstants.ERROR_MESSAGE, clientError.getMessage());
-                messageContext.setProperty(SynapseConstants.ERROR_DETAIL, clientError.toString());
-                messageContext.setProperty(SynapseConstants.ERROR_EXCEPTION, clientError);
-                throw new ConnectException(clientError, clientError.getMessage());
+                throw clientError(messageContext, clientError);
             }
-            BalConnectorConnection balConnection = new BalConnectorConnection(module, getPropertyAsString(messageContext, connectionType + "_objectTypeName"), clientObject);
             try {
                 handler.createConnection(connectorName, connectionName, balConnection, messageContext);
             } catch (NoSuchMethodError e) {
                 handler.createConnection(connectorName, connectionName, balConnection);
             }
+            ClientConnections.register(balConnection);
         }
         messageContext.setProperty("connectionName", connectionName);
     }
-    
+
+    /**
+     * Binds the message to its connection when the connection's clients exist and were built from the current init
+     * parameter values. The init template then skips populating the connection properties and running
+     * {@link #connect(MessageContext)}.
+     *
+     * @return whether the cached connection was used
+     */
+    static boolean useCachedConnection(MessageContext messageContext, ModuleRuntime runtime) throws ConnectException {
+        String connectorName = runtime.module().getName();
+        String connectionName = lookupTemplateParamater(messageContext, "name");
+        ConnectionHandler handler = ConnectionHandler.getConnectionHandler();
+        if (!handler.checkIfConnectionExists(connectorName, connectionName)
+                || !(handler.getConnection(connectorName, connectionName) instanceof BalConnectorConnection connection)) {
+            return false;
+        }
+        // Marked as used before the check, so that the idle eviction does not close the clients in between
+        connection.touch();
+        if (!connection.isCurrent(initValues(messageContext))) {
+            return false;
+        }
+        RuntimeRegistry.bind(messageContext, runtime);
+        messageContext.setProperty("connectionName", connectionName);
+        return true;
+    }
+
+    /**
+     * Resolves the init arguments of the connection's clients from the message, returning the factory that builds
+     * the clients from them.
+     */
+    private ClientPool.Factory createClientFactory(MessageContext messageContext, ModuleRuntime runtime,
+                                                   String connectionType) throws ConnectException {
+        try {
+            String paramSizeName = connectionType + "_" + Constants.SIZE;
+            String paramSize = getPropertyAsString(messageContext, paramSizeName);
+            if (paramSize == null) {
+                throw new ConnectException("Required property '" + paramSizeName + "' is missing in message context");
+            }
+
+            int paramCount;
+            try {
+                paramCount = Integer.parseInt(paramSize);
+            } catch (NumberFormatException e) {
+                throw new ConnectException("Invalid value for property '" + paramSizeName + "': expected an integer but got '" + paramSize + "'");
+            }
+            String objectTypeNameKey = connectionType + "_objectTypeName";
+            String objectTypeName = getPropertyAsString(messageContext, objectTypeNameKey);
+            if (objectTypeName == null) {
+                throw new ConnectException("Required property '" + objectTypeNameKey + "' is missing in message context");
+            }
+
+            int poolSize = getClientPoolSize(messageContext);
+            String poolStrategy = getClientPoolStrategy(messageContext);
+            Object[] args = new Object[paramCount];
+            setParameters(args, messageContext, connectionType, runtime.module());
+            return new ClientInit(runtime, objectTypeName, args, poolSize, poolStrategy);
+        } catch (BError clientError) {
+            throw clientError(messageContext, clientError);
+        }
+    }
+
+    private static ConnectException clientError(MessageContext messageContext, BError clientError) {
+        messageContext.setProperty(SynapseConstants.ERROR_CODE, "BALLERINA_CLIENT_ERROR");
+        messageContext.setProperty(SynapseConstants.ERROR_MESSAGE, clientError.getMessage());
+        messageContext.setProperty(SynapseConstants.ERROR_DETAIL, clientError.toString());
+        messageContext.setProperty(SynapseConstants.ERROR_EXCEPTION, clientError);
+        return new ConnectException(clientError, clientError.getMessage());
+    }
+
+    /**
+     * Returns the init template's parameter values, which the connection's init arguments are built from. A
+     * connection whose values change gets new clients.
+     */
+    static Map<String, Object> initValues(MessageContext ctxt) {
+        Stack<TemplateContext> funcStack = (Stack) ctxt.getProperty(Constants.SYNAPSE_FUNCTION_STACK);
+        Map<String, Object> values = funcStack.peek().getMappedValues();
+        return values != null ? values : Map.of();
+    }
+
+    private static int getClientPoolSize(MessageContext context) throws ConnectException {
+        String poolSize = lookupOptionalTemplateParameter(context, Constants.CLIENT_POOL_SIZE);
+        return poolSize != null ? parseIntParameter(Constants.CLIENT_POOL_SIZE, poolSize, 1) : 1;
+    }
+
+    /**
+     * Returns the bulkhead set by the connection's {@value Constants#MAX_CONCURRENT_CALLS} and
+     * {@value Constants#MAX_QUEUED_CALLS} parameters, or {@code null} when the connection is unbounded. The current
+     * bulkhead is kept when its limits are unchanged, so the calls running on it stay counted.
+     */
+    private static Bulkhead createBulkhead(MessageContext context, String connectionName, Bulkhead current)
+            throws ConnectException {
+        String maxConcurrent = lookupOptionalTemplateParameter(context, Constants.MAX_CONCURRENT_CALLS);
+        if (maxConcurrent == null) {
+            return null;
+        }
+        int maxCalls = parseIntParameter(Constants.MAX_CONCURRENT_CALLS, maxConcurrent, 1);
+        String maxQueued = lookupOptionalTemplateParameter(context, Constants.MAX_QUEUED_CALLS);
+        int maxQueuedCalls = maxQueued != null ? parseIntParameter(Constants.MAX_QUEUED_CALLS, maxQueued, 0) : 0;
+        if (current != null && current.getMaxConcurrentCalls() == maxCalls
+                && current.getMaxQueuedCalls() == maxQueuedCalls) {
+            return current;
+        }
+        return new Bulkhead(connectionName, maxCalls, maxQueuedCalls);
+    }
+
+    private static int parseIntParameter(String name, String value, int min) throws ConnectException {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed >= min) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new ConnectException("Invalid value for template parameter '" + name + "': expected a "
+                + (min > 0 ? "positive" : "non-negative") + " integer but got '" + value + "'");
+    }
+
+    private static String getClientPoolStrategy(MessageContext context) throws ConnectException {
+        String strategy = lookupOptionalTemplateParameter(context, Constants.CLIENT_POOL_STRATEGY);
+        if (strategy == null) {
+            return ClientPool.ROUND_ROBIN;
+        }
+        if (!ClientPool.isStrategy(strategy)) {
+            throw new ConnectException("Invalid value for template parameter '" + Constants.CLIENT_POOL_STRATEGY
+                    + "': expected '" + ClientPool.ROUND_ROBIN + "' or '" + ClientPool.LEAST_BUSY + "' but got '"
+                    + strategy + "'");
+        }
+        return strategy;
+    }
+
     private String getPropertyAsString(MessageContext context, String key) {
         Object property = context.getProperty(key);
         return property != null ? property.toString() : null;
     }
 
-    private void init() {
-        module = new Module(orgName, moduleName, version);
-        rt = Runtime.from(module);
-        rt.init();
-        rt.start();
+    /**
+     * Starts the module runtime when the connector init template is deployed, so the first message does not pay for module
+     * initialisation, and schedules the creation of eager connections. A failure here is logged and the runtime is
+     * started again on the first message.
+     */
+    @Override
+    public void init(SynapseEnvironment synapseEnvironment) {
+        if (moduleName == null) {
+            return;
+        }
+        RuntimeRegistry.retain(orgName, moduleName, version);
+        try {
+            ModuleRuntime runtime = getModuleRuntime();
+            RuntimeWarmup.runIfEnabled();
+            ConnectionWarmup.schedule(synapseEnvironment, moduleName.replace('.', '_'), runtime);
+        } catch (Exception e) {
+            log.warn("Could not start Ballerina runtime for module '" + moduleName + "' at deployment: "
+                    + e.getMessage(), e);
+        }
     }
 
-    public static Runtime getRuntime() {
-        return rt;
+    @Override
+    public void destroy() {
+        if (moduleName == null) {
+            return;
+        }
+        ConnectionWarmup.cancel(moduleName.replace('.', '_'));
+        // The runtime is shared by every artifact of the module and stopped once the last of them is destroyed
+        moduleRuntime = null;
+        RuntimeRegistry.release(orgName, moduleName, version);
     }
 
-    public static Module getModule() {
-        return module;
+    private ModuleRuntime getModuleRuntime() {
+        ModuleRuntime runtime = moduleRuntime;
+        if (runtime == null || runtime.isStopped()) {
+            runtime = RuntimeRegistry.getOrStart(orgName, moduleName, version);
+            moduleRuntime = runtime;
+        }
+        return runtime;
     }
 
     public static String lookupTemplateParamater(MessageContext ctxt, String paramName) throws ConnectException {
@@ -153,7 +302,20 @@ public class BalConnectorConfig extends AbstractConnector {
         return value.toString();
     }
 
-    private void setParameters(Object[] args, MessageContext context, String connectionType) {
+    /**
+     * Returns the value of a template parameter the connection may leave unset, or {@code null} when it is
+     * missing or blank.
+     */
+    static String lookupOptionalTemplateParameter(MessageContext ctxt, String paramName) {
+        Stack<TemplateContext> funcStack = (Stack) ctxt.getProperty(Constants.SYNAPSE_FUNCTION_STACK);
+        Object value = funcStack.peek().getParameterValue(paramName);
+        if (value == null || value.toString().isBlank()) {
+            return null;
+        }
+        return value.toString().trim();
+    }
+
+    private void setParameters(Object[] args, MessageContext context, String connectionType, Module module) {
         for (int i = 0; i < args.length; i++) {
             Object param = paramHandler.getParameter(context, connectionType + "_param" + i, connectionType + "_paramType" + i, i);
             if (param instanceof BMap || param instanceof BArray) {
@@ -161,7 +323,7 @@ public class BalConnectorConfig extends AbstractConnector {
                 if (recordNameObj != null) {
                     String recordName = recordNameObj.toString();
                     try {
-                        Type recType = ValueCreator.createRecordValue(module, recordName).getType();
+                        Type recType = TypeRegistry.getRecordType(module, recordName);
                         param = DataTransformer.convertValueToType(param, recType);
                     } catch (Exception e) {
                         throw new SynapseException(
@@ -196,4 +358,26 @@ public class BalConnectorConfig extends AbstractConnector {
     public void setVersion(String version) {
         this.version = version;
     }
+
+    /**
+     * Init arguments of a connection's clients, kept so that the clients can be built again after an eviction.
+     * Each client gets its own copy of the mutable arguments, so clients never share config values.
+     */
+    private record ClientInit(ModuleRuntime runtime, String objectTypeName, Object[] args, int poolSize,
+                              String strategy) implements ClientPool.Factory {
+
+        @Override
+        public ClientPool create() {
+            BObject[] clients = new BObject[poolSize];
+            for (int i = 0; i < poolSize; i++) {
+                Object[] clientArgs = new Object[args.length];
+                for (int j = 0; j < args.length; j++) {
+                    clientArgs[j] = args[j] instanceof BRefValue value && (value instanceof BMap || value instanceof BArray)
+                            && !value.isFrozen() ? value.copy(new HashMap<>()) : args[j];
+                }
+                clients[i] = ValueCreator.createObjectValue(runtime.module(), objectTypeName, clientArgs);
+            }
+            return new ClientPool(clients, strategy, runtime.runtime());
+        }
+    }
 }
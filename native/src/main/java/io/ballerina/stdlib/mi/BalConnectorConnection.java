@@ -15,20 +15,47 @@
  * specific language governing permissions and limitations
  * under the License.
  */
- 
+
 package io.ballerina.stdlib.mi;
 
-import io.ballerina.runtime.api.Module;
 import io.ballerina.runtime.api.values.BObject;
 import org.wso2.integration.connector.core.ConnectException;
 import org.wso2.integration.connector.core.connection.Connection;
 import org.wso2.integration.connector.core.connection.ConnectionConfig;
 
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Connection entry of one MI connection name, holding the Ballerina clients built for it.
+ * <p>
+ * The entry stays registered with the {@code ConnectionHandler} for the life of the connection, while its
+ * {@link ClientPool} can change: the pool is rebuilt when the init template's parameter values, which the init
+ * arguments are built from, change, and it is closed when the connection is evicted after being idle or is closed. An
+ * evicted connection has no pool until an operation acquires a client, when the pool is built again from the init
+ * arguments of the connection, or its init template runs again.
+ * </p>
+ * <p>
+ * When the registry stops the module runtime the clients were built on, the connection is closed and no longer
+ * tracked by {@link ClientConnections}. It stays with the {@code ConnectionHandler}, which has no way to remove it,
+ * and is refreshed with clients of the module's new runtime by the next run of its init template.
+ * </p>
+ */
 public class BalConnectorConnection implements Connection {
-    private final BObject balConnectorObj;
+    // The clients and the bulkhead bounding the calls to them are replaced as one, so a call never pairs the
+    // clients of one init with the bulkhead of another
+    private volatile Clients clients;
+    private volatile Map<String, String> initValues;
+    private volatile long lastUsedNanos = System.nanoTime();
+    private volatile ClientPool.Factory factory;
+    private volatile ModuleRuntime moduleRuntime;
 
-    public BalConnectorConnection(Module module, String objectTypeName, BObject clientObj) {
-        this.balConnectorObj = clientObj;
+    public BalConnectorConnection(ModuleRuntime moduleRuntime, ClientPool.Factory factory,
+                                  Map<String, ?> initValues, Bulkhead bulkhead) {
+        this.clients = new Clients(factory.create(), bulkhead);
+        this.factory = factory;
+        this.moduleRuntime = moduleRuntime;
+        this.initValues = snapshot(initValues);
     }
 
     @Override
@@ -36,12 +63,171 @@ public class BalConnectorConnection implements Connection {
         // No-op: the Ballerina client object is constructed during connection creation.
     }
 
+    /**
+     * Closes the clients once the calls in progress complete.
+     */
     @Override
     public void close() throws ConnectException {
-        // No-op: managed runtime does not require explicit connector-level teardown here.
+        ClientPool pool;
+        synchronized (this) {
+            pool = clients.pool();
+            clients = new Clients(null, clients.bulkhead());
+            factory = null;
+        }
+        ClientConnections.unregister(this);
+        if (pool != null) {
+            pool.retire();
+        }
     }
 
+    /**
+     * Returns the first client object of the connection, or {@code null} when it has no clients. Operations
+     * take a client with {@link #acquire(Bulkhead)}.
+     */
     public BObject getBalConnectorObj() {
-        return balConnectorObj;
+        ClientPool pool = clients.pool();
+        return pool != null ? pool.client(0) : null;
+    }
+
+    /**
+     * Returns the clients of the connection, or {@code null} when it was evicted or closed.
+     */
+    public ClientPool getClientPool() {
+        return clients.pool();
+    }
+
+    /**
+     * Reserves a client of the connection for one call, provided the calls to its clients are still bounded by
+     * the given bulkhead, which the caller has entered, or still unbounded when it is {@code null}. The clients of an
+     * evicted connection are built again from its init arguments.
+     *
+     * @return the lease to release once the call completes, or {@code null} when the clients were replaced along
+     * with their bulkhead, the connection was closed or it has no init arguments to build its clients from
+     */
+    public ClientPool.Lease acquire(Bulkhead bulkhead) {
+        lastUsedNanos = System.nanoTime();
+        while (true) {
+            Clients current = clients;
+            if (current.pool() == null) {
+                current = rebuild();
+            }
+            if (current.bulkhead() != bulkhead || current.pool() == null) {
+                return null;
+            }
+            int slot = current.pool().acquire();
+            if (slot >= 0) {
+                return new ClientPool.Lease(current.pool(), slot);
+            }
+            // The clients were replaced or evicted after they were read
+        }
+    }
+
+    private synchronized Clients rebuild() {
+        if (clients.pool() == null && factory != null) {
+            clients = new Clients(factory.create(), clients.bulkhead());
+            lastUsedNanos = System.nanoTime();
+            ClientConnections.recordRebuild();
+        }
+        return clients;
+    }
+
+    /**
+     * Marks the connection as used, so that it is not evicted while an operation that found it current is
+     * about to acquire a client.
+     */
+    void touch() {
+        lastUsedNanos = System.nanoTime();
+    }
+
+    /**
+     * Returns the module runtime the clients were built on, or {@code null} when they were not built by the registry's
+     * runtime.
+     */
+    public ModuleRuntime getModuleRuntime() {
+        return moduleRuntime;
+    }
+
+    /**
+     * Returns the bound on the operations running on the connection, or {@code null} when it is unbounded.
+     */
+    public Bulkhead getBulkhead() {
+        return clients.bulkhead();
+    }
+
+    /**
+     * Returns whether the connection has clients built from the given init template parameter values on a running
+     * module runtime. The values are compared by their string form, entry by entry, without copying them.
+     */
+    public boolean isCurrent(Map<String, ?> initValues) {
+        Map<String, String> current = this.initValues;
+        if (clients.pool() == null || current == null || current.size() != initValues.size()) {
+            return false;
+        }
+        ModuleRuntime runtime = moduleRuntime;
+        if (runtime != null && runtime.isStopped()) {
+            return false;
+        }
+        for (Map.Entry<String, ?> entry : initValues.entrySet()) {
+            if (!String.valueOf(entry.getValue()).equals(current.get(entry.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Replaces the clients of the connection with clients built on the given module runtime, along with the
+     * bulkhead bounding the calls to them and the factory that builds them again after an eviction. The previous
+     * clients are closed once their calls complete.
+     */
+    public void refresh(ModuleRuntime moduleRuntime, ClientPool.Factory factory, Map<String, ?> initValues,
+                        Bulkhead bulkhead) {
+        ClientPool pool = factory.create();
+        Map<String, String> values = snapshot(initValues);
+        ClientPool previous;
+        synchronized (this) {
+            previous = clients.pool();
+            this.initValues = values;
+            this.clients = new Clients(pool, bulkhead);
+            this.factory = factory;
+            this.moduleRuntime = moduleRuntime;
+            this.lastUsedNanos = System.nanoTime();
+        }
+        if (previous != null) {
+            previous.retire();
+        }
+    }
+
+    private static Map<String, String> snapshot(Map<String, ?> initValues) {
+        Map<String, String> values = new HashMap<>(initValues.size() * 2);
+        for (Map.Entry<String, ?> entry : initValues.entrySet()) {
+            values.put(entry.getKey(), String.valueOf(entry.getValue()));
+        }
+        return values;
+    }
+
+    /**
+     * Closes the clients if no call has used them for the given time and none is in progress.
+     *
+     * @return the number of clients closed
+     */
+    int evictIfIdle(long nowNanos, long idleTimeoutNanos) {
+        ClientPool pool;
+        synchronized (this) {
+            pool = clients.pool();
+            if (pool == null || pool.inFlight() > 0 || nowNanos - lastUsedNanos < idleTimeoutNanos) {
+                return 0;
+            }
+            clients = new Clients(null, clients.bulkhead());
+        }
+        pool.retire();
+        return pool.size();
+    }
+
+    /**
+     * The clients of the connection, {@code null} when it was evicted or closed, with the bulkhead bounding the
+     * calls to them.
+     */
+    private record Clients(ClientPool pool, Bulkhead bulkhead) {
     }
 }
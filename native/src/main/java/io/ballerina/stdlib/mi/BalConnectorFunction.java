@@ -20,41 +20,204 @@ package io.ballerina.stdlib.mi;
 
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.stdlib.mi.executor.BalExecutor;
+import org.apache.axiom.om.OMElement;
 import org.apache.axis2.AxisFault;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.synapse.ManagedLifecycle;
 import org.apache.synapse.MessageContext;
 import org.apache.synapse.SynapseConstants;
+import org.apache.synapse.core.SynapseEnvironment;
 import org.wso2.integration.connector.core.AbstractConnector;
 import org.wso2.integration.connector.core.ConnectException;
 import org.wso2.integration.connector.core.connection.ConnectionHandler;
 
-public class BalConnectorFunction extends AbstractConnector {
+import java.util.concurrent.CompletableFuture;
+
+public class BalConnectorFunction extends AbstractConnector implements ManagedLifecycle {
+
+    private static final Log log = LogFactory.getLog(BalConnectorFunction.class);
 
     private String orgName;
     private String moduleName;
     private String version;
+    private OperationDescriptor operationDescriptor;
+    private volatile ModuleRuntime moduleRuntime;
     private final BalExecutor balExecutor = new BalExecutor();
 
+    @Override
+    public boolean mediate(MessageContext messageContext) {
+        if (!AsyncMediation.isRequested(messageContext)) {
+            return super.mediate(messageContext);
+        }
+        try {
+            ModuleRuntime runtime = getModuleRuntime();
+            OperationDescriptor.bind(messageContext, operationDescriptor);
+            // The worker must not wait in a bulkhead queue for an operation that is not to block it
+            Call call = acquireClient(messageContext, runtime, false);
+            AsyncMediation.Continuation continuation = AsyncMediation.suspend(messageContext);
+            CompletableFuture<Void> execution = null;
+            try {
+                execution = balExecutor.executeAsync(runtime.runtime(), call.client(), messageContext,
+                        runtime.asyncExecutor());
+                // Release the client before mediation continues in the completion sequence
+                continuation.resumeOn(execution.whenComplete((ignored, failure) -> call.release()));
+            } catch (AxisFault | BallerinaExecutionException e) {
+                throw toConnectException(messageContext, e);
+            } finally {
+                if (execution == null) {
+                    call.release();
+                }
+                continuation.suspended();
+            }
+        } catch (ConnectException e) {
+            handleException(e.getMessage(), e, messageContext);
+        }
+        return false;
+    }
+
     @Override
     public void connect(MessageContext messageContext) throws ConnectException {
-        String connectorName = BalConnectorConfig.getModule().getName();
+        ModuleRuntime runtime = getModuleRuntime();
+        OperationDescriptor.bind(messageContext, operationDescriptor);
+        Call call = acquireClient(messageContext, runtime, true);
+        try {
+            balExecutor.execute(runtime.runtime(), call.client(), messageContext);
+        } catch (AxisFault | BallerinaExecutionException e) {
+            throw toConnectException(messageContext, e);
+        } finally {
+            call.release();
+        }
+    }
+
+    /**
+     * Starts the module runtime and resolves the operation's record types when the operation template is
+     * deployed, so the first message does not pay for module initialisation. A failure here is logged and
+     * the runtime is started again on the first message.
+     */
+    @Override
+    public void init(SynapseEnvironment synapseEnvironment) {
+        if (moduleName == null) {
+            return;
+        }
+        RuntimeRegistry.retain(orgName, moduleName, version);
+        try {
+            TypeRegistry.preload(getModuleRuntime().module(), operationDescriptor);
+            RuntimeWarmup.runIfEnabled();
+        } catch (Exception e) {
+            log.warn("Could not start Ballerina runtime for module '" + moduleName + "' at deployment: "
+                    + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (moduleName == null) {
+            return;
+        }
+        // The runtime is shared by every artifact of the module and stopped once the last of them is destroyed
+        moduleRuntime = null;
+        RuntimeRegistry.release(orgName, moduleName, version);
+    }
+
+    private ModuleRuntime getModuleRuntime() throws ConnectException {
+        ModuleRuntime runtime = moduleRuntime;
+        if (runtime == null || runtime.isStopped()) {
+            if (moduleName == null) {
+                throw new ConnectException("Ballerina module of the connector operation is not configured; "
+                        + "the operation template must set the orgName, moduleName and version properties");
+            }
+            runtime = RuntimeRegistry.getOrStart(orgName, moduleName, version);
+            moduleRuntime = runtime;
+        }
+        return runtime;
+    }
+
+    /**
+     * Reserves a client of the message's connection, after taking a slot in the connector's and the connection's
+     * bulkheads when they are bounded.
+     *
+     * @param queue whether the call may wait in the bulkheads' queues, or is rejected when no slot is free
+     */
+    private Call acquireClient(MessageContext messageContext, ModuleRuntime runtime, boolean queue)
+            throws ConnectException {
+        RuntimeRegistry.bind(messageContext, runtime);
+        String connectorName = runtime.module().getName();
         ConnectionHandler handler = ConnectionHandler.getConnectionHandler();
         BalConnectorConnection balConnection = (BalConnectorConnection) handler.getConnection(connectorName, messageContext.getProperty("connectionName").toString());
-        BObject clientObj = balConnection.getBalConnectorObj();
-
-        if (clientObj == null) {
+        if (balConnection == null) {
             throw new ConnectException("No connection found for " + connectorName);
         }
+
+        Bulkhead connectorBulkhead = Bulkhead.forConnector(connectorName);
+        enter(messageContext, connectorBulkhead, queue);
+        ClientPool.Lease lease = null;
         try {
-            balExecutor.execute(BalConnectorConfig.getRuntime(), clientObj, messageContext);
-        } catch (AxisFault | BallerinaExecutionException e) {
-            messageContext.setProperty(SynapseConstants.ERROR_CODE, "BALLERINA_EXECUTION_ERROR");
-            messageContext.setProperty(SynapseConstants.ERROR_MESSAGE, e.getMessage());
-            messageContext.setProperty(SynapseConstants.ERROR_DETAIL, e.getCause() != null ? e.getCause().toString() : e.toString());
-            messageContext.setProperty(SynapseConstants.ERROR_EXCEPTION, e);
-            throw new ConnectException(e, e.getMessage());
+            while (true) {
+                Bulkhead connectionBulkhead = balConnection.getBulkhead();
+                enter(messageContext, connectionBulkhead, queue);
+                lease = balConnection.acquire(connectionBulkhead);
+                if (lease != null) {
+                    return new Call(lease, connectorBulkhead, connectionBulkhead);
+                }
+                exit(connectionBulkhead);
+                if (balConnection.getBulkhead() == connectionBulkhead) {
+                    throw new ConnectException("No connection found for " + connectorName);
+                }
+                // The connection's clients were replaced along with their bulkhead while the call waited
+            }
+        } finally {
+            if (lease == null) {
+                exit(connectorBulkhead);
+            }
+        }
+    }
+
+    private static void enter(MessageContext messageContext, Bulkhead bulkhead, boolean queue)
+            throws ConnectException {
+        if (bulkhead == null || (queue ? bulkhead.enter() : bulkhead.tryEnter())) {
+            return;
+        }
+        String message = "Too many concurrent calls to '" + bulkhead.getName() + "': "
+                + bulkhead.getMaxConcurrentCalls() + " calls are running and "
+                + (queue ? bulkhead.getMaxQueuedCalls() + " can wait" : "asynchronous calls do not wait");
+        messageContext.setProperty(SynapseConstants.ERROR_CODE, Bulkhead.ERROR_CODE);
+        messageContext.setProperty(SynapseConstants.ERROR_MESSAGE, message);
+        messageContext.setProperty(SynapseConstants.ERROR_DETAIL, message);
+        OperationMetrics.failed(OperationMetrics.start(messageContext), Bulkhead.ERROR_CODE);
+        throw new ConnectException(message);
+    }
+
+    private static void exit(Bulkhead bulkhead) {
+        if (bulkhead != null) {
+            bulkhead.exit();
         }
     }
 
+    /**
+     * A client reserved for one call, with the bulkhead slots taken for it.
+     */
+    private record Call(ClientPool.Lease lease, Bulkhead connectorBulkhead, Bulkhead connectionBulkhead) {
+
+        BObject client() {
+            return lease.client();
+        }
+
+        void release() {
+            lease.release();
+            exit(connectionBulkhead);
+            exit(connectorBulkhead);
+        }
+    }
+
+    private static ConnectException toConnectException(MessageContext messageContext, Exception e) {
+        messageContext.setProperty(SynapseConstants.ERROR_CODE, "BALLERINA_EXECUTION_ERROR");
+        messageContext.setProperty(SynapseConstants.ERROR_MESSAGE, e.getMessage());
+        messageContext.setProperty(SynapseConstants.ERROR_DETAIL, e.getCause() != null ? e.getCause().toString() : e.toString());
+        messageContext.setProperty(SynapseConstants.ERROR_EXCEPTION, e);
+        return new ConnectException(e, e.getMessage());
+    }
+
     public String getOrgName() {
         return orgName;
     }
@@ -78,4 +241,16 @@ public class BalConnectorFunction extends AbstractConnector {
     public void setVersion(String version) {
         this.version = version;
     }
+
+    public OperationDescriptor getOperationDescriptor() {
+        return operationDescriptor;
+    }
+
+    /**
+     * Invoked by the class mediator factory with the {@code <operation>} element of the
+     * {@code operationDescriptor} property. Parsed once per deployed template.
+     */
+    public void setOperationDescriptor(OMElement descriptorElement) {
+        this.operationDescriptor = OperationDescriptor.fromOMElement(descriptorElement);
+    }
 }
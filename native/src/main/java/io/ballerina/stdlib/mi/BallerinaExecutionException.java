@@ -20,7 +20,23 @@ package io.ballerina.stdlib.mi;
 
 public class BallerinaExecutionException extends Exception {
 
+    public static final String ERROR_CODE = "BALLERINA_EXECUTION_ERROR";
+
+    private final String errorCode;
+
     public BallerinaExecutionException(String message, Throwable cause) {
+        this(message, cause, ERROR_CODE);
+    }
+
+    public BallerinaExecutionException(String message, Throwable cause, String errorCode) {
         super(message, cause);
+        this.errorCode = errorCode;
+    }
+
+    /**
+     * Returns the {@code ERROR_CODE} reported for the failure.
+     */
+    public String getErrorCode() {
+        return errorCode;
     }
 }
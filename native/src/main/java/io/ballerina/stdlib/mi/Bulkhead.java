@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounds the number of operations running at once on a connector or a connection.
+ * <p>
+ * Without a bound, a slow backend holds one MI worker thread and one Ballerina strand for every message sent to it,
+ * until the worker pool is drained and unrelated integrations on the node stall. A bulkhead lets at most
+ * {@code maxConcurrent} calls run; up to {@code maxQueued} further calls wait, in arrival order, for at most the
+ * {@value #QUEUE_TIMEOUT_PROPERTY} system property's milliseconds, and any other call fails at once with the
+ * {@value #ERROR_CODE} error code.
+ * </p>
+ * <p>
+ * A queued call parks the MI worker thread running the operation for up to the queue timeout. The queue therefore
+ * only bounds how many workers a slow backend can hold beyond its running calls: keep {@code maxQueued} small, or
+ * leave it at 0 so that calls are rejected as soon as every slot is in use. Operations run asynchronously, which
+ * must not block the worker, {@link #tryEnter() never queue}.
+ * </p>
+ * <p>
+ * Connections are bounded by the {@value Constants#MAX_CONCURRENT_CALLS} and {@value Constants#MAX_QUEUED_CALLS}
+ * init parameters. A connector, across all its connections, is bounded by the
+ * {@code ballerina.mi.bulkhead.<connector>.maxConcurrentCalls} and
+ * {@code ballerina.mi.bulkhead.<connector>.maxQueuedCalls} system properties.
+ * </p>
+ */
+public final class Bulkhead {
+
+    public static final String ERROR_CODE = "BALLERINA_BULKHEAD_FULL";
+    static final String QUEUE_TIMEOUT_PROPERTY = "ballerina.mi.bulkhead.queueTimeout";
+    private static final String CONNECTOR_PROPERTY_PREFIX = "ballerina.mi.bulkhead.";
+    private static final long DEFAULT_QUEUE_TIMEOUT_MILLIS = 30_000;
+
+    // Connectors without a configured bulkhead map to this placeholder, so the system properties are read once
+    private static final Bulkhead UNBOUNDED = new Bulkhead("", 1, 0);
+    private static final Map<String, Bulkhead> CONNECTORS = new ConcurrentHashMap<>();
+    // Also counts the calls rejected by connection bulkheads that were replaced when their connection was refreshed
+    private static final LongAdder REJECTED = new LongAdder();
+
+    private final String name;
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final long queueTimeoutNanos;
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * @param name          the connector or connection the bulkhead protects, used in error messages
+     * @param maxConcurrent the maximum number of calls running at once, at least one
+     * @param maxQueued     the maximum number of calls waiting for a running call to complete
+     */
+    public Bulkhead(String name, int maxConcurrent, int maxQueued) {
+        if (maxConcurrent < 1 || maxQueued < 0) {
+            throw new IllegalArgumentException("A bulkhead needs at least one call slot and a non-negative queue");
+        }
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueued = maxQueued;
+        this.queueTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(
+                Long.getLong(QUEUE_TIMEOUT_PROPERTY, DEFAULT_QUEUE_TIMEOUT_MILLIS));
+        // Fair, so queued calls are admitted in arrival order
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    /**
+     * Returns the bulkhead of a connector, or {@code null} when its system properties do not bound it.
+     */
+    public static Bulkhead forConnector(String connectorName) {
+        Bulkhead bulkhead = CONNECTORS.computeIfAbsent(connectorName, Bulkhead::fromSystemProperties);
+        return bulkhead != UNBOUNDED ? bulkhead : null;
+    }
+
+    /**
+     * Returns the bulkheads of the connectors that have one, by connector name.
+     */
+    public static Map<String, Bulkhead> getConnectorBulkheads() {
+        Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>(CONNECTORS);
+        bulkheads.values().removeIf(bulkhead -> bulkhead == UNBOUNDED);
+        return Collections.unmodifiableMap(bulkheads);
+    }
+
+    /**
+     * Returns the number of calls waiting for a slot in the bulkheads of the connectors.
+     */
+    static int getConnectorQueueDepth() {
+        int queued = 0;
+        for (Bulkhead bulkhead : CONNECTORS.values()) {
+            queued += bulkhead.getQueueDepth();
+        }
+        return queued;
+    }
+
+    /**
+     * Returns the number of calls holding a slot in the bulkheads of the connectors.
+     */
+    static int getConnectorInFlightCount() {
+        int inFlight = 0;
+        for (Bulkhead bulkhead : CONNECTORS.values()) {
+            inFlight += bulkhead.getInFlightCount();
+        }
+        return inFlight;
+    }
+
+    /**
+     * Returns the number of calls turned away by any bulkhead, including those of replaced connections.
+     */
+    static long getTotalRejectedCount() {
+        return REJECTED.sum();
+    }
+
+    /**
+     * Forgets the bulkhead of a connector whose module runtime has been stopped. Calls that hold one of its slots
+     * still return them to it.
+     */
+    static void forget(String connectorName) {
+        CONNECTORS.remove(connectorName);
+    }
+
+    /**
+     * Forgets the connector bulkheads, so their system properties are read again, and resets the rejected calls.
+     */
+    static void clear() {
+        CONNECTORS.clear();
+        REJECTED.reset();
+    }
+
+    private static Bulkhead fromSystemProperties(String connectorName) {
+        String prefix = CONNECTOR_PROPERTY_PREFIX + connectorName + ".";
+        int maxConcurrent = Integer.getInteger(prefix + Constants.MAX_CONCURRENT_CALLS, 0);
+        if (maxConcurrent < 1) {
+            return UNBOUNDED;
+        }
+        int maxQueued = Math.max(0, Integer.getInteger(prefix + Constants.MAX_QUEUED_CALLS, 0));
+        return new Bulkhead(connectorName, maxConcurrent, maxQueued);
+    }
+
+    /**
+     * Takes a call slot, blocking the calling thread in the queue when all slots are in use and the queue has
+     * room. A full queue rejects the call without waiting.
+     *
+     * @return whether a slot was taken; {@code false} when the queue is full, the wait timed out or the thread was
+     *         interrupted. A taken slot must be returned with {@link #exit()}.
+     */
+    public boolean enter() {
+        try {
+            // Unlike tryAcquire(), a timed acquire honours the fairness, so a call never overtakes the queued ones
+            if (permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                return true;
+            }
+            if (queued.incrementAndGet() <= maxQueued) {
+                try {
+                    if (permits.tryAcquire(queueTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                        return true;
+                    }
+                } finally {
+                    queued.decrementAndGet();
+                }
+            } else {
+                queued.decrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        reject();
+        return false;
+    }
+
+    /**
+     * Takes a call slot if one is free and no call is queued for one, without blocking the calling thread.
+     *
+     * @return whether a slot was taken; a taken slot must be returned with {@link #exit()}
+     */
+    public boolean tryEnter() {
+        try {
+            if (permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        reject();
+        return false;
+    }
+
+    private void reject() {
+        rejected.increment();
+        REJECTED.increment();
+    }
+
+    /**
+     * Returns a slot taken by {@link #enter()} or {@link #tryEnter()}.
+     */
+    public void exit() {
+        permits.release();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxConcurrentCalls() {
+        return maxConcurrent;
+    }
+
+    public int getMaxQueuedCalls() {
+        return maxQueued;
+    }
+
+    /**
+     * Returns the number of calls running.
+     */
+    public int getInFlightCount() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    /**
+     * Returns the number of calls waiting for a slot.
+     */
+    public int getQueueDepth() {
+        return queued.get();
+    }
+
+    /**
+     * Returns the number of calls turned away because the queue was full or the wait timed out.
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.integration.connector.core.ConnectException;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide view of the Ballerina client connections created by {@link BalConnectorConfig}.
+ * <p>
+ * Client objects keep HTTP pools, sockets and threads for as long as they live. When the
+ * {@value #IDLE_TIMEOUT_PROPERTY} system property sets an idle timeout in seconds, a background task closes the
+ * clients of connections that no operation has used for that long; they are built again from the connection's
+ * init arguments by the next operation. Idle eviction is disabled by default, and the task is stopped when the last
+ * module runtime stops. The counts of live, evicted and rebuilt clients, and
+ * of the calls running and queued in the connections' bulkheads, are published by the
+ * {@code ballerina.mi:type=Metrics} MBean.
+ * </p>
+ */
+public final class ClientConnections {
+
+    static final String IDLE_TIMEOUT_PROPERTY = "ballerina.mi.connection.idleTimeout";
+    private static final long MIN_SWEEP_INTERVAL_MILLIS = 1_000;
+    private static final long MAX_SWEEP_INTERVAL_MILLIS = 60_000;
+
+    private static final Log log = LogFactory.getLog(ClientConnections.class);
+    private static final Set<BalConnectorConnection> CONNECTIONS = ConcurrentHashMap.newKeySet();
+    private static final LongAdder EVICTED = new LongAdder();
+    private static final LongAdder REBUILT = new LongAdder();
+    // Written under the class lock
+    private static volatile ScheduledExecutorService sweeper;
+
+    private ClientConnections() {
+    }
+
+    /**
+     * Tracks a new connection, starting the idle eviction task on first use when it is enabled.
+     */
+    public static void register(BalConnectorConnection connection) {
+        CONNECTIONS.add(connection);
+        long idleTimeoutSeconds = Long.getLong(IDLE_TIMEOUT_PROPERTY, 0L);
+        if (idleTimeoutSeconds > 0 && sweeper == null) {
+            startSweeper(TimeUnit.SECONDS.toNanos(idleTimeoutSeconds));
+        }
+    }
+
+    static void unregister(BalConnectorConnection connection) {
+        CONNECTIONS.remove(connection);
+    }
+
+    /**
+     * Closes and stops tracking the connections whose clients were built on the given module runtime, which is
+     * being stopped.
+     */
+    static void closeAll(ModuleRuntime moduleRuntime) {
+        for (BalConnectorConnection connection : CONNECTIONS) {
+            if (connection.getModuleRuntime() != moduleRuntime) {
+                continue;
+            }
+            try {
+                connection.close();
+            } catch (ConnectException e) {
+                log.warn("Could not close Ballerina connection of module '" + moduleRuntime.module().getName()
+                        + "': " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Records that the clients of a connection were built again, because its init arguments changed or it had
+     * been evicted.
+     */
+    static void recordRebuild() {
+        REBUILT.increment();
+    }
+
+    /**
+     * Closes the clients of connections idle for at least the given time.
+     *
+     * @return the number of clients closed
+     */
+    static int evictIdle(long nowNanos, long idleTimeoutNanos) {
+        int evicted = 0;
+        for (BalConnectorConnection connection : CONNECTIONS) {
+            evicted += connection.evictIfIdle(nowNanos, idleTimeoutNanos);
+        }
+        if (evicted > 0) {
+            EVICTED.add(evicted);
+            if (log.isDebugEnabled()) {
+                log.debug("Closed " + evicted + " idle Ballerina client(s)");
+            }
+        }
+        return evicted;
+    }
+
+    public static int getConnectionCount() {
+        return CONNECTIONS.size();
+    }
+
+    /**
+     * Returns the number of client objects currently held by connections.
+     */
+    public static int getLiveClientCount() {
+        int live = 0;
+        for (BalConnectorConnection connection : CONNECTIONS) {
+            ClientPool pool = connection.getClientPool();
+            if (pool != null) {
+                live += pool.size();
+            }
+        }
+        return live;
+    }
+
+    /**
+     * Returns the number of operations waiting for a call slot in the bulkheads of the connections.
+     */
+    public static int getQueuedCallCount() {
+        int queued = 0;
+        for (BalConnectorConnection connection : CONNECTIONS) {
+            Bulkhead bulkhead = connection.getBulkhead();
+            if (bulkhead != null) {
+                queued += bulkhead.getQueueDepth();
+            }
+        }
+        return queued;
+    }
+
+    /**
+     * Returns the number of operations holding a call slot in the bulkheads of the connections.
+     */
+    public static int getInFlightCallCount() {
+        int inFlight = 0;
+        for (BalConnectorConnection connection : CONNECTIONS) {
+            Bulkhead bulkhead = connection.getBulkhead();
+            if (bulkhead != null) {
+                inFlight += bulkhead.getInFlightCount();
+            }
+        }
+        return inFlight;
+    }
+
+    public static long getEvictedClientCount() {
+        return EVICTED.sum();
+    }
+
+    public static long getRebuildCount() {
+        return REBUILT.sum();
+    }
+
+    /**
+     * Forgets all connections and resets the counters. The idle eviction task keeps running if it was started.
+     */
+    static void clear() {
+        CONNECTIONS.clear();
+        EVICTED.reset();
+        REBUILT.reset();
+    }
+
+    /**
+     * Stops the idle eviction task, once no module runtime is left whose connections it could evict. The next
+     * connection registered starts it again.
+     */
+    static synchronized void stopSweeper() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+            sweeper = null;
+        }
+    }
+
+    static boolean isSweeperRunning() {
+        return sweeper != null;
+    }
+
+    private static synchronized void startSweeper(long idleTimeoutNanos) {
+        if (sweeper != null) {
+            return;
+        }
+        long interval = Math.max(MIN_SWEEP_INTERVAL_MILLIS,
+                Math.min(MAX_SWEEP_INTERVAL_MILLIS, TimeUnit.NANOSECONDS.toMillis(idleTimeoutNanos) / 2));
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ballerina-mi-connection-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(() -> {
+            try {
+                evictIdle(System.nanoTime(), idleTimeoutNanos);
+            } catch (RuntimeException e) {
+                log.warn("Idle Ballerina client eviction failed: " + e.getMessage(), e);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+        sweeper = executor;
+    }
+}
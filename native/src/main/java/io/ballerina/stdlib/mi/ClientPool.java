@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi;
+
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.types.Parameter;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Ballerina client objects of one connection, handed out to concurrent operations.
+ * <p>
+ * A connection creates a single client object unless it sets {@value Constants#CLIENT_POOL_SIZE}. Clients that
+ * serialise calls internally, or that hold one HTTP/2 connection or one SAP JCo destination, then cap every
+ * message that shares the connection; a pool of clients built from the same init arguments spreads the
+ * operations across them. {@value #ROUND_ROBIN} hands the clients out in turn and {@value #LEAST_BUSY} picks
+ * the client with the fewest calls in progress. Each {@link #acquire()} must be paired with a
+ * {@link #release(int)} once the call completes.
+ * </p>
+ * <p>
+ * A pool that is no longer used, because its connection was rebuilt, evicted or closed, is retired: it hands
+ * out no more clients, and the clients' {@code close} method is called once the calls in progress complete.
+ * </p>
+ */
+public final class ClientPool {
+
+    public static final String ROUND_ROBIN = "RoundRobin";
+    public static final String LEAST_BUSY = "LeastBusy";
+
+    private static final Log log = LogFactory.getLog(ClientPool.class);
+    private static final String CLOSE_METHOD = "close";
+
+    private final BObject[] clients;
+    private final boolean leastBusy;
+    private final Runtime runtime;
+    private final AtomicIntegerArray inFlight;
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile boolean retired;
+
+    /**
+     * Creates a pool whose clients are not closed when it is retired.
+     *
+     * @param clients  the client objects, at least one
+     * @param strategy {@value #ROUND_ROBIN} or {@value #LEAST_BUSY}
+     */
+    public ClientPool(BObject[] clients, String strategy) {
+        this(clients, strategy, null);
+    }
+
+    /**
+     * @param clients  the client objects, at least one
+     * @param strategy {@value #ROUND_ROBIN} or {@value #LEAST_BUSY}
+     * @param runtime  the runtime the clients' {@code close} method is called on when the pool is retired
+     */
+    public ClientPool(BObject[] clients, String strategy, Runtime runtime) {
+        if (clients.length == 0) {
+            throw new IllegalArgumentException("A client pool needs at least one client object");
+        }
+        this.clients = clients.clone();
+        this.leastBusy = LEAST_BUSY.equals(strategy);
+        this.runtime = runtime;
+        this.inFlight = new AtomicIntegerArray(clients.length);
+    }
+
+    /**
+     * Returns whether the strategy name is one the pool understands.
+     */
+    public static boolean isStrategy(String strategy) {
+        return ROUND_ROBIN.equals(strategy) || LEAST_BUSY.equals(strategy);
+    }
+
+    /**
+     * Reserves a client for one call.
+     *
+     * @return the slot of the client, to be passed to {@link #client(int)} and {@link #release(int)}, or
+     *         {@code -1} when the pool has been retired
+     */
+    public int acquire() {
+        active.incrementAndGet();
+        if (retired) {
+            releaseActive();
+            return -1;
+        }
+        int slot;
+        if (clients.length == 1) {
+            slot = 0;
+        } else if (leastBusy) {
+            // Scan from a rotating start so idle clients share the load instead of the first one taking it all
+            int start = Math.floorMod(next.getAndIncrement(), clients.length);
+            slot = start;
+            int lowest = inFlight.get(start);
+            for (int i = 1; i < clients.length && lowest > 0; i++) {
+                int candidate = (start + i) % clients.length;
+                int calls = inFlight.get(candidate);
+                if (calls < lowest) {
+                    slot = candidate;
+                    lowest = calls;
+                }
+            }
+        } else {
+            slot = Math.floorMod(next.getAndIncrement(), clients.length);
+        }
+        inFlight.incrementAndGet(slot);
+        return slot;
+    }
+
+    public BObject client(int slot) {
+        return clients[slot];
+    }
+
+    /**
+     * Returns the client reserved by {@link #acquire()} to the pool.
+     */
+    public void release(int slot) {
+        inFlight.decrementAndGet(slot);
+        releaseActive();
+    }
+
+    /**
+     * Stops handing out clients and closes them once the calls in progress complete.
+     */
+    public void retire() {
+        retired = true;
+        if (active.get() == 0) {
+            close();
+        }
+    }
+
+    public boolean isRetired() {
+        return retired;
+    }
+
+    /**
+     * Returns whether the clients have been closed.
+     */
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    public int size() {
+        return clients.length;
+    }
+
+    public String strategy() {
+        return leastBusy ? LEAST_BUSY : ROUND_ROBIN;
+    }
+
+    /**
+     * Returns the number of calls in progress on all clients of the pool.
+     */
+    public int inFlight() {
+        return active.get();
+    }
+
+    private void releaseActive() {
+        if (active.decrementAndGet() == 0 && retired) {
+            close();
+        }
+    }
+
+    private void close() {
+        if (!closed.compareAndSet(false, true) || runtime == null) {
+            return;
+        }
+        for (BObject client : clients) {
+            if (!hasCloseMethod(client)) {
+                continue;
+            }
+            try {
+                Object result = runtime.callMethod(client, CLOSE_METHOD, null);
+                if (result instanceof BError error) {
+                    log.warn("Ballerina client close returned an error: " + error.getMessage());
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to close Ballerina client: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * A client reserved for one call.
+     */
+    public record Lease(ClientPool pool, int slot) {
+
+        public BObject client() {
+            return pool.client(slot);
+        }
+
+        public void release() {
+            pool.release(slot);
+        }
+    }
+
+    /**
+     * Returns whether the client declares a {@code close} method that can be called without arguments.
+     */
+    static boolean hasCloseMethod(BObject client) {
+        if (!(client.getOriginalType() instanceof ObjectType objectType)) {
+            return false;
+        }
+        for (MethodType method : objectType.getMethods()) {
+            if (!CLOSE_METHOD.equals(method.getName())) {
+                continue;
+            }
+            for (Parameter parameter : method.getParameters()) {
+                if (!parameter.isDefault) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Builds the clients of a connection from the init arguments the connection was first set up with.
+     */
+    @FunctionalInterface
+    public interface Factory {
+
+        /**
+         * Creates the clients, throwing a {@link BError} when one of them cannot be created.
+         */
+        ClientPool create();
+    }
+}
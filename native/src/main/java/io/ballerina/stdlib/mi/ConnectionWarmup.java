@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi;
+
+import io.ballerina.runtime.api.values.BError;
+import org.apache.axiom.om.OMElement;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.synapse.ManagedLifecycle;
+import org.apache.synapse.Mediator;
+import org.apache.synapse.MessageContext;
+import org.apache.synapse.config.Entry;
+import org.apache.synapse.config.SynapseConfiguration;
+import org.apache.synapse.config.xml.MediatorFactoryFinder;
+import org.apache.synapse.core.SynapseEnvironment;
+import org.wso2.integration.connector.core.connection.ConnectionHandler;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates the clients of connections declared as eager when the server starts.
+ * <p>
+ * Clients are otherwise built by the init template on the first message that uses a connection, which then pays
+ * for creating the client object, token fetches and TLS handshakes. A connection whose configuration sets
+ * {@value Constants#EAGER_INIT} to {@code true} is initialised once the Synapse environment has been
+ * initialised, by running its init element with an empty message. When {@value Constants#EAGER_INIT_PROBE}
+ * names a client method without arguments, it is then called once on each client. Failures are logged and never
+ * fail the deployment; the connection is then created on the first message as usual.
+ * </p>
+ * <p>
+ * Synapse has no callback for the end of its initialisation, so a shared scheduler checks the environment once a
+ * second, for at most ten minutes. Its single thread exits while no connector is waiting.
+ * </p>
+ */
+public final class ConnectionWarmup {
+
+    private static final long POLL_INTERVAL_MILLIS = 1_000;
+    private static final long MAX_WAIT_MILLIS = 600_000;
+
+    private static final Log log = LogFactory.getLog(ConnectionWarmup.class);
+    private static final Map<String, Object> SCHEDULED = new ConcurrentHashMap<>();
+    private static final ScheduledThreadPoolExecutor SCHEDULER = createScheduler();
+
+    private ConnectionWarmup() {
+    }
+
+    /**
+     * Initialises the eager connections of the connector in the background once the Synapse environment is
+     * initialised. Only the first call for a connector has an effect until it is {@link #cancel cancelled}.
+     *
+     * @param connectorName the connector name, which prefixes the init element of its connections
+     */
+    public static void schedule(SynapseEnvironment environment, String connectorName, ModuleRuntime runtime) {
+        Object schedule = new Object();
+        if (environment == null || SCHEDULED.putIfAbsent(connectorName, schedule) != null) {
+            return;
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(MAX_WAIT_MILLIS);
+        SCHEDULER.execute(() -> await(environment, connectorName, runtime, schedule, deadline));
+    }
+
+    /**
+     * Stops waiting to initialise the eager connections of an undeployed connector, so that they are initialised
+     * again when it is deployed again.
+     */
+    public static void cancel(String connectorName) {
+        SCHEDULED.remove(connectorName);
+    }
+
+    private static void await(SynapseEnvironment environment, String connectorName, ModuleRuntime runtime,
+                              Object schedule, long deadline) {
+        if (SCHEDULED.get(connectorName) != schedule) {
+            return;
+        }
+        try {
+            // Connection local entries are deployed after the connector, so wait for the whole configuration
+            if (environment.isInitialized()) {
+                run(environment, connectorName, runtime);
+            } else if (System.nanoTime() - deadline > 0) {
+                log.warn("Synapse environment was not initialised in time; eager connections of connector '"
+                        + connectorName + "' are created on first use");
+            } else {
+                SCHEDULER.schedule(() -> await(environment, connectorName, runtime, schedule, deadline),
+                        POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not create the eager connections of connector '" + connectorName + "': "
+                    + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Initialises the eager connections of the connector found in the local entries.
+     *
+     * @return the number of connections initialised
+     */
+    static int run(SynapseEnvironment environment, String connectorName, ModuleRuntime runtime) {
+        SynapseConfiguration configuration = environment.getSynapseConfiguration();
+        String initElementName = connectorName + ".init";
+        int initialised = 0;
+        for (Object value : configuration.getLocalRegistry().values()) {
+            if (!(value instanceof Entry entry) || !(entry.getValue() instanceof OMElement element)
+                    || !initElementName.equals(element.getLocalName())
+                    || !"true".equalsIgnoreCase(childText(element, Constants.EAGER_INIT))) {
+                continue;
+            }
+            String connectionName = childText(element, "name");
+            ManagedLifecycle lifecycle = null;
+            try {
+                Mediator init = MediatorFactoryFinder.getInstance().getMediator(element, configuration.getProperties());
+                if (init instanceof ManagedLifecycle managed) {
+                    managed.init(environment);
+                    lifecycle = managed;
+                }
+                MessageContext context = environment.createMessageContext();
+                init.mediate(context);
+                probe(runtime, connectionName, childText(element, Constants.EAGER_INIT_PROBE));
+                initialised++;
+            } catch (Exception e) {
+                log.warn("Could not create the clients of connection '" + connectionName + "' at deployment: "
+                        + e.getMessage(), e);
+            } finally {
+                // The init mediator is not part of the deployed configuration, so nothing else destroys it
+                if (lifecycle != null) {
+                    lifecycle.destroy();
+                }
+            }
+        }
+        if (initialised > 0 && log.isDebugEnabled()) {
+            log.debug("Created the clients of " + initialised + " eager connection(s) of connector '"
+                    + connectorName + "'");
+        }
+        return initialised;
+    }
+
+    private static void probe(ModuleRuntime runtime, String connectionName, String method) throws Exception {
+        if (method == null || connectionName == null) {
+            return;
+        }
+        Object connection = ConnectionHandler.getConnectionHandler()
+                .getConnection(runtime.module().getName(), connectionName);
+        if (!(connection instanceof BalConnectorConnection balConnection)) {
+            return;
+        }
+        ClientPool pool = balConnection.getClientPool();
+        if (pool == null) {
+            return;
+        }
+        for (int i = 0; i < pool.size(); i++) {
+            Object result = runtime.runtime().callMethod(pool.client(i), method, null);
+            if (result instanceof BError error) {
+                log.warn("Deployment probe '" + method + "' of connection '" + connectionName
+                        + "' returned an error: " + error.getMessage());
+            }
+        }
+    }
+
+    private static String childText(OMElement element, String name) {
+        for (Iterator<?> children = element.getChildElements(); children.hasNext(); ) {
+            OMElement child = (OMElement) children.next();
+            if (name.equals(child.getLocalName())) {
+                String text = child.getText().trim();
+                return text.isEmpty() ? null : text;
+            }
+        }
+        return null;
+    }
+
+    private static ScheduledThreadPoolExecutor createScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "ballerina-mi-connection-warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setKeepAliveTime(POLL_INTERVAL_MILLIS * 10, TimeUnit.MILLISECONDS);
+        scheduler.allowCoreThreadTimeOut(true);
+        return scheduler;
+    }
+
+    static void reset() {
+        SCHEDULED.clear();
+    }
+}
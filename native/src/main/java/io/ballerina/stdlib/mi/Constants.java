@@ -40,6 +40,23 @@ public class Constants {
     public static final String ANYDATA = "anydata";
     public static final String ENUM = "enum";
     public static final String SYNAPSE_FUNCTION_STACK = "_SYNAPSE_FUNCTION_STACK";
+    public static final String OPERATION_DESCRIPTOR = "_BAL_OPERATION_DESCRIPTOR";
+    public static final String ASYNC_COMPLETION_SEQUENCE = "BAL_ASYNC_COMPLETION_SEQUENCE";
+    public static final String ASYNC_FAULT_SEQUENCE = "BAL_ASYNC_FAULT_SEQUENCE";
+    public static final String MODULE_RUNTIME = "_BAL_MODULE_RUNTIME";
+    // Set by BalConnectionLookup; the init template skips populating the connection properties when it is true
+    public static final String CONNECTION_CACHED = "_BAL_CONNECTION_CACHED";
+    // Optional init template parameters that create several client objects for one connection
+    public static final String CLIENT_POOL_SIZE = "clientPoolSize";
+    public static final String CLIENT_POOL_STRATEGY = "clientPoolStrategy";
+    // Optional init template parameters that create a connection's clients when the server starts
+    public static final String EAGER_INIT = "eagerInit";
+    public static final String EAGER_INIT_PROBE = "eagerInitProbe";
+    // Optional init template parameters that bound the operations running on a connection
+    public static final String MAX_CONCURRENT_CALLS = "maxConcurrentCalls";
+    public static final String MAX_QUEUED_CALLS = "maxQueuedCalls";
+    // Literal parameter value that binds a json, anydata, record or map parameter to the JSON payload stream
+    public static final String PAYLOAD_BINDING = "${payload}";
 
     // Resource function constants
     public static final String FUNCTION_TYPE = "functionType";
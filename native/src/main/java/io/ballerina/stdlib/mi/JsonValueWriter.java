@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonWriter;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Serializes Ballerina values as JSON in a single pass.
+ * <p>
+ * Results were previously rendered with {@code getJSONString()}, parsed into a Gson tree and rendered again
+ * for the payload. This writer either builds the Gson tree directly, for results stored in a variable, or
+ * streams the value as UTF-8 JSON, for results that replace the message body. Maps and records become
+ * objects, arrays and tables become arrays, and decimals keep their exact value.
+ * </p>
+ */
+public final class JsonValueWriter {
+
+    private JsonValueWriter() {
+    }
+
+    /**
+     * Builds the Gson tree for the value.
+     */
+    public static JsonElement toJsonElement(Object value) {
+        if (value == null) {
+            return JsonNull.INSTANCE;
+        }
+        if (value instanceof BMap<?, ?> map) {
+            JsonObject object = new JsonObject();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                object.add(entry.getKey().toString(), toJsonElement(entry.getValue()));
+            }
+            return object;
+        }
+        if (value instanceof BArray array) {
+            JsonArray result = new JsonArray(array.size());
+            for (int i = 0; i < array.size(); i++) {
+                result.add(toJsonElement(array.get(i)));
+            }
+            return result;
+        }
+        if (value instanceof BTable<?, ?> table) {
+            JsonArray result = new JsonArray(table.size());
+            for (Object row : table.values()) {
+                result.add(toJsonElement(row));
+            }
+            return result;
+        }
+        if (value instanceof BString string) {
+            return new JsonPrimitive(string.getValue());
+        }
+        if (value instanceof BDecimal decimal) {
+            return new JsonPrimitive(decimal.value());
+        }
+        if (value instanceof Boolean bool) {
+            return new JsonPrimitive(bool);
+        }
+        if (value instanceof Number number) {
+            return new JsonPrimitive(number);
+        }
+        return new JsonPrimitive(value.toString());
+    }
+
+    /**
+     * Serializes the value as UTF-8 JSON and returns a stream over the written bytes.
+     */
+    public static InputStream toInputStream(Object value) {
+        PayloadBuffer buffer = new PayloadBuffer();
+        try (JsonWriter writer = new JsonWriter(new OutputStreamWriter(buffer, StandardCharsets.UTF_8))) {
+            // Ballerina floats may be NaN or infinite, which only the lenient mode writes
+            writer.setLenient(true);
+            write(writer, value);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to serialize Ballerina value as JSON", e);
+        }
+        return buffer.toInputStream();
+    }
+
+    private static void write(JsonWriter writer, Object value) throws IOException {
+        if (value == null) {
+            writer.nullValue();
+        } else if (value instanceof BMap<?, ?> map) {
+            writer.beginObject();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writer.name(entry.getKey().toString());
+                write(writer, entry.getValue());
+            }
+            writer.endObject();
+        } else if (value instanceof BArray array) {
+            writer.beginArray();
+            for (int i = 0; i < array.size(); i++) {
+                write(writer, array.get(i));
+            }
+            writer.endArray();
+        } else if (value instanceof BTable<?, ?> table) {
+            writer.beginArray();
+            for (Object row : table.values()) {
+                write(writer, row);
+            }
+            writer.endArray();
+        } else if (value instanceof BString string) {
+            writer.value(string.getValue());
+        } else if (value instanceof BDecimal decimal) {
+            writer.value(decimal.value());
+        } else if (value instanceof Boolean bool) {
+            writer.value(bool);
+        } else if (value instanceof Number number) {
+            writer.value(number);
+        } else {
+            writer.value(value.toString());
+        }
+    }
+
+    // Hands the written bytes to the reader without the copy made by toByteArray()
+    private static final class PayloadBuffer extends ByteArrayOutputStream {
+
+        PayloadBuffer() {
+            super(8192);
+        }
+
+        InputStream toInputStream() {
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+    }
+}
@@ -18,22 +18,27 @@
 
 package io.ballerina.stdlib.mi;
 
-import io.ballerina.runtime.api.Module;
-import io.ballerina.runtime.api.Runtime;
 import io.ballerina.stdlib.mi.executor.BalExecutor;
+import org.apache.axiom.om.OMElement;
 import org.apache.axis2.AxisFault;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.synapse.ManagedLifecycle;
 import org.apache.synapse.MessageContext;
 import org.apache.synapse.SynapseConstants;
 import org.apache.synapse.SynapseException;
+import org.apache.synapse.core.SynapseEnvironment;
 import org.apache.synapse.mediators.AbstractMediator;
 
-public class Mediator extends AbstractMediator {
+public class Mediator extends AbstractMediator implements ManagedLifecycle {
+
+    private static final Log log = LogFactory.getLog(Mediator.class);
 
-    private static volatile Runtime rt = null;
-    private static Module module = null;
     private String orgName;
     private String moduleName;
     private String version;
+    private OperationDescriptor operationDescriptor;
+    private volatile ModuleRuntime moduleRuntime;
     private final BalExecutor balExecutor = new BalExecutor();
 
     public Mediator() {
@@ -44,20 +49,25 @@ public class Mediator extends AbstractMediator {
         this.orgName = moduleInfo.getOrgName();
         this.moduleName = moduleInfo.getModuleName();
         this.version = moduleInfo.getModuleVersion();
-        init();
+        getModuleRuntime();
     }
 
     public boolean mediate(MessageContext context) {
-
-        if (rt == null) {
-            synchronized (Mediator.class) {
-                if (rt == null) {
-                    init();
+        ModuleRuntime runtime = getModuleRuntime();
+        RuntimeRegistry.bind(context, runtime);
+        OperationDescriptor.bind(context, operationDescriptor);
+        try {
+            if (AsyncMediation.isRequested(context)) {
+                AsyncMediation.Continuation continuation = AsyncMediation.suspend(context);
+                try {
+                    continuation.resumeOn(balExecutor.executeAsync(runtime.runtime(), runtime.module(), context,
+                            runtime.asyncExecutor()));
+                } finally {
+                    continuation.suspended();
                 }
+                return false;
             }
-        }
-        try {
-            return balExecutor.execute(rt, module, context);
+            return balExecutor.execute(runtime.runtime(), runtime.module(), context);
         } catch (AxisFault | BallerinaExecutionException e) {
             context.setProperty(SynapseConstants.ERROR_CODE, "BALLERINA_EXECUTION_ERROR");
             context.setProperty(SynapseConstants.ERROR_MESSAGE, e.getMessage());
@@ -67,11 +77,43 @@ public class Mediator extends AbstractMediator {
         }
     }
 
-    private void init() {
-        module = new Module(orgName, moduleName, version);
-        rt = Runtime.from(module);
-        rt.init();
-        rt.start();
+    /**
+     * Starts the module runtime and resolves the operation's record types when the operation template is
+     * deployed, so the first message does not pay for module initialisation. A failure here is logged and
+     * the runtime is started again on the first message.
+     */
+    @Override
+    public void init(SynapseEnvironment synapseEnvironment) {
+        if (moduleName == null) {
+            return;
+        }
+        RuntimeRegistry.retain(orgName, moduleName, version);
+        try {
+            TypeRegistry.preload(getModuleRuntime().module(), operationDescriptor);
+            RuntimeWarmup.runIfEnabled();
+        } catch (Exception e) {
+            log.warn("Could not start Ballerina runtime for module '" + moduleName + "' at deployment: "
+                    + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (moduleName == null) {
+            return;
+        }
+        // The runtime is shared by every artifact of the module and stopped once the last of them is destroyed
+        moduleRuntime = null;
+        RuntimeRegistry.release(orgName, moduleName, version);
+    }
+
+    private ModuleRuntime getModuleRuntime() {
+        ModuleRuntime runtime = moduleRuntime;
+        if (runtime == null || runtime.isStopped()) {
+            runtime = RuntimeRegistry.getOrStart(orgName, moduleName, version);
+            moduleRuntime = runtime;
+        }
+        return runtime;
     }
 
     public String getOrgName() {
@@ -97,4 +139,16 @@ public class Mediator extends AbstractMediator {
     public void setVersion(String version) {
         this.version = version;
     }
+
+    public OperationDescriptor getOperationDescriptor() {
+        return operationDescriptor;
+    }
+
+    /**
+     * Invoked by the class mediator factory with the {@code <operation>} element of the
+     * {@code operationDescriptor} property. Parsed once per deployed template.
+     */
+    public void setOperationDescriptor(OMElement descriptorElement) {
+        this.operationDescriptor = OperationDescriptor.fromOMElement(descriptorElement);
+    }
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.mi;
+
+/**
+ * JMX control that switches the recording of {@link OperationMetrics} on and off at runtime, and publishes the
+ * state of the Ballerina client connections tracked by {@link ClientConnections} and of their {@link Bulkhead}s.
+ */
+public interface MetricsControlMXBean {
+
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    /**
+     * Returns the number of operations with published metrics.
+     */
+    int getOperationCount();
+
+    /**
+     * Clears the metrics of every operation.
+     */
+    void reset();
+
+    /**
+     * Returns the number of connections created by connector init templates.
+     */
+    int getConnectionCount();
+
+    /**
+     * Returns the number of client objects the connections hold.
+     */
+    int getLiveClientCount();
+
+    /**
+     * Returns the number of clients closed after being idle.
+     */
+    long getEvictedClientCount();
+
+    /**
+     * Returns the number of times the clients of a connection were built again.
+     */
+    long getRebuildCount();
+
+    /**
+     * Returns the number of operations waiting for a call slot of a connection.
+     */
+    int getQueuedCallCount();
+
+    /**
+     * Returns the number of operations holding a call slot of a connection.
+     */
+    int getInFlightCallCount();
+
+    /**
+     * Returns the number of operations waiting for a call slot of a connector.
+     */
+    int getConnectorQueuedCallCount();
+
+    /**
+     * Returns the number of operations holding a call slot of a connector.
+     */
+    int getConnectorInFlightCallCount();
+
+    /**
+     * Returns the number of operations rejected by a connection or connector bulkhead.
+     */
+    long getRejectedCallCount();
+}
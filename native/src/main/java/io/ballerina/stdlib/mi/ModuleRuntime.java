@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.Runtime;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * A started Ballerina runtime together with the module it was created for.
+ *
+ * @param module        the Ballerina module
+ * @param runtime       the runtime executing the module
+ * @param asyncExecutor the executor of the module's non-blocking calls, shut down when the runtime is stopped
+ */
+public record ModuleRuntime(Module module, Runtime runtime, ExecutorService asyncExecutor) {
+
+    public ModuleRuntime(Module module, Runtime runtime) {
+        // Blocked waits on a Ballerina strand only park the virtual thread, so one thread per in-flight call is cheap
+        this(module, runtime, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * Returns whether the registry stopped the runtime, after which artifacts that kept it must look it up again.
+     */
+    public boolean isStopped() {
+        return asyncExecutor.isShutdown();
+    }
+}
@@ -24,142 +24,142 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BXml;
 import io.ballerina.runtime.api.values.BXmlItem;
-import org.apache.axiom.om.*;
+import org.apache.axiom.om.OMElement;
+import org.apache.axiom.om.OMException;
 
 import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.Iterator;
-import java.util.Set;
-
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts AXIOM elements to Ballerina XML.
+ * <p>
+ * The element is read through its pull parser rather than walked recursively, so deeply nested documents do not
+ * grow the Java stack and elements that are not built yet are parsed once. The reader caches what it parses,
+ * which leaves the payload available to later mediators. Attribute names and namespace URIs repeat across
+ * elements and are interned per conversion.
+ * </p>
+ */
 public class OMElementConverter {
 
     public static BXml toBXml(OMElement omElement) {
-        return getXmlItem(omElement);
-    }
-
-    private static BXml toBXml(OMNode omNode) {
-        switch (omNode.getType()) {
-            case OMNode.ELEMENT_NODE:
-                return getXmlItem((OMElement) omNode);
-            case OMNode.TEXT_NODE:
-            case OMNode.SPACE_NODE:
-                return getXmlText((OMText) omNode);
-            case OMNode.PI_NODE:
-                return getXmlPI((OMProcessingInstruction) omNode);
-            case OMNode.COMMENT_NODE:
-                return getXmlComment((OMComment) omNode);
-            case OMNode.CDATA_SECTION_NODE:
-                return getXmlCData((OMText) omNode);
-            case OMNode.DTD_NODE:
-                // NOTE: cannot occur
-                return null;
-            case OMNode.ENTITY_REFERENCE_NODE:
-                // NOTE: cannot occur
-                return null;
-            default:
-                return null;
+        XMLStreamReader reader = omElement.getXMLStreamReader();
+        try {
+            return new TreeBuilder().build(reader);
+        } catch (XMLStreamException e) {
+            throw new OMException("Failed to convert XML element '" + omElement.getLocalName() + "'", e);
+        } finally {
+            try {
+                reader.close();
+            } catch (XMLStreamException ignored) {
+                // Closing a reader over an OM tree releases nothing that needs reporting
+            }
         }
     }
 
+    private static final class TreeBuilder {
+
+        private final Map<String, BString> strings = new HashMap<>();
+
+        BXml build(XMLStreamReader reader) throws XMLStreamException {
+            Deque<Frame> open = new ArrayDeque<>();
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT -> open.push(new Frame(startElement(reader)));
+                    case XMLStreamConstants.END_ELEMENT -> {
+                        Frame frame = open.pop();
+                        frame.item.setChildren(ValueCreator.createXmlSequence(frame.children));
+                        if (open.isEmpty()) {
+                            return frame.item;
+                        }
+                        open.peek().children.add(frame.item);
+                    }
+                    case XMLStreamConstants.CHARACTERS, XMLStreamConstants.SPACE, XMLStreamConstants.CDATA ->
+                            addChild(open, ValueCreator.createXmlText(StringUtils.fromString(reader.getText())));
+                    case XMLStreamConstants.COMMENT ->
+                            addChild(open, ValueCreator.createXmlComment(StringUtils.fromString(reader.getText())));
+                    case XMLStreamConstants.PROCESSING_INSTRUCTION -> {
+                        String data = reader.getPIData();
+                        addChild(open, ValueCreator.createXmlProcessingInstruction(
+                                StringUtils.fromString(reader.getPITarget()),
+                                StringUtils.fromString(data != null ? data : "")));
+                    }
+                    default -> {
+                        // Document, DTD and entity reference events carry nothing for the element
+                    }
+                }
+            }
+            throw new XMLStreamException("XML element ended before its end tag");
+        }
 
-    private static QName getQNameOMElement(OMElement omElement) {
-        return new QName(omElement.getQName().getNamespaceURI(), omElement.getQName().getLocalPart(),
-                omElement.getQName().getPrefix());
-    }
-
-    private static QName getQNameOMAttribute(OMAttribute omAttribute) {
-        return omAttribute.getQName();
-    }
-
-    private static void addAttributes(OMElement omElement, BXmlItem xmlItem) {
         // NOTE: Extracted the idea from
         // bvm/ballerina-runtime/src/main/java/io/ballerina/runtime/internal/XmlTreeBuilder.java
-        Iterator attributes = omElement.getAllAttributes();
-        BMap<BString, BString> attributesMap = xmlItem.getAttributesMap();
-        Set<QName> usedNS = new HashSet<>();
+        private BXmlItem startElement(XMLStreamReader reader) {
+            QName qName = reader.getName();
+            BXmlItem xmlItem = ValueCreator.createXmlItem(qName, false);
+            BMap<BString, BString> attributesMap = xmlItem.getAttributesMap();
 
-        while (attributes.hasNext()) {
-
-            OMAttribute attribute = (OMAttribute) attributes.next();
-            QName qName = getQNameOMAttribute(attribute);
-            //CHECK: Good to put break point here and check the values
-            attributesMap.put(StringUtils.fromString(qName.toString()),
-                    StringUtils.fromString(attribute.getAttributeValue()));
+            // Prefixes used by the element and its attributes are declared on the item, as the runtime does
+            Map<String, String> usedNamespaces = null;
             if (!qName.getPrefix().isEmpty()) {
-                usedNS.add(qName);
+                usedNamespaces = new HashMap<>(4);
+                usedNamespaces.put(qName.getPrefix(), qName.getNamespaceURI());
             }
-        }
-        if (omElement.getQName().getPrefix() != null) {
-            if (!omElement.getQName().getPrefix().isEmpty()) {
-                usedNS.add(getQNameOMElement(omElement));
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                QName attributeName = reader.getAttributeName(i);
+                attributesMap.put(intern(attributeName.toString()),
+                        StringUtils.fromString(reader.getAttributeValue(i)));
+                if (!attributeName.getPrefix().isEmpty()) {
+                    if (usedNamespaces == null) {
+                        usedNamespaces = new HashMap<>(4);
+                    }
+                    usedNamespaces.put(attributeName.getPrefix(), attributeName.getNamespaceURI());
+                }
             }
-        }
-
-        for (QName qName : usedNS) {
-            String prefix = qName.getPrefix();
-            String namespaceURI = qName.getNamespaceURI();
-            if (namespaceURI.isEmpty()) {
-                namespaceURI = "";
+            if (usedNamespaces != null) {
+                for (Map.Entry<String, String> used : usedNamespaces.entrySet()) {
+                    attributesMap.put(intern(BXmlItem.XMLNS_NS_URI_PREFIX + used.getKey()), intern(used.getValue()));
+                }
             }
 
-            BString xmlnsPrefix = StringUtils.fromString(BXmlItem.XMLNS_NS_URI_PREFIX + prefix);
-            attributesMap.put(xmlnsPrefix, StringUtils.fromString(namespaceURI));
-        }
-
-        // Add declared namespaces even when they are not referenced by element/attribute QNames.
-        for (Iterator it = omElement.getAllDeclaredNamespaces(); it.hasNext(); ) {
-
-            OMNamespace omNamespace = (OMNamespace) it.next();
-            String uri = omNamespace.getNamespaceURI();
-            String prefix = omNamespace.getPrefix();
-            if (prefix == null || prefix.isEmpty()) {
-                attributesMap.put(BXmlItem.XMLNS_PREFIX, StringUtils.fromString(uri));
-            } else {
-                attributesMap.put(StringUtils.fromString(BXmlItem.XMLNS_NS_URI_PREFIX + prefix),
-                        StringUtils.fromString(uri));
+            // Add declared namespaces even when they are not referenced by element/attribute QNames.
+            for (int i = 0; i < reader.getNamespaceCount(); i++) {
+                String prefix = reader.getNamespacePrefix(i);
+                BString uri = intern(reader.getNamespaceURI(i) != null ? reader.getNamespaceURI(i) : "");
+                if (prefix == null || prefix.isEmpty()) {
+                    attributesMap.put(BXmlItem.XMLNS_PREFIX, uri);
+                } else {
+                    attributesMap.put(intern(BXmlItem.XMLNS_NS_URI_PREFIX + prefix), uri);
+                }
             }
+            return xmlItem;
         }
-    }
-
-    private static BXml getXmlItem(OMElement omElement) {
-        QName qName = getQNameOMElement(omElement);
-        BXmlItem xmlItem = ValueCreator.createXmlItem(qName, false);
-
-        addAttributes(omElement, xmlItem);
-
-        ArrayList<BXml> xmlList = new ArrayList<>();
 
-        // CHECK: why we did like this way (getDescendants rather than getChildren)
-        Iterator descendants = omElement.getChildren();
-
-        while (descendants.hasNext()) {
-            OMNode childNode = (OMNode) descendants.next();
-            if (childNode.getParent() == omElement) {
-                BXml childXml = toBXml(childNode);
-
-                xmlList.add(childXml);
+        private static void addChild(Deque<Frame> open, BXml child) {
+            if (!open.isEmpty()) {
+                open.peek().children.add(child);
             }
         }
-        xmlItem.setChildren(ValueCreator.createXmlSequence(xmlList));
-        return xmlItem;
-    }
 
-    private static BXml getXmlText(OMText omText) {
-        return ValueCreator.createXmlText(StringUtils.fromString(omText.getText()));
+        private BString intern(String value) {
+            return strings.computeIfAbsent(value, StringUtils::fromString);
+        }
     }
 
-    private static BXml getXmlPI(OMProcessingInstruction omProcessingInstruction) {
-        return ValueCreator.createXmlProcessingInstruction(StringUtils.fromString(omProcessingInstruction.getTarget()),
-                StringUtils.fromString(omProcessingInstruction.getValue()));
-    }
+    private static final class Frame {
 
-    private static BXml getXmlComment(OMComment omComment) {
-        return ValueCreator.createXmlComment(StringUtils.fromString(omComment.getValue()));
-    }
+        final BXmlItem item;
+        final List<BXml> children = new ArrayList<>();
 
-    private static BXml getXmlCData(OMText omText) {
-        String text = omText.getText();
-        return ValueCreator.createXmlText(StringUtils.fromString(text));
+        Frame(BXmlItem item) {
+            this.item = item;
+        }
     }
 }
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi;
+
+import org.apache.axiom.om.OMElement;
+import org.apache.synapse.MessageContext;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import javax.xml.namespace.QName;
+
+/**
+ * Immutable per-operation invocation metadata (parameter names, types, record coordinates, resource
+ * path information, ...) generated into the operation template as an {@code operationDescriptor}
+ * class mediator property.
+ * <p>
+ * The descriptor is parsed once when the template is deployed and bound to each message with a single
+ * property, replacing the {@code <property>} mediators that previously copied the same static values
+ * into the MessageContext on every invocation.
+ * </p>
+ */
+public final class OperationDescriptor {
+
+    private static final String ENTRY_ELEMENT = "property";
+    private static final QName NAME_QNAME = new QName("name");
+    private static final QName VALUE_QNAME = new QName("value");
+
+    private final String operationName;
+    private final Map<String, String> entries;
+    private final Map<String, Object> derived = new ConcurrentHashMap<>();
+
+    OperationDescriptor(String operationName, Map<String, String> entries) {
+        this.operationName = operationName;
+        this.entries = Collections.unmodifiableMap(new HashMap<>(entries));
+    }
+
+    /**
+     * Builds a descriptor from its XML form:
+     * {@code <operation name="op"><property name="key" value="value"/>...</operation>}.
+     *
+     * @param element the descriptor element
+     * @return the parsed descriptor
+     */
+    public static OperationDescriptor fromOMElement(OMElement element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Operation descriptor element must not be null");
+        }
+        Map<String, String> entries = new HashMap<>();
+        Iterator<?> children = element.getChildElements();
+        while (children.hasNext()) {
+            OMElement child = (OMElement) children.next();
+            if (!ENTRY_ELEMENT.equals(child.getLocalName())) {
+                continue;
+            }
+            String name = child.getAttributeValue(NAME_QNAME);
+            String value = child.getAttributeValue(VALUE_QNAME);
+            if (name == null || value == null) {
+                throw new IllegalArgumentException("Invalid operation descriptor entry: " + child);
+            }
+            entries.put(name, value);
+        }
+        return new OperationDescriptor(element.getAttributeValue(NAME_QNAME), entries);
+    }
+
+    /**
+     * Makes the descriptor visible to the executor for the current message. A {@code null} descriptor
+     * clears any descriptor left behind by a previous operation so that property mediators emitted by
+     * older templates are not shadowed.
+     */
+    public static void bind(MessageContext context, OperationDescriptor descriptor) {
+        if (descriptor != null) {
+            context.setProperty(Constants.OPERATION_DESCRIPTOR, descriptor);
+        } else if (context.getProperty(Constants.OPERATION_DESCRIPTOR) != null) {
+            context.getPropertyKeySet().remove(Constants.OPERATION_DESCRIPTOR);
+        }
+    }
+
+    /**
+     * Reads an operation metadata value for the current message: the bound descriptor is consulted first and
+     * the MessageContext property, set by templates generated before descriptors were introduced, second.
+     *
+     * @return the value, or {@code null} when neither defines the key
+     */
+    public static String property(MessageContext context, String key) {
+        if (context.getProperty(Constants.OPERATION_DESCRIPTOR) instanceof OperationDescriptor descriptor) {
+            String value = descriptor.get(key);
+            if (value != null) {
+                return value;
+            }
+        }
+        Object value = context.getProperty(key);
+        return value != null ? value.toString() : null;
+    }
+
+    public String getOperationName() {
+        return operationName;
+    }
+
+    /**
+     * Returns the metadata value for the given key, or {@code null} when the operation does not define it.
+     */
+    public String get(String key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Returns the metadata keys defined for the operation.
+     */
+    public Set<String> keys() {
+        return entries.keySet();
+    }
+
+    /**
+     * Returns the value derived from the operation metadata under the given key, computing it on first use.
+     * Derived values live as long as the descriptor, that is, until the template is redeployed.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T derive(String key, Function<String, T> factory) {
+        return (T) derived.computeIfAbsent(key, factory);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,527 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.mi;
+
+import io.ballerina.runtime.api.Module;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.synapse.MessageContext;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Invocation counts, error counts and per-phase latency histograms of one connector operation.
+ * <p>
+ * The overall mediation latency does not tell whether the backend or the bridge to it is slow, so each call is
+ * split into {@link Phase phases}: binding the template values to arguments, converting them to the declared
+ * parameter types, the Ballerina call itself, mapping the result, and writing it to the payload. The metrics of
+ * each connector operation are published as the MBean
+ * {@code ballerina.mi:type=Operation,connector=<connector>,operation=<operation>}.
+ * </p>
+ * <p>
+ * Recording is off by default, when it costs one volatile read per call. It is switched on with the
+ * {@value #ENABLED_PROPERTY} system property, or at runtime with the {@code Enabled} attribute of the
+ * {@code ballerina.mi:type=Metrics} MBean. At most {@value #MAX_OPERATIONS} operations are tracked. The same MBean
+ * publishes the counts of {@link ClientConnections}.
+ * </p>
+ * <p>
+ * The MBeans of a connector's operations are removed when its runtime is stopped, and the
+ * {@code ballerina.mi:type=Metrics} MBean once no runtime is left, so the platform MBean server does not keep the
+ * classes of an undeployed connector alive. The next runtime started publishes it again.
+ * </p>
+ */
+public final class OperationMetrics implements OperationMetricsMXBean {
+
+    static final String ENABLED_PROPERTY = "ballerina.mi.metrics";
+    static final String DOMAIN = "ballerina.mi";
+    static final int MAX_OPERATIONS = 1024;
+    private static final String UNKNOWN = "unknown";
+    private static final long[] BUCKET_BOUNDS_MICROS = {50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000, 25_000,
+            50_000, 100_000, 250_000, 500_000, 1_000_000, 2_500_000, 5_000_000, 10_000_000};
+    private static final Phase[] PHASES = Phase.values();
+
+    private static final Log log = LogFactory.getLog(OperationMetrics.class);
+    private static final Map<String, OperationMetrics> OPERATIONS = new ConcurrentHashMap<>();
+    private static final Control CONTROL = new Control();
+    private static volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+    // Guarded by the class lock
+    private static boolean controlPublished;
+
+    static {
+        publishControl();
+    }
+
+    /**
+     * The parts of an operation call that are timed separately.
+     */
+    public enum Phase {
+        /** Reading the template values and building the argument values. */
+        BINDING("binding"),
+        /** Converting map and array arguments to the declared parameter types. */
+        CONVERSION("conversion"),
+        /** The Ballerina function or method call. */
+        CALL("call"),
+        /** Mapping the result to a Synapse value. */
+        RESPONSE("processResponse"),
+        /** Writing the result to the message payload. */
+        PAYLOAD("payloadWriter");
+
+        private final String displayName;
+
+        Phase(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String displayName() {
+            return displayName;
+        }
+    }
+
+    private final String connector;
+    private final String operation;
+    private final LongAdder invocations = new LongAdder();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private final LatencyHistogram[] latencies = new LatencyHistogram[PHASES.length];
+
+    private OperationMetrics(String connector, String operation) {
+        this.connector = connector;
+        this.operation = operation;
+        for (int i = 0; i < latencies.length; i++) {
+            latencies[i] = new LatencyHistogram();
+        }
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        OperationMetrics.enabled = enabled;
+    }
+
+    /**
+     * Starts timing a call of the operation.
+     *
+     * @return the sample to time the phases with, or {@code null} when recording is off
+     */
+    public static Sample start(String connector, String operation) {
+        if (!enabled) {
+            return null;
+        }
+        OperationMetrics metrics = get(connector, operation);
+        return metrics != null ? new Sample(metrics) : null;
+    }
+
+    /**
+     * Starts timing a call of the operation running for the message, identified by the module bound to the message
+     * and the operation descriptor, or the function name for templates without one.
+     *
+     * @return the sample to time the phases with, or {@code null} when recording is off
+     */
+    public static Sample start(MessageContext context) {
+        if (!enabled) {
+            return null;
+        }
+        Module module = RuntimeRegistry.currentModule(context);
+        String operation = context.getProperty(Constants.OPERATION_DESCRIPTOR) instanceof OperationDescriptor descriptor
+                && descriptor.getOperationName() != null
+                ? descriptor.getOperationName() : OperationDescriptor.property(context, Constants.FUNCTION_NAME);
+        return start(module != null ? module.getName() : UNKNOWN, operation != null ? operation : UNKNOWN);
+    }
+
+    /**
+     * Returns the time a phase of the sample starts at, or {@code 0} without reading the clock when the sample is
+     * {@code null}.
+     */
+    public static long mark(Sample sample) {
+        return sample != null ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Adds the time since {@code mark} to a phase of the sample. Phases timed more than once in a call, such as
+     * the binding of each argument, are summed.
+     */
+    public static void record(Sample sample, Phase phase, long mark) {
+        if (sample != null) {
+            sample.add(phase, System.nanoTime() - mark);
+        }
+    }
+
+    /**
+     * Records a call that completed.
+     */
+    public static void succeeded(Sample sample) {
+        if (sample != null) {
+            sample.metrics.complete(sample, null);
+        }
+    }
+
+    /**
+     * Records a call that failed with the given {@code ERROR_CODE}.
+     */
+    public static void failed(Sample sample, String errorCode) {
+        if (sample != null) {
+            sample.metrics.complete(sample, errorCode);
+        }
+    }
+
+    /**
+     * Returns the metrics of an operation, creating and publishing them on first use, or {@code null} once
+     * {@value #MAX_OPERATIONS} operations are tracked.
+     */
+    static OperationMetrics get(String connector, String operation) {
+        String key = connector + '/' + operation;
+        OperationMetrics metrics = OPERATIONS.get(key);
+        if (metrics != null || OPERATIONS.size() >= MAX_OPERATIONS) {
+            return metrics;
+        }
+        return OPERATIONS.computeIfAbsent(key, ignored -> {
+            OperationMetrics created = new OperationMetrics(connector, operation);
+            register(created.objectName(), created);
+            return created;
+        });
+    }
+
+    /**
+     * Publishes the {@code ballerina.mi:type=Metrics} MBean, unless it is already published.
+     */
+    static synchronized void publishControl() {
+        if (!controlPublished) {
+            controlPublished = register(controlName(), CONTROL);
+        }
+    }
+
+    /**
+     * Forgets the metrics of every operation and removes their MBeans and the {@code ballerina.mi:type=Metrics}
+     * MBean, if this class published it.
+     */
+    static synchronized void unpublish() {
+        clear();
+        if (controlPublished) {
+            unregister(controlName());
+            controlPublished = false;
+        }
+    }
+
+    /**
+     * Forgets the metrics of a connector's operations and removes their MBeans.
+     */
+    static void forget(String connector) {
+        OPERATIONS.values().removeIf(metrics -> {
+            if (!metrics.connector.equals(connector)) {
+                return false;
+            }
+            unregister(metrics.objectName());
+            return true;
+        });
+    }
+
+    /**
+     * Forgets the metrics of every operation and removes their MBeans.
+     */
+    static void clear() {
+        for (OperationMetrics metrics : OPERATIONS.values()) {
+            unregister(metrics.objectName());
+        }
+        OPERATIONS.clear();
+    }
+
+    private void complete(Sample sample, String errorCode) {
+        invocations.increment();
+        if (errorCode != null) {
+            errors.computeIfAbsent(errorCode, ignored -> new LongAdder()).increment();
+        }
+        for (int i = 0; i < PHASES.length; i++) {
+            if (sample.timed(i)) {
+                latencies[i].record(sample.phaseNanos[i]);
+            }
+        }
+    }
+
+    @Override
+    public String getConnector() {
+        return connector;
+    }
+
+    @Override
+    public String getOperation() {
+        return operation;
+    }
+
+    @Override
+    public long getInvocationCount() {
+        return invocations.sum();
+    }
+
+    @Override
+    public long getErrorCount() {
+        long count = 0;
+        for (LongAdder adder : errors.values()) {
+            count += adder.sum();
+        }
+        return count;
+    }
+
+    @Override
+    public Map<String, Long> getErrorCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        errors.forEach((code, adder) -> counts.put(code, adder.sum()));
+        return counts;
+    }
+
+    @Override
+    public long[] getLatencyBucketBoundsMicros() {
+        return BUCKET_BOUNDS_MICROS.clone();
+    }
+
+    @Override
+    public Map<String, long[]> getLatencyHistograms() {
+        Map<String, long[]> histograms = new LinkedHashMap<>();
+        for (Phase phase : PHASES) {
+            histograms.put(phase.displayName(), latencies[phase.ordinal()].buckets());
+        }
+        return histograms;
+    }
+
+    @Override
+    public Map<String, Double> getMeanLatencyMicros() {
+        Map<String, Double> means = new LinkedHashMap<>();
+        for (Phase phase : PHASES) {
+            means.put(phase.displayName(), latencies[phase.ordinal()].meanMicros());
+        }
+        return means;
+    }
+
+    @Override
+    public Map<String, Long> getMaxLatencyMicros() {
+        Map<String, Long> maxima = new LinkedHashMap<>();
+        for (Phase phase : PHASES) {
+            maxima.put(phase.displayName(), latencies[phase.ordinal()].maxMicros());
+        }
+        return maxima;
+    }
+
+    @Override
+    public void reset() {
+        invocations.reset();
+        errors.clear();
+        for (LatencyHistogram latency : latencies) {
+            latency.reset();
+        }
+    }
+
+    private ObjectName objectName() {
+        try {
+            return new ObjectName(DOMAIN + ":type=Operation,connector=" + ObjectName.quote(connector)
+                    + ",operation=" + ObjectName.quote(operation));
+        } catch (JMException e) {
+            throw new IllegalStateException("Invalid MBean name for operation " + connector + "/" + operation, e);
+        }
+    }
+
+    static ObjectName controlName() {
+        try {
+            return new ObjectName(DOMAIN + ":type=Metrics");
+        } catch (JMException e) {
+            throw new IllegalStateException("Invalid MBean name for the metrics control", e);
+        }
+    }
+
+    /**
+     * Registers the MBean unless the name is already taken.
+     *
+     * @return whether the MBean was registered
+     */
+    private static boolean register(ObjectName name, Object mbean) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (!server.isRegistered(name)) {
+                server.registerMBean(mbean, name);
+                return true;
+            }
+        } catch (JMException | RuntimeException e) {
+            // Metrics are still recorded, only not published
+            log.warn("Could not register MBean " + name + ": " + e.getMessage());
+        }
+        return false;
+    }
+
+    private static void unregister(ObjectName name) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException | RuntimeException e) {
+            log.warn("Could not unregister MBean " + name + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * The phase times of one call. A sample is used by one thread at a time.
+     */
+    public static final class Sample {
+        private final OperationMetrics metrics;
+        private final long[] phaseNanos = new long[PHASES.length];
+        private int timedPhases;
+
+        private Sample(OperationMetrics metrics) {
+            this.metrics = metrics;
+        }
+
+        private void add(Phase phase, long nanos) {
+            phaseNanos[phase.ordinal()] += nanos;
+            timedPhases |= 1 << phase.ordinal();
+        }
+
+        private boolean timed(int phase) {
+            return (timedPhases & (1 << phase)) != 0;
+        }
+    }
+
+    private static final class LatencyHistogram {
+        private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_MICROS.length + 1];
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        LatencyHistogram() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        void record(long nanos) {
+            long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+            int bucket = 0;
+            while (bucket < BUCKET_BOUNDS_MICROS.length && micros > BUCKET_BOUNDS_MICROS[bucket]) {
+                bucket++;
+            }
+            buckets[bucket].increment();
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        long[] buckets() {
+            long[] counts = new long[buckets.length];
+            for (int i = 0; i < buckets.length; i++) {
+                counts[i] = buckets[i].sum();
+            }
+            return counts;
+        }
+
+        double meanMicros() {
+            long calls = count.sum();
+            return calls == 0 ? 0 : totalNanos.sum() / 1_000.0 / calls;
+        }
+
+        long maxMicros() {
+            return TimeUnit.NANOSECONDS.toMicros(maxNanos.get());
+        }
+
+        void reset() {
+            for (LongAdder bucket : buckets) {
+                bucket.reset();
+            }
+            count.reset();
+            totalNanos.reset();
+            maxNanos.reset();
+        }
+    }
+
+    private static final class Control implements MetricsControlMXBean {
+
+        @Override
+        public boolean isEnabled() {
+            return OperationMetrics.isEnabled();
+        }
+
+        @Override
+        public void setEnabled(boolean enabled) {
+            OperationMetrics.setEnabled(enabled);
+        }
+
+        @Override
+        public int getOperationCount() {
+            return OPERATIONS.size();
+        }
+
+        @Override
+        public void reset() {
+            for (OperationMetrics metrics : OPERATIONS.values()) {
+                metrics.reset();
+            }
+        }
+
+        @Override
+        public int getConnectionCount() {
+            return ClientConnections.getConnectionCount();
+        }
+
+        @Override
+        public int getLiveClientCount() {
+            return ClientConnections.getLiveClientCount();
+        }
+
+        @Override
+        public long getEvictedClientCount() {
+            return ClientConnections.getEvictedClientCount();
+        }
+
+        @Override
+        public long getRebuildCount() {
+            return ClientConnections.getRebuildCount();
+        }
+
+        @Override
+        public int getQueuedCallCount() {
+            return ClientConnections.getQueuedCallCount();
+        }
+
+        @Override
+        public int getInFlightCallCount() {
+            return ClientConnections.getInFlightCallCount();
+        }
+
+        @Override
+        public int getConnectorQueuedCallCount() {
+            return Bulkhead.getConnectorQueueDepth();
+        }
+
+        @Override
+        public int getConnectorInFlightCallCount() {
+            return Bulkhead.getConnectorInFlightCount();
+        }
+
+        @Override
+        public long getRejectedCallCount() {
+            return Bulkhead.getTotalRejectedCount();
+        }
+    }
+}
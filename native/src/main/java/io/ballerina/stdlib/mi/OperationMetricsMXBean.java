@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.mi;
+
+import java.util.Map;
+
+/**
+ * JMX view of the metrics of one connector operation.
+ *
+ * @see OperationMetrics
+ */
+public interface OperationMetricsMXBean {
+
+    String getConnector();
+
+    String getOperation();
+
+    long getInvocationCount();
+
+    long getErrorCount();
+
+    /**
+     * Returns the number of failed calls by {@code ERROR_CODE}.
+     */
+    Map<String, Long> getErrorCounts();
+
+    /**
+     * Returns the upper bounds, in microseconds, of the latency histogram buckets. The histograms have one more
+     * bucket for the latencies above the last bound.
+     */
+    long[] getLatencyBucketBoundsMicros();
+
+    /**
+     * Returns the latency histogram of each phase, by phase name.
+     */
+    Map<String, long[]> getLatencyHistograms();
+
+    Map<String, Double> getMeanLatencyMicros();
+
+    Map<String, Long> getMaxLatencyMicros();
+
+    void reset();
+}
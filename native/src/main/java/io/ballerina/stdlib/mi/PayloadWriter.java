@@ -19,9 +19,14 @@
 package io.ballerina.stdlib.mi;
 
 import com.google.gson.JsonElement;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BXml;
+import io.ballerina.runtime.api.values.BXmlItem;
 import org.apache.axiom.om.OMAbstractFactory;
 import org.apache.axiom.om.OMElement;
 import org.apache.axiom.om.OMFactory;
+import org.apache.axiom.om.OMNamespace;
 import org.apache.axiom.soap.SOAP11Constants;
 import org.apache.axiom.soap.SOAP12Constants;
 import org.apache.axiom.soap.SOAPEnvelope;
@@ -56,6 +61,27 @@ public class PayloadWriter {
                 }
                 setContentType(axis2MessageContext, XML_CONTENT_TYPE);
             }
+            case BXml bXml -> {
+                if (!(bXml instanceof BXmlItem xmlItem) || wrapsEnvelope(xmlItem)) {
+                    // Sequences and envelope replacements need the element tree
+                    overwriteBody(messageContext, BXmlConverter.toOMElement(bXml));
+                    return;
+                }
+                if (firstChildElement(xmlItem) == null) {
+                    throw new AxisFault("Generated content is not a valid XML payload");
+                }
+                JsonUtil.removeJsonPayload(axis2MessageContext);
+                axis2MessageContext.getEnvelope().getBody().addChild(toLazyElement(xmlItem));
+                setContentType(axis2MessageContext, XML_CONTENT_TYPE);
+            }
+            case BMap<?, ?> map -> {
+                JsonUtil.getNewJsonPayload(axis2MessageContext, JsonValueWriter.toInputStream(map), true, true);
+                setContentType(axis2MessageContext, JSON_CONTENT_TYPE);
+            }
+            case BArray array -> {
+                JsonUtil.getNewJsonPayload(axis2MessageContext, JsonValueWriter.toInputStream(array), true, true);
+                setContentType(axis2MessageContext, JSON_CONTENT_TYPE);
+            }
             case JsonElement jsonElement -> {
                 org.apache.synapse.commons.json.JsonUtil.getNewJsonPayload(axis2MessageContext, jsonElement.toString(), true, true);
                 setContentType(axis2MessageContext, JSON_CONTENT_TYPE);
@@ -72,6 +98,39 @@ public class PayloadWriter {
         axis2MessageContext.removeProperty("NO_ENTITY_BODY");
     }
 
+    /**
+     * Wraps the Ballerina element in an element that keeps the value and is only expanded to a tree when a
+     * mediator navigates into it.
+     */
+    static OMElement toLazyElement(BXmlItem xmlItem) {
+        OMFactory factory = OMAbstractFactory.getOMFactory();
+        QName qName = xmlItem.getQName();
+        OMNamespace namespace = qName.getNamespaceURI().isEmpty() ? null
+                : factory.createOMNamespace(qName.getNamespaceURI(), qName.getPrefix());
+        return factory.createOMElement(new BXmlDataSource(xmlItem), qName.getLocalPart(), namespace);
+    }
+
+    private static boolean wrapsEnvelope(BXmlItem xmlItem) {
+        BXmlItem firstChild = firstChildElement(xmlItem);
+        if (firstChild == null) {
+            return false;
+        }
+        QName qName = firstChild.getQName();
+        return qName.getLocalPart().equals("Envelope")
+                && (qName.getNamespaceURI().equals(SOAP11Constants.SOAP_ENVELOPE_NAMESPACE_URI)
+                || qName.getNamespaceURI().equals(SOAP12Constants.SOAP_ENVELOPE_NAMESPACE_URI));
+    }
+
+    private static BXmlItem firstChildElement(BXmlItem xmlItem) {
+        BXml children = xmlItem.children();
+        for (int i = 0; i < children.size(); i++) {
+            if (children.getItem(i) instanceof BXmlItem child) {
+                return child;
+            }
+        }
+        return null;
+    }
+
     private static OMElement getTextElement(String content) {
         OMFactory factory = OMAbstractFactory.getOMFactory();
         OMElement textElement = factory.createOMElement(TEXT_ELEMENT);
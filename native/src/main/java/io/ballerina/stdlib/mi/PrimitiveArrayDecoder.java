@@ -0,0 +1,388 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+
+import java.util.Arrays;
+
+/**
+ * Decodes flat JSON arrays of ints, floats or booleans straight into the primitive storage of a Ballerina array.
+ * <p>
+ * The text is scanned once and each element is written into a {@code long[]}, {@code double[]} or
+ * {@code boolean[]}, so large numeric arrays are never held as a generic {@code json[]} of boxed values.
+ * Like the template JSON parser, the decoders accept a single-quote wrapper and a trailing comma.
+ * The decoders only accept what the generic path would convert without loss: any other input, such as
+ * nested values, {@code null}, strings or a float in an int array, makes them return {@code null} so the
+ * caller can fall back to parsing the text as JSON.
+ * </p>
+ */
+public final class PrimitiveArrayDecoder {
+
+    private static final int INITIAL_CAPACITY = 16;
+    // Powers of ten that a double represents exactly
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    // Mantissas below 2^53 are exact doubles
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    private PrimitiveArrayDecoder() {
+    }
+
+    /**
+     * Decodes a JSON array of integer literals into an {@code int[]} value.
+     *
+     * @return the array, or {@code null} when the text is not a flat array of integers in the int range
+     */
+    public static BArray decodeIntArray(String json) {
+        Scanner scanner = Scanner.open(json);
+        if (scanner == null) {
+            return null;
+        }
+        long[] values = new long[initialCapacity(json)];
+        int size = 0;
+        while (scanner.nextElement()) {
+            if (!scanner.isInteger()) {
+                return null;
+            }
+            long value;
+            try {
+                value = Long.parseLong(json, scanner.start, scanner.end, 10);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+        if (!scanner.isComplete()) {
+            return null;
+        }
+        return ValueCreator.createArrayValue(size == values.length ? values : Arrays.copyOf(values, size));
+    }
+
+    /**
+     * Decodes a JSON array of number literals into a {@code float[]} value.
+     *
+     * @return the array, or {@code null} when the text is not a flat array of numbers
+     */
+    public static BArray decodeFloatArray(String json) {
+        Scanner scanner = Scanner.open(json);
+        if (scanner == null) {
+            return null;
+        }
+        double[] values = new double[initialCapacity(json)];
+        int size = 0;
+        while (scanner.nextElement()) {
+            if (!scanner.isNumber()) {
+                return null;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = parseDouble(json, scanner.start, scanner.end);
+        }
+        if (!scanner.isComplete()) {
+            return null;
+        }
+        return ValueCreator.createArrayValue(size == values.length ? values : Arrays.copyOf(values, size));
+    }
+
+    /**
+     * Decodes a JSON array of {@code true} and {@code false} literals into a {@code boolean[]} value.
+     *
+     * @return the array, or {@code null} when the text is not a flat array of booleans
+     */
+    public static BArray decodeBooleanArray(String json) {
+        Scanner scanner = Scanner.open(json);
+        if (scanner == null) {
+            return null;
+        }
+        boolean[] values = new boolean[initialCapacity(json)];
+        int size = 0;
+        while (scanner.nextElement()) {
+            boolean value;
+            if (scanner.matches("true")) {
+                value = true;
+            } else if (scanner.matches("false")) {
+                value = false;
+            } else {
+                return null;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+        if (!scanner.isComplete()) {
+            return null;
+        }
+        return ValueCreator.createArrayValue(size == values.length ? values : Arrays.copyOf(values, size));
+    }
+
+    private static int initialCapacity(String json) {
+        // Every element takes at least two characters with its separator
+        return Math.max(1, Math.min(INITIAL_CAPACITY, json.length() / 2));
+    }
+
+    /**
+     * Parses a JSON number literal. Literals with at most 15 significant digits and a small exponent are
+     * computed with a single correctly rounded multiplication or division; the rest go through
+     * {@link Double#parseDouble(String)}.
+     */
+    static double parseDouble(String text, int start, int end) {
+        int i = start;
+        boolean negative = text.charAt(i) == '-';
+        if (negative) {
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean fraction = false;
+        for (; i < end; i++) {
+            char c = text.charAt(i);
+            if (c == '.') {
+                fraction = true;
+            } else if (c >= '0' && c <= '9') {
+                if (mantissa != 0 || c != '0') {
+                    digits++;
+                }
+                if (digits > 15) {
+                    return Double.parseDouble(text.substring(start, end));
+                }
+                mantissa = mantissa * 10 + (c - '0');
+                if (fraction) {
+                    scale--;
+                }
+            } else {
+                break;
+            }
+        }
+        if (i < end) {
+            // Exponent
+            i++;
+            boolean negativeExponent = text.charAt(i) == '-';
+            if (negativeExponent || text.charAt(i) == '+') {
+                i++;
+            }
+            int exponent = 0;
+            for (; i < end; i++) {
+                exponent = exponent * 10 + (text.charAt(i) - '0');
+                if (exponent > POWERS_OF_TEN.length * 2) {
+                    return Double.parseDouble(text.substring(start, end));
+                }
+            }
+            scale += negativeExponent ? -exponent : exponent;
+        }
+        double value;
+        if (mantissa == 0) {
+            value = 0.0d;
+        } else if (mantissa < MAX_EXACT_MANTISSA && scale >= -22 && scale <= 22) {
+            value = scale < 0 ? mantissa / POWERS_OF_TEN[-scale] : mantissa * POWERS_OF_TEN[scale];
+        } else {
+            return Double.parseDouble(text.substring(start, end));
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Walks the elements of a flat JSON array, exposing the bounds of the current element.
+     */
+    private static final class Scanner {
+
+        private final String text;
+        private final int length;
+        private int position;
+        private int start;
+        private int end;
+        private boolean complete;
+
+        private Scanner(String text, int position, int length) {
+            this.text = text;
+            this.length = length;
+            this.position = position;
+        }
+
+        static Scanner open(String text) {
+            if (text == null) {
+                return null;
+            }
+            int start = 0;
+            int end = text.length();
+            while (start < end && text.charAt(start) <= ' ') {
+                start++;
+            }
+            while (end > start && text.charAt(end - 1) <= ' ') {
+                end--;
+            }
+            if (end - start >= 2 && text.charAt(start) == '\'' && text.charAt(end - 1) == '\'') {
+                start++;
+                end--;
+            }
+            Scanner scanner = new Scanner(text, start, end);
+            scanner.skipWhitespace();
+            if (scanner.position == end || text.charAt(scanner.position) != '[') {
+                return null;
+            }
+            scanner.position++;
+            scanner.skipWhitespace();
+            if (scanner.position < end && text.charAt(scanner.position) == ']') {
+                scanner.finish(scanner.position + 1);
+            }
+            return scanner;
+        }
+
+        /**
+         * Moves to the next element.
+         *
+         * @return {@code false} at the end of the array or at malformed input
+         */
+        boolean nextElement() {
+            if (complete || position >= length) {
+                return false;
+            }
+            start = position;
+            while (position < length) {
+                char c = text.charAt(position);
+                if (c == ',' || c == ']' || isWhitespace(c)) {
+                    break;
+                }
+                position++;
+            }
+            end = position;
+            skipWhitespace();
+            if (start == end || position == length) {
+                position = length;
+                return false;
+            }
+            char separator = text.charAt(position);
+            if (separator == ']') {
+                finish(position + 1);
+            } else if (separator == ',') {
+                position++;
+                skipWhitespace();
+                if (position < length && text.charAt(position) == ']') {
+                    // Trailing comma
+                    finish(position + 1);
+                }
+            } else {
+                position = length;
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * Whether the closing bracket was reached with nothing but whitespace after it.
+         */
+        boolean isComplete() {
+            return complete;
+        }
+
+        boolean matches(String literal) {
+            return end - start == literal.length() && text.startsWith(literal, start);
+        }
+
+        // -?(0|[1-9][0-9]*), excluding -0 which JSON parsing reads as a float
+        boolean isInteger() {
+            int i = start;
+            if (text.charAt(i) == '-') {
+                i++;
+            }
+            if (i == end) {
+                return false;
+            }
+            if (text.charAt(i) == '0') {
+                return i + 1 == end && i == start;
+            }
+            for (; i < end; i++) {
+                char c = text.charAt(i);
+                if (c < '0' || c > '9') {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // -?(0|[1-9][0-9]*)(\.[0-9]+)?([eE][+-]?[0-9]+)?
+        boolean isNumber() {
+            int i = start;
+            if (text.charAt(i) == '-') {
+                i++;
+            }
+            if (i < end && text.charAt(i) == '0') {
+                i++;
+            } else {
+                int digitsStart = i;
+                i = skipDigits(i);
+                if (i == digitsStart) {
+                    return false;
+                }
+            }
+            if (i < end && text.charAt(i) == '.') {
+                int digitsStart = ++i;
+                i = skipDigits(i);
+                if (i == digitsStart) {
+                    return false;
+                }
+            }
+            if (i < end && (text.charAt(i) == 'e' || text.charAt(i) == 'E')) {
+                i++;
+                if (i < end && (text.charAt(i) == '+' || text.charAt(i) == '-')) {
+                    i++;
+                }
+                int digitsStart = i;
+                i = skipDigits(i);
+                if (i == digitsStart) {
+                    return false;
+                }
+            }
+            return i == end;
+        }
+
+        private int skipDigits(int index) {
+            while (index < end && text.charAt(index) >= '0' && text.charAt(index) <= '9') {
+                index++;
+            }
+            return index;
+        }
+
+        private void finish(int afterBracket) {
+            position = afterBracket;
+            skipWhitespace();
+            complete = position == length;
+            position = length;
+        }
+
+        private void skipWhitespace() {
+            while (position < length && isWhitespace(text.charAt(position))) {
+                position++;
+            }
+        }
+
+        private static boolean isWhitespace(char c) {
+            return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.stdlib.mi.executor.BalExecutor;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.synapse.MessageContext;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide registry of Ballerina runtimes keyed by module org, name and version.
+ * <p>
+ * Each module is started exactly once, on first request, and shared by every mediator and connector
+ * artifact generated for it. Artifacts for different modules get independent runtimes, so several
+ * Ballerina-backed connectors can be deployed side by side. Callers are expected to keep the returned
+ * {@link ModuleRuntime} after the first lookup; the registry is only consulted again on a cache miss.
+ * </p>
+ * <p>
+ * Deployed artifacts {@link #retain} their module and {@link #release} it when they are destroyed. When the
+ * last artifact of a module is released its runtime is stopped and the caches and MBeans that refer to it are
+ * dropped, so an undeployed or redeployed connector does not keep its runtime and classes alive.
+ * </p>
+ */
+public final class RuntimeRegistry {
+
+    private static final Log log = LogFactory.getLog(RuntimeRegistry.class);
+    private static final Map<ModuleKey, ModuleRuntime> RUNTIMES = new ConcurrentHashMap<>();
+    // Guarded by the class lock
+    private static final Map<ModuleKey, Integer> USERS = new HashMap<>();
+
+    private RuntimeRegistry() {
+    }
+
+    /**
+     * Returns the runtime for the given module, creating, initialising and starting it on first use.
+     * <p>
+     * Runtimes are started and stopped under the same lock, so a runtime returned here is never one that
+     * {@link #release} is stopping. Callers keep the runtime, so the lock is only contended on a cache miss.
+     * </p>
+     */
+    public static synchronized ModuleRuntime getOrStart(String orgName, String moduleName, String version) {
+        ModuleKey key = new ModuleKey(orgName, moduleName, version);
+        ModuleRuntime moduleRuntime = RUNTIMES.get(key);
+        if (moduleRuntime == null) {
+            // Started outside any map compute, which would hold a bin lock of the map while the module initialises
+            moduleRuntime = start(key);
+            RUNTIMES.put(key, moduleRuntime);
+        }
+        return moduleRuntime;
+    }
+
+    /**
+     * Returns the runtime for the given module if it has already been started, otherwise {@code null}.
+     */
+    public static ModuleRuntime find(String orgName, String moduleName, String version) {
+        return RUNTIMES.get(new ModuleKey(orgName, moduleName, version));
+    }
+
+    /**
+     * Records that a deployed artifact uses the given module, keeping its runtime running until the artifact
+     * {@link #release releases} it.
+     */
+    public static synchronized void retain(String orgName, String moduleName, String version) {
+        USERS.merge(new ModuleKey(orgName, moduleName, version), 1, Integer::sum);
+    }
+
+    /**
+     * Records that a deployed artifact no longer uses the given module. The module's runtime is stopped when
+     * no artifact retains it any more, and started again by the next {@link #getOrStart}.
+     */
+    public static synchronized void release(String orgName, String moduleName, String version) {
+        ModuleKey key = new ModuleKey(orgName, moduleName, version);
+        Integer users = USERS.get(key);
+        if (users == null) {
+            return;
+        }
+        if (users > 1) {
+            USERS.put(key, users - 1);
+            return;
+        }
+        USERS.remove(key);
+        ModuleRuntime moduleRuntime = RUNTIMES.remove(key);
+        if (moduleRuntime != null) {
+            stop(moduleRuntime);
+        }
+        if (RUNTIMES.isEmpty()) {
+            OperationMetrics.unpublish();
+            ClientConnections.stopSweeper();
+        }
+    }
+
+    /**
+     * Makes the module of the running operation visible to parameter conversion for the current message.
+     */
+    public static void bind(MessageContext context, ModuleRuntime moduleRuntime) {
+        context.setProperty(Constants.MODULE_RUNTIME, moduleRuntime);
+    }
+
+    /**
+     * Returns the module bound to the message, or {@code null} when no operation of a Ballerina module is running
+     * for it.
+     */
+    public static Module currentModule(MessageContext context) {
+        Object bound = context != null ? context.getProperty(Constants.MODULE_RUNTIME) : null;
+        return bound instanceof ModuleRuntime moduleRuntime ? moduleRuntime.module() : null;
+    }
+
+    private static ModuleRuntime start(ModuleKey key) {
+        Module module = new Module(key.orgName(), key.moduleName(), key.version());
+        Runtime rt = Runtime.from(module);
+        rt.init();
+        rt.start();
+        OperationMetrics.publishControl();
+        return new ModuleRuntime(module, rt);
+    }
+
+    private static void stop(ModuleRuntime moduleRuntime) {
+        // Marks the runtime stopped before its connections are closed, so that they are not refreshed on it again
+        moduleRuntime.asyncExecutor().shutdown();
+        // The clients are closed while their runtime can still run their close methods
+        ClientConnections.closeAll(moduleRuntime);
+        BalExecutor.forget(moduleRuntime);
+        TypeRegistry.invalidate();
+        OperationMetrics.forget(moduleRuntime.module().getName());
+        Bulkhead.forget(moduleRuntime.module().getName());
+        try {
+            moduleRuntime.runtime().stop();
+        } catch (RuntimeException e) {
+            log.warn("Could not stop Ballerina runtime for module '" + moduleRuntime.module().getName() + "': "
+                    + e.getMessage(), e);
+        }
+    }
+
+    private record ModuleKey(String orgName, String moduleName, String version) {
+    }
+}
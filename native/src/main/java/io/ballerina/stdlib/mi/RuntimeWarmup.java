@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi;
+
+import com.google.gson.JsonParser;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.values.BXml;
+import io.ballerina.stdlib.mi.executor.DataTransformer;
+import org.apache.axiom.om.OMAbstractFactory;
+import org.apache.axiom.om.util.AXIOMUtil;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.synapse.MessageContext;
+import org.apache.synapse.core.axis2.Axis2MessageContext;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Optional warm-up of the payload conversion paths, run once per JVM when the first generated artifact is
+ * deployed.
+ * <p>
+ * Enabled with the {@value #WARMUP_PROPERTY} system property. It runs representative JSON, record and XML
+ * conversions through {@link DataTransformer}, {@link OMElementConverter}, {@link BXmlConverter} and
+ * {@link PayloadWriter} so that their classes are loaded and hot paths compiled before traffic arrives. The
+ * number of iterations is read from {@value #ITERATIONS_PROPERTY}. Failures are logged and never fail the
+ * deployment.
+ * </p>
+ */
+public final class RuntimeWarmup {
+
+    static final String WARMUP_PROPERTY = "ballerina.mi.warmup";
+    static final String ITERATIONS_PROPERTY = "ballerina.mi.warmup.iterations";
+    private static final int DEFAULT_ITERATIONS = 500;
+
+    private static final Log log = LogFactory.getLog(RuntimeWarmup.class);
+    private static final AtomicBoolean DONE = new AtomicBoolean();
+
+    private static final String SAMPLE_JSON = "{\"id\": 1, \"name\": \"warmup\", \"price\": 10.5, \"active\": true, "
+            + "\"tags\": [\"a\", \"b\"], \"address\": {\"city\": \"Colombo\", \"zip\": \"00100\"}}";
+    private static final String SAMPLE_XML = "<order xmlns:p=\"http://example.org/p\" id=\"1\"><p:item qty=\"2\">"
+            + "warmup</p:item><!-- comment --><total>10.5</total></order>";
+
+    private RuntimeWarmup() {
+    }
+
+    /**
+     * Returns whether warm-up was requested for this server.
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(WARMUP_PROPERTY);
+    }
+
+    /**
+     * Runs the warm-up if it is enabled and has not run yet in this JVM.
+     *
+     * @return {@code true} if this call ran the warm-up
+     */
+    public static boolean runIfEnabled() {
+        if (isEnabled() && DONE.compareAndSet(false, true)) {
+            run(Integer.getInteger(ITERATIONS_PROPERTY, DEFAULT_ITERATIONS));
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Runs the conversion paths the given number of times.
+     *
+     * @return the number of iterations that completed without error
+     */
+    static int run(int iterations) {
+        long start = System.nanoTime();
+        int completed = 0;
+        MapType jsonMapType = null;
+        for (int i = 0; i < iterations; i++) {
+            try {
+                if (jsonMapType == null) {
+                    jsonMapType = TypeCreator.createMapType(PredefinedTypes.TYPE_JSON);
+                }
+                convertJson(jsonMapType);
+                convertXml();
+                writePayloads();
+                completed++;
+            } catch (Exception | LinkageError e) {
+                // Warm-up is best effort; a path that cannot run outside a real message flow is not retried
+                log.warn("Ballerina runtime warm-up stopped after " + completed + " iterations: " + e.getMessage());
+                break;
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Ballerina runtime warm-up completed " + completed + " iterations in "
+                    + (System.nanoTime() - start) / 1_000_000 + " ms");
+        }
+        return completed;
+    }
+
+    private static void convertJson(MapType jsonMapType) {
+        Object parsed = DataTransformer.getJsonParameter(SAMPLE_JSON);
+        DataTransformer.convertValueToType(parsed, jsonMapType);
+    }
+
+    private static void convertXml() throws Exception {
+        BXml bXml = OMElementConverter.toBXml(AXIOMUtil.stringToOM(SAMPLE_XML));
+        BXmlConverter.toOMElement(bXml);
+    }
+
+    private static void writePayloads() throws Exception {
+        PayloadWriter.overwriteBody(newMessageContext(), AXIOMUtil.stringToOM("<result>" + SAMPLE_XML + "</result>"));
+        PayloadWriter.overwriteBody(newMessageContext(), JsonParser.parseString(SAMPLE_JSON));
+        PayloadWriter.overwriteBody(newMessageContext(), "warmup");
+    }
+
+    private static MessageContext newMessageContext() throws Exception {
+        org.apache.axis2.context.MessageContext axis2MessageContext = new org.apache.axis2.context.MessageContext();
+        axis2MessageContext.setEnvelope(OMAbstractFactory.getSOAP11Factory().getDefaultEnvelope());
+        return new Axis2MessageContext(axis2MessageContext, null, null);
+    }
+
+    static void reset() {
+        DONE.set(false);
+    }
+}
@@ -49,6 +49,17 @@ public class TypeConverter {
      * @throws IllegalArgumentException if element type is not supported
      */
     public static BArray convertToArray(String jsonArrayString, String elementType) {
+        // Flat int, float and boolean arrays are decoded straight into primitive storage
+        BArray decoded = switch (elementType) {
+            case INT -> PrimitiveArrayDecoder.decodeIntArray(jsonArrayString);
+            case BOOLEAN -> PrimitiveArrayDecoder.decodeBooleanArray(jsonArrayString);
+            case FLOAT -> PrimitiveArrayDecoder.decodeFloatArray(jsonArrayString);
+            default -> null;
+        };
+        if (decoded != null) {
+            return decoded;
+        }
+
         // Parse JSON array using Ballerina's JSON utils
         BArray jsonArray = (BArray) JsonUtils.parse(jsonArrayString);
 
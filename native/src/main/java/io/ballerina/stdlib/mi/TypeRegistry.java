@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BTypedesc;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide cache of Ballerina record types keyed by module and record name.
+ * <p>
+ * The runtime API only exposes a record's {@link Type} through a value of that type, so resolving it means
+ * building a default-initialised record. The registry does that once per record and keeps the resolved
+ * {@link Type} and its {@link BTypedesc}. Entries are filled on first use, or when an operation template is
+ * deployed from the record names in its {@link OperationDescriptor}. Records that fail to resolve are not
+ * cached, so a module that becomes loadable later is picked up. The cache is dropped when a module runtime is
+ * stopped, because records of the connector's dependency modules cannot be told apart from those of other
+ * connectors; the types of running modules are resolved again on their next use.
+ * </p>
+ */
+public final class TypeRegistry {
+
+    private static final Log log = LogFactory.getLog(TypeRegistry.class);
+
+    private static final String RECORD_NAME_SUFFIX = "_recordName";
+    private static final String RECORD_ORG_SUFFIX = "_recordOrg";
+    private static final String RECORD_MODULE_SUFFIX = "_recordModule";
+    private static final String RECORD_VERSION_SUFFIX = "_recordVersion";
+
+    private static final Map<TypeKey, ResolvedType> TYPES = new ConcurrentHashMap<>();
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+
+    private TypeRegistry() {
+    }
+
+    /**
+     * Returns the type of the given record, resolving it on first use.
+     *
+     * @throws RuntimeException if the record cannot be created in the module, as thrown by the runtime
+     */
+    public static Type getRecordType(Module module, String recordName) {
+        return resolve(module, recordName).type();
+    }
+
+    /**
+     * Returns the typedesc of the given record, resolving it on first use.
+     *
+     * @throws RuntimeException if the record cannot be created in the module, as thrown by the runtime
+     */
+    public static BTypedesc getRecordTypedesc(Module module, String recordName) {
+        return resolve(module, recordName).typedesc();
+    }
+
+    /**
+     * Resolves the module that defines a record from its generated coordinates. Records of the connector's
+     * own module use the connector module so the runtime finds its value creator; other modules are
+     * referenced by coordinates. Missing coordinates fall back to the connector module.
+     */
+    public static Module resolveRecordModule(Module connectorModule, String recordOrg, String recordModule,
+                                             String recordVersion) {
+        if (recordOrg == null || recordModule == null || recordOrg.isEmpty() || recordModule.isEmpty()) {
+            return connectorModule;
+        }
+        if (connectorModule != null && recordOrg.equals(connectorModule.getOrg())
+                && recordModule.equals(connectorModule.getName())) {
+            return connectorModule;
+        }
+        return new Module(recordOrg, recordModule, recordVersion);
+    }
+
+    /**
+     * Resolves every record type referenced by the operation so the first message finds them cached. Records
+     * that cannot be resolved yet are skipped and retried on first use.
+     */
+    public static void preload(Module connectorModule, OperationDescriptor descriptor) {
+        if (descriptor == null) {
+            return;
+        }
+        for (String key : descriptor.keys()) {
+            if (!key.endsWith(RECORD_NAME_SUFFIX)) {
+                continue;
+            }
+            String prefix = key.substring(0, key.length() - RECORD_NAME_SUFFIX.length());
+            Module module = resolveRecordModule(connectorModule, descriptor.get(prefix + RECORD_ORG_SUFFIX),
+                    descriptor.get(prefix + RECORD_MODULE_SUFFIX), descriptor.get(prefix + RECORD_VERSION_SUFFIX));
+            String recordName = descriptor.get(key);
+            if (module == null || recordName.isEmpty()) {
+                continue;
+            }
+            try {
+                resolve(module, recordName);
+            } catch (RuntimeException e) {
+                log.debug("Record type '" + recordName + "' not preloaded: " + e.getMessage());
+            }
+        }
+    }
+
+    public static long getHitCount() {
+        return HITS.sum();
+    }
+
+    public static long getMissCount() {
+        return MISSES.sum();
+    }
+
+    public static int size() {
+        return TYPES.size();
+    }
+
+    private static ResolvedType resolve(Module module, String recordName) {
+        TypeKey key = new TypeKey(module, recordName);
+        ResolvedType resolved = TYPES.get(key);
+        if (resolved != null) {
+            HITS.increment();
+            return resolved;
+        }
+        MISSES.increment();
+        Type type = ValueCreator.createRecordValue(module, recordName).getType();
+        resolved = new ResolvedType(type, ValueCreator.createTypedescValue(type));
+        ResolvedType existing = TYPES.putIfAbsent(key, resolved);
+        return existing != null ? existing : resolved;
+    }
+
+    /**
+     * Drops all cached types, keeping the counters. Called when a module runtime is stopped, so its record
+     * types and the classes behind them are no longer reachable from the registry.
+     */
+    public static void invalidate() {
+        TYPES.clear();
+    }
+
+    /**
+     * Drops all cached types and resets the counters.
+     */
+    public static void clear() {
+        TYPES.clear();
+        HITS.reset();
+        MISSES.reset();
+    }
+
+    private record TypeKey(Module module, String recordName) {
+    }
+
+    private record ResolvedType(Type type, BTypedesc typedesc) {
+    }
+}
@@ -18,11 +18,9 @@
 
 package io.ballerina.stdlib.mi.executor;
 
-import com.google.gson.JsonParser;
 import io.ballerina.runtime.api.Module;
 import io.ballerina.runtime.api.Runtime;
 import io.ballerina.runtime.api.values.*;
-import io.ballerina.runtime.internal.values.MapValueImpl;
 import io.ballerina.stdlib.mi.*;
 import io.ballerina.stdlib.mi.utils.SynapseUtils;
 import org.apache.axis2.AxisFault;
@@ -33,12 +31,10 @@ import org.apache.synapse.SynapseException;
 import org.apache.synapse.data.connector.ConnectorResponse;
 import org.apache.synapse.data.connector.DefaultConnectorResponse;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import static io.ballerina.stdlib.mi.Constants.FUNCTION_NAME;
 
@@ -48,6 +44,112 @@ public class BalExecutor {
     private final ParamHandler paramHandler = new ParamHandler();
 
     public boolean execute(Runtime rt, Object callable, MessageContext context) throws AxisFault, BallerinaExecutionException {
+        OperationMetrics.Sample sample = OperationMetrics.start(context);
+        try {
+            Object[] args = resolveArguments(callable, context, sample);
+            try {
+                Object result = call(prepareCall(rt, callable, context, args), sample);
+                checkResult(result);
+                writeResult(context, result, getResultProperty(context), isOverwriteBody(context), sample);
+            } catch (Exception e) {
+                throw handleFailure(e);
+            }
+        } catch (AxisFault | BallerinaExecutionException | RuntimeException e) {
+            OperationMetrics.failed(sample, errorCode(e));
+            throw e;
+        }
+        OperationMetrics.succeeded(sample);
+        return true;
+    }
+
+    /**
+     * Executes the Ballerina call on the given executor instead of the calling thread.
+     * <p>
+     * Arguments, the target function and the response settings are resolved before this method returns,
+     * while the template parameters are still on the Synapse function stack. The returned future completes
+     * once the response has been written to the message context, or exceptionally with the same exception
+     * {@link #execute} would have thrown, wrapped in a {@link CompletionException}.
+     * </p>
+     * <p>
+     * The call writes the response to the message context from the executor's thread, so the caller must read
+     * what it needs from the context, as {@link AsyncMediation#suspend} does, before
+     * calling this method. The Ballerina runtime only offers blocking calls, so the executor's thread waits for
+     * the call to complete.
+     * </p>
+     */
+    public CompletableFuture<Void> executeAsync(Runtime rt, Object callable, MessageContext context, Executor executor)
+            throws AxisFault, BallerinaExecutionException {
+        OperationMetrics.Sample sample = OperationMetrics.start(context);
+        Callable<Object> call;
+        String resultProperty;
+        boolean overwriteBody;
+        try {
+            Object[] args = resolveArguments(callable, context, sample);
+            try {
+                call = prepareCall(rt, callable, context, args);
+                resultProperty = getResultProperty(context);
+                overwriteBody = isOverwriteBody(context);
+            } catch (Exception e) {
+                throw handleFailure(e);
+            }
+        } catch (AxisFault | BallerinaExecutionException | RuntimeException e) {
+            OperationMetrics.failed(sample, errorCode(e));
+            throw e;
+        }
+        return CompletableFuture.runAsync(() -> {
+            try {
+                Object result = call(call, sample);
+                checkResult(result);
+                writeResult(context, result, resultProperty, overwriteBody, sample);
+            } catch (Exception e) {
+                Exception failure;
+                try {
+                    failure = handleFailure(e);
+                } catch (AxisFault | SynapseException f) {
+                    failure = f;
+                }
+                OperationMetrics.failed(sample, errorCode(failure));
+                throw new CompletionException(failure);
+            }
+            OperationMetrics.succeeded(sample);
+        }, executor);
+    }
+
+    /**
+     * Returns the {@code ERROR_CODE} the mediators report for a failure, or the exception type for unexpected
+     * errors. It is taken from the failure rather than the message, whose {@code ERROR_CODE} may be left over from
+     * an earlier failure in the same flow.
+     */
+    private static String errorCode(Exception e) {
+        if (e instanceof BallerinaExecutionException executionException) {
+            return executionException.getErrorCode();
+        }
+        if (e instanceof AxisFault) {
+            return BallerinaExecutionException.ERROR_CODE;
+        }
+        return e.getClass().getSimpleName();
+    }
+
+    /**
+     * Drops the invocation state resolved for a module runtime that has been stopped, so the classes of an
+     * undeployed connector can be unloaded.
+     */
+    public static void forget(ModuleRuntime moduleRuntime) {
+        ResourceFunctionInvoker.evict(moduleRuntime.runtime());
+        MethodSignatureIndex.evict(moduleRuntime.module());
+        RecordFieldLayout.evict(moduleRuntime.module());
+        // Plans link the types of the connector's dependency modules too, so they cannot be evicted per module
+        ConversionPlan.clear();
+    }
+
+    private static Object call(Callable<Object> call, OperationMetrics.Sample sample) throws Exception {
+        long mark = OperationMetrics.mark(sample);
+        Object result = call.call();
+        OperationMetrics.record(sample, OperationMetrics.Phase.CALL, mark);
+        return result;
+    }
+
+    private Object[] resolveArguments(Object callable, MessageContext context, OperationMetrics.Sample sample) {
         String paramSize = SynapseUtils.getPropertyAsString(context, Constants.SIZE);
         int size = 0;
         if (paramSize != null && !paramSize.isEmpty()) {
@@ -58,62 +160,86 @@ public class BalExecutor {
             }
         }
         Object[] args = new Object[size];
-        paramHandler.setParameters(args, context, callable);
-        
-        try {
-            Object result;
-            if (callable instanceof Module) {
-                String functionName = SynapseUtils.getPropertyAsString(context, Constants.FUNCTION_NAME);
-                result = rt.callFunction((Module) callable, functionName, null, args);
-            } else if (callable instanceof BObject) {
-                String functionType = SynapseUtils.getPropertyAsString(context, Constants.FUNCTION_TYPE);
-                if (Constants.FUNCTION_TYPE_RESOURCE.equals(functionType)) {
-                    String jvmMethodName = SynapseUtils.getPropertyAsString(context, Constants.JVM_METHOD_NAME);
-                    if (jvmMethodName != null) {
-                        jvmMethodName = jvmMethodName.replace("$$", "$^");
-                    }
-                    if (jvmMethodName == null || jvmMethodName.isEmpty()) {
-                        jvmMethodName = SynapseUtils.getPropertyAsString(context, FUNCTION_NAME);
-                    }
-                    if (jvmMethodName == null || jvmMethodName.isEmpty()) {
-                        throw new SynapseException("Neither jvmMethodName nor paramFunctionName is available for resource function invocation");
-                    }
-                    Object[] argsWithPathParams = paramHandler.prependPathParams(args, context);
-                    result = invokeResourceFunction((BObject) callable, rt, jvmMethodName, argsWithPathParams);
-                } else {
-                    String functionName = SynapseUtils.getPropertyAsString(context, Constants.FUNCTION_NAME);
-                    result = rt.callMethod((BObject) callable, functionName, null, args);
+        paramHandler.setParameters(args, context, callable, sample);
+        return args;
+    }
+
+    /**
+     * Resolves the function to invoke from the operation metadata and returns the bound invocation.
+     */
+    private Callable<Object> prepareCall(Runtime rt, Object callable, MessageContext context, Object[] args) {
+        if (callable instanceof Module module) {
+            String functionName = SynapseUtils.getPropertyAsString(context, Constants.FUNCTION_NAME);
+            return () -> rt.callFunction(module, functionName, null, args);
+        } else if (callable instanceof BObject bObject) {
+            String functionType = SynapseUtils.getPropertyAsString(context, Constants.FUNCTION_TYPE);
+            if (Constants.FUNCTION_TYPE_RESOURCE.equals(functionType)) {
+                String jvmMethodName = SynapseUtils.getPropertyAsString(context, Constants.JVM_METHOD_NAME);
+                if (jvmMethodName != null) {
+                    jvmMethodName = jvmMethodName.replace("$$", "$^");
+                }
+                if (jvmMethodName == null || jvmMethodName.isEmpty()) {
+                    jvmMethodName = SynapseUtils.getPropertyAsString(context, FUNCTION_NAME);
                 }
-            } else {
-                throw new SynapseException("Unsupported callable type: " + callable.getClass().getName());
+                if (jvmMethodName == null || jvmMethodName.isEmpty()) {
+                    throw new SynapseException("Neither jvmMethodName nor paramFunctionName is available for resource function invocation");
+                }
+                String resourceMethodName = jvmMethodName;
+                Object[] argsWithPathParams = paramHandler.prependPathParams(args, context);
+                return () -> invokeResourceFunction(bObject, rt, resourceMethodName, argsWithPathParams);
             }
+            String functionName = SynapseUtils.getPropertyAsString(context, Constants.FUNCTION_NAME);
+            return () -> rt.callMethod(bObject, functionName, null, args);
+        }
+        throw new SynapseException("Unsupported callable type: " + callable.getClass().getName());
+    }
 
-            if (result instanceof BError bError) {
-                log.error("Ballerina call returned error: " + bError.getMessage());
-                throw new BallerinaExecutionException(bError.getMessage(), bError.fillInStackTrace());
-            }
-            Object processedResult = processResponse(result);
-            
-            ConnectorResponse connectorResponse = new DefaultConnectorResponse();
-            String resultProperty = getResultProperty(context);
-            boolean overwriteBody = isOverwriteBody(context);
+    private void checkResult(Object result) throws BallerinaExecutionException {
+        if (result instanceof BError bError) {
+            log.error("Ballerina call returned error: " + bError.getMessage());
+            throw new BallerinaExecutionException(bError.getMessage(), bError.fillInStackTrace());
+        }
+    }
 
-            if (overwriteBody) {
-                PayloadWriter.overwriteBody(context, processedResult);
-            } else {
-                connectorResponse.setPayload(processedResult);
-            }
-            context.setVariable(resultProperty, connectorResponse);
-        } catch (BError bError) {
+    private void writeResult(MessageContext context, Object result, String resultProperty, boolean overwriteBody,
+                             OperationMetrics.Sample sample) throws AxisFault {
+        ConnectorResponse connectorResponse = new DefaultConnectorResponse();
+        if (overwriteBody) {
+            // Maps and arrays are serialized straight into the JSON payload without an intermediate tree, and
+            // XML is attached as a lazily expanded element
+            Object payload = result instanceof BMap || result instanceof BArray || result instanceof BXml
+                    ? result : processResponse(result, sample);
+            long mark = OperationMetrics.mark(sample);
+            PayloadWriter.overwriteBody(context, payload);
+            OperationMetrics.record(sample, OperationMetrics.Phase.PAYLOAD, mark);
+        } else {
+            connectorResponse.setPayload(processResponse(result, sample));
+        }
+        context.setVariable(resultProperty, connectorResponse);
+    }
+
+    /**
+     * Maps a failure of the Ballerina call to the exception reported to the mediator. {@link AxisFault} and
+     * unexpected errors are thrown; Ballerina errors are returned as {@link BallerinaExecutionException}.
+     */
+    private BallerinaExecutionException handleFailure(Exception e) throws AxisFault {
+        if (e instanceof BError bError) {
             log.error("BError caught during execution: " + bError.getMessage(), bError);
-            throw new BallerinaExecutionException(bError.getMessage(), bError.fillInStackTrace());
-        } catch (AxisFault | BallerinaExecutionException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("Unexpected error during execution: " + e.getMessage(), e);
-            throw new SynapseException("Error during Ballerina function execution", e);
+            return new BallerinaExecutionException(bError.getMessage(), bError.fillInStackTrace());
+        } else if (e instanceof BallerinaExecutionException executionException) {
+            return executionException;
+        } else if (e instanceof AxisFault axisFault) {
+            throw axisFault;
         }
-        return true;
+        log.error("Unexpected error during execution: " + e.getMessage(), e);
+        throw new SynapseException("Error during Ballerina function execution", e);
+    }
+
+    private Object processResponse(Object result, OperationMetrics.Sample sample) {
+        long mark = OperationMetrics.mark(sample);
+        Object response = processResponse(result);
+        OperationMetrics.record(sample, OperationMetrics.Phase.RESPONSE, mark);
+        return response;
     }
 
     private Object processResponse(Object result) {
@@ -121,10 +247,9 @@ public class BalExecutor {
         if (result instanceof BXml) return BXmlConverter.toOMElement((BXml) result);
         if (result instanceof BDecimal) return ((BDecimal) result).value().toString();
         if (result instanceof BString) return ((BString) result).getValue();
-        if (result instanceof BArray) return JsonParser.parseString(TypeConverter.arrayToJsonString((BArray) result));
-        if (result instanceof BMap) return JsonParser.parseString(((MapValueImpl<?, ?>) result).getJSONString());
+        if (result instanceof BArray || result instanceof BMap) return JsonValueWriter.toJsonElement(result);
         if (result instanceof Long || result instanceof Integer || result instanceof Boolean || result instanceof Double || result instanceof Float) {
-            return JsonParser.parseString(result.toString());
+            return JsonValueWriter.toJsonElement(result);
         }
         log.warn("Unhandled result type: " + result.getClass().getSimpleName() + ", returning as-is");
         return result;
@@ -140,120 +265,13 @@ public class BalExecutor {
 
     private Object invokeResourceFunction(BObject callable, Runtime rt, String jvmMethodName, Object[] args)
             throws BallerinaExecutionException {
-        Object strand = null;
-        Class<?> strandClass;
         try {
-            Field schedulerField = rt.getClass().getDeclaredField("scheduler");
-            schedulerField.setAccessible(true);
-            Object scheduler = schedulerField.get(rt);
-
-            strandClass = Class.forName("io.ballerina.runtime.internal.scheduling.Strand");
-            Class<?> schedulerClass = Class.forName("io.ballerina.runtime.internal.scheduling.Scheduler");
-
-            Constructor<?> strandCtor = null;
-            Object[] ctorArgs = null;
-
-            try {
-                strandCtor = strandClass.getDeclaredConstructor(schedulerClass);
-                ctorArgs = new Object[]{scheduler};
-            } catch (NoSuchMethodException e) {
-                for (Constructor<?> c : strandClass.getDeclaredConstructors()) {
-                    if (c.getParameterCount() > 0 && c.getParameterTypes()[0].equals(schedulerClass)) {
-                        strandCtor = c;
-                        Class<?>[] paramTypes = c.getParameterTypes();
-                        ctorArgs = new Object[paramTypes.length];
-                        ctorArgs[0] = scheduler;
-                        for (int i = 1; i < paramTypes.length; i++) {
-                            if (paramTypes[i] == boolean.class) ctorArgs[i] = false;
-                            else if (paramTypes[i] == int.class) ctorArgs[i] = 0;
-                            else if (paramTypes[i] == long.class) ctorArgs[i] = 0L;
-                            else if (paramTypes[i] == double.class) ctorArgs[i] = 0.0;
-                            else if (paramTypes[i] == float.class) ctorArgs[i] = 0.0f;
-                            else if (paramTypes[i] == String.class) ctorArgs[i] = "mi-strand";
-                            else ctorArgs[i] = null;
-                        }
-                        break;
-                    }
-                }
-            }
-
-            if (strandCtor == null) {
-                throw new BallerinaExecutionException(
-                        "Could not find Strand constructor accepting Scheduler",
-                        new Exception("Strand constructor missing"));
-            }
-            strandCtor.setAccessible(true);
-            strand = strandCtor.newInstance(ctorArgs);
-
-            Method callMethod = callable.getClass().getMethod(
-                    "call", strandClass, String.class, Object[].class);
-            Object result = callMethod.invoke(callable, strand, jvmMethodName, args);
-
-            if (result == null) {
-                // Wait for async completion using the strand's future CompletableFuture
-                Field futureField = strandClass.getDeclaredField("future");
-                futureField.setAccessible(true);
-                Object futureValue = futureField.get(strand);
-
-                if (futureValue != null) {
-                    // Use CompletableFuture.get() for proper blocking wait instead of polling
-                    Field cfField = futureValue.getClass().getDeclaredField("completableFuture");
-                    cfField.setAccessible(true);
-                    Object completableFuture = cfField.get(futureValue);
-                    if (completableFuture instanceof CompletableFuture<?> cf) {
-                        try {
-                            cf.get();
-                        } catch (InterruptedException ie) {
-                            Thread.currentThread().interrupt();
-                            // Fall through to inspect futureValue's panic/result fields below
-                        } catch (ExecutionException ee) {
-                            Throwable cause = ee.getCause();
-                            if (cause instanceof BError) {
-                                throw (BError) cause;
-                            }
-                            // Fall through to inspect futureValue's panic/result fields below
-                        }
-                    }
-
-                    Field resultField = futureValue.getClass().getDeclaredField("result");
-                    resultField.setAccessible(true);
-                    result = resultField.get(futureValue);
-
-                    Field panicField = futureValue.getClass().getDeclaredField("panic");
-                    panicField.setAccessible(true);
-                    Object panic = panicField.get(futureValue);
-                    if (panic != null) {
-                        if (panic instanceof BError) throw (BError) panic;
-                        if (panic instanceof Throwable)
-                            throw new BallerinaExecutionException(
-                                    "Panic in Ballerina function: " + ((Throwable) panic).getMessage(),
-                                    (Throwable) panic);
-                        throw new BallerinaExecutionException(
-                                "Panic in Ballerina function: " + panic,
-                                new Exception(String.valueOf(panic)));
-                    }
-                }
-            }
-            return result;
-        } catch (BError | BallerinaExecutionException bError) {
-            throw bError;
-        } catch (InvocationTargetException e) {
-            if (e.getCause() instanceof BError) throw (BError) e.getCause();
-            throw new BallerinaExecutionException("Resource invocation failed: " + e.getCause().getMessage(),
-                    e.getCause());
-        } catch (Exception e) {
+            return ResourceFunctionInvoker.forRuntime(rt).invoke(callable, jvmMethodName, args);
+        } catch (BError | BallerinaExecutionException e) {
+            throw e;
+        } catch (Throwable e) {
             log.error("Failed to invoke resource function: " + e.getMessage(), e);
             throw new BallerinaExecutionException("Resource invocation failed: " + e.getMessage(), e);
-        } finally {
-            // Clean up the strand to release HTTP connection pool resources
-            if (strand != null) {
-                try {
-                    Method doneMethod = strand.getClass().getMethod("done");
-                    doneMethod.invoke(strand);
-                } catch (Exception e) {
-                    log.warn("Failed to mark strand as done: " + e.getMessage());
-                }
-            }
         }
     }
 }
@@ -0,0 +1,503 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi.executor;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.IntersectionType;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.StructureType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.apache.synapse.SynapseException;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Compiled conversion from generic Ballerina values to a target {@link Type}.
+ * <p>
+ * A plan is compiled once per target type: type references and intersections are unwrapped, record
+ * fields are resolved with their {@link BString} keys, and union members are classified up front. Nested
+ * plans are linked on first use, which keeps recursive types finite. Record, array and map plans return
+ * the source value unchanged when it already has the target type, and open int, float, boolean and byte
+ * array types also accept arrays with the same primitive element type. Plans are cached by type identity; the
+ * cache is bounded so callers that build types per message cannot grow it without limit, and dropped when a
+ * module runtime is stopped.
+ * </p>
+ */
+abstract class ConversionPlan {
+
+    private static final int MAX_CACHED_PLANS = 4096;
+    private static final Map<TypeKey, ConversionPlan> PLANS = new ConcurrentHashMap<>();
+
+    /**
+     * Converts the value to the plan's target type. {@code null} is returned unchanged.
+     */
+    final Object convert(Object value) {
+        return value == null ? null : apply(value);
+    }
+
+    abstract Object apply(Object value);
+
+    static ConversionPlan forType(Type targetType) {
+        return lookup(targetType, ConversionPlan::compile);
+    }
+
+    static RecordPlan forRecord(StructureType recordType) {
+        ConversionPlan plan = lookup(recordType, type -> new RecordPlan(recordType));
+        return plan instanceof RecordPlan recordPlan ? recordPlan : new RecordPlan(recordType);
+    }
+
+    static ArrayPlan forArray(ArrayType arrayType) {
+        ConversionPlan plan = lookup(arrayType, type -> new ArrayPlan(arrayType));
+        return plan instanceof ArrayPlan arrayPlan ? arrayPlan : new ArrayPlan(arrayType);
+    }
+
+    static MapPlan forMap(MapType mapType) {
+        ConversionPlan plan = lookup(mapType, type -> new MapPlan(mapType));
+        return plan instanceof MapPlan mapPlan ? mapPlan : new MapPlan(mapType);
+    }
+
+    /**
+     * Drops all cached plans. Plans of the types of running modules are compiled again on their next use.
+     */
+    static void clear() {
+        PLANS.clear();
+    }
+
+    private static ConversionPlan lookup(Type type, Function<Type, ConversionPlan> compiler) {
+        TypeKey key = new TypeKey(type);
+        ConversionPlan plan = PLANS.get(key);
+        if (plan == null) {
+            // Compilation does not resolve nested plans, so it never re-enters the cache for the same type
+            plan = compiler.apply(type);
+            if (PLANS.size() < MAX_CACHED_PLANS) {
+                ConversionPlan existing = PLANS.putIfAbsent(key, plan);
+                if (existing != null) {
+                    plan = existing;
+                }
+            }
+        }
+        return plan;
+    }
+
+    private static ConversionPlan compile(Type type) {
+        return switch (type.getTag()) {
+            case TypeTags.INTERSECTION_TAG -> forType(((IntersectionType) type).getEffectiveType());
+            case TypeTags.TYPE_REFERENCED_TYPE_TAG -> forType(TypeUtils.getReferredType(type));
+            case TypeTags.RECORD_TYPE_TAG -> type instanceof StructureType recordType
+                    ? new RecordPlan(recordType) : IdentityPlan.INSTANCE;
+            case TypeTags.ARRAY_TAG -> type instanceof ArrayType arrayType
+                    ? new ArrayPlan(arrayType) : IdentityPlan.INSTANCE;
+            case TypeTags.MAP_TAG -> type instanceof MapType mapType
+                    ? new MapPlan(mapType) : IdentityPlan.INSTANCE;
+            case TypeTags.UNION_TAG -> type instanceof UnionType unionType
+                    ? new UnionPlan(unionType) : IdentityPlan.INSTANCE;
+            case TypeTags.INT_TAG -> IntPlan.INSTANCE;
+            case TypeTags.FLOAT_TAG -> FloatPlan.INSTANCE;
+            case TypeTags.DECIMAL_TAG -> DecimalPlan.INSTANCE;
+            case TypeTags.BOOLEAN_TAG -> BooleanPlan.INSTANCE;
+            case TypeTags.STRING_TAG -> StringPlan.INSTANCE;
+            default -> IdentityPlan.INSTANCE;
+        };
+    }
+
+    static Type getEffectiveType(Type type) {
+        int tag = type.getTag();
+        if (tag == TypeTags.TYPE_REFERENCED_TYPE_TAG) {
+            return getEffectiveType(TypeUtils.getReferredType(type));
+        }
+        if (tag == TypeTags.INTERSECTION_TAG) {
+            return getEffectiveType(((IntersectionType) type).getEffectiveType());
+        }
+        return type;
+    }
+
+    /**
+     * Resolves a nested plan on first use.
+     */
+    private static final class PlanRef {
+
+        private final Type type;
+        private ConversionPlan plan;
+
+        PlanRef(Type type) {
+            this.type = type;
+        }
+
+        Object convert(Object value) {
+            if (value == null) {
+                return null;
+            }
+            ConversionPlan resolved = plan;
+            if (resolved == null) {
+                // Benign race: concurrent callers resolve the same cached plan
+                resolved = forType(type);
+                plan = resolved;
+            }
+            return resolved.apply(value);
+        }
+    }
+
+    private static final class IdentityPlan extends ConversionPlan {
+
+        static final IdentityPlan INSTANCE = new IdentityPlan();
+
+        @Override
+        Object apply(Object value) {
+            return value;
+        }
+    }
+
+    private static final class IntPlan extends ConversionPlan {
+
+        static final IntPlan INSTANCE = new IntPlan();
+
+        @Override
+        Object apply(Object value) {
+            if (value instanceof Long) {
+                return value;
+            }
+            if (value instanceof Number num) {
+                double d = num.doubleValue();
+                if (Double.isInfinite(d) || Double.isNaN(d) || d != Math.floor(d)) {
+                    throw new SynapseException(
+                            "Cannot convert fractional value '" + value + "' to Ballerina int: lossy narrowing");
+                }
+                return num.longValue();
+            }
+            return value;
+        }
+    }
+
+    private static final class FloatPlan extends ConversionPlan {
+
+        static final FloatPlan INSTANCE = new FloatPlan();
+
+        @Override
+        Object apply(Object value) {
+            if (value instanceof Double) {
+                return value;
+            }
+            return value instanceof Number num ? num.doubleValue() : value;
+        }
+    }
+
+    private static final class DecimalPlan extends ConversionPlan {
+
+        static final DecimalPlan INSTANCE = new DecimalPlan();
+
+        @Override
+        Object apply(Object value) {
+            if (value instanceof Number || value instanceof BString) {
+                return ValueCreator.createDecimalValue(new BigDecimal(value.toString()));
+            }
+            return value;
+        }
+    }
+
+    private static final class BooleanPlan extends ConversionPlan {
+
+        static final BooleanPlan INSTANCE = new BooleanPlan();
+
+        @Override
+        Object apply(Object value) {
+            return value instanceof String s ? Boolean.parseBoolean(s) : value;
+        }
+    }
+
+    private static final class StringPlan extends ConversionPlan {
+
+        static final StringPlan INSTANCE = new StringPlan();
+
+        @Override
+        Object apply(Object value) {
+            return value instanceof BString ? value : StringUtils.fromString(value.toString());
+        }
+    }
+
+    static final class RecordPlan extends ConversionPlan {
+
+        private final StructureType recordType;
+        private final Module module;
+        private final String name;
+        private final Map<String, Field> fields;
+        private final BString[] fieldKeys;
+        private final PlanRef[] fieldPlans;
+        private final boolean closed;
+        private final PlanRef restPlan;
+
+        RecordPlan(StructureType recordType) {
+            this.recordType = recordType;
+            this.module = recordType.getPackage();
+            this.name = recordType.getName();
+            this.fields = recordType.getFields();
+            this.fieldKeys = new BString[fields.size()];
+            this.fieldPlans = new PlanRef[fields.size()];
+            int i = 0;
+            for (Field field : fields.values()) {
+                fieldKeys[i] = StringUtils.fromString(field.getFieldName());
+                fieldPlans[i] = new PlanRef(field.getFieldType());
+                i++;
+            }
+            Type restFieldType = recordType instanceof RecordType record ? record.getRestFieldType() : null;
+            boolean open = restFieldType != null
+                    && restFieldType.getTag() != TypeTags.NULL_TAG
+                    && restFieldType.getTag() != TypeTags.NEVER_TAG;
+            this.closed = recordType instanceof RecordType && !open;
+            this.restPlan = open ? new PlanRef(restFieldType) : null;
+        }
+
+        @Override
+        Object apply(Object value) {
+            return value instanceof BMap ? convertRecord((BMap<BString, Object>) value, false) : value;
+        }
+
+        /**
+         * Builds a record of the target type from a generic map.
+         *
+         * @param strict reject maps with undeclared fields for closed records, or with no declared field at all;
+         *               used to pick a union member
+         */
+        BMap<BString, Object> convertRecord(BMap<BString, Object> genericMap, boolean strict) {
+            if (genericMap.getType() == recordType) {
+                return genericMap;
+            }
+            if (strict && closed) {
+                for (BString key : genericMap.getKeys()) {
+                    if (!fields.containsKey(key.getValue())) {
+                        throw new SynapseException("Record mismatch: extra field '" + key.getValue()
+                                + "' for closed record " + name);
+                    }
+                }
+            }
+
+            BMap<BString, Object> typedRecord = ValueCreator.createRecordValue(module, name);
+            int matchCount = 0;
+            for (int i = 0; i < fieldKeys.length; i++) {
+                BString key = fieldKeys[i];
+                if (genericMap.containsKey(key)) {
+                    typedRecord.put(key, fieldPlans[i].convert(genericMap.get(key)));
+                    matchCount++;
+                }
+            }
+
+            if (strict && !genericMap.isEmpty() && matchCount == 0 && fieldKeys.length > 0) {
+                throw new SynapseException("Record mismatch: no fields matched for " + name);
+            }
+
+            // Open records keep undeclared keys as rest fields
+            if (restPlan != null) {
+                for (BString key : genericMap.getKeys()) {
+                    if (!fields.containsKey(key.getValue())) {
+                        typedRecord.put(key, restPlan.convert(genericMap.get(key)));
+                    }
+                }
+            }
+            return typedRecord;
+        }
+    }
+
+    static final class ArrayPlan extends ConversionPlan {
+
+        private final ArrayType arrayType;
+        private final PlanRef elementPlan;
+        private final int primitiveElementTag;
+
+        ArrayPlan(ArrayType arrayType) {
+            this.arrayType = arrayType;
+            this.elementPlan = new PlanRef(arrayType.getElementType());
+            this.primitiveElementTag = primitiveElementTag(arrayType);
+        }
+
+        // Open, mutable arrays of int, float, boolean or byte accept any array with the same primitive storage
+        private static int primitiveElementTag(ArrayType arrayType) {
+            if (arrayType.getState() != ArrayType.ArrayState.OPEN || arrayType.isReadOnly()) {
+                return -1;
+            }
+            int tag = arrayType.getElementType().getTag();
+            return tag == TypeTags.INT_TAG || tag == TypeTags.FLOAT_TAG || tag == TypeTags.BOOLEAN_TAG
+                    || tag == TypeTags.BYTE_TAG ? tag : -1;
+        }
+
+        @Override
+        Object apply(Object value) {
+            return value instanceof BArray array ? convertArray(array) : value;
+        }
+
+        // The source must itself be an open, mutable array of the primitive type; a closed or read-only array
+        // would keep its own length and mutability as the inherent type of the argument
+        private boolean hasTargetShape(BArray array) {
+            return primitiveElementTag >= 0 && array.getType() instanceof ArrayType sourceType
+                    && sourceType.getState() == ArrayType.ArrayState.OPEN && !sourceType.isReadOnly()
+                    && sourceType.getElementType().getTag() == primitiveElementTag;
+        }
+
+        BArray convertArray(BArray genericArray) {
+            if (genericArray.getType() == arrayType || hasTargetShape(genericArray)) {
+                return genericArray;
+            }
+            // A new array with the target inherent type prevents InherentTypeViolation
+            BArray typedArray = ValueCreator.createArrayValue(arrayType);
+            long size = genericArray.size();
+            for (long i = 0; i < size; i++) {
+                typedArray.add(i, elementPlan.convert(genericArray.get(i)));
+            }
+            return typedArray;
+        }
+    }
+
+    static final class MapPlan extends ConversionPlan {
+
+        private final MapType mapType;
+        private final PlanRef constraintPlan;
+
+        MapPlan(MapType mapType) {
+            this.mapType = mapType;
+            this.constraintPlan = new PlanRef(mapType.getConstrainedType());
+        }
+
+        @Override
+        Object apply(Object value) {
+            return value instanceof BMap ? convertMap((BMap<BString, Object>) value) : value;
+        }
+
+        BMap<BString, Object> convertMap(BMap<BString, Object> genericMap) {
+            if (genericMap.getType() == mapType) {
+                return genericMap;
+            }
+            // A new map with the target inherent type prevents InherentTypeViolation
+            BMap<BString, Object> typedMap = ValueCreator.createMapValue(mapType);
+            for (Map.Entry<BString, Object> entry : genericMap.entrySet()) {
+                typedMap.put(entry.getKey(), constraintPlan.convert(entry.getValue()));
+            }
+            return typedMap;
+        }
+    }
+
+    /**
+     * Picks the first union member the value converts to: structured members first, then basic members
+     * that match the value naturally, then string coercion.
+     */
+    private static final class UnionPlan extends ConversionPlan {
+
+        private final ConversionPlan[] structuredMembers;
+        private final int[] memberTags;
+        private final boolean hasString;
+
+        UnionPlan(UnionType unionType) {
+            List<ConversionPlan> structured = new ArrayList<>();
+            List<Type> members = unionType.getMemberTypes();
+            memberTags = new int[members.size()];
+            boolean string = false;
+            for (int i = 0; i < members.size(); i++) {
+                Type member = getEffectiveType(members.get(i));
+                int tag = member.getTag();
+                memberTags[i] = tag;
+                string |= tag == TypeTags.STRING_TAG;
+                if (tag == TypeTags.RECORD_TYPE_TAG && member instanceof StructureType recordType) {
+                    structured.add(forRecord(recordType));
+                } else if (tag == TypeTags.ARRAY_TAG && member instanceof ArrayType arrayType) {
+                    structured.add(forArray(arrayType));
+                } else if (tag == TypeTags.MAP_TAG && member instanceof MapType mapType) {
+                    structured.add(forMap(mapType));
+                }
+            }
+            this.structuredMembers = structured.toArray(new ConversionPlan[0]);
+            this.hasString = string;
+        }
+
+        @Override
+        Object apply(Object value) {
+            for (ConversionPlan member : structuredMembers) {
+                try {
+                    if (member instanceof RecordPlan recordPlan && value instanceof BMap) {
+                        return recordPlan.convertRecord((BMap<BString, Object>) value, true);
+                    } else if (member instanceof ArrayPlan arrayPlan && value instanceof BArray array) {
+                        return arrayPlan.convertArray(array);
+                    } else if (member instanceof MapPlan mapPlan && value instanceof BMap) {
+                        return mapPlan.convertMap((BMap<BString, Object>) value);
+                    }
+                } catch (Exception e) {
+                    // Not this member; try the next one
+                }
+            }
+
+            for (int tag : memberTags) {
+                if (tag == TypeTags.STRING_TAG && (value instanceof String || value instanceof BString)) {
+                    return value instanceof BString ? value : StringUtils.fromString(value.toString());
+                }
+                if (tag == TypeTags.INT_TAG && value instanceof Number num) {
+                    double d = num.doubleValue();
+                    if (!Double.isInfinite(d) && !Double.isNaN(d) && d == Math.floor(d)) {
+                        return num.longValue();
+                    }
+                }
+                if (tag == TypeTags.FLOAT_TAG && value instanceof Number num) {
+                    return num.doubleValue();
+                }
+                if (tag == TypeTags.DECIMAL_TAG && value instanceof Number) {
+                    return ValueCreator.createDecimalValue(new BigDecimal(value.toString()));
+                }
+                if (tag == TypeTags.BOOLEAN_TAG && value instanceof Boolean) {
+                    return value;
+                }
+            }
+
+            // e.g. a Long for a string? field
+            return hasString ? StringUtils.fromString(value.toString()) : value;
+        }
+    }
+
+    /**
+     * Identity key: distinct types may compare equal by name, e.g. anonymous records in the same module.
+     */
+    private static final class TypeKey {
+
+        private final Type type;
+
+        TypeKey(Type type) {
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof TypeKey other && other.type == type;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(type);
+        }
+    }
+}
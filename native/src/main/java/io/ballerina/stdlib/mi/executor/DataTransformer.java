@@ -19,22 +19,22 @@
 package io.ballerina.stdlib.mi.executor;
 
 import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
-import com.google.gson.JsonSyntaxException;
+import com.google.gson.JsonParseException;
 import io.ballerina.runtime.api.Module;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.*;
 import io.ballerina.runtime.api.utils.JsonUtils;
 import io.ballerina.runtime.api.utils.StringUtils;
-import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
-import io.ballerina.stdlib.mi.BalConnectorConfig;
+import io.ballerina.stdlib.mi.OperationDescriptor;
+import io.ballerina.stdlib.mi.RuntimeRegistry;
+import io.ballerina.stdlib.mi.TypeRegistry;
 import io.ballerina.stdlib.mi.utils.SynapseUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -42,13 +42,8 @@ import org.apache.synapse.MessageContext;
 import org.apache.synapse.SynapseException;
 import org.ballerinalang.langlib.value.FromJsonStringWithType;
 
-import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -58,150 +53,18 @@ public class DataTransformer {
 
     private static final Log log = LogFactory.getLog(DataTransformer.class);
     private static final Pattern SYNAPSE_EXPRESSION_PATTERN = Pattern.compile("\\$\\{(.+?)\\}");
+    // Inner table rows of MI Studio nested tables, after and before expression resolution
+    private static final Pattern RESOLVED_INNER_VALUE_PATTERN = Pattern.compile(",\\s*value=([^{}]+?)\\}\\}");
+    private static final Pattern PLAIN_INNER_VALUE_PATTERN = Pattern.compile("\\{value=([^{}]+)\\}");
 
+    /**
+     * Converts a generic value to the given target type using the type's cached {@link ConversionPlan}.
+     */
     public static Object convertValueToType(Object sourceValue, Type targetType) {
         if (sourceValue == null) {
             return null;
         }
-
-        int tag = targetType.getTag();
-
-        // Handle Intersection types (e.g. readonly records) by unwrapping to effective type
-        if (tag == TypeTags.INTERSECTION_TAG) {
-            Type effectiveType = ((IntersectionType) targetType).getEffectiveType();
-            return convertValueToType(sourceValue, effectiveType);
-        }
-
-        // Handle Type Reference types by unwrapping to referred type
-        if (tag == TypeTags.TYPE_REFERENCED_TYPE_TAG) {
-            Type referredType = TypeUtils.getReferredType(targetType);
-            return convertValueToType(sourceValue, referredType);
-        }
-
-        if (tag == TypeTags.RECORD_TYPE_TAG && sourceValue instanceof BMap) {
-            return createTypedRecordFromGeneric((BMap<BString, Object>) sourceValue, (StructureType) targetType);
-        }
-        if (tag == TypeTags.ARRAY_TAG && sourceValue instanceof BArray) {
-            return createTypedArrayFromGeneric((BArray) sourceValue, (ArrayType) targetType);
-        }
-        if (tag == TypeTags.MAP_TAG && sourceValue instanceof BMap) {
-            return createTypedMapFromGeneric((BMap<BString, Object>) sourceValue, (MapType) targetType);
-        }
-
-        // Handle numeric and basic type conversions to prevent InherentTypeViolation
-        switch (tag) {
-            case TypeTags.INT_TAG:
-                if (sourceValue instanceof Number num) {
-                    double d = num.doubleValue();
-                    if (Double.isInfinite(d) || Double.isNaN(d) || d != Math.floor(d)) {
-                        throw new SynapseException(
-                                "Cannot convert fractional value '" + sourceValue + "' to Ballerina int: lossy narrowing");
-                    }
-                    return num.longValue();
-                }
-                break;
-            case TypeTags.FLOAT_TAG:
-                if (sourceValue instanceof Number) {
-                    return ((Number) sourceValue).doubleValue();
-                }
-                break;
-            case TypeTags.DECIMAL_TAG:
-                if (sourceValue instanceof Number) {
-                    return ValueCreator.createDecimalValue(new java.math.BigDecimal(sourceValue.toString()));
-                }
-                if (sourceValue instanceof BString) {
-                    return ValueCreator.createDecimalValue(new java.math.BigDecimal(sourceValue.toString()));
-                }
-                break;
-            case TypeTags.BOOLEAN_TAG:
-                if (sourceValue instanceof String) {
-                    return Boolean.parseBoolean((String) sourceValue);
-                }
-                break;
-            case TypeTags.STRING_TAG:
-                if (!(sourceValue instanceof BString)) {
-                    return StringUtils.fromString(sourceValue.toString());
-                }
-                break;
-            case TypeTags.UNION_TAG:
-                if (targetType instanceof UnionType unionType) {
-                    
-                    // Pass 1: Try structured types (Records, Arrays, Maps)
-                    for (Type memberType : unionType.getMemberTypes()) {
-                        Type effectiveMemberType = getEffectiveType(memberType);
-                        int memberTag = effectiveMemberType.getTag();
-                        if (memberTag == TypeTags.RECORD_TYPE_TAG && sourceValue instanceof BMap) {
-                            try {
-                                Object converted = createTypedRecordFromGeneric((BMap<BString, Object>) sourceValue, (StructureType) effectiveMemberType, true);
-                                return converted;
-                            } catch (Exception e) {
-                                // Ignore and try next member
-                            }
-                        } else if (memberTag == TypeTags.ARRAY_TAG && sourceValue instanceof BArray) {
-                            try {
-                                Object converted = createTypedArrayFromGeneric((BArray) sourceValue, (ArrayType) effectiveMemberType);
-                                return converted;
-                            } catch (Exception e) {
-                                // Ignore and try next member
-                            }
-                        } else if (memberTag == TypeTags.MAP_TAG && sourceValue instanceof BMap) {
-                            try {
-                                Object converted = createTypedMapFromGeneric((BMap<BString, Object>) sourceValue, (MapType) effectiveMemberType);
-                                return converted;
-                            } catch (Exception e) {
-                                // Ignore and try next member
-                            }
-                        }
-                    }
-
-                    // Pass 2: Try basic types with natural matches
-                    for (Type memberType : unionType.getMemberTypes()) {
-                        Type effectiveMemberType = getEffectiveType(memberType);
-                        int memberTag = effectiveMemberType.getTag();
-                        if (memberTag == TypeTags.STRING_TAG && (sourceValue instanceof String || sourceValue instanceof BString)) {
-                            return sourceValue instanceof BString ? sourceValue : StringUtils.fromString(sourceValue.toString());
-                        }
-                        if (memberTag == TypeTags.INT_TAG && sourceValue instanceof Number num) {
-                            double d = num.doubleValue();
-                            if (!Double.isInfinite(d) && !Double.isNaN(d) && d == Math.floor(d)) {
-                                return num.longValue();
-                            }
-                        }
-                        if (memberTag == TypeTags.FLOAT_TAG && sourceValue instanceof Number) {
-                            return ((Number) sourceValue).doubleValue();
-                        }
-                        if (memberTag == TypeTags.DECIMAL_TAG && sourceValue instanceof Number) {
-                            return ValueCreator.createDecimalValue(new java.math.BigDecimal(sourceValue.toString()));
-                        }
-                        if (memberTag == TypeTags.BOOLEAN_TAG && sourceValue instanceof Boolean) {
-                            return sourceValue;
-                        }
-                    }
-
-                    // Pass 3: Try basic type coercion (e.g. Long to BString for string? field)
-                    for (Type memberType : unionType.getMemberTypes()) {
-                        Type effectiveMemberType = getEffectiveType(memberType);
-                        int memberTag = effectiveMemberType.getTag();
-                        if (memberTag == TypeTags.STRING_TAG) {
-                            return StringUtils.fromString(sourceValue.toString());
-                        }
-                    }
-                }
-                break;
-        }
-
-        return sourceValue;
-    }
-
-    private static Type getEffectiveType(Type type) {
-        int tag = type.getTag();
-        if (tag == TypeTags.TYPE_REFERENCED_TYPE_TAG) {
-            return getEffectiveType(TypeUtils.getReferredType(type));
-        }
-        if (tag == TypeTags.INTERSECTION_TAG) {
-            return getEffectiveType(((IntersectionType) type).getEffectiveType());
-        }
-        return type;
+        return ConversionPlan.forType(targetType).convert(sourceValue);
     }
 
     public static BMap<BString, Object> createTypedRecordFromGeneric(BMap<BString, Object> genericMap, StructureType targetType) {
@@ -209,80 +72,15 @@ public class DataTransformer {
     }
 
     public static BMap<BString, Object> createTypedRecordFromGeneric(BMap<BString, Object> genericMap, StructureType targetType, boolean strict) {
-        BMap<BString, Object> typedRecord = ValueCreator.createRecordValue(targetType.getPackage(), targetType.getName());
-        Map<String, Field> fields = targetType.getFields();
-
-        // Strict validation for Union resolution:
-        // 1. If the record is closed, ensure no extra fields are present in the input
-        if (strict && targetType instanceof RecordType recordType) {
-            Type restFieldType = recordType.getRestFieldType();
-            boolean isClosed = (restFieldType == null || restFieldType.getTag() == TypeTags.NULL_TAG || restFieldType.getTag() == TypeTags.NEVER_TAG);
-            if (isClosed) {
-                for (BString key : genericMap.getKeys()) {
-                    if (!fields.containsKey(key.getValue())) {
-                        throw new SynapseException("Record mismatch: extra field '" + key.getValue() + "' for closed record " + targetType.getName());
-                    }
-                }
-            }
-        }
-
-        int matchCount = 0;
-        for (Field field : fields.values()) {
-            String fieldName = field.getFieldName();
-            BString bFieldName = StringUtils.fromString(fieldName);
-            if (genericMap.containsKey(bFieldName)) {
-                Object genericValue = genericMap.get(bFieldName);
-                Object convertedValue = convertValueToType(genericValue, field.getFieldType());
-                typedRecord.put(bFieldName, convertedValue);
-                matchCount++;
-            }
-        }
-
-        // 2. Ensure at least one field matched if the input map is not empty and we are in strict mode
-        if (strict && !genericMap.isEmpty() && matchCount == 0 && !fields.isEmpty()) {
-            throw new SynapseException("Record mismatch: no fields matched for " + targetType.getName());
-        }
-
-        // 3. For open records, copy undeclared keys as rest fields
-        if (targetType instanceof RecordType recordType) {
-            Type restFieldType = recordType.getRestFieldType();
-            boolean isOpen = restFieldType != null
-                    && restFieldType.getTag() != TypeTags.NULL_TAG
-                    && restFieldType.getTag() != TypeTags.NEVER_TAG;
-            if (isOpen) {
-                for (BString key : genericMap.getKeys()) {
-                    if (!fields.containsKey(key.getValue())) {
-                        Object genericValue = genericMap.get(key);
-                        Object convertedValue = convertValueToType(genericValue, restFieldType);
-                        typedRecord.put(key, convertedValue);
-                    }
-                }
-            }
-        }
-
-        return typedRecord;
+        return ConversionPlan.forRecord(targetType).convertRecord(genericMap, strict);
     }
 
     public static BArray createTypedArrayFromGeneric(BArray genericArray, ArrayType targetType) {
-        // Create a new array with the correct inherent type to prevent InherentTypeViolation
-        BArray typedArray = ValueCreator.createArrayValue(targetType);
-        long size = genericArray.size();
-        for (long i = 0; i < size; i++) {
-            Object value = genericArray.get(i);
-            Object converted = convertValueToType(value, targetType.getElementType());
-            typedArray.add(i, converted);
-        }
-        return typedArray;
+        return ConversionPlan.forArray(targetType).convertArray(genericArray);
     }
 
     public static BMap<BString, Object> createTypedMapFromGeneric(BMap<BString, Object> genericMap, MapType targetType) {
-        // Create a new map with the correct inherent type to prevent InherentTypeViolation
-        BMap<BString, Object> typedMap = ValueCreator.createMapValue(targetType);
-        for (Map.Entry<BString, Object> entry : genericMap.entrySet()) {
-            Object convertedValue = convertValueToType(entry.getValue(), targetType.getConstrainedType());
-            typedMap.put(entry.getKey(), convertedValue);
-        }
-        return typedMap;
+        return ConversionPlan.forMap(targetType).convertMap(genericMap);
     }
 
     /**
@@ -293,14 +91,7 @@ public class DataTransformer {
         try {
             Type type = bObject.getOriginalType();
             if (type instanceof ObjectType objectType) {
-                for (MethodType method : objectType.getMethods()) {
-                    if (method.getName().equals(methodName)) {
-                        Parameter[] params = method.getParameters();
-                        if (paramIndex < params.length) {
-                            return params[paramIndex].type;
-                        }
-                    }
-                }
+                return MethodSignatureIndex.forType(objectType).parameterType(methodName, paramIndex);
             }
         } catch (Exception e) {
             log.warn("Failed to get method parameter type for " + methodName + "[" + paramIndex + "]: " + e.getMessage());
@@ -366,6 +157,47 @@ public class DataTransformer {
         return createRecordValue(jsonString, paramName, context, paramIndex, null);
     }
 
+    /**
+     * Creates a Ballerina record value from a Gson tree, such as a template parameter evaluated from the payload,
+     * without serializing it back to a string.
+     */
+    public static Object createRecordValueFromJsonElement(JsonElement json, String paramName, MessageContext context,
+                                                          int paramIndex) {
+        return createRecordValueFromJson(JsonElementConverter.toJson(json), paramName, context, paramIndex);
+    }
+
+    /**
+     * Creates a Ballerina record value from a generic Ballerina JSON value, such as one read from the payload
+     * stream. The value is returned as is when the parameter has no resolvable record type.
+     */
+    public static Object createRecordValueFromJson(Object json, String paramName, MessageContext context,
+                                                   int paramIndex) {
+        ParameterBinding.IndexKeys keys = ParameterBinding.indexKeys(paramIndex);
+        Object recordNameObj = OperationDescriptor.property(context, keys.recordName());
+        if (recordNameObj != null) {
+            String recordName = recordNameObj.toString();
+            Module recordModule = getRecordModule(context, keys.recordOrg(), keys.recordModule(), keys.recordVersion());
+
+            Type recType = null;
+            try {
+                recType = TypeRegistry.getRecordType(recordModule, recordName);
+            } catch (Exception e) {
+                log.warn("Record type '" + recordName + "' not loadable: " + e.getMessage());
+            }
+
+            if (recType != null) {
+                try {
+                    return convertValueToType(json, recType);
+                } catch (Exception deepEx) {
+                    log.error("Conversion from JSON failed for record '" + recordName + "': " + deepEx.getMessage(), deepEx);
+                    throw new SynapseException(
+                            "Failed to convert JSON to record type '" + recordName + "': " + deepEx.getMessage(), deepEx);
+                }
+            }
+        }
+        return json;
+    }
+
     /**
      * Creates a Ballerina record value from either a JSON string or flattened context properties.
      *
@@ -379,35 +211,25 @@ public class DataTransformer {
             String recordParamName = paramName;
             String connectionType = SynapseUtils.findConnectionTypeForParam(context, recordParamName);
             String propertyPrefix;
-            String recordNamePropertyKey;
-            String recordOrgPropertyKey;
-            String recordModulePropertyKey;
-            String recordVersionPropertyKey;
+            ParameterBinding.IndexKeys keys;
             if (connectionType != null) {
                 propertyPrefix = connectionType + "_" + recordParamName;
-                recordNamePropertyKey = connectionType + "_param" + paramIndex + "_recordName";
-                recordOrgPropertyKey = connectionType + "_param" + paramIndex + "_recordOrg";
-                recordModulePropertyKey = connectionType + "_param" + paramIndex + "_recordModule";
-                recordVersionPropertyKey = connectionType + "_param" + paramIndex + "_recordVersion";
+                keys = ParameterBinding.indexKeys(connectionType + "_", paramIndex);
             } else {
                 propertyPrefix = recordParamName;
-                recordNamePropertyKey = "param" + paramIndex + "_recordName";
-                recordOrgPropertyKey = "param" + paramIndex + "_recordOrg";
-                recordModulePropertyKey = "param" + paramIndex + "_recordModule";
-                recordVersionPropertyKey = "param" + paramIndex + "_recordVersion";
+                keys = ParameterBinding.indexKeys(paramIndex);
             }
 
-            Object recordNameObj = context.getProperty(recordNamePropertyKey);
+            Object recordNameObj = OperationDescriptor.property(context, keys.recordName());
             String recordName = recordNameObj != null ? recordNameObj.toString() : recordTypeHint;
-            Module recordModule = getRecordModule(context, recordOrgPropertyKey, recordModulePropertyKey, recordVersionPropertyKey);
+            Module recordModule = getRecordModule(context, keys.recordOrg(), keys.recordModule(), keys.recordVersion());
 
             // First, try to create a typed record to see if it's possible
             boolean canCreateTypedRecord = false;
             Type recType = null;
             if (recordName != null) {
                 try {
-                    BMap<BString, Object> recValue = ValueCreator.createRecordValue(recordModule, recordName);
-                    recType = recValue.getType();
+                    recType = TypeRegistry.getRecordType(recordModule, recordName);
                     canCreateTypedRecord = true;
                 } catch (Exception e) {
                     log.warn("Record type '" + recordName + "' not loadable in module " + recordModule + ": " + e.getMessage());
@@ -445,16 +267,15 @@ public class DataTransformer {
             jsonString = jsonString.substring(1, jsonString.length() - 1);
         }
 
-        Object recordNameObj = context.getProperty("param" + paramIndex + "_recordName");
+        ParameterBinding.IndexKeys keys = ParameterBinding.indexKeys(paramIndex);
+        Object recordNameObj = OperationDescriptor.property(context, keys.recordName());
         if (recordNameObj != null) {
             String recordName = recordNameObj.toString();
-            Module recordModule = getRecordModule(context, "param" + paramIndex + "_recordOrg", 
-                "param" + paramIndex + "_recordModule", "param" + paramIndex + "_recordVersion");
+            Module recordModule = getRecordModule(context, keys.recordOrg(), keys.recordModule(), keys.recordVersion());
 
-            BString jsonBString = StringUtils.fromString(jsonString);
             Type recType = null;
             try {
-                recType = ValueCreator.createRecordValue(recordModule, recordName).getType();
+                recType = TypeRegistry.getRecordType(recordModule, recordName);
             } catch (Exception e) {
                 log.warn("Record type '" + recordName + "' not loadable: " + e.getMessage());
             }
@@ -492,11 +313,16 @@ public class DataTransformer {
 
     /**
      * Reconstructs a Ballerina record from flattened Synapse context properties.
+     * <p>
+     * The field layout is resolved once per operation (see {@link RecordFieldLayout}); each call reads the
+     * template values of the message and writes them, converted to their field types, straight into the
+     * record map.
+     * </p>
      *
      * @param isDirectUnionMemberRecord {@code true} when this call is building a standalone union-member
      *   record (e.g. SAP {@code DestinationConfig}).  In that mode the field paths stored in the template
      *   carry the parent union-param name as a leading segment (e.g. {@code "configurations.ashost"}) and
-     *   only the leaf name should be used as the JSON key so that the result matches the member record's
+     *   only the leaf name should be used as the record key so that the result matches the member record's
      *   own field names.
      *   <p>
      *   {@code false} when building the parent record that <em>contains</em> the union field (e.g. OneDrive
@@ -507,456 +333,209 @@ public class DataTransformer {
     public static Object reconstructRecordFromFields(String propertyPrefix, MessageContext context,
                                                      boolean setDefaultsForMissingFields,
                                                      boolean isDirectUnionMemberRecord) {
-        com.google.gson.JsonObject recordJson = new com.google.gson.JsonObject();
-        Map<String, String> unionFieldSelectedTypes = new HashMap<>();
-        Set<String> checkedPrefixes = new HashSet<>();
-        Set<String> disabledPrefixes = new HashSet<>();
-
-        int tempIndex = 0;
-        while (true) {
-            String fieldNameKey = propertyPrefix + "_param" + tempIndex;
-            String fieldTypeKey = propertyPrefix + "_paramType" + tempIndex;
-            Object fieldNameObj = context.getProperty(fieldNameKey);
-            Object fieldTypeObj = context.getProperty(fieldTypeKey);
-
-            if (fieldNameObj == null || fieldTypeObj == null) break;
-
-            if (UNION.equals(fieldTypeObj.toString())) {
-                String dataTypeKey = propertyPrefix + "_dataType" + tempIndex;
-                Object dataTypeParamNameObj = context.getProperty(dataTypeKey);
-                if (dataTypeParamNameObj != null) {
-                    Object selectedTypeObj = SynapseUtils.lookupTemplateParameter(context, dataTypeParamNameObj.toString());
-                    if (selectedTypeObj != null) {
-                        unionFieldSelectedTypes.put(fieldNameObj.toString(), selectedTypeObj.toString());
-                    }
-                }
-            }
-
-            // Collect disabled path prefixes by checking enable_* flags for each unique path segment
-            String fieldPath = fieldNameObj.toString();
-            String[] pathParts = fieldPath.split("\\.");
-            StringBuilder prefixBuilder = new StringBuilder();
-            for (int i = 0; i < pathParts.length; i++) {
-                if (i > 0) prefixBuilder.append(".");
-                prefixBuilder.append(pathParts[i]);
-                String prefix = prefixBuilder.toString();
-                if (checkedPrefixes.add(prefix)) {
-                    String enableKey = "enable_" + prefix.replace(".", "_");
-                    Object enableValue = SynapseUtils.lookupTemplateParameter(context, enableKey);
-                    if ("false".equals(enableValue != null ? enableValue.toString() : null)) {
-                        disabledPrefixes.add(prefix);
-                    }
-                }
-            }
-
-            tempIndex++;
-        }
-
-        int fieldIndex = 0;
-        while (true) {
-            String fieldNameKey = propertyPrefix + "_param" + fieldIndex;
-            String fieldTypeKey = propertyPrefix + "_paramType" + fieldIndex;
-            String unionMemberKey = propertyPrefix + "_unionMember" + fieldIndex;
-
-            Object fieldNameObj = context.getProperty(fieldNameKey);
-            Object fieldTypeObj = context.getProperty(fieldTypeKey);
-            Object unionMemberObj = context.getProperty(unionMemberKey);
-
-            if (fieldNameObj == null || fieldTypeObj == null) break;
+        RecordFieldLayout layout = RecordFieldLayout.of(propertyPrefix, context);
+        Map<String, String> selectedUnionMembers = layout.selectedUnionMembers(context);
+        boolean[] disabledPathPrefixes = layout.disabledPathPrefixes(context);
+        BMap<BString, Object> record = ValueCreator.createMapValue(JsonElementConverter.jsonMapType());
 
-            String fieldPath = fieldNameObj.toString();
-            String fieldType = fieldTypeObj.toString();
-            String unionMemberType = unionMemberObj != null ? unionMemberObj.toString() : null;
-
-            if (UNION.equals(fieldType)) {
-               if (unionMemberType != null) {
-                    String parentUnionPath = SynapseUtils.findParentUnionPath(fieldPath, unionFieldSelectedTypes.keySet());
-                    if (parentUnionPath != null) {
-                        String selectedType = unionFieldSelectedTypes.get(parentUnionPath);
-                        if (selectedType != null && !selectedType.equals(unionMemberType)) {
-                            fieldIndex++;
-                            continue;
-                        }
-                    }
-                }
-                if (isFieldPathDisabled(fieldPath, disabledPrefixes)) {
-                    fieldIndex++;
-                    continue;
-                }
-                String sanitizedFieldPath = fieldPath.replace(".", "_");
-                Object unionValue = SynapseUtils.lookupTemplateParameter(context, sanitizedFieldPath);
-                if (unionValue != null) {
-                    String unionJsonKey = (isDirectUnionMemberRecord && unionMemberType != null && fieldPath.contains("."))
-                            ? fieldPath.substring(fieldPath.indexOf('.') + 1)
-                            : fieldPath;
-                     setNestedField(recordJson, unionJsonKey, unionValue, fieldType, context, propertyPrefix, fieldIndex);
-                     fieldIndex++;
-                     continue;
-                }
-                fieldIndex++;
+        for (RecordFieldLayout.Field field : layout.fields()) {
+            if (field.isExcluded(selectedUnionMembers, disabledPathPrefixes)) {
                 continue;
             }
+            String fieldType = field.type();
+            BString[] keys = field.keys(isDirectUnionMemberRecord);
+            Object fieldValue = SynapseUtils.lookupTemplateParameter(context, field.valueParameter());
 
-            if (unionMemberType != null) {
-                String parentUnionPath = SynapseUtils.findParentUnionPath(fieldPath, unionFieldSelectedTypes.keySet());
-                if (parentUnionPath != null) {
-                    String selectedType = unionFieldSelectedTypes.get(parentUnionPath);
-                    if (selectedType != null && !selectedType.equals(unionMemberType)) {
-                        fieldIndex++;
-                        continue;
-                    }
+            if (UNION.equals(fieldType)) {
+                if (fieldValue != null) {
+                    setNestedField(record, keys, fieldValue, field, context);
                 }
-            }
-
-            if (isFieldPathDisabled(fieldPath, disabledPrefixes)) {
-                fieldIndex++;
                 continue;
             }
 
-            String sanitizedFieldPath = fieldPath.replace(".", "_");
-            Object fieldValue = SynapseUtils.lookupTemplateParameter(context, sanitizedFieldPath);
-
-            // For arrays with dual mode, check if JSON mode is selected and use JSON field value
-            if (ARRAY.equals(fieldType)) {
-                String dualModeKey = propertyPrefix + "_param" + fieldIndex + "_dualMode";
-                Object dualModeObj = context.getProperty(dualModeKey);
-                if ("true".equals(dualModeObj != null ? dualModeObj.toString() : null)) {
-                    String inputModeFieldKey = propertyPrefix + "_param" + fieldIndex + "_inputModeField";
-                    Object inputModeFieldObj = context.getProperty(inputModeFieldKey);
-                    if (inputModeFieldObj != null) {
-                        Object inputModeValue = SynapseUtils.lookupTemplateParameter(context, inputModeFieldObj.toString());
-                        if ("JSON".equals(inputModeValue)) {
-                            // In JSON mode, use the JSON field value instead of table value
-                            String jsonFieldKey = propertyPrefix + "_param" + fieldIndex + "_jsonField";
-                            Object jsonFieldObj = context.getProperty(jsonFieldKey);
-                            if (jsonFieldObj != null) {
-                                Object jsonFieldValue = SynapseUtils.lookupTemplateParameter(context, jsonFieldObj.toString());
-                                if (jsonFieldValue != null && !jsonFieldValue.toString().isEmpty()) {
-                                    fieldValue = jsonFieldValue;
-                                }
-                            }
-                        }
-                    }
-                }
+            // For arrays with dual mode, the JSON field value replaces the table value in JSON mode
+            Object jsonInput = field.jsonInput(context);
+            if (jsonInput != null) {
+                fieldValue = jsonInput;
             }
 
-            String jsonKey = (isDirectUnionMemberRecord && unionMemberType != null && fieldPath.contains("."))
-                    ? fieldPath.substring(fieldPath.indexOf('.') + 1)
-                    : fieldPath;
-
             if (fieldValue != null) {
                 String valueStr = fieldValue.toString();
                 if ((MAP.equals(fieldType) || ARRAY.equals(fieldType)) && "[]".equals(valueStr)) {
-                    fieldIndex++;
                     continue;
                 }
-                if (ENUM.equals(fieldType) && valueStr.matches("\\d+") && !valueStr.equals("0") && !valueStr.equals("1")) {
-                    fieldIndex++;
+                if (ENUM.equals(fieldType) && isUnsignedInteger(valueStr) && !valueStr.equals("0")
+                        && !valueStr.equals("1")) {
                     continue;
                 }
-                setNestedField(recordJson, jsonKey, fieldValue, fieldType, context, propertyPrefix, fieldIndex);
+                setNestedField(record, keys, fieldValue, field, context);
             } else if (setDefaultsForMissingFields && (DECIMAL.equals(fieldType) || INT.equals(fieldType))) {
-                setNestedField(recordJson, jsonKey, "0", fieldType, context, propertyPrefix, fieldIndex);
+                setNestedField(record, keys, "0", field, context);
             }
-            fieldIndex++;
         }
-
-        String jsonStr = recordJson.toString();
-
-        Object parseResult = JsonUtils.parse(jsonStr);
-        if (parseResult instanceof BError bError) {
-            throw new SynapseException("Failed to parse reconstructed record JSON: " + bError.getMessage());
-        }
-
-        if (parseResult instanceof BMap) {
-            @SuppressWarnings("unchecked")
-            BMap<BString, Object> resultMap = (BMap<BString, Object>) parseResult;
-            convertFieldTypes(resultMap, propertyPrefix, context);
-        }
-
-        return parseResult;
+        return record;
     }
 
-    /**
-     * Converts field values to correct Ballerina types based on the field type info from properties.
-     * This is needed because JsonUtils.parse() may produce Long/Double for numeric values,
-     * but Ballerina expects specific types like BDecimal for decimal fields.
-     */
-
-    /**
-     * Returns true if the given fieldPath (dot-notation) should be excluded because one of its
-     * path segments has been explicitly disabled via an {@code enable_<sanitizedPath>} flag.
-     */
-    private static boolean isFieldPathDisabled(String fieldPath, Set<String> disabledPrefixes) {
-        if (disabledPrefixes.isEmpty()) {
+    private static boolean isUnsignedInteger(String value) {
+        if (value.isEmpty()) {
             return false;
         }
-        String[] parts = fieldPath.split("\\.");
-        StringBuilder prefix = new StringBuilder();
-        for (int i = 0; i < parts.length; i++) {
-            if (i > 0) prefix.append(".");
-            prefix.append(parts[i]);
-            if (disabledPrefixes.contains(prefix.toString())) {
-                return true;
+        for (int i = 0; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return false;
             }
         }
-        return false;
-    }
-
-    private static void convertFieldTypes(BMap<BString, Object> map, String propertyPrefix, MessageContext context) {
-        int fieldIndex = 0;
-        while (true) {
-            String fieldNameKey = propertyPrefix + "_param" + fieldIndex;
-            String fieldTypeKey = propertyPrefix + "_paramType" + fieldIndex;
-
-            Object fieldNameObj = context.getProperty(fieldNameKey);
-            Object fieldTypeObj = context.getProperty(fieldTypeKey);
-
-            if (fieldNameObj == null || fieldTypeObj == null) break;
-
-            String fieldPath = fieldNameObj.toString();
-            String fieldType = fieldTypeObj.toString();
-
-            // Handle nested fields (e.g., amqpRetryOptions.delay)
-            if (fieldPath.contains(".")) {
-                convertNestedFieldType(map, fieldPath, fieldType);
-            } else {
-                // Simple field
-                BString bFieldName = StringUtils.fromString(fieldPath);
-                if (map.containsKey(bFieldName)) {
-                    Object currentValue = map.get(bFieldName);
-                    if (DECIMAL.equals(fieldType) && currentValue != null && !(currentValue instanceof io.ballerina.runtime.api.values.BDecimal)) {
-                        Object newValue = ValueCreator.createDecimalValue(new java.math.BigDecimal(currentValue.toString()));
-                        map.put(bFieldName, newValue);
-                    }
-                }
-            }
-            fieldIndex++;
-        }
+        return true;
     }
 
     /**
-     * Converts a nested field value to the correct Ballerina type.
-     * For example, for fieldPath "amqpRetryOptions.delay" with type "decimal",
-     * navigates to the amqpRetryOptions BMap and converts the delay field.
+     * Sets a template value at the field's path in the record, creating the enclosing maps as needed and
+     * converting the value to the field type.
      */
     @SuppressWarnings("unchecked")
-    private static void convertNestedFieldType(BMap<BString, Object> rootMap, String fieldPath, String fieldType) {
-        String[] parts = fieldPath.split("\\.");
-        BMap<BString, Object> currentMap = rootMap;
-
-        // Navigate to the parent object
-        for (int i = 0; i < parts.length - 1; i++) {
-            BString key = StringUtils.fromString(parts[i]);
-            Object nested = currentMap.get(key);
-            if (nested instanceof BMap) {
-                currentMap = (BMap<BString, Object>) nested;
-            } else {
-                // Parent doesn't exist or isn't a map - nothing to convert
-                return;
-            }
-        }
-
-        // Now convert the final field
-        String finalFieldName = parts[parts.length - 1];
-        BString bFieldName = StringUtils.fromString(finalFieldName);
-
-        if (currentMap.containsKey(bFieldName)) {
-            Object currentValue = currentMap.get(bFieldName);
-            if (DECIMAL.equals(fieldType) && currentValue != null && !(currentValue instanceof io.ballerina.runtime.api.values.BDecimal)) {
-                Object newValue = ValueCreator.createDecimalValue(new java.math.BigDecimal(currentValue.toString()));
-                currentMap.put(bFieldName, newValue);
+    private static void setNestedField(BMap<BString, Object> record, BString[] keys, Object value,
+                                       RecordFieldLayout.Field field, MessageContext context) {
+        BMap<BString, Object> target = record;
+        for (int i = 0; i < keys.length - 1; i++) {
+            Object nested = target.get(keys[i]);
+            if (!(nested instanceof BMap)) {
+                nested = ValueCreator.createMapValue(JsonElementConverter.jsonMapType());
+                target.put(keys[i], nested);
             }
-        }
-    }
-
-    private static void setNestedField(JsonObject jsonObject, String fieldPath, Object value, String fieldType,
-                                        MessageContext context, String propertyPrefix, int fieldIndex) {
-        String[] parts = fieldPath.split("\\.");
-        for (int i = 0; i < parts.length - 1; i++) {
-            String part = parts[i];
-            if (!jsonObject.has(part)) jsonObject.add(part, new JsonObject());
-            jsonObject = jsonObject.getAsJsonObject(part);
+            target = (BMap<BString, Object>) nested;
         }
 
-        String finalField = parts[parts.length - 1];
         String valueStr = value.toString();
-
         if (SYNAPSE_EXPRESSION_PATTERN.matcher(valueStr).find()) {
             valueStr = SynapseUtils.resolveSynapseExpressions(valueStr, context);
         }
 
         // Empty strings for non-string types mean the field was not provided;
         // skip setting it so the record field remains nil/absent
-        if (valueStr.isEmpty() && !STRING.equals(fieldType)) {
+        if (valueStr.isEmpty() && !STRING.equals(field.type())) {
             return;
         }
+        target.put(keys[keys.length - 1], toFieldValue(valueStr, field));
+    }
 
-        switch (fieldType) {
+    private static Object toFieldValue(String valueStr, RecordFieldLayout.Field field) {
+        switch (field.type()) {
             case BOOLEAN:
-                jsonObject.addProperty(finalField, Boolean.parseBoolean(valueStr));
-                break;
+                return Boolean.parseBoolean(valueStr);
             case INT:
-                jsonObject.addProperty(finalField, Long.parseLong(valueStr));
-                break;
+                return Long.parseLong(valueStr);
             case FLOAT:
-                jsonObject.addProperty(finalField, Double.parseDouble(valueStr));
-                break;
+                return Double.parseDouble(valueStr);
             case DECIMAL:
-                // Pass BigDecimal directly to preserve full precision
-                // Gson's addProperty(String, Number) supports BigDecimal since it extends Number
-                jsonObject.addProperty(finalField, new java.math.BigDecimal(valueStr));
-                break;
+                return ValueCreator.createDecimalValue(new java.math.BigDecimal(valueStr));
             case ENUM:
                 // Handle ZERO_OR_ONE type (0|1) as integers, other enums as strings
                 if (valueStr.equals("0") || valueStr.equals("1")) {
-                    jsonObject.addProperty(finalField, Long.parseLong(valueStr));
-                } else {
-                    jsonObject.addProperty(finalField, valueStr);
+                    return Long.parseLong(valueStr);
                 }
-                break;
+                return StringUtils.fromString(valueStr);
             case JSON:
             case RECORD:
             case UNION:
                 try {
-                    String cleanedJson = SynapseUtils.cleanupJsonString(valueStr);
-                    JsonElement jsonElement = JsonParser.parseString(cleanedJson);
-                    jsonObject.add(finalField, jsonElement);
-                } catch (JsonSyntaxException e) {
-                    jsonObject.addProperty(finalField, valueStr);
+                    return LenientJsonParser.parseLenient(valueStr);
+                } catch (IllegalArgumentException | JsonParseException e) {
+                    return StringUtils.fromString(valueStr);
                 }
-                break;
             case ARRAY:
                 try {
-                    String cleanedJson = SynapseUtils.cleanupJsonString(valueStr);
-
-                    // Check if this is an array of records with dual input mode (Table/JSON selector)
-                    String dualModeKey = propertyPrefix + "_param" + fieldIndex + "_dualMode";
-                    String inputModeFieldKey = propertyPrefix + "_param" + fieldIndex + "_inputModeField";
-                    String jsonFieldKey = propertyPrefix + "_param" + fieldIndex + "_jsonField";
-                    String elementTypeKey = propertyPrefix + "_arrayElementType" + fieldIndex;
-                    String recordFieldsKey = propertyPrefix + "_arrayRecordFields" + fieldIndex;
-
-                    Object dualModeObj = context.getProperty(dualModeKey);
-                    Object elementTypeObj = context.getProperty(elementTypeKey);
-                    Object recordFieldsObj = context.getProperty(recordFieldsKey);
-
-                    // Check if user selected JSON mode for this nested array
-                    if ("true".equals(dualModeObj != null ? dualModeObj.toString() : null)) {
-                        Object inputModeFieldObj = context.getProperty(inputModeFieldKey);
-                        if (inputModeFieldObj != null) {
-                            Object inputModeValue = SynapseUtils.lookupTemplateParameter(context, inputModeFieldObj.toString());
-                            if ("JSON".equals(inputModeValue)) {
-                                // User selected JSON mode - read from JSON field instead of table
-                                Object jsonFieldObj = context.getProperty(jsonFieldKey);
-                                if (jsonFieldObj != null) {
-                                    Object jsonFieldValue = SynapseUtils.lookupTemplateParameter(context, jsonFieldObj.toString());
-                                    if (jsonFieldValue != null && !jsonFieldValue.toString().isEmpty()) {
-                                        cleanedJson = SynapseUtils.cleanupJsonString(jsonFieldValue.toString());
-                                    }
-                                }
-                            }
-                        }
+                    Object parsed = LenientJsonParser.parseLenient(valueStr);
+                    if (!isArrayOfArrays(parsed)) {
+                        return parsed;
                     }
-
-                    // Convert table data to JSON objects if needed (for Table mode)
-                    if ("record".equals(elementTypeObj != null ? elementTypeObj.toString() : null)
-                            && recordFieldsObj != null && cleanedJson.startsWith("[[")) {
+                    if (field.tableColumns() != null) {
                         // Table data is 2D array format: [["val1","val2",...],...]
-                        // Convert to JSON objects: [{"field1":"val1","field2":"val2",...},...]
-                        cleanedJson = convertNestedTableToJsonObjects(cleanedJson, recordFieldsObj.toString());
+                        return convertNestedTableToJsonObjects((BArray) parsed, field.tableColumns());
                     }
-
-                    JsonElement jsonElement = JsonParser.parseString(cleanedJson);
-                    if (jsonElement.isJsonArray() && jsonElement.getAsJsonArray().size() > 0 && jsonElement.getAsJsonArray().get(0).isJsonArray()) {
-                        // Generic 2D array flattening (for non-record arrays)
-                        com.google.gson.JsonArray flatArr = new com.google.gson.JsonArray();
-                        for(JsonElement e : jsonElement.getAsJsonArray()) {
-                            if(e.isJsonArray()) {
-                                for(JsonElement inner : e.getAsJsonArray()) if(!inner.isJsonNull()) flatArr.add(inner);
+                    // Generic 2D array flattening (for non-record arrays)
+                    BArray rows = (BArray) parsed;
+                    BArray flatArr = ValueCreator.createArrayValue(JsonElementConverter.jsonArrayType());
+                    for (int i = 0; i < rows.size(); i++) {
+                        if (rows.get(i) instanceof BArray row) {
+                            for (int j = 0; j < row.size(); j++) {
+                                Object inner = row.get(j);
+                                if (inner != null) {
+                                    flatArr.append(inner);
+                                }
                             }
                         }
-                        jsonObject.add(finalField, flatArr);
-                    } else {
-                        jsonObject.add(finalField, jsonElement);
                     }
-                } catch (JsonSyntaxException e) {
-                    jsonObject.addProperty(finalField, valueStr);
+                    return flatArr;
+                } catch (IllegalArgumentException | JsonParseException e) {
+                    return StringUtils.fromString(valueStr);
                 }
-                break;
             case MAP:
-                 try {
-                    String cleanedJson = SynapseUtils.cleanupJsonString(valueStr);
-                    JsonElement jsonElement = JsonParser.parseString(cleanedJson);
-                    if (jsonElement.isJsonArray() && jsonElement.getAsJsonArray().size() > 0 && jsonElement.getAsJsonArray().get(0).isJsonArray()) {
-                        JsonObject mapObj = new JsonObject();
-                        for(JsonElement e : jsonElement.getAsJsonArray()) {
-                            if(e.isJsonArray()) {
-                                com.google.gson.JsonArray pair = e.getAsJsonArray();
-                                if(pair.size() >= 2) mapObj.add(pair.get(0).getAsString(), pair.get(1));
-                            }
+                try {
+                    Object parsed = LenientJsonParser.parseLenient(valueStr);
+                    if (!isArrayOfArrays(parsed)) {
+                        return parsed;
+                    }
+                    // Key-value table rows: [["key","value"],...]
+                    BArray rows = (BArray) parsed;
+                    BMap<BString, Object> mapValue = ValueCreator.createMapValue(JsonElementConverter.jsonMapType());
+                    for (int i = 0; i < rows.size(); i++) {
+                        if (rows.get(i) instanceof BArray pair && pair.size() >= 2) {
+                            mapValue.put(StringUtils.fromString(String.valueOf(pair.get(0))), pair.get(1));
                         }
-                        jsonObject.add(finalField, mapObj);
-                    } else {
-                        jsonObject.add(finalField, jsonElement);
                     }
-                } catch (JsonSyntaxException e) {
-                    jsonObject.addProperty(finalField, valueStr);
+                    return mapValue;
+                } catch (IllegalArgumentException | JsonParseException e) {
+                    return StringUtils.fromString(valueStr);
                 }
-                break;
             default:
-                jsonObject.addProperty(finalField, valueStr);
-                break;
+                return StringUtils.fromString(valueStr);
         }
     }
 
+    private static boolean isArrayOfArrays(Object value) {
+        return value instanceof BArray array && array.size() > 0 && array.get(0) instanceof BArray;
+    }
+
     /**
-     * Converts MI table 2D array format to JSON objects format for nested arrays in records.
+     * Converts MI table 2D array format to JSON objects for nested arrays in records.
      * Input: [["val1","val2",...],["val3","val4",...],...] (2D array from table)
      * Output: [{"field1":"val1","field2":"val2",...},{"field1":"val3","field2":"val4",...},...] (JSON objects)
      *
      * Empty string values are skipped to allow optional fields to use their defaults.
      */
-    private static String convertNestedTableToJsonObjects(String tableJson, String fieldNamesStr) {
+    private static BArray convertNestedTableToJsonObjects(BArray rows, String fieldNamesStr) {
         String[] fieldNames = fieldNamesStr.split(",");
-        try {
-            JsonElement parsed = JsonParser.parseString(tableJson);
-            if (!parsed.isJsonArray()) {
-                return tableJson;
+        BString[] keys = new BString[fieldNames.length];
+        for (int j = 0; j < fieldNames.length; j++) {
+            keys[j] = StringUtils.fromString(fieldNames[j].trim());
+        }
+        BArray result = ValueCreator.createArrayValue(JsonElementConverter.jsonArrayType());
+        for (int i = 0; i < rows.size(); i++) {
+            if (!(rows.get(i) instanceof BArray rowArray)) {
+                continue;
             }
-            com.google.gson.JsonArray outerArray = parsed.getAsJsonArray();
-            com.google.gson.JsonArray result = new com.google.gson.JsonArray();
-
-            for (int i = 0; i < outerArray.size(); i++) {
-                JsonElement row = outerArray.get(i);
-                if (row.isJsonArray()) {
-                    com.google.gson.JsonArray rowArray = row.getAsJsonArray();
-                    JsonObject obj = new JsonObject();
-                    for (int j = 0; j < Math.min(fieldNames.length, rowArray.size()); j++) {
-                        String fieldName = fieldNames[j].trim();
-                        JsonElement value = rowArray.get(j);
-                        if (value.isJsonNull()) {
-                            // Skip null values - let Ballerina use default
-                            continue;
-                        }
-                        // Skip empty string values - they represent unset optional fields
-                        if (value.isJsonPrimitive() && value.getAsJsonPrimitive().isString()
-                                && value.getAsString().isEmpty()) {
-                            continue;
-                        }
-                        obj.add(fieldName, value);
-                    }
-                    result.add(obj);
+            BMap<BString, Object> record = ValueCreator.createMapValue(JsonElementConverter.jsonMapType());
+            for (int j = 0; j < Math.min(keys.length, rowArray.size()); j++) {
+                Object value = rowArray.get(j);
+                if (value == null) {
+                    // Skip null values - let Ballerina use default
+                    continue;
+                }
+                // Skip empty string values - they represent unset optional fields
+                if (value instanceof BString text && text.getValue().isEmpty()) {
+                    continue;
                 }
+                record.put(keys[j], value);
             }
-            return result.toString();
-        } catch (Exception e) {
-            log.error("Failed to convert nested table to JSON objects: " + e.getMessage(), e);
-            return tableJson;
+            result.append(record);
         }
+        return result;
     }
     
     public static Object getJsonParameter(Object param) {
+        if (param instanceof JsonElement element) {
+            return JsonElementConverter.toJson(element);
+        }
         String strParam;
         if (param instanceof String) {
             strParam = (String) param;
@@ -982,17 +561,32 @@ public class DataTransformer {
     }
     
     public static BMap getMapParameter(Object param, MessageContext context, String valueKey) {
-        String jsonString;
-        if (param instanceof String strParam) {
-            if (strParam.startsWith("'") && strParam.endsWith("'")) {
-                strParam = strParam.substring(1, strParam.length() - 1);
-            }
-            jsonString = strParam;
+        int paramIndex = -1;
+        String indexStr = valueKey.replaceAll("\\D+", "");
+        if (!indexStr.isEmpty()) {
+            try { paramIndex = Integer.parseInt(indexStr); } catch (NumberFormatException ignored) {}
+        }
+        return getMapParameter(param, context, paramIndex);
+    }
+
+    /**
+     * Converts a map parameter of the argument at the given index. Rows of a 2D array are keyed by their first
+     * column and, when they hold more than one value, named by the argument's {@code mapRecordFields} property.
+     */
+    public static BMap getMapParameter(Object param, MessageContext context, int paramIndex) {
+        Object parsed;
+        if (param instanceof JsonElement element) {
+            parsed = JsonElementConverter.toJson(element);
+        } else if (param instanceof BMap || param instanceof BArray) {
+            // Already converted, e.g. read from the JSON payload stream
+            parsed = param;
         } else {
-            jsonString = param.toString();
+            try {
+                parsed = LenientJsonParser.parse(param.toString());
+            } catch (IllegalArgumentException e) {
+                throw new SynapseException("Map parameter is not valid JSON: " + e.getMessage(), e);
+            }
         }
-        jsonString = SynapseUtils.cleanupJsonString(jsonString);
-        Object parsed = JsonUtils.parse(jsonString);
 
         if (parsed instanceof BMap) return (BMap) parsed;
 
@@ -1003,14 +597,10 @@ public class DataTransformer {
                 return transformTableToMap(array);
             }
             if (firstElement instanceof BArray) {
-                int paramIndex = -1;
-                String indexStr = valueKey.replaceAll("\\D+", "");
-                if (!indexStr.isEmpty()) {
-                    try { paramIndex = Integer.parseInt(indexStr); } catch (NumberFormatException ignored) {}
-                }
                 String[] fieldNames = null;
                 if (paramIndex >= 0) {
-                    Object fieldNamesObj = context.getProperty("mapRecordFields" + paramIndex);
+                    Object fieldNamesObj = OperationDescriptor.property(context,
+                            ParameterBinding.indexKeys(paramIndex).mapRecordFields());
                     if (fieldNamesObj != null) fieldNames = fieldNamesObj.toString().split(",");
                 }
                 return transform2DArrayToMap(array, fieldNames);
@@ -1019,123 +609,107 @@ public class DataTransformer {
         throw new SynapseException("Map parameter must be a JSON object or table array");
     }
 
-    public static String transformNestedTableTo2DArray(BArray outerArray) {
+    /**
+     * Converts a nested table, whose rows hold their inner table under {@code innerArray}, to a 2D JSON array.
+     * Inner rows with a single {@code value} column contribute that value.
+     */
+    public static BArray transformNestedTableTo2DArray(BArray outerArray) {
         BString innerArrayKey = StringUtils.fromString("innerArray");
         BString valueKey = StringUtils.fromString("value");
-        StringBuilder jsonBuilder = new StringBuilder("[");
+        BArray result = ValueCreator.createArrayValue(JsonElementConverter.jsonArrayType());
 
         for (int i = 0; i < outerArray.size(); i++) {
-            if (i > 0) jsonBuilder.append(",");
-            Object outerElement = outerArray.get(i);
-            if (outerElement instanceof BMap outerRow) {
-                Object innerValue = outerRow.get(innerArrayKey);
-                if (innerValue instanceof BArray innerArray) {
-                    jsonBuilder.append("[");
-                    for (int j = 0; j < innerArray.size(); j++) {
-                        if (j > 0) jsonBuilder.append(",");
-                        Object innerElement = innerArray.get(j);
-                        if (innerElement instanceof BMap innerRow) {
-                            if (innerRow.containsKey(valueKey) && innerRow.size() == 1) {
-                                appendJsonValue(jsonBuilder, innerRow.get(valueKey));
-                            } else {
-                                jsonBuilder.append(innerElement.toString());
-                            }
-                        } else {
-                            appendJsonValue(jsonBuilder, innerElement);
-                        }
+            BArray row = ValueCreator.createArrayValue(JsonElementConverter.jsonArrayType());
+            if (outerArray.get(i) instanceof BMap outerRow
+                    && outerRow.get(innerArrayKey) instanceof BArray innerArray) {
+                for (int j = 0; j < innerArray.size(); j++) {
+                    Object innerElement = innerArray.get(j);
+                    if (innerElement instanceof BMap innerRow && innerRow.containsKey(valueKey)
+                            && innerRow.size() == 1) {
+                        row.append(toJsonScalar(innerRow.get(valueKey)));
+                    } else {
+                        row.append(toJsonScalar(innerElement));
                     }
-                    jsonBuilder.append("]");
-                } else {
-                    jsonBuilder.append("[]");
                 }
-            } else {
-                jsonBuilder.append("[]");
             }
+            result.append(row);
         }
-        jsonBuilder.append("]");
-        return jsonBuilder.toString();
+        return result;
     }
 
-    public static String transformMIStudioNestedTableTo2DArray(BArray outerArray, MessageContext context) {
-        StringBuilder jsonBuilder = new StringBuilder("[");
+    /**
+     * Converts an MI Studio nested table, whose rows hold the serialized inner table in their second column,
+     * to a 2D JSON array.
+     */
+    public static BArray transformMIStudioNestedTableTo2DArray(BArray outerArray, MessageContext context) {
+        BArray result = ValueCreator.createArrayValue(JsonElementConverter.jsonArrayType());
         for (int i = 0; i < outerArray.size(); i++) {
-            if (i > 0) jsonBuilder.append(",");
-            Object outerElement = outerArray.get(i);
-            if (outerElement instanceof BArray innerRow && innerRow.size() >= 2) {
-                String innerTableStr = innerRow.get(1).toString();
-                String innerArrayJson = parseInnerTableValues(innerTableStr, context);
-                jsonBuilder.append(innerArrayJson);
+            if (outerArray.get(i) instanceof BArray innerRow && innerRow.size() >= 2) {
+                result.append(parseInnerTableValues(innerRow.get(1).toString(), context));
             } else {
-                jsonBuilder.append("[]");
+                result.append(ValueCreator.createArrayValue(JsonElementConverter.jsonArrayType()));
             }
         }
-        jsonBuilder.append("]");
-        return jsonBuilder.toString();
+        return result;
     }
 
-    static String parseInnerTableValues(String innerTableStr, MessageContext context) {
-        if (innerTableStr == null || innerTableStr.trim().isEmpty() || "[]".equals(innerTableStr.trim())) return "[]";
+    static BArray parseInnerTableValues(String innerTableStr, MessageContext context) {
+        BArray result = ValueCreator.createArrayValue(JsonElementConverter.jsonArrayType());
+        if (innerTableStr == null || innerTableStr.trim().isEmpty() || "[]".equals(innerTableStr.trim())) {
+            return result;
+        }
 
         String resolvedStr = SynapseUtils.resolveSynapseExpressions(innerTableStr, context);
-        StringBuilder result = new StringBuilder("[");
-        List<String> values = new ArrayList<>();
-
-        Pattern resolvedExprPattern = Pattern.compile(",\\s*value=([^{}]+?)\\}\\}");
-        Matcher resolvedMatcher = resolvedExprPattern.matcher(resolvedStr);
-        while (resolvedMatcher.find()) values.add(resolvedMatcher.group(1).trim());
-
-        if (values.isEmpty()) {
-            Pattern plainPattern = Pattern.compile("\\{value=([^{}]+)\\}");
-            Matcher plainMatcher = plainPattern.matcher(resolvedStr);
-            while (plainMatcher.find()) values.add(plainMatcher.group(1).trim());
+        Matcher resolvedMatcher = RESOLVED_INNER_VALUE_PATTERN.matcher(resolvedStr);
+        while (resolvedMatcher.find()) {
+            result.append(toJsonScalar(resolvedMatcher.group(1).trim()));
         }
-
-        for (int i = 0; i < values.size(); i++) {
-            if (i > 0) result.append(",");
-            appendJsonValue(result, values.get(i));
+        if (result.size() == 0) {
+            Matcher plainMatcher = PLAIN_INNER_VALUE_PATTERN.matcher(resolvedStr);
+            while (plainMatcher.find()) {
+                result.append(toJsonScalar(plainMatcher.group(1).trim()));
+            }
         }
-        result.append("]");
-        return result.toString();
+        return result;
     }
 
-    static void appendJsonValue(StringBuilder builder, Object value) {
-        if (value == null) {
-            builder.append("null");
-        } else {
-            String str = value.toString();
-            try { Long.parseLong(str); builder.append(str); return; } catch (NumberFormatException ignored) {}
-            try { Double.parseDouble(str); builder.append(str); return; } catch (NumberFormatException ignored) {}
-            if ("true".equals(str) || "false".equals(str)) { builder.append(str); return; }
-            builder.append("\"").append(escapeJsonString(str)).append("\"");
+    /**
+     * Converts a table cell to a JSON value. Cells are typed by their text: JSON number literals become
+     * numbers, {@code true} and {@code false} booleans and anything else a string. Maps and arrays are kept.
+     */
+    static Object toJsonScalar(Object value) {
+        if (value == null || value instanceof Boolean || value instanceof Long
+                || value instanceof BMap || value instanceof BArray) {
+            return value;
         }
+        String text = value.toString();
+        if (JsonElementConverter.isNumber(text)) {
+            return JsonElementConverter.toNumber(text);
+        }
+        if ("true".equals(text) || "false".equals(text)) {
+            return Boolean.parseBoolean(text);
+        }
+        return StringUtils.fromString(text);
     }
 
-    static String escapeJsonString(String value) {
-        if (value == null) return "";
-        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n").replace("\r", "\\r").replace("\t", "\\t");
-    }
-
-    public static String transformTableArrayToSimpleArray(BArray tableArray) {
+    public static BArray transformTableArrayToSimpleArray(BArray tableArray) {
         BString valueFieldName = StringUtils.fromString("value");
-        StringBuilder jsonBuilder = new StringBuilder("[");
+        BArray result = ValueCreator.createArrayValue(JsonElementConverter.jsonArrayType());
         for (int i = 0; i < tableArray.size(); i++) {
-            if (i > 0) jsonBuilder.append(",");
             Object element = tableArray.get(i);
             if (element instanceof BMap row) {
                 Object value = row.get(valueFieldName);
                 if (value == null) throw new SynapseException("Table row missing 'value' field at index " + i);
-                if (value instanceof BString) {
-                    String strValue = ((BString) value).getValue();
-                    jsonBuilder.append("\"").append(strValue.replace("\"", "\\\"")).append("\"");
-                } else if (value instanceof Boolean || value instanceof Number) {
-                    jsonBuilder.append(value.toString());
+                if (value instanceof BString || value instanceof Boolean) {
+                    result.append(value);
+                } else if (value instanceof Number || value instanceof BDecimal) {
+                    result.append(toJsonScalar(value));
                 } else {
-                    jsonBuilder.append("\"").append(value.toString().replace("\"", "\\\"")).append("\"");
+                    result.append(StringUtils.fromString(value.toString()));
                 }
             }
         }
-        jsonBuilder.append("]");
-        return jsonBuilder.toString();
+        return result;
     }
     
     // Helper methods for map transformation
@@ -1199,31 +773,10 @@ public class DataTransformer {
      */
     private static Module getRecordModule(MessageContext context, String recordOrgPropertyKey,
             String recordModulePropertyKey, String recordVersionPropertyKey) {
-        Object recordOrgObj = context.getProperty(recordOrgPropertyKey);
-        Object recordModuleObj = context.getProperty(recordModulePropertyKey);
-        Object recordVersionObj = recordVersionPropertyKey != null ? context.getProperty(recordVersionPropertyKey) : null;
-
-        Module connectorModule = BalConnectorConfig.getModule();
-
-        if (recordOrgObj != null && recordModuleObj != null) {
-            String recordOrg = recordOrgObj.toString();
-            String recordModuleName = recordModuleObj.toString();
-
-            if (!recordOrg.isEmpty() && !recordModuleName.isEmpty()) {
-                // If the record belongs to the same connector module, use the properly initialized module
-                // This ensures ValueCreator can find the value creator for this module
-                if (connectorModule != null &&
-                        recordOrg.equals(connectorModule.getOrg()) &&
-                        recordModuleName.equals(connectorModule.getName())) {
-                    return connectorModule;
-                }
+        String recordOrg = OperationDescriptor.property(context, recordOrgPropertyKey);
+        String recordModule = OperationDescriptor.property(context, recordModulePropertyKey);
+        String recordVersion = recordVersionPropertyKey != null ? OperationDescriptor.property(context, recordVersionPropertyKey) : null;
 
-                // For external modules (like ballerina/time), create a new Module
-                String recordVersion = recordVersionObj != null ? recordVersionObj.toString() : null;
-                return new Module(recordOrg, recordModuleName, recordVersion);
-            }
-        }
-        // Fall back to connector module
-        return connectorModule;
+        return TypeRegistry.resolveRecordModule(RuntimeRegistry.currentModule(context), recordOrg, recordModule, recordVersion);
     }
 }
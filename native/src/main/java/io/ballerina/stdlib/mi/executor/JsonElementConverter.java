@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi.executor;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Converts Gson JSON trees and token streams to Ballerina values without an intermediate string.
+ * <p>
+ * Template parameters evaluated from the payload arrive as {@link JsonElement}s, and payload-bound
+ * parameters are read token by token from the message's JSON stream. Both produce the same values as
+ * {@code JsonUtils.parse} on the equivalent text: objects become {@code map<json>}, arrays {@code json[]},
+ * integral numbers {@code int} and other numbers {@code decimal}. Typed parameters then apply the
+ * compiled {@link ConversionPlan} of the target type to the result.
+ * </p>
+ */
+final class JsonElementConverter {
+
+    private static volatile MapType jsonMapType;
+    private static volatile ArrayType jsonArrayType;
+
+    private JsonElementConverter() {
+    }
+
+    /**
+     * Converts the element to a generic Ballerina JSON value.
+     */
+    static Object toJson(JsonElement element) {
+        if (element == null || element.isJsonNull()) {
+            return null;
+        }
+        if (element.isJsonObject()) {
+            return toMap(element.getAsJsonObject());
+        }
+        if (element.isJsonArray()) {
+            return toArray(element.getAsJsonArray());
+        }
+        return toScalar(element.getAsJsonPrimitive());
+    }
+
+    /**
+     * Reads the next JSON value from the reader, building Ballerina values as tokens arrive so no
+     * intermediate tree or string of the document is held.
+     */
+    static Object read(JsonReader reader) throws IOException {
+        JsonToken token = reader.peek();
+        switch (token) {
+            case BEGIN_OBJECT -> {
+                BMap<BString, Object> map = ValueCreator.createMapValue(jsonMapType());
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    BString key = StringUtils.fromString(reader.nextName());
+                    map.put(key, read(reader));
+                }
+                reader.endObject();
+                return map;
+            }
+            case BEGIN_ARRAY -> {
+                BArray array = ValueCreator.createArrayValue(jsonArrayType());
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    array.append(read(reader));
+                }
+                reader.endArray();
+                return array;
+            }
+            case STRING -> {
+                return StringUtils.fromString(reader.nextString());
+            }
+            case NUMBER -> {
+                return toNumber(reader.nextString());
+            }
+            case BOOLEAN -> {
+                return reader.nextBoolean();
+            }
+            case NULL -> {
+                reader.nextNull();
+                return null;
+            }
+            default -> throw new MalformedJsonException("Unexpected JSON token " + token + " at " + reader.getPath());
+        }
+    }
+
+    private static BMap<BString, Object> toMap(JsonObject object) {
+        BMap<BString, Object> map = ValueCreator.createMapValue(jsonMapType());
+        for (Map.Entry<String, JsonElement> member : object.entrySet()) {
+            map.put(StringUtils.fromString(member.getKey()), toJson(member.getValue()));
+        }
+        return map;
+    }
+
+    private static BArray toArray(JsonArray array) {
+        BArray result = ValueCreator.createArrayValue(jsonArrayType());
+        for (JsonElement item : array) {
+            result.append(toJson(item));
+        }
+        return result;
+    }
+
+    private static Object toScalar(JsonPrimitive primitive) {
+        if (primitive.isBoolean()) {
+            return primitive.getAsBoolean();
+        }
+        if (primitive.isString()) {
+            return StringUtils.fromString(primitive.getAsString());
+        }
+        return toNumber(primitive.getAsString());
+    }
+
+    // Follows the Ballerina JSON parser: -0 is a float, integral literals that fit are ints and
+    // everything else is a decimal
+    static Object toNumber(String literal) {
+        boolean integral = literal.indexOf('.') < 0 && literal.indexOf('e') < 0 && literal.indexOf('E') < 0;
+        if (integral) {
+            if ("-0".equals(literal)) {
+                return -0.0d;
+            }
+            try {
+                return Long.parseLong(literal);
+            } catch (NumberFormatException ignored) {
+                // Outside the int range, kept as a decimal
+            }
+        }
+        return ValueCreator.createDecimalValue(new BigDecimal(literal));
+    }
+
+    /**
+     * Checks whether the text is a JSON number literal, so that it can be passed to {@link #toNumber(String)}.
+     */
+    static boolean isNumber(String text) {
+        int length = text.length();
+        int i = 0;
+        if (i < length && text.charAt(i) == '-') {
+            i++;
+        }
+        if (i < length && text.charAt(i) == '0') {
+            i++;
+        } else {
+            int start = i;
+            i = skipDigits(text, i);
+            if (i == start) {
+                return false;
+            }
+        }
+        if (i < length && text.charAt(i) == '.') {
+            int start = ++i;
+            i = skipDigits(text, i);
+            if (i == start) {
+                return false;
+            }
+        }
+        if (i < length && (text.charAt(i) == 'e' || text.charAt(i) == 'E')) {
+            i++;
+            if (i < length && (text.charAt(i) == '+' || text.charAt(i) == '-')) {
+                i++;
+            }
+            int start = i;
+            i = skipDigits(text, i);
+            if (i == start) {
+                return false;
+            }
+        }
+        return i == length;
+    }
+
+    private static int skipDigits(String text, int index) {
+        while (index < text.length() && text.charAt(index) >= '0' && text.charAt(index) <= '9') {
+            index++;
+        }
+        return index;
+    }
+
+    static MapType jsonMapType() {
+        MapType type = jsonMapType;
+        if (type == null) {
+            type = TypeCreator.createMapType(PredefinedTypes.TYPE_JSON);
+            jsonMapType = type;
+        }
+        return type;
+    }
+
+    static ArrayType jsonArrayType() {
+        ArrayType type = jsonArrayType;
+        if (type == null) {
+            type = TypeCreator.createArrayType(PredefinedTypes.TYPE_JSON);
+            jsonArrayType = type;
+        }
+        return type;
+    }
+}
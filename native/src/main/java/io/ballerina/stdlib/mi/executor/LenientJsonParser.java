@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi.executor;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * Parses JSON template values into Ballerina values in a single pass.
+ * <p>
+ * Template values are written by hand in the MI Studio, so the parser accepts the forms that used to be
+ * cleaned up before parsing: surrounding whitespace, a single-quote wrapper ({@code '{"key":"val"}'}) and
+ * trailing commas in objects and arrays. Everything else follows the JSON grammar, and values are built like
+ * {@code JsonUtils.parse} builds them: objects become {@code map<json>}, arrays {@code json[]}, integral
+ * numbers {@code int} and other numbers {@code decimal}.
+ * </p>
+ * <p>
+ * Flattened record fields were parsed with Gson, so {@link #parseLenient} also accepts the rest of Gson's lenient
+ * grammar, such as unquoted keys and single-quoted strings, by handing values this parser rejects to Gson.
+ * </p>
+ */
+final class LenientJsonParser {
+
+    private final String text;
+    private final int end;
+    private int position;
+
+    private LenientJsonParser(String text, int start, int end) {
+        this.text = text;
+        this.position = start;
+        this.end = end;
+    }
+
+    /**
+     * Parses the template value.
+     *
+     * @throws IllegalArgumentException if the value is not JSON, apart from the tolerated forms
+     */
+    static Object parse(String text) {
+        return parse(text, false);
+    }
+
+    /**
+     * Parses the template value, accepting Gson's lenient grammar as well.
+     *
+     * @throws IllegalArgumentException if the value is missing
+     * @throws JsonParseException       if Gson rejects the value too
+     */
+    static Object parseLenient(String text) {
+        return parse(text, true);
+    }
+
+    private static Object parse(String text, boolean gsonFallback) {
+        if (text == null) {
+            throw new IllegalArgumentException("Missing JSON value");
+        }
+        int start = 0;
+        int end = text.length();
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        // Synapse templates conventionally wrap JSON values in single quotes
+        if (end - start >= 2 && text.charAt(start) == '\'' && text.charAt(end - 1) == '\'') {
+            start++;
+            end--;
+        }
+        LenientJsonParser parser = new LenientJsonParser(text, start, end);
+        try {
+            parser.skipWhitespace();
+            Object value = parser.readValue();
+            parser.skipWhitespace();
+            if (parser.position != end) {
+                throw parser.error("Unexpected content after the JSON value");
+            }
+            return value;
+        } catch (IllegalArgumentException e) {
+            if (!gsonFallback) {
+                throw e;
+            }
+            return JsonElementConverter.toJson(JsonParser.parseString(text.substring(start, end)));
+        }
+    }
+
+    private Object readValue() {
+        if (position == end) {
+            throw error("Missing JSON value");
+        }
+        char c = text.charAt(position);
+        switch (c) {
+            case '{':
+                return readObject();
+            case '[':
+                return readArray();
+            case '"':
+                return StringUtils.fromString(readString());
+            case 't':
+                return readLiteral("true", Boolean.TRUE);
+            case 'f':
+                return readLiteral("false", Boolean.FALSE);
+            case 'n':
+                return readLiteral("null", null);
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    return readNumber();
+                }
+                throw error("Unexpected character '" + c + "'");
+        }
+    }
+
+    private BMap<BString, Object> readObject() {
+        BMap<BString, Object> map = ValueCreator.createMapValue(JsonElementConverter.jsonMapType());
+        position++;
+        skipWhitespace();
+        if (consume('}')) {
+            return map;
+        }
+        while (true) {
+            if (position == end || text.charAt(position) != '"') {
+                throw error("Expected a field name");
+            }
+            BString key = StringUtils.fromString(readString());
+            skipWhitespace();
+            if (!consume(':')) {
+                throw error("Expected ':'");
+            }
+            skipWhitespace();
+            map.put(key, readValue());
+            skipWhitespace();
+            if (consume('}')) {
+                return map;
+            }
+            if (!consume(',')) {
+                throw error("Expected ',' or '}'");
+            }
+            skipWhitespace();
+            if (consume('}')) {
+                // Trailing comma
+                return map;
+            }
+        }
+    }
+
+    private BArray readArray() {
+        BArray array = ValueCreator.createArrayValue(JsonElementConverter.jsonArrayType());
+        position++;
+        skipWhitespace();
+        if (consume(']')) {
+            return array;
+        }
+        while (true) {
+            array.append(readValue());
+            skipWhitespace();
+            if (consume(']')) {
+                return array;
+            }
+            if (!consume(',')) {
+                throw error("Expected ',' or ']'");
+            }
+            skipWhitespace();
+            if (consume(']')) {
+                // Trailing comma
+                return array;
+            }
+        }
+    }
+
+    private String readString() {
+        int start = ++position;
+        while (position < end) {
+            char c = text.charAt(position);
+            if (c == '"') {
+                return text.substring(start, position++);
+            }
+            if (c == '\\') {
+                return readEscapedString(start);
+            }
+            position++;
+        }
+        throw error("Unterminated string");
+    }
+
+    private String readEscapedString(int start) {
+        StringBuilder value = new StringBuilder(position - start + 16).append(text, start, position);
+        while (position < end) {
+            char c = text.charAt(position++);
+            if (c == '"') {
+                return value.toString();
+            }
+            if (c != '\\') {
+                value.append(c);
+                continue;
+            }
+            if (position == end) {
+                break;
+            }
+            char escaped = text.charAt(position++);
+            switch (escaped) {
+                case '"', '\\', '/' -> value.append(escaped);
+                case 'b' -> value.append('\b');
+                case 'f' -> value.append('\f');
+                case 'n' -> value.append('\n');
+                case 'r' -> value.append('\r');
+                case 't' -> value.append('\t');
+                case 'u' -> {
+                    if (end - position < 4) {
+                        throw error("Invalid unicode escape");
+                    }
+                    try {
+                        value.append((char) Integer.parseInt(text, position, position + 4, 16));
+                    } catch (NumberFormatException e) {
+                        throw error("Invalid unicode escape");
+                    }
+                    position += 4;
+                }
+                default -> throw error("Invalid escape '\\" + escaped + "'");
+            }
+        }
+        throw error("Unterminated string");
+    }
+
+    private Object readLiteral(String literal, Object value) {
+        if (!text.startsWith(literal, position) || position + literal.length() > end) {
+            throw error("Unexpected token");
+        }
+        position += literal.length();
+        return value;
+    }
+
+    private Object readNumber() {
+        int start = position;
+        while (position < end) {
+            char c = text.charAt(position);
+            if ((c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E') {
+                position++;
+            } else {
+                break;
+            }
+        }
+        String literal = text.substring(start, position);
+        if (!JsonElementConverter.isNumber(literal)) {
+            position = start;
+            throw error("Invalid number '" + literal + "'");
+        }
+        return JsonElementConverter.toNumber(literal);
+    }
+
+    private boolean consume(char expected) {
+        if (position < end && text.charAt(position) == expected) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void skipWhitespace() {
+        while (position < end) {
+            char c = text.charAt(position);
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                return;
+            }
+            position++;
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at position " + position);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi.executor;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.types.Parameter;
+import io.ballerina.runtime.api.types.Type;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index from method name to resolved parameter types for a Ballerina object type.
+ * <p>
+ * Client classes can declare hundreds of remote and resource methods, so the index is built once per
+ * {@link ObjectType} and lookups no longer scan {@link ObjectType#getMethods()} for every argument.
+ * </p>
+ */
+final class MethodSignatureIndex {
+
+    private static final Map<ObjectType, MethodSignatureIndex> INDEXES = new ConcurrentHashMap<>();
+
+    // Methods sharing a name keep their declaration order, matching the previous linear scan
+    private final Map<String, List<Type[]>> parameterTypes;
+
+    private MethodSignatureIndex(Map<String, List<Type[]>> parameterTypes) {
+        this.parameterTypes = parameterTypes;
+    }
+
+    /**
+     * Returns the index for the given object type, building it on first use.
+     */
+    static MethodSignatureIndex forType(ObjectType objectType) {
+        MethodSignatureIndex index = INDEXES.get(objectType);
+        if (index == null) {
+            index = build(objectType);
+            MethodSignatureIndex existing = INDEXES.putIfAbsent(objectType, index);
+            if (existing != null) {
+                index = existing;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Drops the indexes of the object types declared by a module whose runtime has been stopped.
+     */
+    static void evict(Module module) {
+        INDEXES.keySet().removeIf(objectType -> module.equals(objectType.getPackage()));
+    }
+
+    private static MethodSignatureIndex build(ObjectType objectType) {
+        Map<String, List<Type[]>> parameterTypes = new HashMap<>();
+        for (MethodType method : objectType.getMethods()) {
+            Parameter[] params = method.getParameters();
+            Type[] types = new Type[params.length];
+            for (int i = 0; i < params.length; i++) {
+                types[i] = params[i].type;
+            }
+            parameterTypes.computeIfAbsent(method.getName(), name -> new ArrayList<>(1)).add(types);
+        }
+        return new MethodSignatureIndex(parameterTypes);
+    }
+
+    /**
+     * Returns the type of the parameter at the given index of the first method with the given name that
+     * declares it, or {@code null} if there is none.
+     */
+    Type parameterType(String methodName, int paramIndex) {
+        List<Type[]> candidates = parameterTypes.get(methodName);
+        if (candidates == null || paramIndex < 0) {
+            return null;
+        }
+        for (Type[] types : candidates) {
+            if (paramIndex < types.length) {
+                return types[paramIndex];
+            }
+        }
+        return null;
+    }
+}
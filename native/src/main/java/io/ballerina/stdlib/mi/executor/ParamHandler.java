@@ -18,15 +18,20 @@
 
 package io.ballerina.stdlib.mi.executor;
 
+import com.google.gson.JsonElement;
+import com.google.gson.stream.JsonReader;
 import io.ballerina.runtime.api.creators.ValueCreator;
-import io.ballerina.runtime.api.utils.JsonUtils;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.*;
 import io.ballerina.runtime.api.types.PredefinedTypes;
 import io.ballerina.runtime.api.types.Type;
-import io.ballerina.stdlib.mi.BalConnectorConfig;
 import io.ballerina.stdlib.mi.Constants;
 import io.ballerina.stdlib.mi.OMElementConverter;
+import io.ballerina.stdlib.mi.OperationDescriptor;
+import io.ballerina.stdlib.mi.OperationMetrics;
+import io.ballerina.stdlib.mi.PrimitiveArrayDecoder;
+import io.ballerina.stdlib.mi.RuntimeRegistry;
+import io.ballerina.stdlib.mi.TypeRegistry;
 import io.ballerina.stdlib.mi.utils.SynapseUtils;
 import org.apache.axiom.om.OMElement;
 import org.apache.axiom.om.util.AXIOMUtil;
@@ -34,6 +39,14 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.synapse.MessageContext;
 import org.apache.synapse.SynapseException;
+import org.apache.synapse.commons.json.JsonUtil;
+import org.apache.synapse.core.axis2.Axis2MessageContext;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 
 import static io.ballerina.stdlib.mi.Constants.*;
 
@@ -42,12 +55,23 @@ public class ParamHandler {
     private static final Log log = LogFactory.getLog(ParamHandler.class);
 
     public void setParameters(Object[] args, MessageContext context, Object callable) {
+        setParameters(args, context, callable, null);
+    }
+
+    /**
+     * Binds the operation arguments, timing the binding and the type conversion of each argument in the sample
+     * when operation metrics are recorded.
+     */
+    public void setParameters(Object[] args, MessageContext context, Object callable, OperationMetrics.Sample sample) {
         String functionName = SynapseUtils.getPropertyAsString(context, Constants.FUNCTION_NAME);
         for (int i = 0; i < args.length; i++) {
-            Object param = getParameter(context, "param" + i, "paramType" + i, i);
+            long mark = OperationMetrics.mark(sample);
+            Object param = getParameter(context, ParameterBinding.ofFunctionArgument(context, i), i);
+            OperationMetrics.record(sample, OperationMetrics.Phase.BINDING, mark);
             
             // Try to convert to expected type at runtime to prevent InherentTypeViolation
             if (param instanceof BMap || param instanceof BArray) {
+                mark = OperationMetrics.mark(sample);
                 Type expectedType = null;
                 if (callable instanceof BObject bObject) {
                     expectedType = DataTransformer.getMethodParameterType(bObject, functionName, i);
@@ -62,6 +86,7 @@ public class ParamHandler {
                         log.warn("Failed to convert parameter " + i + " to expected type: " + e.getMessage());
                     }
                 }
+                OperationMetrics.record(sample, OperationMetrics.Phase.CONVERSION, mark);
             }
             args[i] = param;
         }
@@ -122,7 +147,12 @@ public class ParamHandler {
     }
 
     public Object getParameter(MessageContext context, String value, String type, int index) {
-        String paramName = SynapseUtils.getPropertyAsString(context, value);
+        return getParameter(context, ParameterBinding.of(context, value, type), index);
+    }
+
+    Object getParameter(MessageContext context, ParameterBinding binding, int index) {
+        String value = binding.valueKey();
+        String paramName = binding.paramName();
         if (paramName == null) {
             log.error("Parameter definition property '" + value + "' not found in context. Check if the generated XML artifacts are correct.");
             throw new SynapseException("Parameter definition property '" + value + "' is missing");
@@ -130,20 +160,18 @@ public class ParamHandler {
 
         Object param = SynapseUtils.lookupTemplateParameter(context, paramName);
 
-        String paramType;
-        if (value.matches("(?:.*_)?param\\d+Union.*")) {
-            paramType = type;
-        } else {
-            paramType = SynapseUtils.getPropertyAsString(context, type);
-            if (paramType == null) {
-                log.warn("Parameter type property '" + type + "' not found in context. Defaulting to STRING.");
-                paramType = Constants.STRING;
+        String paramType = binding.paramType();
+        if (Constants.PAYLOAD_BINDING.equals(param) && isPayloadBindable(paramType)) {
+            InputStream payload = getJsonPayloadStream(context);
+            if (payload != null) {
+                return bindJsonPayload(payload, paramType, paramName, context, index, binding.paramIndex());
             }
+            // No JSON stream on the message (e.g. an XML payload); evaluate the expression instead
+            param = SynapseUtils.resolveSynapseExpressions(Constants.PAYLOAD_BINDING, context);
         }
-        String paramPrefix = extractParamKeyPrefix(value);
         if (param == null) {
             if (UNION.equals(paramType)) {
-                return getUnionParameter(paramName, context, index, paramPrefix);
+                return getUnionParameter(binding, context);
             } else if (RECORD.equals(paramType)) {
                 return DataTransformer.createRecordValue(null, paramName, context, index);
             } else if (ANYDATA.equals(paramType)) {
@@ -151,14 +179,14 @@ public class ParamHandler {
                 return ValueCreator.createTypedescValue(PredefinedTypes.TYPE_ANYDATA);
             } else if (TYPEDESC.equals(paramType)) {
                 // typedesc with no UI input — look for default type name in context
-                String defaultTypeKey = "param" + index + "_typedescDefault";
-                Object defaultTypeObj = context.getProperty(defaultTypeKey);
+                Object defaultTypeObj = OperationDescriptor.property(context,
+                        ParameterBinding.indexKeys(index).typedescDefault());
                 if (defaultTypeObj != null) {
-                    return getTypedescValue(defaultTypeObj.toString());
+                    return getTypedescValue(defaultTypeObj.toString(), context);
                 }
                 // Fall back to anydata if no default specified
                 return ValueCreator.createTypedescValue(PredefinedTypes.TYPE_ANYDATA);
-            } else if (value.matches("(?:.*_)?param\\d+Union.*") && isCustomRecordType(paramType)) {
+            } else if (binding.isUnionMember() && isCustomRecordType(paramType)) {
                 // Union member is a custom record type (e.g. "DestinationConfig") stored as flattened
                 // context fields rather than a single JSON blob. Pass the type name as a hint so
                 // createRecordValue can produce a typed BMap — the init template does not emit a
@@ -178,10 +206,12 @@ public class ParamHandler {
                 case JSON -> DataTransformer.getJsonParameter(param);
                 case ANYDATA -> DataTransformer.getJsonParameter(param);  // anydata accepts any JSON-serializable value
                 case XML -> getBXmlParameter(context, value);
-                case RECORD -> DataTransformer.createRecordValue((String) param, paramName, context, index);
-                case ARRAY -> getArrayParameter((String) param, context, value);
-                case MAP -> DataTransformer.getMapParameter(param, context, value);
-                case UNION -> getUnionParameter(paramName, context, index, paramPrefix);
+                case RECORD -> param instanceof JsonElement json
+                        ? DataTransformer.createRecordValueFromJsonElement(json, paramName, context, index)
+                        : DataTransformer.createRecordValue((String) param, paramName, context, index);
+                case ARRAY -> getArrayParameter((String) param, context, binding);
+                case MAP -> DataTransformer.getMapParameter(param, context, binding.paramIndex());
+                case UNION -> getUnionParameter(binding, context);
                 case TYPEDESC -> getTypedescValueWithFallback((String) param, paramName, context, index);
                 case ENUM -> StringUtils.fromString((String) param);
                 default -> null;
@@ -193,11 +223,49 @@ public class ParamHandler {
         }
     }
 
+    private static boolean isPayloadBindable(String paramType) {
+        return JSON.equals(paramType) || ANYDATA.equals(paramType) || RECORD.equals(paramType)
+                || MAP.equals(paramType);
+    }
+
+    private static InputStream getJsonPayloadStream(MessageContext context) {
+        if (context instanceof Axis2MessageContext axis2Context) {
+            return JsonUtil.getJsonPayload(axis2Context.getAxis2MessageContext());
+        }
+        return null;
+    }
+
+    /**
+     * Builds a payload-bound parameter straight from the tokens of the message's JSON stream, so the
+     * payload is never materialised as a string or Gson tree for the template.
+     */
+    private Object bindJsonPayload(InputStream payload, String paramType, String paramName, MessageContext context,
+                                   int index, int keyIndex) {
+        Object json;
+        try (JsonReader reader = new JsonReader(
+                new InputStreamReader(new MessageStream(payload), StandardCharsets.UTF_8))) {
+            json = JsonElementConverter.read(reader);
+        } catch (IOException | IllegalStateException e) {
+            throw new SynapseException("Failed to read JSON payload for parameter " + paramName + ": "
+                    + e.getMessage(), e);
+        }
+        return switch (paramType) {
+            case RECORD -> DataTransformer.createRecordValueFromJson(json, paramName, context, index);
+            case MAP -> {
+                if (json == null) {
+                    throw new SynapseException("Map parameter must be a JSON object or table array");
+                }
+                yield DataTransformer.getMapParameter(json, context, keyIndex);
+            }
+            default -> json;
+        };
+    }
+
     private Object getTypedescValueWithFallback(String typeName, String paramName, MessageContext context, int index) {
         // If the value equals the parameter name, it means no real value was provided - use default
         if (typeName.equals(paramName)) {
-            String defaultTypeKey = "param" + index + "_typedescDefault";
-            Object defaultTypeObj = context.getProperty(defaultTypeKey);
+            Object defaultTypeObj = OperationDescriptor.property(context,
+                    ParameterBinding.indexKeys(index).typedescDefault());
             if (defaultTypeObj != null && !defaultTypeObj.toString().equals(paramName)) {
                 typeName = defaultTypeObj.toString();
             } else {
@@ -205,10 +273,10 @@ public class ParamHandler {
                 return ValueCreator.createTypedescValue(PredefinedTypes.TYPE_ANYDATA);
             }
         }
-        return getTypedescValue(typeName);
+        return getTypedescValue(typeName, context);
     }
 
-    private Object getTypedescValue(String typeName) {
+    private Object getTypedescValue(String typeName, MessageContext context) {
         Type type;
         switch (typeName) {
             case Constants.STRING -> type = PredefinedTypes.TYPE_STRING;
@@ -220,14 +288,13 @@ public class ParamHandler {
             case Constants.XML -> type = PredefinedTypes.TYPE_XML;
             case Constants.ANYDATA -> type = PredefinedTypes.TYPE_ANYDATA;
             default -> {
-                io.ballerina.runtime.api.Module module = BalConnectorConfig.getModule();
+                io.ballerina.runtime.api.Module module = RuntimeRegistry.currentModule(context);
                 if (module == null) {
                     log.warn("Module not available, cannot resolve type '" + typeName + "' to TypedescValue, falling back to anydata.");
                     return ValueCreator.createTypedescValue(PredefinedTypes.TYPE_ANYDATA);
                 }
                 try {
-                    BMap<BString, Object> recordValue = ValueCreator.createRecordValue(module, typeName);
-                    type = recordValue.getType();
+                    return TypeRegistry.getRecordTypedesc(module, typeName);
                 } catch (Exception e) {
                     log.warn("Could not resolve type '" + typeName + "' to TypedescValue, falling back to anydata.");
                     return ValueCreator.createTypedescValue(PredefinedTypes.TYPE_ANYDATA);
@@ -237,29 +304,14 @@ public class ParamHandler {
         return ValueCreator.createTypedescValue(type);
     }
 
-    private Object getUnionParameter(String paramName, MessageContext context, int index, String prefix) {
-        Object paramType = SynapseUtils.lookupTemplateParameter(context, paramName + "DataType");
+    private Object getUnionParameter(ParameterBinding binding, MessageContext context) {
+        Object paramType = SynapseUtils.lookupTemplateParameter(context, binding.unionTypeParameter());
         if (paramType instanceof String typeStr) {
-            String unionParamName = prefix + "param" + index + "Union"
-                    + org.apache.commons.lang3.StringUtils.capitalize(typeStr);
-            return getParameter(context, unionParamName, typeStr, -1);
+            return getParameter(context, binding.unionMemberKey(typeStr), typeStr, -1);
         }
         return null;
     }
 
-    /**
-     * Extracts the connection-type prefix from a parameter key used in init/config context.
-     * For function context keys like {@code "param0"} returns {@code ""}.
-     * For init context keys like {@code "SAP_JCO_CLIENT_param0"} returns {@code "SAP_JCO_CLIENT_"}.
-     */
-    private static String extractParamKeyPrefix(String key) {
-        if (key == null) {
-            return "";
-        }
-        java.util.regex.Matcher m = java.util.regex.Pattern.compile("^(.*?)param\\d+").matcher(key);
-        return m.find() ? m.group(1) : "";
-    }
-
     /**
      * Returns {@code true} when {@code paramType} is a custom record type name (e.g. "DestinationConfig")
      * rather than one of the built-in Ballerina / connector type constants.
@@ -276,63 +328,63 @@ public class ParamHandler {
         };
     }
 
-    private Object getArrayParameter(String jsonArrayString, MessageContext context, String valueKey) {
-        int paramIndex = -1;
-        String indexStr = valueKey.replaceAll("\\D+", "");
-        if (!indexStr.isEmpty()) {
-            try {
-                paramIndex = Integer.parseInt(indexStr);
-            } catch (NumberFormatException e) {
-                log.error("Invalid parameter index in valueKey: " + valueKey, e);
-                return null;
-            }
-        } else {
-            log.error("No digits found in valueKey: " + valueKey);
+    private Object getArrayParameter(String jsonArrayString, MessageContext context, ParameterBinding binding) {
+        if (binding.paramIndex() < 0) {
+            log.error("No valid parameter index in valueKey: " + binding.valueKey());
             return null;
         }
 
         // Check if dual input mode is enabled (Table/JSON selector)
-        String dualModeEnabled = SynapseUtils.getPropertyAsString(context, "param" + paramIndex + "_dualMode");
-        if ("true".equals(dualModeEnabled)) {
-            String inputModeFieldName = SynapseUtils.getPropertyAsString(context, "param" + paramIndex + "_inputModeField");
-            if (inputModeFieldName != null) {
-                Object inputModeValue = SynapseUtils.lookupTemplateParameter(context, inputModeFieldName);
-                if ("JSON".equals(inputModeValue)) {
-                    // User selected JSON mode - read from JSON field instead of table
-                    String jsonFieldName = SynapseUtils.getPropertyAsString(context, "param" + paramIndex + "_jsonField");
-                    if (jsonFieldName != null) {
-                        Object jsonFieldValue = SynapseUtils.lookupTemplateParameter(context, jsonFieldName);
-                        if (jsonFieldValue != null && !jsonFieldValue.toString().isEmpty()) {
-                            jsonArrayString = jsonFieldValue.toString();
-                        }
+        String inputModeFieldName = binding.inputModeParameter();
+        if (inputModeFieldName != null) {
+            Object inputModeValue = SynapseUtils.lookupTemplateParameter(context, inputModeFieldName);
+            if ("JSON".equals(inputModeValue)) {
+                // User selected JSON mode - read from JSON field instead of table
+                String jsonFieldName = binding.jsonParameter();
+                if (jsonFieldName != null) {
+                    Object jsonFieldValue = SynapseUtils.lookupTemplateParameter(context, jsonFieldName);
+                    if (jsonFieldValue != null && !jsonFieldValue.toString().isEmpty()) {
+                        jsonArrayString = jsonFieldValue.toString();
                     }
                 }
             }
         }
 
-        String elementType = context.getProperty("arrayElementType" + paramIndex).toString();
-
-        String cleanedJson = SynapseUtils.cleanupJsonString(jsonArrayString);
+        String elementType = binding.arrayElementType();
 
         if ("record".equals(elementType)) {
             try {
+                Object parsed = LenientJsonParser.parse(jsonArrayString);
                 // Check if data is in 2D array format (from table) and needs conversion to JSON objects
-                String recordFieldsStr = SynapseUtils.getPropertyAsString(context, "arrayRecordFields" + paramIndex);
-                if (recordFieldsStr != null && !recordFieldsStr.isEmpty() && cleanedJson.startsWith("[[")) {
+                String recordFieldsStr = binding.arrayRecordFields();
+                if (recordFieldsStr != null && !recordFieldsStr.isEmpty() && parsed instanceof BArray rows
+                        && rows.size() > 0 && rows.get(0) instanceof BArray) {
                     // Table data is 2D array format: [["val1","val2",...],...]
                     // Convert to JSON objects: [{"field1":"val1","field2":"val2",...},...]
-                    cleanedJson = convertTableToJsonObjects(cleanedJson, recordFieldsStr);
+                    return convertTableToJsonObjects(rows, recordFieldsStr);
                 }
-                return JsonUtils.parse(cleanedJson);
+                return parsed;
             } catch (Exception e) {
                 log.error("Failed to parse record array JSON: " + e.getMessage(), e);
                 throw new SynapseException("Failed to parse record array: " + e.getMessage(), e);
             }
         }
 
+        if (FLOAT.equals(elementType) || INT.equals(elementType) || BOOLEAN.equals(elementType)) {
+            // Flat primitive arrays are decoded without building a json[] of boxed values
+            BArray decoded = switch (elementType) {
+                case FLOAT -> PrimitiveArrayDecoder.decodeFloatArray(jsonArrayString);
+                case INT -> PrimitiveArrayDecoder.decodeIntArray(jsonArrayString);
+                default -> PrimitiveArrayDecoder.decodeBooleanArray(jsonArrayString);
+            };
+            if (decoded != null) {
+                return decoded;
+            }
+        }
+
         if ("float".equals(elementType)) {
             try {
-                Object parsed = JsonUtils.parse(cleanedJson);
+                Object parsed = LenientJsonParser.parse(jsonArrayString);
                 if (parsed instanceof BArray array) {
                     return convertDecimalArrayToFloatArray(array);
                 }
@@ -345,20 +397,18 @@ public class ParamHandler {
 
         if ("array".equals(elementType)) {
             try {
-                Object parsed = JsonUtils.parse(cleanedJson);
+                Object parsed = LenientJsonParser.parse(jsonArrayString);
                 if (parsed instanceof BArray outerArray) {
                     if (outerArray.size() > 0) {
                         Object firstElement = outerArray.get(0);
                         if (firstElement instanceof BMap firstRow) {
                             BString innerArrayKey = StringUtils.fromString("innerArray");
                             if (firstRow.containsKey(innerArrayKey)) {
-                                String transformed = DataTransformer.transformNestedTableTo2DArray(outerArray);
-                                return JsonUtils.parse(transformed);
+                                return DataTransformer.transformNestedTableTo2DArray(outerArray);
                             }
                         } else if (firstElement instanceof BArray firstRow) {
                             if (firstRow.size() >= 2) {
-                                String transformed = DataTransformer.transformMIStudioNestedTableTo2DArray(outerArray, context);
-                                return JsonUtils.parse(transformed);
+                                return DataTransformer.transformMIStudioNestedTableTo2DArray(outerArray, context);
                             }
                         }
                     }
@@ -372,11 +422,10 @@ public class ParamHandler {
 
         if ("union".equals(elementType)) {
             try {
-                Object parsed = JsonUtils.parse(cleanedJson);
+                Object parsed = LenientJsonParser.parse(jsonArrayString);
                 if (parsed instanceof BArray array) {
                     if (array.size() > 0 && array.get(0) instanceof BMap) {
-                        String transformed = transformUnionTableToArray(array);
-                        return JsonUtils.parse(transformed);
+                        return transformUnionTableToArray(array);
                     }
                 }
                 return parsed;
@@ -387,11 +436,10 @@ public class ParamHandler {
         }
         
         try {
-            Object parsed = JsonUtils.parse(cleanedJson);
+            Object parsed = LenientJsonParser.parse(jsonArrayString);
             if (parsed instanceof BArray array) {
                 if (array.size() > 0 && array.get(0) instanceof BMap) {
-                     String transformed = DataTransformer.transformTableArrayToSimpleArray(array);
-                     return JsonUtils.parse(transformed);
+                     return DataTransformer.transformTableArrayToSimpleArray(array);
                 }
             }
             return parsed; 
@@ -401,52 +449,48 @@ public class ParamHandler {
         }
     }
     
-    private String transformUnionTableToArray(BArray array) {
+    private BArray transformUnionTableToArray(BArray array) {
         BString typeKey = StringUtils.fromString("type");
         BString valueFieldName = StringUtils.fromString("value");
-        StringBuilder jsonBuilder = new StringBuilder("[");
+        BArray result = ValueCreator.createArrayValue(JsonElementConverter.jsonArrayType());
 
         for (int i = 0; i < array.size(); i++) {
-            if (i > 0) jsonBuilder.append(",");
             Object element = array.get(i);
             if (element instanceof BMap row) {
                 Object typeObj = row.get(typeKey);
                 Object valueObj = row.get(valueFieldName);
                 String type = typeObj != null ? typeObj.toString() : "string";
                 String value = valueObj != null ? valueObj.toString() : "";
-                switch (type) {
-                    case "int":
-                        try {
-                            Long.parseLong(value);
-                            jsonBuilder.append(value);
-                        } catch (NumberFormatException e) {
-                            jsonBuilder.append("\"").append(escapeJsonString(value)).append("\"");
-                        }
-                        break;
-                    case "float":
-                    case "decimal":
-                        try {
-                            Double.parseDouble(value);
-                            jsonBuilder.append(value);
-                        } catch (NumberFormatException e) {
-                            jsonBuilder.append("\"").append(escapeJsonString(value)).append("\"");
-                        }
-                        break;
-                    case "boolean":
-                        if ("true".equalsIgnoreCase(value) || "false".equalsIgnoreCase(value)) {
-                            jsonBuilder.append(value.toLowerCase());
-                        } else {
-                            jsonBuilder.append("\"").append(escapeJsonString(value)).append("\"");
-                        }
-                        break;
-                    default:
-                        jsonBuilder.append("\"").append(escapeJsonString(value)).append("\"");
-                        break;
-                }
+                result.append(toUnionMemberValue(type, value));
             }
         }
-        jsonBuilder.append("]");
-        return jsonBuilder.toString();
+        return result;
+    }
+
+    // Values that do not match the selected member type are kept as strings
+    private static Object toUnionMemberValue(String type, String value) {
+        switch (type) {
+            case "int":
+                try {
+                    return Long.parseLong(value);
+                } catch (NumberFormatException e) {
+                    break;
+                }
+            case "float":
+            case "decimal":
+                if (JsonElementConverter.isNumber(value)) {
+                    return JsonElementConverter.toNumber(value);
+                }
+                break;
+            case "boolean":
+                if ("true".equalsIgnoreCase(value) || "false".equalsIgnoreCase(value)) {
+                    return Boolean.parseBoolean(value);
+                }
+                break;
+            default:
+                break;
+        }
+        return StringUtils.fromString(value);
     }
 
     private BArray convertDecimalArrayToFloatArray(BArray array) {
@@ -469,12 +513,6 @@ public class ParamHandler {
         return ValueCreator.createArrayValue(doubleArray);
     }
     
-    // Quick helper for escaping JSON strings for union table transformation
-    private String escapeJsonString(String value) {
-        if (value == null) return "";
-        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n").replace("\r", "\\r").replace("\t", "\\t");
-    }
-
     private BXml getBXmlParameter(MessageContext context, String parameterName) {
         OMElement omElement = getOMElement(context, parameterName);
         if (omElement == null) return null;
@@ -482,7 +520,7 @@ public class ParamHandler {
     }
 
     private OMElement getOMElement(MessageContext ctx, String value) {
-        String param = ctx.getProperty(value).toString();
+        String param = OperationDescriptor.property(ctx, value);
         Object paramValue = SynapseUtils.lookupTemplateParameter(ctx, param);
         if (paramValue != null) {
             if (paramValue instanceof OMElement) return (OMElement) paramValue;
@@ -499,40 +537,39 @@ public class ParamHandler {
      * Input: [["val1","val2",...],["val3","val4",...],...] (2D array from table)
      * Output: [{"field1":"val1","field2":"val2",...},{"field1":"val3","field2":"val4",...},...] (JSON objects)
      */
-    private String convertTableToJsonObjects(String tableJson, String fieldNamesStr) {
+    private BArray convertTableToJsonObjects(BArray rows, String fieldNamesStr) {
         String[] fieldNames = fieldNamesStr.split(",");
-        try {
-            Object parsed = JsonUtils.parse(tableJson);
-            if (!(parsed instanceof BArray outerArray)) {
-                return tableJson;
-            }
-            StringBuilder result = new StringBuilder("[");
-            for (int i = 0; i < outerArray.size(); i++) {
-                if (i > 0) result.append(",");
-                Object row = outerArray.get(i);
-                if (row instanceof BArray rowArray) {
-                    result.append("{");
-                    for (int j = 0; j < Math.min(fieldNames.length, rowArray.size()); j++) {
-                        if (j > 0) result.append(",");
-                        String fieldName = fieldNames[j].trim();
-                        Object value = rowArray.get(j);
-                        result.append("\"").append(fieldName).append("\":");
-                        if (value == null || (value instanceof BString && value.toString().isEmpty())) {
-                            result.append("null");
-                        } else if (value instanceof BString) {
-                            result.append("\"").append(escapeJsonString(value.toString())).append("\"");
-                        } else {
-                            result.append(value.toString());
-                        }
-                    }
-                    result.append("}");
+        BString[] keys = new BString[fieldNames.length];
+        for (int j = 0; j < fieldNames.length; j++) {
+            keys[j] = StringUtils.fromString(fieldNames[j].trim());
+        }
+        BArray result = ValueCreator.createArrayValue(JsonElementConverter.jsonArrayType());
+        for (int i = 0; i < rows.size(); i++) {
+            if (rows.get(i) instanceof BArray rowArray) {
+                BMap<BString, Object> record = ValueCreator.createMapValue(JsonElementConverter.jsonMapType());
+                for (int j = 0; j < Math.min(keys.length, rowArray.size()); j++) {
+                    Object value = rowArray.get(j);
+                    // Empty cells are unset fields
+                    record.put(keys[j], value instanceof BString && value.toString().isEmpty() ? null : value);
                 }
+                result.append(record);
             }
-            result.append("]");
-            return result.toString();
-        } catch (Exception e) {
-            log.error("Failed to convert table to JSON objects: " + e.getMessage(), e);
-            return tableJson;
+        }
+        return result;
+    }
+
+    /**
+     * Payload stream of the message, left open when the reader over it is closed. The stream belongs to the
+     * message and is reset for later readers of the payload.
+     */
+    private static final class MessageStream extends FilterInputStream {
+
+        MessageStream(InputStream payload) {
+            super(payload);
+        }
+
+        @Override
+        public void close() {
         }
     }
 }
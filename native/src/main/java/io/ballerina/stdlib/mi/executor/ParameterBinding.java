@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi.executor;
+
+import io.ballerina.stdlib.mi.Constants;
+import io.ballerina.stdlib.mi.OperationDescriptor;
+import io.ballerina.stdlib.mi.utils.SynapseUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.synapse.MessageContext;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Metadata of one operation argument, resolved once per operation.
+ * <p>
+ * An argument is described by its {@code param<i>} and {@code paramType<i>} properties, prefixed with the
+ * connection type for connection parameters, and by the array and union properties keyed by its index. The
+ * property keys depend only on the argument, so they are derived once per key and shared. The values they
+ * resolve to are the operation's metadata: bindings of operations with an {@link OperationDescriptor} live
+ * with the descriptor, and binding an argument then only reads the template value of the message. Bindings
+ * described by context properties are resolved for each message.
+ * </p>
+ */
+final class ParameterBinding {
+
+    private static final Log log = LogFactory.getLog(ParameterBinding.class);
+
+    private static final String DESCRIPTOR_KEY_PREFIX = "parameterBinding:";
+    private static final Pattern UNION_MEMBER_KEY_PATTERN = Pattern.compile("(?:.*_)?param\\d+Union.*");
+    private static final Pattern PARAM_KEY_PATTERN = Pattern.compile("^(.*?)param(\\d+)");
+    private static final int MAX_CACHED_KEYS = 4096;
+    private static final int MAX_CACHED_INDEX = 256;
+    private static final IndexKeys[] NO_INDEX_KEYS = new IndexKeys[0];
+    private static final Map<String, Keys> KEYS = new ConcurrentHashMap<>();
+    private static final Map<String, IndexKeys[]> INDEX_KEYS = new ConcurrentHashMap<>();
+    private static volatile Keys[] functionKeys = new Keys[0];
+
+    private final Keys keys;
+    private final String paramName;
+    private final String paramType;
+    private final String unionTypeParameter;
+    private final String arrayElementType;
+    private final String arrayRecordFields;
+    private final String inputModeParameter;
+    private final String jsonParameter;
+    private final Map<String, String> unionMemberKeys;
+
+    private ParameterBinding(Keys keys, MessageContext context) {
+        this.keys = keys;
+        this.paramName = SynapseUtils.getPropertyAsString(context, keys.valueKey);
+        if (keys.unionMember) {
+            this.paramType = keys.typeKey;
+        } else {
+            String type = SynapseUtils.getPropertyAsString(context, keys.typeKey);
+            if (type == null) {
+                log.warn("Parameter type property '" + keys.typeKey + "' not found in context. Defaulting to STRING.");
+                type = Constants.STRING;
+            }
+            this.paramType = type;
+        }
+        this.unionTypeParameter = paramName != null ? paramName + "DataType" : null;
+        this.unionMemberKeys = Constants.UNION.equals(paramType) ? new ConcurrentHashMap<>() : null;
+
+        String elementType = null;
+        String recordFields = null;
+        String inputMode = null;
+        String json = null;
+        if (Constants.ARRAY.equals(paramType) && keys.paramIndex >= 0) {
+            if ("true".equals(SynapseUtils.getPropertyAsString(context, keys.dualModeKey))) {
+                inputMode = SynapseUtils.getPropertyAsString(context, keys.inputModeFieldKey);
+                json = SynapseUtils.getPropertyAsString(context, keys.jsonFieldKey);
+            }
+            elementType = OperationDescriptor.property(context, keys.arrayElementTypeKey);
+            if (Constants.RECORD.equals(elementType)) {
+                recordFields = SynapseUtils.getPropertyAsString(context, keys.arrayRecordFieldsKey);
+            }
+        }
+        this.arrayElementType = elementType;
+        this.arrayRecordFields = recordFields;
+        this.inputModeParameter = inputMode;
+        this.jsonParameter = inputMode != null ? json : null;
+    }
+
+    /**
+     * Returns the binding of the argument described by the given property keys.
+     */
+    static ParameterBinding of(MessageContext context, String valueKey, String typeKey) {
+        return of(context, keys(valueKey, typeKey));
+    }
+
+    /**
+     * Returns the binding of a function argument, described by {@code param<i>} and {@code paramType<i>}.
+     */
+    static ParameterBinding ofFunctionArgument(MessageContext context, int index) {
+        Keys[] known = functionKeys;
+        if (index >= known.length) {
+            Keys[] grown = Arrays.copyOf(known, Math.max(index + 1, known.length * 2));
+            for (int i = known.length; i < grown.length; i++) {
+                grown[i] = new Keys("param" + i, "paramType" + i);
+            }
+            functionKeys = grown;
+            known = grown;
+        }
+        return of(context, known[index]);
+    }
+
+    /**
+     * Returns the keys of the record, map and typedesc properties of the argument at the given index.
+     */
+    static IndexKeys indexKeys(int index) {
+        return indexKeys("", index);
+    }
+
+    /**
+     * Returns the keys of the record, map and typedesc properties of the argument at the given index, prefixed
+     * with the connection type of a connection parameter, such as {@code "SAP_JCO_CLIENT_"}.
+     */
+    static IndexKeys indexKeys(String keyPrefix, int index) {
+        if (index < 0 || index >= MAX_CACHED_INDEX) {
+            return new IndexKeys(keyPrefix, index);
+        }
+        IndexKeys[] known = INDEX_KEYS.getOrDefault(keyPrefix, NO_INDEX_KEYS);
+        if (index >= known.length) {
+            IndexKeys[] grown = Arrays.copyOf(known, Math.min(MAX_CACHED_INDEX, Math.max(index + 1, known.length * 2)));
+            for (int i = known.length; i < grown.length; i++) {
+                grown[i] = new IndexKeys(keyPrefix, i);
+            }
+            if (INDEX_KEYS.containsKey(keyPrefix) || INDEX_KEYS.size() < MAX_CACHED_KEYS) {
+                INDEX_KEYS.put(keyPrefix, grown);
+            }
+            known = grown;
+        }
+        return known[index];
+    }
+
+    private static ParameterBinding of(MessageContext context, Keys keys) {
+        if (context.getProperty(Constants.OPERATION_DESCRIPTOR) instanceof OperationDescriptor descriptor
+                && descriptor.get(keys.valueKey) != null) {
+            return descriptor.derive(keys.descriptorKey, key -> new ParameterBinding(keys, context));
+        }
+        return new ParameterBinding(keys, context);
+    }
+
+    private static Keys keys(String valueKey, String typeKey) {
+        Keys cached = KEYS.get(valueKey);
+        if (cached != null && cached.typeKey.equals(typeKey)) {
+            return cached;
+        }
+        Keys keys = new Keys(valueKey, typeKey);
+        if (cached == null && KEYS.size() < MAX_CACHED_KEYS) {
+            KEYS.putIfAbsent(valueKey, keys);
+        }
+        return keys;
+    }
+
+    String valueKey() {
+        return keys.valueKey;
+    }
+
+    String typeKey() {
+        return keys.typeKey;
+    }
+
+    /**
+     * Returns the template parameter that holds the argument, or {@code null} when the operation does not
+     * define it.
+     */
+    String paramName() {
+        return paramName;
+    }
+
+    String paramType() {
+        return paramType;
+    }
+
+    boolean isUnionMember() {
+        return keys.unionMember;
+    }
+
+    /**
+     * Returns the connection-type prefix of the argument keys: {@code ""} for function arguments and, for
+     * example, {@code "SAP_JCO_CLIENT_"} for connection parameters.
+     */
+    String keyPrefix() {
+        return keys.keyPrefix;
+    }
+
+    /**
+     * Returns the argument index encoded in its keys, or {@code -1} when the keys carry no valid index.
+     */
+    int paramIndex() {
+        return keys.paramIndex;
+    }
+
+    String unionTypeParameter() {
+        return unionTypeParameter;
+    }
+
+    /**
+     * Returns the value key of the union member selected by the given type name.
+     */
+    String unionMemberKey(String memberType) {
+        return unionMemberKeys.computeIfAbsent(memberType, type -> keys.keyPrefix + "param" + keys.paramIndex
+                + "Union" + StringUtils.capitalize(type));
+    }
+
+    String arrayElementType() {
+        return arrayElementType;
+    }
+
+    String arrayRecordFields() {
+        return arrayRecordFields;
+    }
+
+    /**
+     * Returns the template parameter that selects between table and JSON input of a dual-mode array, or
+     * {@code null} when the array has a single input.
+     */
+    String inputModeParameter() {
+        return inputModeParameter;
+    }
+
+    String jsonParameter() {
+        return jsonParameter;
+    }
+
+    /**
+     * Keys of the properties that describe the record type, map record fields and default typedesc of the
+     * argument at an index.
+     */
+    record IndexKeys(String recordName, String recordOrg, String recordModule, String recordVersion,
+                     String typedescDefault, String mapRecordFields) {
+
+        private IndexKeys(String keyPrefix, int index) {
+            this(keyPrefix + "param" + index + "_recordName", keyPrefix + "param" + index + "_recordOrg",
+                    keyPrefix + "param" + index + "_recordModule", keyPrefix + "param" + index + "_recordVersion",
+                    keyPrefix + "param" + index + "_typedescDefault", keyPrefix + "mapRecordFields" + index);
+        }
+    }
+
+    /**
+     * Property keys of an argument. They depend only on the argument's value and type keys.
+     */
+    private static final class Keys {
+
+        private final String valueKey;
+        private final String typeKey;
+        private final String descriptorKey;
+        private final boolean unionMember;
+        private final String keyPrefix;
+        private final int paramIndex;
+        private final String dualModeKey;
+        private final String inputModeFieldKey;
+        private final String jsonFieldKey;
+        private final String arrayElementTypeKey;
+        private final String arrayRecordFieldsKey;
+
+        private Keys(String valueKey, String typeKey) {
+            this.valueKey = valueKey;
+            this.typeKey = typeKey;
+            this.descriptorKey = DESCRIPTOR_KEY_PREFIX + valueKey + "|" + typeKey;
+            this.unionMember = UNION_MEMBER_KEY_PATTERN.matcher(valueKey).matches();
+
+            Matcher matcher = PARAM_KEY_PATTERN.matcher(valueKey);
+            int index = -1;
+            String prefix = "";
+            if (matcher.find()) {
+                prefix = matcher.group(1);
+                try {
+                    index = Integer.parseInt(matcher.group(2));
+                } catch (NumberFormatException e) {
+                    // Outside the int range, treated as a missing index
+                }
+            }
+            this.keyPrefix = prefix;
+            this.paramIndex = index;
+            this.dualModeKey = "param" + index + "_dualMode";
+            this.inputModeFieldKey = "param" + index + "_inputModeField";
+            this.jsonFieldKey = "param" + index + "_jsonField";
+            this.arrayElementTypeKey = "arrayElementType" + index;
+            this.arrayRecordFieldsKey = "arrayRecordFields" + index;
+        }
+    }
+}
@@ -0,0 +1,348 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi.executor;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.mi.Constants;
+import io.ballerina.stdlib.mi.OperationDescriptor;
+import io.ballerina.stdlib.mi.RuntimeRegistry;
+import io.ballerina.stdlib.mi.utils.SynapseUtils;
+import org.apache.synapse.MessageContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Field layout of a record parameter that the template flattens into one parameter per field.
+ * <p>
+ * The template describes each field with {@code <prefix>_param<i>} (the dot-separated field path),
+ * {@code <prefix>_paramType<i>} and, where they apply, the union member, union selector and array input mode
+ * properties. The layout resolves these once: field paths are split into record keys, the
+ * {@code enable_<path>} parameter of every distinct path prefix is derived and the union fields enclosing
+ * each member field are linked. Reconstructing a record then only reads the template values of the message.
+ * </p>
+ * <p>
+ * Layouts of operations bound to an {@link OperationDescriptor} live with the descriptor. Layouts described by
+ * context properties, which the template sets to the same values for every message, are kept per module,
+ * operation and prefix until the module's runtime is stopped; without a module bound to the message they are
+ * resolved on every call.
+ * </p>
+ */
+final class RecordFieldLayout {
+
+    private static final String DESCRIPTOR_KEY_PREFIX = "recordFieldLayout:";
+    private static final Map<LayoutKey, RecordFieldLayout> LAYOUTS = new ConcurrentHashMap<>();
+
+    private final List<Field> fields;
+    private final String[] enableParameters;
+    private final List<Field> unionSelectors;
+
+    private RecordFieldLayout(List<Field> fields, String[] enableParameters, List<Field> unionSelectors) {
+        this.fields = fields;
+        this.enableParameters = enableParameters;
+        this.unionSelectors = unionSelectors;
+    }
+
+    /**
+     * Returns the layout of the record flattened under the given property prefix.
+     */
+    static RecordFieldLayout of(String propertyPrefix, MessageContext context) {
+        if (context.getProperty(Constants.OPERATION_DESCRIPTOR) instanceof OperationDescriptor descriptor
+                && descriptor.get(propertyPrefix + "_param0") != null) {
+            return descriptor.derive(DESCRIPTOR_KEY_PREFIX + propertyPrefix, key -> resolve(propertyPrefix, context));
+        }
+        Module module = RuntimeRegistry.currentModule(context);
+        if (module == null) {
+            return resolve(propertyPrefix, context);
+        }
+        LayoutKey key = new LayoutKey(module, OperationDescriptor.property(context, Constants.FUNCTION_NAME),
+                propertyPrefix);
+        RecordFieldLayout layout = LAYOUTS.get(key);
+        if (layout == null) {
+            layout = resolve(propertyPrefix, context);
+            RecordFieldLayout existing = LAYOUTS.putIfAbsent(key, layout);
+            if (existing != null) {
+                layout = existing;
+            }
+        }
+        return layout;
+    }
+
+    /**
+     * Drops the layouts of the operations of a module whose runtime has been stopped.
+     */
+    static void evict(Module module) {
+        LAYOUTS.keySet().removeIf(key -> module.equals(key.module()));
+    }
+
+    static RecordFieldLayout resolve(String propertyPrefix, MessageContext context) {
+        List<Field> fields = new ArrayList<>();
+        Map<String, Integer> pathPrefixes = new LinkedHashMap<>();
+        for (int index = 0; ; index++) {
+            String[] properties = Field.readProperties(propertyPrefix, index, context);
+            if (properties[Field.PATH] == null || properties[Field.TYPE] == null) {
+                break;
+            }
+            fields.add(new Field(properties, pathPrefixes));
+        }
+
+        List<Field> unionSelectors = new ArrayList<>();
+        for (Field field : fields) {
+            if (field.selectorParameter != null) {
+                unionSelectors.add(field);
+            }
+        }
+        for (Field field : fields) {
+            field.linkEnclosingUnions(unionSelectors);
+        }
+
+        String[] enableParameters = new String[pathPrefixes.size()];
+        for (Map.Entry<String, Integer> pathPrefix : pathPrefixes.entrySet()) {
+            enableParameters[pathPrefix.getValue()] = "enable_" + pathPrefix.getKey().replace('.', '_');
+        }
+        return new RecordFieldLayout(Collections.unmodifiableList(fields), enableParameters,
+                Collections.unmodifiableList(unionSelectors));
+    }
+
+    List<Field> fields() {
+        return fields;
+    }
+
+    /**
+     * Reads the member type selected for each union field of the record, keyed by the union field path.
+     */
+    Map<String, String> selectedUnionMembers(MessageContext context) {
+        if (unionSelectors.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> selected = new HashMap<>();
+        for (Field union : unionSelectors) {
+            Object member = SynapseUtils.lookupTemplateParameter(context, union.selectorParameter);
+            if (member != null) {
+                selected.put(union.path, member.toString());
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Reads the {@code enable_*} flags of the message, indexed like {@link Field#pathPrefixes}.
+     *
+     * @return the disabled path prefixes, or {@code null} when every prefix is enabled
+     */
+    boolean[] disabledPathPrefixes(MessageContext context) {
+        boolean[] disabled = null;
+        for (int i = 0; i < enableParameters.length; i++) {
+            Object enabled = SynapseUtils.lookupTemplateParameter(context, enableParameters[i]);
+            if (enabled != null && "false".equals(enabled.toString())) {
+                if (disabled == null) {
+                    disabled = new boolean[enableParameters.length];
+                }
+                disabled[i] = true;
+            }
+        }
+        return disabled;
+    }
+
+    /**
+     * A single flattened field of the record.
+     */
+    static final class Field {
+
+        // Positions of the template properties a field is resolved from
+        private static final int PATH = 0;
+        private static final int TYPE = 1;
+        private static final int UNION_MEMBER = 2;
+        private static final int DATA_TYPE = 3;
+        private static final int DUAL_MODE = 4;
+        private static final int INPUT_MODE_FIELD = 5;
+        private static final int JSON_FIELD = 6;
+        private static final int ARRAY_ELEMENT_TYPE = 7;
+        private static final int ARRAY_RECORD_FIELDS = 8;
+
+        private final String path;
+        private final String type;
+        private final String unionMember;
+        private final String valueParameter;
+        private final BString[] keys;
+        private final BString[] memberKeys;
+        private final int[] pathPrefixes;
+        private final String selectorParameter;
+        private final String inputModeParameter;
+        private final String jsonParameter;
+        private final String tableColumns;
+        private List<String> enclosingUnions = Collections.emptyList();
+
+        private Field(String[] properties, Map<String, Integer> knownPathPrefixes) {
+            this.path = properties[PATH];
+            this.type = properties[TYPE];
+            this.unionMember = properties[UNION_MEMBER];
+            // Synapse template parameters cannot contain dots
+            this.valueParameter = path.replace('.', '_');
+
+            String[] segments = path.split("\\.");
+            this.keys = new BString[segments.length];
+            this.pathPrefixes = new int[segments.length];
+            StringBuilder pathPrefix = new StringBuilder();
+            for (int i = 0; i < segments.length; i++) {
+                keys[i] = StringUtils.fromString(segments[i]);
+                if (i > 0) {
+                    pathPrefix.append('.');
+                }
+                pathPrefix.append(segments[i]);
+                pathPrefixes[i] = knownPathPrefixes.computeIfAbsent(pathPrefix.toString(),
+                        p -> knownPathPrefixes.size());
+            }
+            // A standalone union-member record uses its own field names, without the union parameter segment
+            this.memberKeys = unionMember != null && keys.length > 1
+                    ? Arrays.copyOfRange(keys, 1, keys.length)
+                    : keys;
+
+            String selector = null;
+            String inputMode = null;
+            String json = null;
+            String columns = null;
+            if (Constants.UNION.equals(type)) {
+                selector = properties[DATA_TYPE];
+            } else if (Constants.ARRAY.equals(type)) {
+                if ("true".equals(properties[DUAL_MODE])) {
+                    inputMode = properties[INPUT_MODE_FIELD];
+                    json = properties[JSON_FIELD];
+                }
+                if (Constants.RECORD.equals(properties[ARRAY_ELEMENT_TYPE])) {
+                    columns = properties[ARRAY_RECORD_FIELDS];
+                }
+            }
+            this.selectorParameter = selector;
+            this.inputModeParameter = inputMode;
+            this.jsonParameter = inputMode != null ? json : null;
+            this.tableColumns = columns;
+        }
+
+        /**
+         * Reads every template property the field at the given index is resolved from.
+         */
+        private static String[] readProperties(String propertyPrefix, int index, MessageContext context) {
+            String fieldPrefix = propertyPrefix + "_param" + index;
+            return new String[]{
+                    OperationDescriptor.property(context, fieldPrefix),
+                    OperationDescriptor.property(context, propertyPrefix + "_paramType" + index),
+                    OperationDescriptor.property(context, propertyPrefix + "_unionMember" + index),
+                    OperationDescriptor.property(context, propertyPrefix + "_dataType" + index),
+                    OperationDescriptor.property(context, fieldPrefix + "_dualMode"),
+                    OperationDescriptor.property(context, fieldPrefix + "_inputModeField"),
+                    OperationDescriptor.property(context, fieldPrefix + "_jsonField"),
+                    OperationDescriptor.property(context, propertyPrefix + "_arrayElementType" + index),
+                    OperationDescriptor.property(context, propertyPrefix + "_arrayRecordFields" + index)
+            };
+        }
+
+        private void linkEnclosingUnions(List<Field> unionSelectors) {
+            if (unionMember == null) {
+                return;
+            }
+            List<String> enclosing = new ArrayList<>();
+            for (Field union : unionSelectors) {
+                if (path.startsWith(union.path + ".")) {
+                    enclosing.add(union.path);
+                }
+            }
+            // The innermost union decides when unions are nested
+            enclosing.sort(Comparator.comparingInt(String::length).reversed());
+            enclosingUnions = enclosing;
+        }
+
+        String path() {
+            return path;
+        }
+
+        String type() {
+            return type;
+        }
+
+        String valueParameter() {
+            return valueParameter;
+        }
+
+        /**
+         * Record keys of the field, from the outermost record to the field itself.
+         *
+         * @param directUnionMember whether the record being built is the union member itself rather than the
+         *                          record containing the union field
+         */
+        BString[] keys(boolean directUnionMember) {
+            return directUnionMember ? memberKeys : keys;
+        }
+
+        /**
+         * Comma-separated record field names of the table columns, for arrays of records.
+         */
+        String tableColumns() {
+            return tableColumns;
+        }
+
+        /**
+         * Whether the field is left out of the record: it belongs to a union member other than the selected
+         * one, or one of its path prefixes is disabled.
+         */
+        boolean isExcluded(Map<String, String> selectedUnionMembers, boolean[] disabledPathPrefixes) {
+            for (String union : enclosingUnions) {
+                String selected = selectedUnionMembers.get(union);
+                if (selected != null) {
+                    if (!selected.equals(unionMember)) {
+                        return true;
+                    }
+                    break;
+                }
+            }
+            if (disabledPathPrefixes != null) {
+                for (int pathPrefix : pathPrefixes) {
+                    if (disabledPathPrefixes[pathPrefix]) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Returns the JSON input of a dual-mode array when the message selects JSON mode and provides a value.
+         */
+        Object jsonInput(MessageContext context) {
+            if (jsonParameter == null
+                    || !"JSON".equals(SynapseUtils.lookupTemplateParameter(context, inputModeParameter))) {
+                return null;
+            }
+            Object json = SynapseUtils.lookupTemplateParameter(context, jsonParameter);
+            return json != null && !json.toString().isEmpty() ? json : null;
+        }
+    }
+
+    private record LayoutKey(Module module, String operation, String propertyPrefix) {
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi.executor;
+
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.mi.BallerinaExecutionException;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Invokes Ballerina resource functions through the runtime's internal {@code Strand} API.
+ * <p>
+ * Resource methods are not reachable through {@link Runtime#callMethod}, so the object's generated
+ * {@code call(Strand, String, Object...)} dispatcher is used directly. All reflective lookups (the runtime's
+ * scheduler, the Strand constructor, {@code call}, {@code done} and the future fields) are resolved once per
+ * runtime and bound as {@link MethodHandle}/{@link VarHandle}s that are reused for every invocation.
+ * </p>
+ */
+final class ResourceFunctionInvoker {
+
+    private static final Log log = LogFactory.getLog(ResourceFunctionInvoker.class);
+
+    private static final String STRAND_CLASS = "io.ballerina.runtime.internal.scheduling.Strand";
+    private static final String SCHEDULER_CLASS = "io.ballerina.runtime.internal.scheduling.Scheduler";
+    private static final MethodType CALL_TYPE =
+            MethodType.methodType(Object.class, Object.class, Object.class, String.class, Object[].class);
+
+    private static final Map<Runtime, ResourceFunctionInvoker> INVOKERS = new ConcurrentHashMap<>();
+
+    private final Class<?> strandClass;
+    private final MethodHandle strandFactory;
+    private final MethodHandle strandDone;
+    private final VarHandle strandFuture;
+    private final Map<Class<?>, MethodHandle> callHandles = new ConcurrentHashMap<>();
+    private final Map<Class<?>, FutureHandles> futureHandles = new ConcurrentHashMap<>();
+
+    private ResourceFunctionInvoker(Class<?> strandClass, MethodHandle strandFactory, MethodHandle strandDone,
+                                    VarHandle strandFuture) {
+        this.strandClass = strandClass;
+        this.strandFactory = strandFactory;
+        this.strandDone = strandDone;
+        this.strandFuture = strandFuture;
+    }
+
+    /**
+     * Returns the invoker bound to the given runtime, resolving it on first use.
+     */
+    static ResourceFunctionInvoker forRuntime(Runtime rt)
+            throws ReflectiveOperationException, BallerinaExecutionException {
+        ResourceFunctionInvoker invoker = INVOKERS.get(rt);
+        if (invoker == null) {
+            invoker = resolve(rt);
+            ResourceFunctionInvoker existing = INVOKERS.putIfAbsent(rt, invoker);
+            if (existing != null) {
+                invoker = existing;
+            }
+        }
+        return invoker;
+    }
+
+    /**
+     * Drops the invoker bound to a runtime that has been stopped.
+     */
+    static void evict(Runtime rt) {
+        INVOKERS.remove(rt);
+    }
+
+    private static ResourceFunctionInvoker resolve(Runtime rt)
+            throws ReflectiveOperationException, BallerinaExecutionException {
+        Field schedulerField = rt.getClass().getDeclaredField("scheduler");
+        schedulerField.setAccessible(true);
+        Object scheduler = schedulerField.get(rt);
+
+        Class<?> strandClass = Class.forName(STRAND_CLASS);
+        Class<?> schedulerClass = Class.forName(SCHEDULER_CLASS);
+
+        Constructor<?> strandCtor = null;
+        Object[] ctorArgs = null;
+        try {
+            strandCtor = strandClass.getDeclaredConstructor(schedulerClass);
+            ctorArgs = new Object[]{scheduler};
+        } catch (NoSuchMethodException e) {
+            for (Constructor<?> c : strandClass.getDeclaredConstructors()) {
+                if (c.getParameterCount() > 0 && c.getParameterTypes()[0].equals(schedulerClass)) {
+                    strandCtor = c;
+                    ctorArgs = defaultConstructorArgs(c.getParameterTypes(), scheduler);
+                    break;
+                }
+            }
+        }
+        if (strandCtor == null) {
+            throw new BallerinaExecutionException(
+                    "Could not find Strand constructor accepting Scheduler",
+                    new Exception("Strand constructor missing"));
+        }
+
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        strandCtor.setAccessible(true);
+        MethodHandle strandFactory = MethodHandles.insertArguments(lookup.unreflectConstructor(strandCtor), 0, ctorArgs)
+                .asType(MethodType.methodType(Object.class));
+
+        Method doneMethod = strandClass.getMethod("done");
+        doneMethod.setAccessible(true);
+        MethodHandle strandDone = lookup.unreflect(doneMethod)
+                .asType(MethodType.methodType(void.class, Object.class));
+
+        Field futureField = strandClass.getDeclaredField("future");
+        VarHandle strandFuture = MethodHandles.privateLookupIn(strandClass, lookup)
+                .unreflectVarHandle(futureField);
+
+        return new ResourceFunctionInvoker(strandClass, strandFactory, strandDone, strandFuture);
+    }
+
+    private static Object[] defaultConstructorArgs(Class<?>[] paramTypes, Object scheduler) {
+        Object[] ctorArgs = new Object[paramTypes.length];
+        ctorArgs[0] = scheduler;
+        for (int i = 1; i < paramTypes.length; i++) {
+            if (paramTypes[i] == boolean.class) ctorArgs[i] = false;
+            else if (paramTypes[i] == int.class) ctorArgs[i] = 0;
+            else if (paramTypes[i] == long.class) ctorArgs[i] = 0L;
+            else if (paramTypes[i] == double.class) ctorArgs[i] = 0.0;
+            else if (paramTypes[i] == float.class) ctorArgs[i] = 0.0f;
+            else if (paramTypes[i] == String.class) ctorArgs[i] = "mi-strand";
+            else ctorArgs[i] = null;
+        }
+        return ctorArgs;
+    }
+
+    /**
+     * Invokes the resource function identified by its JVM method name and waits for the strand to complete.
+     *
+     * @param callable      the Ballerina client object
+     * @param jvmMethodName the encoded JVM name of the resource method
+     * @param args          the arguments, including any leading path parameters
+     * @return the function result
+     * @throws Throwable BError or panic raised by the Ballerina function, or a failure of the runtime API
+     */
+    Object invoke(BObject callable, String jvmMethodName, Object[] args) throws Throwable {
+        Object strand = (Object) strandFactory.invokeExact();
+        try {
+            MethodHandle call = callHandle(callable.getClass());
+            Object result = (Object) call.invokeExact((Object) callable, strand, jvmMethodName, args);
+            if (result == null) {
+                result = awaitResult(strand);
+            }
+            return result;
+        } finally {
+            // Clean up the strand to release HTTP connection pool resources
+            try {
+                strandDone.invokeExact(strand);
+            } catch (Throwable e) {
+                log.warn("Failed to mark strand as done: " + e.getMessage());
+            }
+        }
+    }
+
+    private MethodHandle callHandle(Class<?> callableClass) throws ReflectiveOperationException {
+        MethodHandle handle = callHandles.get(callableClass);
+        if (handle == null) {
+            Method callMethod = callableClass.getMethod("call", strandClass, String.class, Object[].class);
+            callMethod.setAccessible(true);
+            handle = MethodHandles.lookup().unreflect(callMethod).asFixedArity().asType(CALL_TYPE);
+            callHandles.put(callableClass, handle);
+        }
+        return handle;
+    }
+
+    private Object awaitResult(Object strand) throws Throwable {
+        // Wait for async completion using the strand's future CompletableFuture
+        Object futureValue = (Object) strandFuture.get(strand);
+        if (futureValue == null) {
+            return null;
+        }
+        FutureHandles handles = futureHandles(futureValue.getClass());
+        Object completableFuture = (Object) handles.completableFuture.get(futureValue);
+        if (completableFuture instanceof CompletableFuture<?> cf) {
+            try {
+                cf.get();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                // Fall through to inspect futureValue's panic/result fields below
+            } catch (ExecutionException ee) {
+                Throwable cause = ee.getCause();
+                if (cause instanceof BError) {
+                    throw cause;
+                }
+                // Fall through to inspect futureValue's panic/result fields below
+            }
+        }
+
+        Object result = (Object) handles.result.get(futureValue);
+        Object panic = (Object) handles.panic.get(futureValue);
+        if (panic != null) {
+            if (panic instanceof BError) throw (BError) panic;
+            if (panic instanceof Throwable)
+                throw new BallerinaExecutionException(
+                        "Panic in Ballerina function: " + ((Throwable) panic).getMessage(),
+                        (Throwable) panic);
+            throw new BallerinaExecutionException(
+                    "Panic in Ballerina function: " + panic,
+                    new Exception(String.valueOf(panic)));
+        }
+        return result;
+    }
+
+    private FutureHandles futureHandles(Class<?> futureClass) throws ReflectiveOperationException {
+        FutureHandles handles = futureHandles.get(futureClass);
+        if (handles == null) {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(futureClass, MethodHandles.lookup());
+            handles = new FutureHandles(
+                    lookup.unreflectVarHandle(futureClass.getDeclaredField("completableFuture")),
+                    lookup.unreflectVarHandle(futureClass.getDeclaredField("result")),
+                    lookup.unreflectVarHandle(futureClass.getDeclaredField("panic")));
+            futureHandles.put(futureClass, handles);
+        }
+        return handles;
+    }
+
+    private record FutureHandles(VarHandle completableFuture, VarHandle result, VarHandle panic) {
+    }
+}
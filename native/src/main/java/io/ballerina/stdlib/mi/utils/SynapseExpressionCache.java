@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi.utils;
+
+import org.apache.synapse.util.xpath.SynapseExpression;
+import org.jaxen.JaxenException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide cache of compiled {@link SynapseExpression}s keyed by expression text.
+ * <p>
+ * Template values that embed {@code ${...}} expressions are resolved for every message, and compiling an
+ * expression parses it each time. A compiled expression holds no message state, so one instance is shared by
+ * all messages. The cache is bounded: once it is full, further expressions are compiled on each use without
+ * being kept. Expressions that fail to compile are not cached.
+ * </p>
+ */
+public final class SynapseExpressionCache {
+
+    private static final int MAX_CACHED_EXPRESSIONS = 1024;
+
+    private static final Map<String, SynapseExpression> EXPRESSIONS = new ConcurrentHashMap<>();
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+
+    private SynapseExpressionCache() {
+    }
+
+    /**
+     * Returns the compiled expression for the text, compiling it on first use.
+     *
+     * @throws JaxenException if the expression cannot be compiled
+     */
+    public static SynapseExpression get(String expressionText) throws JaxenException {
+        SynapseExpression expression = EXPRESSIONS.get(expressionText);
+        if (expression != null) {
+            HITS.increment();
+            return expression;
+        }
+        MISSES.increment();
+        expression = new SynapseExpression(expressionText);
+        if (EXPRESSIONS.size() < MAX_CACHED_EXPRESSIONS) {
+            SynapseExpression existing = EXPRESSIONS.putIfAbsent(expressionText, expression);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        return expression;
+    }
+
+    public static long getHitCount() {
+        return HITS.sum();
+    }
+
+    public static long getMissCount() {
+        return MISSES.sum();
+    }
+
+    public static int size() {
+        return EXPRESSIONS.size();
+    }
+
+    /**
+     * Drops all cached expressions and resets the counters.
+     */
+    public static void clear() {
+        EXPRESSIONS.clear();
+        HITS.reset();
+        MISSES.reset();
+    }
+}
@@ -19,6 +19,7 @@
 package io.ballerina.stdlib.mi.utils;
 
 import io.ballerina.stdlib.mi.Constants;
+import io.ballerina.stdlib.mi.OperationDescriptor;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.synapse.MessageContext;
@@ -36,11 +37,11 @@ public class SynapseUtils {
 
     /**
      * Get a property value as a String from the MessageContext.
-     * Returns null if the property doesn't exist.
+     * Operation metadata is served from the bound {@link OperationDescriptor} when present; otherwise the
+     * MessageContext property is used. Returns null if the property doesn't exist.
      */
     public static String getPropertyAsString(MessageContext context, String propertyName) {
-        Object value = context.getProperty(propertyName);
-        return value != null ? value.toString() : null;
+        return OperationDescriptor.property(context, propertyName);
     }
 
     public static Object lookupTemplateParameter(MessageContext ctx, String paramName) {
@@ -84,16 +85,20 @@ public class SynapseUtils {
 
     /**
      * Resolve all ${expression} patterns in a string using MI's SynapseExpression evaluator.
+     * Compiled expressions are reused across calls through {@link SynapseExpressionCache}.
      */
     public static String resolveSynapseExpressions(String text, MessageContext context) {
+        if (!text.contains("${")) {
+            return text;
+        }
         Matcher matcher = SYNAPSE_EXPRESSION_PATTERN.matcher(text);
-        StringBuffer resolved = new StringBuffer();
+        StringBuilder resolved = new StringBuilder(text.length());
 
         while (matcher.find()) {
             String expressionBody = matcher.group(1);
             String replacement;
             try {
-                SynapseExpression expression = new SynapseExpression(expressionBody);
+                SynapseExpression expression = SynapseExpressionCache.get(expressionBody);
                 replacement = expression.stringValueOf(context);
             } catch (Exception e) {
                 log.warn("Failed to evaluate expression '${" + expressionBody + "}': " + e.getMessage()
@@ -107,6 +112,13 @@ public class SynapseUtils {
         return resolved.toString();
     }
 
+    /**
+     * Strips the single quotes Synapse templates wrap JSON values in and drops trailing commas, leaving commas
+     * inside string literals alone.
+     *
+     * @deprecated no longer used by the connector, which reads record and JSON fields with its lenient JSON parser
+     */
+    @Deprecated
     public static String cleanupJsonString(String json) {
         if (json == null) {
             return null;
@@ -117,6 +129,38 @@ public class SynapseUtils {
         if (json.startsWith("'") && json.endsWith("'") && json.length() >= 2) {
             json = json.substring(1, json.length() - 1).trim();
         }
-        return json.replaceAll(",\\s*([\\]\\}])", "$1");
+        // Drop trailing commas in one pass, leaving commas inside string literals alone
+        StringBuilder cleaned = null;
+        boolean inString = false;
+        int copied = 0;
+        for (int i = 0; i < json.length(); i++) {
+            char c = json.charAt(i);
+            if (inString) {
+                if (c == '\\') {
+                    i++;
+                } else if (c == '"') {
+                    inString = false;
+                }
+            } else if (c == '"') {
+                inString = true;
+            } else if (c == ',') {
+                int next = i + 1;
+                while (next < json.length() && Character.isWhitespace(json.charAt(next))) {
+                    next++;
+                }
+                if (next < json.length() && (json.charAt(next) == ']' || json.charAt(next) == '}')) {
+                    if (cleaned == null) {
+                        cleaned = new StringBuilder(json.length());
+                    }
+                    cleaned.append(json, copied, i);
+                    copied = next;
+                    i = next - 1;
+                }
+            }
+        }
+        if (cleaned == null) {
+            return json;
+        }
+        return cleaned.append(json, copied, json.length()).toString();
     }
 }
@@ -561,6 +561,29 @@ public class HandlebarsHelperRegistryTest {
         Assert.assertTrue(result.contains("name=\"returnType\" value=\"json\""));
     }
 
+    @Test
+    public void testWriteComponentXmlProperties_Indent() throws IOException {
+        Component component = Mockito.mock(Component.class);
+
+        PathParamType pathParam = new PathParamType();
+        pathParam.name = "lat";
+        pathParam.typeName = "string";
+
+        Mockito.when(component.getPathParams()).thenReturn(List.of(pathParam));
+        Mockito.when(component.getQueryParams()).thenReturn(List.of());
+        Mockito.when(component.getReturnType()).thenReturn("json");
+
+        Template template = handlebars.compileInline("{{writeComponentXmlProperties value indent=16}}");
+        Map<String, Object> context = new HashMap<>();
+        context.put("value", component);
+
+        String indent = " ".repeat(16);
+        Assert.assertEquals(template.apply(context),
+                "<property name=\"pathParam0\" value=\"lat\"/>\n"
+                        + indent + "<property name=\"pathParamType0\" value=\"string\"/>\n"
+                        + indent + "<property name=\"returnType\" value=\"json\"/>\n");
+    }
+
     @Test
     public void testWriteConfigXmlParameters() throws IOException {
         FunctionParam param = Mockito.mock(FunctionParam.class);
@@ -603,6 +626,28 @@ public class HandlebarsHelperRegistryTest {
         Assert.assertTrue(result.contains("name=\"OAUTH2_paramType0\" value=\"string\""));
     }
 
+    @Test
+    public void testWriteConfigXmlParamPropertiesWithIndent() throws IOException {
+        Connection connection = Mockito.mock(Connection.class);
+        Component initComponent = Mockito.mock(Component.class);
+        FunctionParam param = Mockito.mock(FunctionParam.class);
+
+        Mockito.when(param.getValue()).thenReturn("token");
+        Mockito.when(param.getParamType()).thenReturn("string");
+        Mockito.when(initComponent.getFunctionParams()).thenReturn(Collections.singletonList(param));
+        Mockito.when(connection.getInitComponent()).thenReturn(initComponent);
+        Mockito.when(connection.getConnectionType()).thenReturn("oauth2");
+
+        Template template = handlebars.compileInline("{{writeConfigXmlParamProperties value indent=12}}");
+        Map<String, Object> context = new HashMap<>();
+        context.put("value", connection);
+
+        String result = template.apply(context);
+
+        Assert.assertEquals(result, "<property name=\"OAUTH2_param0\" value=\"token\"/>\n"
+                + "            <property name=\"OAUTH2_paramType0\" value=\"string\"/>\n");
+    }
+
     @Test
     public void testWriteFunctionRecordXmlParameters() throws IOException {
         RecordFunctionParam recordParam = Mockito.mock(RecordFunctionParam.class);
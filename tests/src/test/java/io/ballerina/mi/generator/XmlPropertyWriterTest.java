@@ -89,6 +89,39 @@ public class XmlPropertyWriterTest {
         Assert.assertTrue(output.contains("<property name=\"CONN_config_paramType1\" value=\"int\"/>"));
     }
 
+    @Test
+    public void testWriteXmlParamProperties_RecordParamWithIndent() {
+        RecordFunctionParam recordParam = mock(RecordFunctionParam.class);
+        when(recordParam.getValue()).thenReturn("config");
+        when(recordParam.getParamType()).thenReturn("record");
+        when(recordParam.getRecordName()).thenReturn("ConfigRecord");
+
+        FunctionParam field = mock(FunctionParam.class);
+        when(field.getValue()).thenReturn("host");
+        when(field.getParamType()).thenReturn("string");
+        when(recordParam.getRecordFieldParams()).thenReturn(List.of(field));
+
+        FunctionParam timeout = mock(FunctionParam.class);
+        when(timeout.getValue()).thenReturn("timeout");
+        when(timeout.getParamType()).thenReturn("decimal");
+
+        StringBuilder result = new StringBuilder();
+        int[] indexHolder = {0};
+        boolean[] isFirst = {true};
+        String indent = "            ";
+
+        XmlPropertyWriter.writeXmlParamProperties(recordParam, "CONN", result, indexHolder, isFirst, indent);
+        XmlPropertyWriter.writeXmlParamProperties(timeout, "CONN", result, indexHolder, isFirst, indent);
+
+        String[] lines = result.toString().split("\n");
+        Assert.assertEquals(lines[0], "<property name=\"CONN_param0\" value=\"config\"/>");
+        for (int i = 1; i < lines.length; i++) {
+            Assert.assertTrue(lines[i].startsWith(indent + "<property "), lines[i]);
+        }
+        Assert.assertTrue(result.toString().contains("\n" + indent + "<property name=\"CONN_config_param0\" value=\"host\"/>"));
+        Assert.assertTrue(result.toString().contains("\n" + indent + "<property name=\"CONN_param1\" value=\"timeout\"/>"));
+    }
+
     @Test
     public void testWriteXmlParameterElements_Simple() {
         FunctionParam param = mock(FunctionParam.class);
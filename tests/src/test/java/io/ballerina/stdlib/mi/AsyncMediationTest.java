@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi;
+
+import org.apache.synapse.MessageContext;
+import org.apache.synapse.SynapseConstants;
+import org.apache.synapse.core.SynapseEnvironment;
+import io.ballerina.stdlib.mi.utils.SynapseUtils;
+import org.apache.synapse.mediators.base.SequenceMediator;
+import org.apache.synapse.mediators.template.TemplateContext;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.Stack;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for AsyncMediation.
+ */
+public class AsyncMediationTest {
+
+    @Test
+    public void testIsRequested() {
+        MessageContext context = mock(MessageContext.class);
+        Assert.assertFalse(AsyncMediation.isRequested(context));
+
+        when(context.getProperty(Constants.ASYNC_COMPLETION_SEQUENCE)).thenReturn("");
+        Assert.assertFalse(AsyncMediation.isRequested(context));
+
+        when(context.getProperty(Constants.ASYNC_COMPLETION_SEQUENCE)).thenReturn("onComplete");
+        Assert.assertTrue(AsyncMediation.isRequested(context));
+    }
+
+    @Test
+    public void testResumeInjectsCompletionSequence() {
+        MessageContext context = mock(MessageContext.class);
+        SynapseEnvironment environment = mock(SynapseEnvironment.class);
+        SequenceMediator completion = mock(SequenceMediator.class);
+        Set<String> keys = new HashSet<>(Set.of(Constants.ASYNC_COMPLETION_SEQUENCE));
+        when(context.getProperty(Constants.ASYNC_COMPLETION_SEQUENCE)).thenReturn("onComplete");
+        when(context.getPropertyKeySet()).thenReturn((Set) keys);
+        when(context.getSequence("onComplete")).thenReturn(completion);
+        when(context.getEnvironment()).thenReturn(environment);
+
+        AsyncMediation.Continuation continuation = AsyncMediation.suspend(context);
+
+        // The request is consumed before the call starts so nested operations do not inherit it
+        Assert.assertFalse(keys.contains(Constants.ASYNC_COMPLETION_SEQUENCE));
+
+        CompletableFuture<Void> execution = new CompletableFuture<>();
+        continuation.resumeOn(execution);
+        continuation.suspended();
+        verify(environment, never()).injectAsync(context, completion);
+
+        execution.complete(null);
+        verify(environment).injectAsync(context, completion);
+    }
+
+    @Test
+    public void testResumeWaitsForMediatorToReturn() {
+        MessageContext context = mock(MessageContext.class);
+        SynapseEnvironment environment = mock(SynapseEnvironment.class);
+        SequenceMediator completion = mock(SequenceMediator.class);
+        when(context.getProperty(Constants.ASYNC_COMPLETION_SEQUENCE)).thenReturn("onComplete");
+        when(context.getPropertyKeySet()).thenReturn((Set) new HashSet<String>());
+        when(context.getSequence("onComplete")).thenReturn(completion);
+        when(context.getEnvironment()).thenReturn(environment);
+
+        AsyncMediation.Continuation continuation = AsyncMediation.suspend(context);
+        continuation.resumeOn(CompletableFuture.completedFuture(null));
+        verify(environment, never()).injectAsync(context, completion);
+
+        continuation.suspended();
+        verify(environment).injectAsync(context, completion);
+    }
+
+    @Test
+    public void testCompletionSequenceReadsParametersOfInvokingTemplate() {
+        MessageContext context = mock(MessageContext.class);
+        SynapseEnvironment environment = mock(SynapseEnvironment.class);
+        SequenceMediator completion = mock(SequenceMediator.class);
+        TemplateContext outer = mock(TemplateContext.class);
+        TemplateContext operation = mock(TemplateContext.class);
+        when(outer.getParameterValue("target")).thenReturn("outerValue");
+        when(operation.getParameterValue("target")).thenReturn("operationValue");
+        Stack<TemplateContext> functionStack = new Stack<>();
+        functionStack.push(outer);
+        functionStack.push(operation);
+        when(context.getProperty(Constants.SYNAPSE_FUNCTION_STACK)).thenReturn(functionStack);
+        when(context.getProperty(Constants.ASYNC_COMPLETION_SEQUENCE)).thenReturn("onComplete");
+        when(context.getPropertyKeySet()).thenReturn((Set) new HashSet<String>());
+        when(context.getSequence("onComplete")).thenReturn(completion);
+        when(context.getEnvironment()).thenReturn(environment);
+        Object[] seenByCompletion = new Object[1];
+        doAnswer(invocation -> {
+            seenByCompletion[0] = SynapseUtils.lookupTemplateParameter(context, "target");
+            return null;
+        }).when(environment).injectAsync(context, completion);
+
+        CompletableFuture<Void> execution = new CompletableFuture<>();
+        resume(context, execution);
+        execution.complete(null);
+
+        Assert.assertEquals(seenByCompletion[0], "outerValue");
+        Assert.assertEquals(functionStack.size(), 1);
+        Assert.assertSame(functionStack.peek(), outer);
+    }
+
+    @Test
+    public void testResumeFailureUsesConfiguredFaultSequence() {
+        MessageContext context = mock(MessageContext.class);
+        SynapseEnvironment environment = mock(SynapseEnvironment.class);
+        SequenceMediator completion = mock(SequenceMediator.class);
+        SequenceMediator fault = mock(SequenceMediator.class);
+        when(context.getProperty(Constants.ASYNC_COMPLETION_SEQUENCE)).thenReturn("onComplete");
+        when(context.getProperty(Constants.ASYNC_FAULT_SEQUENCE)).thenReturn("onError");
+        when(context.getPropertyKeySet()).thenReturn((Set) new HashSet<String>());
+        when(context.getSequence("onComplete")).thenReturn(completion);
+        when(context.getSequence("onError")).thenReturn(fault);
+        when(context.getEnvironment()).thenReturn(environment);
+
+        CompletableFuture<Void> execution = new CompletableFuture<>();
+        resume(context, execution);
+        BallerinaExecutionException failure =
+                new BallerinaExecutionException("backend failed", new RuntimeException("timeout"));
+        execution.completeExceptionally(new CompletionException(failure));
+
+        verify(context).setProperty(SynapseConstants.ERROR_CODE, "BALLERINA_EXECUTION_ERROR");
+        verify(context).setProperty(SynapseConstants.ERROR_MESSAGE, "backend failed");
+        verify(context).setProperty(SynapseConstants.ERROR_EXCEPTION, failure);
+        verify(environment).injectAsync(context, fault);
+        verify(environment, never()).injectAsync(context, completion);
+    }
+
+    @Test
+    public void testResumeFailureFallsBackToCurrentFaultSequence() {
+        MessageContext context = mock(MessageContext.class);
+        SynapseEnvironment environment = mock(SynapseEnvironment.class);
+        SequenceMediator fault = mock(SequenceMediator.class);
+        when(context.getProperty(Constants.ASYNC_COMPLETION_SEQUENCE)).thenReturn("onComplete");
+        when(context.getPropertyKeySet()).thenReturn((Set) new HashSet<String>());
+        when(context.getFaultSequence()).thenReturn(fault);
+        when(context.getEnvironment()).thenReturn(environment);
+
+        resume(context,
+                CompletableFuture.failedFuture(new BallerinaExecutionException("failed", new Exception())));
+
+        verify(environment).injectAsync(context, fault);
+    }
+
+    @Test
+    public void testResumeFailureKeepsErrorCodeOfFailure() {
+        MessageContext context = mock(MessageContext.class);
+        SynapseEnvironment environment = mock(SynapseEnvironment.class);
+        SequenceMediator fault = mock(SequenceMediator.class);
+        when(context.getProperty(Constants.ASYNC_COMPLETION_SEQUENCE)).thenReturn("onComplete");
+        when(context.getPropertyKeySet()).thenReturn((Set) new HashSet<String>());
+        when(context.getFaultSequence()).thenReturn(fault);
+        when(context.getEnvironment()).thenReturn(environment);
+
+        resume(context, CompletableFuture.failedFuture(
+                new BallerinaExecutionException("full", new Exception(), Bulkhead.ERROR_CODE)));
+
+        verify(context).setProperty(SynapseConstants.ERROR_CODE, Bulkhead.ERROR_CODE);
+        verify(context, never()).setProperty(SynapseConstants.ERROR_CODE,
+                BallerinaExecutionException.ERROR_CODE);
+    }
+
+    private static void resume(MessageContext context, CompletableFuture<Void> execution) {
+        AsyncMediation.Continuation continuation = AsyncMediation.suspend(context);
+        continuation.resumeOn(execution);
+        continuation.suspended();
+    }
+}
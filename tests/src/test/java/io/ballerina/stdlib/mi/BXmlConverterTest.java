@@ -18,6 +18,7 @@
 
 package io.ballerina.stdlib.mi;
 
+import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.types.XmlNodeType;
 import io.ballerina.runtime.api.values.BMap;
@@ -26,14 +27,18 @@ import io.ballerina.runtime.api.values.BXml;
 import io.ballerina.runtime.api.values.BXmlItem;
 import io.ballerina.runtime.internal.values.XmlPi;
 import io.ballerina.runtime.internal.values.XmlSequence;
+import org.apache.axiom.om.OMAbstractFactory;
 import org.apache.axiom.om.OMElement;
+import org.apache.axiom.om.OMFactory;
 import org.apache.commons.lang3.tuple.Pair;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import javax.xml.namespace.QName;
 import java.util.AbstractMap;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -200,4 +205,53 @@ public class BXmlConverterTest {
         Assert.assertTrue(omElement.toString().contains("note"));
     }
 
+    @Test
+    public void testToOMElement_MultiItemSequenceIsWrapped() {
+        BXml first = ValueCreator.createXmlItem(new QName("", "a", ""), false);
+        BXml second = ValueCreator.createXmlItem(new QName("", "b", ""), false);
+        BXml sequence = ValueCreator.createXmlSequence(List.of(first, ValueCreator.createXmlText(
+                StringUtils.fromString("text")), second));
+
+        OMElement omElement = BXmlConverter.toOMElement(sequence);
+
+        Assert.assertEquals(omElement.getQName(), BXmlConverter.SEQUENCE_ELEMENT);
+        Iterator<?> children = omElement.getChildElements();
+        Assert.assertEquals(((OMElement) children.next()).getLocalName(), "a");
+        Assert.assertEquals(((OMElement) children.next()).getLocalName(), "b");
+        Assert.assertTrue(omElement.getText().contains("text"));
+    }
+
+    @Test
+    public void testToOMElement_SingleItemSequenceIgnoresWhitespace() {
+        BXml item = ValueCreator.createXmlItem(new QName("urn:x", "only", "x"), false);
+        BXml sequence = ValueCreator.createXmlSequence(List.of(
+                ValueCreator.createXmlText(StringUtils.fromString("\n  ")), item));
+
+        OMElement omElement = BXmlConverter.toOMElement(sequence);
+
+        Assert.assertEquals(omElement.getQName(), new QName("urn:x", "only"));
+    }
+
+    @Test
+    public void testToOMElement_DeepNestingDoesNotRecurse() {
+        int depth = 20_000;
+        OMFactory factory = OMAbstractFactory.getOMFactory();
+        OMElement root = factory.createOMElement(new QName("level"));
+        OMElement current = root;
+        for (int i = 1; i < depth; i++) {
+            current = factory.createOMElement(new QName("level"), current);
+        }
+        current.setText("leaf");
+
+        OMElement converted = BXmlConverter.toOMElement(OMElementConverter.toBXml(root));
+
+        int levels = 1;
+        OMElement element = converted;
+        while (element.getFirstElement() != null) {
+            element = element.getFirstElement();
+            levels++;
+        }
+        Assert.assertEquals(levels, depth);
+        Assert.assertEquals(element.getText(), "leaf");
+    }
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BXmlItem;
+import org.apache.axiom.om.OMElement;
+import org.apache.axiom.om.OMOutputFormat;
+import org.apache.axiom.om.util.AXIOMUtil;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Tests for BXmlDataSource.
+ */
+public class BXmlDataSourceTest {
+
+    private static final String XML = "<p:order xmlns:p=\"urn:p\" id=\"1\"><p:item>pen</p:item></p:order>";
+
+    @Test
+    public void testSerializeToStreamAndWriter() throws Exception {
+        BXmlDataSource dataSource = new BXmlDataSource((BXmlItem) ValueCreator.createXmlValue(XML));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        StringWriter writer = new StringWriter();
+
+        dataSource.serialize(output, new OMOutputFormat());
+        dataSource.serialize(writer, new OMOutputFormat());
+
+        OMElement fromStream = AXIOMUtil.stringToOM(output.toString(StandardCharsets.UTF_8));
+        Assert.assertEquals(fromStream.getQName(), new QName("urn:p", "order"));
+        Assert.assertEquals(fromStream.getAttributeValue(new QName("id")), "1");
+        Assert.assertEquals(writer.toString(), output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testReaderCanBeCreatedRepeatedly() throws Exception {
+        BXmlDataSource dataSource = new BXmlDataSource((BXmlItem) ValueCreator.createXmlValue(XML));
+
+        for (int i = 0; i < 2; i++) {
+            XMLStreamReader reader = dataSource.getReader();
+            while (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                // Skip the document start
+            }
+            Assert.assertEquals(reader.getName(), new QName("urn:p", "order"));
+            reader.close();
+        }
+    }
+
+    @Test
+    public void testLazyElementExpandsOnNavigation() {
+        OMElement element = PayloadWriter.toLazyElement((BXmlItem) ValueCreator.createXmlValue(XML));
+
+        Assert.assertEquals(element.getLocalName(), "order");
+        Assert.assertEquals(element.getFirstElement().getText(), "pen");
+        Assert.assertEquals(element.getAttributeValue(new QName("id")), "1");
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.values.BObject;
+import org.apache.synapse.MessageContext;
+import org.apache.synapse.mediators.template.TemplateContext;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.integration.connector.core.ConnectException;
+import org.wso2.integration.connector.core.connection.ConnectionHandler;
+
+import java.util.Map;
+import java.util.Stack;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for BalConnectionLookup.
+ */
+public class BalConnectionLookupTest {
+
+    @Test
+    public void testCurrentConnectionIsUsed() throws ConnectException {
+        BalConnectorConnection connection = connection(Map.of("baseUrl", "http://host"));
+        MessageContext context = lookup(connection, Map.of("baseUrl", "http://host"));
+
+        verify(context).setProperty(Constants.CONNECTION_CACHED, "true");
+        verify(context).setProperty("connectionName", "cachedConnection");
+        verify(context).setProperty(eq(Constants.MODULE_RUNTIME), any(ModuleRuntime.class));
+    }
+
+    @Test
+    public void testConnectionWithChangedArgumentsIsNotUsed() throws ConnectException {
+        BalConnectorConnection connection = connection(Map.of("baseUrl", "http://host"));
+        MessageContext context = lookup(connection, Map.of("baseUrl", "http://other"));
+
+        verify(context).setProperty(Constants.CONNECTION_CACHED, "false");
+        verify(context, never()).setProperty(eq("connectionName"), any());
+    }
+
+    @Test
+    public void testEvictedConnectionIsNotUsed() throws ConnectException {
+        BalConnectorConnection connection = connection(Map.of("baseUrl", "http://host"));
+        connection.evictIfIdle(Long.MAX_VALUE, 0);
+        MessageContext context = lookup(connection, Map.of("baseUrl", "http://host"));
+
+        verify(context).setProperty(Constants.CONNECTION_CACHED, "false");
+    }
+
+    @Test
+    public void testStoppedRuntimeIsResolvedAgain() throws ConnectException {
+        try (MockedStatic<Runtime> runtimeMock = Mockito.mockStatic(Runtime.class);
+             MockedStatic<ConnectionHandler> handlerMock = Mockito.mockStatic(ConnectionHandler.class)) {
+            runtimeMock.when(() -> Runtime.from(any(Module.class))).thenAnswer(invocation -> mock(Runtime.class));
+            ConnectionHandler handler = mock(ConnectionHandler.class);
+            handlerMock.when(ConnectionHandler::getConnectionHandler).thenReturn(handler);
+            BalConnectionLookup lookup = new BalConnectionLookup();
+            lookup.setOrgName("testOrg");
+            lookup.setModuleName("redeployedLookup");
+            lookup.setVersion("1");
+
+            lookup.init(null);
+            lookup.connect(mock(MessageContext.class));
+            ModuleRuntime first = RuntimeRegistry.find("testOrg", "redeployedLookup", "1");
+            Assert.assertNotNull(first);
+
+            // Another artifact of the module is redeployed while the lookup keeps the runtime it resolved
+            RuntimeRegistry.retain("testOrg", "redeployedLookup", "1");
+            lookup.destroy();
+            Assert.assertSame(RuntimeRegistry.find("testOrg", "redeployedLookup", "1"), first);
+            RuntimeRegistry.release("testOrg", "redeployedLookup", "1");
+            Assert.assertTrue(first.isStopped());
+
+            lookup.connect(mock(MessageContext.class));
+            ModuleRuntime second = RuntimeRegistry.find("testOrg", "redeployedLookup", "1");
+            Assert.assertNotNull(second);
+            Assert.assertNotSame(second, first);
+        }
+    }
+
+    @Test
+    public void testMissingConnectionIsNotUsed() throws ConnectException {
+        MessageContext context = lookup(null, Map.of("baseUrl", "http://host"));
+
+        verify(context).setProperty(Constants.CONNECTION_CACHED, "false");
+        verify(context, never()).setProperty(eq("connectionName"), any());
+    }
+
+    private static BalConnectorConnection connection(Map<String, ?> initValues) {
+        ClientPool pool = new ClientPool(new BObject[]{mock(BObject.class)}, ClientPool.ROUND_ROBIN);
+        return new BalConnectorConnection(null, () -> pool, initValues, null);
+    }
+
+    private static MessageContext lookup(BalConnectorConnection connection, Map<String, Object> templateValues)
+            throws ConnectException {
+        try (MockedStatic<Runtime> runtimeMock = Mockito.mockStatic(Runtime.class);
+             MockedStatic<ConnectionHandler> handlerMock = Mockito.mockStatic(ConnectionHandler.class)) {
+            runtimeMock.when(() -> Runtime.from(any(Module.class))).thenReturn(mock(Runtime.class));
+            ConnectionHandler handler = mock(ConnectionHandler.class);
+            handlerMock.when(ConnectionHandler::getConnectionHandler).thenReturn(handler);
+            when(handler.checkIfConnectionExists(anyString(), anyString())).thenReturn(connection != null);
+            when(handler.getConnection(anyString(), anyString())).thenReturn(connection);
+
+            MessageContext context = mock(MessageContext.class);
+            Stack<TemplateContext> funcStack = new Stack<>();
+            TemplateContext templateContext = mock(TemplateContext.class);
+            funcStack.push(templateContext);
+            when(context.getProperty(Constants.SYNAPSE_FUNCTION_STACK)).thenReturn(funcStack);
+            when(templateContext.getParameterValue("name")).thenReturn("cachedConnection");
+            when(templateContext.getMappedValues()).thenReturn(templateValues);
+
+            BalConnectionLookup lookup = new BalConnectionLookup();
+            lookup.setOrgName("testOrg");
+            lookup.setModuleName("lookupModule");
+            lookup.setVersion("1");
+            lookup.connect(context);
+            return context;
+        }
+    }
+}
@@ -25,6 +25,7 @@ import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BObject;
 import org.apache.synapse.MessageContext;
 import org.apache.synapse.mediators.template.TemplateContext;
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.testng.Assert;
@@ -32,10 +33,12 @@ import org.testng.annotations.Test;
 import org.wso2.integration.connector.core.ConnectException;
 import org.wso2.integration.connector.core.connection.ConnectionHandler;
 
+import java.util.Map;
 import java.util.Stack;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -427,9 +430,9 @@ public class BalConnectorConfigTest {
         }
     }
 
-    // Test getRuntime and getModule static methods
+    // Test that the connector starts its module runtime in the registry
     @Test
-    public void testGetRuntimeAndModule() {
+    public void testConstructorStartsModuleRuntime() {
         try (MockedStatic<Runtime> runtimeMock = Mockito.mockStatic(Runtime.class)) {
             Runtime mockRuntime = mock(Runtime.class);
             runtimeMock.when(() -> Runtime.from(any(Module.class))).thenReturn(mockRuntime);
@@ -441,8 +444,9 @@ public class BalConnectorConfigTest {
 
             new BalConnectorConfig(moduleInfo);
 
-            Assert.assertNotNull(BalConnectorConfig.getRuntime());
-            Assert.assertNotNull(BalConnectorConfig.getModule());
+            ModuleRuntime moduleRuntime = RuntimeRegistry.find("testOrg", "testModule", "1.0.0");
+            Assert.assertNotNull(moduleRuntime);
+            Assert.assertEquals(moduleRuntime.module().getName(), "testModule");
         }
     }
 
@@ -498,4 +502,281 @@ public class BalConnectorConfigTest {
             verify(msgCtx).setProperty("connectionName", "paramConnection");
         }
     }
+
+    // Test connect creating a pool of client objects
+    @Test
+    public void testConnect_ClientPool() throws ConnectException {
+        try (MockedStatic<Runtime> runtimeMock = Mockito.mockStatic(Runtime.class);
+             MockedStatic<ConnectionHandler> handlerMock = Mockito.mockStatic(ConnectionHandler.class);
+             MockedStatic<ValueCreator> valueCreatorMock = Mockito.mockStatic(ValueCreator.class)) {
+
+            Runtime mockRuntime = mock(Runtime.class);
+            runtimeMock.when(() -> Runtime.from(any(Module.class))).thenReturn(mockRuntime);
+
+            ConnectionHandler mockHandler = mock(ConnectionHandler.class);
+            handlerMock.when(ConnectionHandler::getConnectionHandler).thenReturn(mockHandler);
+            when(mockHandler.checkIfConnectionExists(anyString(), anyString())).thenReturn(false);
+
+            valueCreatorMock.when(() -> ValueCreator.createObjectValue(any(Module.class), anyString(), any(Object[].class)))
+                    .thenAnswer(invocation -> mock(BObject.class));
+
+            ModuleInfo moduleInfo = mock(ModuleInfo.class);
+            when(moduleInfo.getOrgName()).thenReturn("testOrg");
+            when(moduleInfo.getModuleName()).thenReturn("testModule");
+            when(moduleInfo.getModuleVersion()).thenReturn("1.0.0");
+
+            BalConnectorConfig config = new BalConnectorConfig(moduleInfo);
+
+            MessageContext msgCtx = mock(MessageContext.class);
+            Stack<TemplateContext> funcStack = new Stack<>();
+            TemplateContext templateContext = mock(TemplateContext.class);
+            funcStack.push(templateContext);
+
+            when(msgCtx.getProperty(Constants.SYNAPSE_FUNCTION_STACK)).thenReturn(funcStack);
+            when(templateContext.getParameterValue("name")).thenReturn("pooledConnection");
+            when(templateContext.getParameterValue("connectionType")).thenReturn("TestConnection");
+            when(templateContext.getParameterValue(Constants.CLIENT_POOL_SIZE)).thenReturn("3");
+            when(templateContext.getParameterValue(Constants.CLIENT_POOL_STRATEGY)).thenReturn("LeastBusy");
+            when(msgCtx.getProperty("TestConnection_paramSize")).thenReturn("0");
+            when(msgCtx.getProperty("TestConnection_objectTypeName")).thenReturn("TestClient");
+
+            config.connect(msgCtx);
+
+            ArgumentCaptor<BalConnectorConnection> connection = ArgumentCaptor.forClass(BalConnectorConnection.class);
+            verify(mockHandler).createConnection(anyString(), eq("pooledConnection"), connection.capture(),
+                    eq(msgCtx));
+            ClientPool pool = connection.getValue().getClientPool();
+            Assert.assertEquals(pool.size(), 3);
+            Assert.assertEquals(pool.strategy(), ClientPool.LEAST_BUSY);
+            Assert.assertNotSame(pool.client(0), pool.client(1));
+        }
+    }
+
+    // Test the clients of an evicted connection being built again from the stored init arguments
+    @Test
+    public void testConnect_EvictedClientsAreRebuiltFromInitArguments() throws ConnectException {
+        try (MockedStatic<Runtime> runtimeMock = Mockito.mockStatic(Runtime.class);
+             MockedStatic<ConnectionHandler> handlerMock = Mockito.mockStatic(ConnectionHandler.class);
+             MockedStatic<ValueCreator> valueCreatorMock = Mockito.mockStatic(ValueCreator.class)) {
+
+            Runtime mockRuntime = mock(Runtime.class);
+            runtimeMock.when(() -> Runtime.from(any(Module.class))).thenReturn(mockRuntime);
+
+            ConnectionHandler mockHandler = mock(ConnectionHandler.class);
+            handlerMock.when(ConnectionHandler::getConnectionHandler).thenReturn(mockHandler);
+            when(mockHandler.checkIfConnectionExists(anyString(), anyString())).thenReturn(false);
+
+            valueCreatorMock.when(() -> ValueCreator.createObjectValue(any(Module.class), anyString(), any(Object[].class)))
+                    .thenAnswer(invocation -> mock(BObject.class));
+
+            ModuleInfo moduleInfo = mock(ModuleInfo.class);
+            when(moduleInfo.getOrgName()).thenReturn("testOrg");
+            when(moduleInfo.getModuleName()).thenReturn("testModule");
+            when(moduleInfo.getModuleVersion()).thenReturn("1.0.0");
+
+            BalConnectorConfig config = new BalConnectorConfig(moduleInfo);
+
+            MessageContext msgCtx = mock(MessageContext.class);
+            Stack<TemplateContext> funcStack = new Stack<>();
+            TemplateContext templateContext = mock(TemplateContext.class);
+            funcStack.push(templateContext);
+
+            when(msgCtx.getProperty(Constants.SYNAPSE_FUNCTION_STACK)).thenReturn(funcStack);
+            when(templateContext.getParameterValue("name")).thenReturn("evictedConnection");
+            when(templateContext.getParameterValue("connectionType")).thenReturn("TestConnection");
+            when(templateContext.getParameterValue(Constants.CLIENT_POOL_SIZE)).thenReturn("2");
+            when(msgCtx.getProperty("TestConnection_paramSize")).thenReturn("0");
+            when(msgCtx.getProperty("TestConnection_objectTypeName")).thenReturn("TestClient");
+
+            config.connect(msgCtx);
+
+            ArgumentCaptor<BalConnectorConnection> captor = ArgumentCaptor.forClass(BalConnectorConnection.class);
+            verify(mockHandler).createConnection(anyString(), eq("evictedConnection"), captor.capture(),
+                    eq(msgCtx));
+            BalConnectorConnection connection = captor.getValue();
+            Assert.assertEquals(connection.evictIfIdle(System.nanoTime() + 1_000_000_000L, 1L), 2);
+
+            ClientPool.Lease lease = connection.acquire(connection.getBulkhead());
+            Assert.assertNotNull(lease);
+            Assert.assertEquals(connection.getClientPool().size(), 2);
+            valueCreatorMock.verify(() -> ValueCreator.createObjectValue(any(Module.class), eq("TestClient"),
+                    any(Object[].class)), times(4));
+            lease.release();
+            connection.close();
+        }
+    }
+
+    // Test connect bounding the calls of a connection with a bulkhead
+    @Test
+    public void testConnect_Bulkhead() throws ConnectException {
+        try (MockedStatic<Runtime> runtimeMock = Mockito.mockStatic(Runtime.class);
+             MockedStatic<ConnectionHandler> handlerMock = Mockito.mockStatic(ConnectionHandler.class);
+             MockedStatic<ValueCreator> valueCreatorMock = Mockito.mockStatic(ValueCreator.class)) {
+
+            Runtime mockRuntime = mock(Runtime.class);
+            runtimeMock.when(() -> Runtime.from(any(Module.class))).thenReturn(mockRuntime);
+
+            ConnectionHandler mockHandler = mock(ConnectionHandler.class);
+            handlerMock.when(ConnectionHandler::getConnectionHandler).thenReturn(mockHandler);
+            when(mockHandler.checkIfConnectionExists(anyString(), anyString())).thenReturn(false);
+
+            valueCreatorMock.when(() -> ValueCreator.createObjectValue(any(Module.class), anyString(), any(Object[].class)))
+                    .thenAnswer(invocation -> mock(BObject.class));
+
+            ModuleInfo moduleInfo = mock(ModuleInfo.class);
+            when(moduleInfo.getOrgName()).thenReturn("testOrg");
+            when(moduleInfo.getModuleName()).thenReturn("testModule");
+            when(moduleInfo.getModuleVersion()).thenReturn("1.0.0");
+
+            BalConnectorConfig config = new BalConnectorConfig(moduleInfo);
+
+            MessageContext msgCtx = mock(MessageContext.class);
+            Stack<TemplateContext> funcStack = new Stack<>();
+            TemplateContext templateContext = mock(TemplateContext.class);
+            funcStack.push(templateContext);
+
+            when(msgCtx.getProperty(Constants.SYNAPSE_FUNCTION_STACK)).thenReturn(funcStack);
+            when(templateContext.getParameterValue("name")).thenReturn("boundedConnection");
+            when(templateContext.getParameterValue("connectionType")).thenReturn("TestConnection");
+            when(templateContext.getParameterValue(Constants.MAX_CONCURRENT_CALLS)).thenReturn("4");
+            when(templateContext.getParameterValue(Constants.MAX_QUEUED_CALLS)).thenReturn("10");
+            when(msgCtx.getProperty("TestConnection_paramSize")).thenReturn("0");
+            when(msgCtx.getProperty("TestConnection_objectTypeName")).thenReturn("TestClient");
+
+            config.connect(msgCtx);
+
+            ArgumentCaptor<BalConnectorConnection> connection = ArgumentCaptor.forClass(BalConnectorConnection.class);
+            verify(mockHandler).createConnection(anyString(), eq("boundedConnection"), connection.capture(),
+                    eq(msgCtx));
+            Bulkhead bulkhead = connection.getValue().getBulkhead();
+            Assert.assertEquals(bulkhead.getName(), "boundedConnection");
+            Assert.assertEquals(bulkhead.getMaxConcurrentCalls(), 4);
+            Assert.assertEquals(bulkhead.getMaxQueuedCalls(), 10);
+        }
+    }
+
+    // Test connect with an invalid bulkhead queue size
+    @Test(expectedExceptions = ConnectException.class, expectedExceptionsMessageRegExp = ".*Invalid value for template parameter 'maxQueuedCalls'.*")
+    public void testConnect_InvalidMaxQueuedCalls() throws ConnectException {
+        try (MockedStatic<Runtime> runtimeMock = Mockito.mockStatic(Runtime.class);
+             MockedStatic<ConnectionHandler> handlerMock = Mockito.mockStatic(ConnectionHandler.class)) {
+
+            Runtime mockRuntime = mock(Runtime.class);
+            runtimeMock.when(() -> Runtime.from(any(Module.class))).thenReturn(mockRuntime);
+
+            ConnectionHandler mockHandler = mock(ConnectionHandler.class);
+            handlerMock.when(ConnectionHandler::getConnectionHandler).thenReturn(mockHandler);
+            when(mockHandler.checkIfConnectionExists(anyString(), anyString())).thenReturn(false);
+
+            ModuleInfo moduleInfo = mock(ModuleInfo.class);
+            when(moduleInfo.getOrgName()).thenReturn("testOrg");
+            when(moduleInfo.getModuleName()).thenReturn("testModule");
+            when(moduleInfo.getModuleVersion()).thenReturn("1.0.0");
+
+            BalConnectorConfig config = new BalConnectorConfig(moduleInfo);
+
+            MessageContext msgCtx = mock(MessageContext.class);
+            Stack<TemplateContext> funcStack = new Stack<>();
+            TemplateContext templateContext = mock(TemplateContext.class);
+            funcStack.push(templateContext);
+
+            when(msgCtx.getProperty(Constants.SYNAPSE_FUNCTION_STACK)).thenReturn(funcStack);
+            when(templateContext.getParameterValue("name")).thenReturn("boundedConnection");
+            when(templateContext.getParameterValue("connectionType")).thenReturn("TestConnection");
+            when(templateContext.getParameterValue(Constants.MAX_CONCURRENT_CALLS)).thenReturn("4");
+            when(templateContext.getParameterValue(Constants.MAX_QUEUED_CALLS)).thenReturn("-1");
+
+            config.connect(msgCtx);
+        }
+    }
+
+    // Test connect with an invalid client pool size
+    @Test(expectedExceptions = ConnectException.class, expectedExceptionsMessageRegExp = ".*Invalid value for template parameter 'clientPoolSize'.*")
+    public void testConnect_InvalidClientPoolSize() throws ConnectException {
+        try (MockedStatic<Runtime> runtimeMock = Mockito.mockStatic(Runtime.class);
+             MockedStatic<ConnectionHandler> handlerMock = Mockito.mockStatic(ConnectionHandler.class)) {
+
+            Runtime mockRuntime = mock(Runtime.class);
+            runtimeMock.when(() -> Runtime.from(any(Module.class))).thenReturn(mockRuntime);
+
+            ConnectionHandler mockHandler = mock(ConnectionHandler.class);
+            handlerMock.when(ConnectionHandler::getConnectionHandler).thenReturn(mockHandler);
+            when(mockHandler.checkIfConnectionExists(anyString(), anyString())).thenReturn(false);
+
+            ModuleInfo moduleInfo = mock(ModuleInfo.class);
+            when(moduleInfo.getOrgName()).thenReturn("testOrg");
+            when(moduleInfo.getModuleName()).thenReturn("testModule");
+            when(moduleInfo.getModuleVersion()).thenReturn("1.0.0");
+
+            BalConnectorConfig config = new BalConnectorConfig(moduleInfo);
+
+            MessageContext msgCtx = mock(MessageContext.class);
+            Stack<TemplateContext> funcStack = new Stack<>();
+            TemplateContext templateContext = mock(TemplateContext.class);
+            funcStack.push(templateContext);
+
+            when(msgCtx.getProperty(Constants.SYNAPSE_FUNCTION_STACK)).thenReturn(funcStack);
+            when(templateContext.getParameterValue("name")).thenReturn("pooledConnection");
+            when(templateContext.getParameterValue("connectionType")).thenReturn("TestConnection");
+            when(templateContext.getParameterValue(Constants.CLIENT_POOL_SIZE)).thenReturn("0");
+            when(msgCtx.getProperty("TestConnection_paramSize")).thenReturn("0");
+            when(msgCtx.getProperty("TestConnection_objectTypeName")).thenReturn("TestClient");
+
+            config.connect(msgCtx);
+        }
+    }
+
+    // Test connect rebuilding the clients when the init arguments change
+    @Test
+    public void testConnect_RebuildsClientsWhenFingerprintChanges() throws ConnectException {
+        try (MockedStatic<Runtime> runtimeMock = Mockito.mockStatic(Runtime.class);
+             MockedStatic<ConnectionHandler> handlerMock = Mockito.mockStatic(ConnectionHandler.class);
+             MockedStatic<ValueCreator> valueCreatorMock = Mockito.mockStatic(ValueCreator.class)) {
+
+            Runtime mockRuntime = mock(Runtime.class);
+            runtimeMock.when(() -> Runtime.from(any(Module.class))).thenReturn(mockRuntime);
+
+            BObject oldClient = mock(BObject.class);
+            BObject newClient = mock(BObject.class);
+            ClientPool oldPool = new ClientPool(new BObject[]{oldClient}, ClientPool.ROUND_ROBIN);
+            BalConnectorConnection connection = new BalConnectorConnection(null, () -> oldPool,
+                    Map.of("baseUrl", "http://old"), null);
+            ConnectionHandler mockHandler = mock(ConnectionHandler.class);
+            handlerMock.when(ConnectionHandler::getConnectionHandler).thenReturn(mockHandler);
+            when(mockHandler.checkIfConnectionExists(anyString(), anyString())).thenReturn(true);
+            when(mockHandler.getConnection(anyString(), anyString())).thenReturn(connection);
+
+            valueCreatorMock.when(() -> ValueCreator.createObjectValue(any(Module.class), anyString(), any(Object[].class)))
+                    .thenReturn(newClient);
+
+            ModuleInfo moduleInfo = mock(ModuleInfo.class);
+            when(moduleInfo.getOrgName()).thenReturn("testOrg");
+            when(moduleInfo.getModuleName()).thenReturn("testModule");
+            when(moduleInfo.getModuleVersion()).thenReturn("1.0.0");
+
+            BalConnectorConfig config = new BalConnectorConfig(moduleInfo);
+
+            MessageContext msgCtx = mock(MessageContext.class);
+            Stack<TemplateContext> funcStack = new Stack<>();
+            TemplateContext templateContext = mock(TemplateContext.class);
+            funcStack.push(templateContext);
+
+            when(msgCtx.getProperty(Constants.SYNAPSE_FUNCTION_STACK)).thenReturn(funcStack);
+            when(templateContext.getParameterValue("name")).thenReturn("existingConnection");
+            when(templateContext.getParameterValue("connectionType")).thenReturn("TestConnection");
+            when(msgCtx.getProperty("TestConnection_paramSize")).thenReturn("0");
+            when(msgCtx.getProperty("TestConnection_objectTypeName")).thenReturn("TestClient");
+
+            when(templateContext.getMappedValues()).thenReturn(Map.<String, Object>of("baseUrl", "http://old"));
+            config.connect(msgCtx);
+            Assert.assertSame(connection.getBalConnectorObj(), oldClient);
+
+            when(templateContext.getMappedValues()).thenReturn(Map.<String, Object>of("baseUrl", "http://new"));
+            config.connect(msgCtx);
+            Assert.assertSame(connection.getBalConnectorObj(), newClient);
+            Assert.assertTrue(connection.isCurrent(Map.of("baseUrl", "http://new")));
+            verify(mockHandler, never()).createConnection(anyString(), anyString(), any(BalConnectorConnection.class),
+                    any(MessageContext.class));
+        }
+    }
 }
@@ -19,22 +19,160 @@
 package io.ballerina.stdlib.mi;
 
 import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.Runtime;
 import io.ballerina.runtime.api.values.BObject;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.mockito.Mockito.mock;
 
 public class BalConnectorConnectionTest {
 
     @Test
     public void testGetBalConnectorObj() throws Exception {
-        Module module = mock(Module.class);
         BObject object = mock(BObject.class);
-        BalConnectorConnection connection = new BalConnectorConnection(module, "Client", object);
+        BalConnectorConnection connection =
+                connection(new ClientPool(new BObject[]{object}, ClientPool.ROUND_ROBIN), Map.of());
 
         connection.connect(null);
-        connection.close();
         Assert.assertSame(connection.getBalConnectorObj(), object);
+        connection.close();
+        Assert.assertNull(connection.getBalConnectorObj());
+        Assert.assertNull(connection.acquire(null));
+    }
+
+    @Test
+    public void testClientPool() {
+        BObject first = mock(BObject.class);
+        BObject second = mock(BObject.class);
+        ClientPool pool = new ClientPool(new BObject[]{first, second}, ClientPool.ROUND_ROBIN);
+        BalConnectorConnection connection = connection(pool, Map.of());
+
+        Assert.assertSame(connection.getClientPool(), pool);
+        Assert.assertSame(connection.getBalConnectorObj(), first);
+    }
+
+    @Test
+    public void testRefreshReplacesClients() {
+        ClientPool first = new ClientPool(new BObject[]{mock(BObject.class)}, ClientPool.ROUND_ROBIN);
+        ClientPool second = new ClientPool(new BObject[]{mock(BObject.class)}, ClientPool.ROUND_ROBIN);
+        BalConnectorConnection connection = connection(first, Map.of("url", "a"));
+        Assert.assertTrue(connection.isCurrent(Map.of("url", "a")));
+        Assert.assertFalse(connection.isCurrent(Map.of("url", "b")));
+
+        ClientPool.Lease lease = connection.acquire(null);
+        connection.refresh(null, () -> second, Map.of("url", "b"), null);
+
+        Assert.assertTrue(connection.isCurrent(Map.of("url", "b")));
+        Assert.assertSame(connection.acquire(null).pool(), second);
+        Assert.assertTrue(first.isRetired());
+        Assert.assertFalse(first.isClosed());
+        lease.release();
+        Assert.assertTrue(first.isClosed());
+    }
+
+    @Test
+    public void testIsCurrentComparesInitValuesEntryByEntry() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("url", "a");
+        values.put("timeout", 30);
+        ClientPool pool = new ClientPool(new BObject[]{mock(BObject.class)}, ClientPool.ROUND_ROBIN);
+        BalConnectorConnection connection = connection(pool, values);
+
+        values.put("url", "b");
+        Assert.assertFalse(connection.isCurrent(values));
+        values.put("url", "a");
+        Assert.assertTrue(connection.isCurrent(values));
+        Assert.assertTrue(connection.isCurrent(Map.of("url", "a", "timeout", "30")));
+        Assert.assertFalse(connection.isCurrent(Map.of("url", "a")));
+        Assert.assertFalse(connection.isCurrent(Map.of("url", "a", "retries", "30")));
+    }
+
+    @Test
+    public void testEvictIfIdle() {
+        ClientPool.Factory factory = () -> new ClientPool(new BObject[]{mock(BObject.class), mock(BObject.class)},
+                ClientPool.ROUND_ROBIN);
+        BalConnectorConnection connection = new BalConnectorConnection(null, factory, Map.of("url", "a"), null);
+        ClientPool pool = connection.getClientPool();
+        long now = System.nanoTime();
+
+        Assert.assertEquals(connection.evictIfIdle(now, Long.MAX_VALUE), 0);
+        ClientPool.Lease lease = connection.acquire(null);
+        Assert.assertEquals(connection.evictIfIdle(System.nanoTime() + 1_000_000_000L, 1L), 0);
+        lease.release();
+
+        Assert.assertEquals(connection.evictIfIdle(System.nanoTime() + 1_000_000_000L, 1L), 2);
+        Assert.assertTrue(pool.isClosed());
+        Assert.assertNull(connection.getClientPool());
+        Assert.assertFalse(connection.isCurrent(Map.of("url", "a")));
+    }
+
+    @Test
+    public void testEvictedClientsAreRebuiltOnAcquire() throws Exception {
+        AtomicInteger builds = new AtomicInteger();
+        ClientPool.Factory factory = () -> {
+            builds.incrementAndGet();
+            return new ClientPool(new BObject[]{mock(BObject.class)}, ClientPool.ROUND_ROBIN);
+        };
+        BalConnectorConnection connection = new BalConnectorConnection(null, factory, Map.of("url", "a"), null);
+        ClientPool first = connection.getClientPool();
+
+        Assert.assertEquals(connection.evictIfIdle(System.nanoTime() + 1_000_000_000L, 1L), 1);
+        ClientPool.Lease lease = connection.acquire(null);
+
+        Assert.assertEquals(builds.get(), 2);
+        Assert.assertNotSame(lease.pool(), first);
+        Assert.assertTrue(connection.isCurrent(Map.of("url", "a")));
+        lease.release();
+
+        connection.close();
+        Assert.assertNull(connection.acquire(null));
+        Assert.assertEquals(builds.get(), 2);
+    }
+
+    @Test
+    public void testClientsOfStoppedRuntimeAreNotCurrent() {
+        ModuleRuntime stopped = new ModuleRuntime(mock(Module.class), mock(Runtime.class));
+        ModuleRuntime running = new ModuleRuntime(mock(Module.class), mock(Runtime.class));
+        ClientPool.Factory factory = () -> new ClientPool(new BObject[]{mock(BObject.class)}, ClientPool.ROUND_ROBIN);
+        BalConnectorConnection connection = new BalConnectorConnection(stopped, factory, Map.of("url", "a"), null);
+        stopped.asyncExecutor().shutdown();
+
+        Assert.assertFalse(connection.isCurrent(Map.of("url", "a")));
+
+        connection.refresh(running, factory, Map.of("url", "a"), null);
+        Assert.assertSame(connection.getModuleRuntime(), running);
+        Assert.assertTrue(connection.isCurrent(Map.of("url", "a")));
+        running.asyncExecutor().shutdown();
+    }
+
+    @Test
+    public void testClientsAreAcquiredOnlyWithTheirBulkhead() {
+        ClientPool.Factory factory = () -> new ClientPool(new BObject[]{mock(BObject.class)}, ClientPool.ROUND_ROBIN);
+        Bulkhead first = new Bulkhead("connection", 1, 0);
+        Bulkhead second = new Bulkhead("connection", 2, 0);
+        BalConnectorConnection connection = new BalConnectorConnection(null, factory, Map.of("url", "a"), first);
+        ClientPool firstPool = connection.getClientPool();
+
+        connection.refresh(null, factory, Map.of("url", "b"), second);
+
+        Assert.assertSame(connection.getBulkhead(), second);
+        Assert.assertNull(connection.acquire(first));
+        ClientPool.Lease lease = connection.acquire(second);
+        Assert.assertNotSame(lease.pool(), firstPool);
+        lease.release();
+
+        // Clients built again after an eviction keep the bulkhead of the clients they replace
+        Assert.assertEquals(connection.evictIfIdle(System.nanoTime() + 1_000_000_000L, 1L), 1);
+        Assert.assertNotNull(connection.acquire(second));
+        Assert.assertSame(connection.getBulkhead(), second);
+    }
+
+    private static BalConnectorConnection connection(ClientPool pool, Map<String, ?> initValues) {
+        return new BalConnectorConnection(null, () -> pool, initValues, null);
     }
 }
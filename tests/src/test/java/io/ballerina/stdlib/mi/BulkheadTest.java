@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for Bulkhead.
+ */
+public class BulkheadTest {
+
+    @AfterMethod
+    public void tearDown() {
+        System.clearProperty(Bulkhead.QUEUE_TIMEOUT_PROPERTY);
+        System.clearProperty("ballerina.mi.bulkhead.boundedConnector.maxConcurrentCalls");
+        System.clearProperty("ballerina.mi.bulkhead.boundedConnector.maxQueuedCalls");
+        Bulkhead.clear();
+    }
+
+    @Test
+    public void testCallsBeyondLimitAreRejectedWithoutQueue() {
+        Bulkhead bulkhead = new Bulkhead("connection", 2, 0);
+
+        Assert.assertTrue(bulkhead.enter());
+        Assert.assertTrue(bulkhead.enter());
+        Assert.assertFalse(bulkhead.enter());
+        Assert.assertEquals(bulkhead.getInFlightCount(), 2);
+        Assert.assertEquals(bulkhead.getRejectedCount(), 1);
+
+        bulkhead.exit();
+        Assert.assertTrue(bulkhead.enter());
+    }
+
+    @Test
+    public void testQueuedCallRunsWhenSlotIsReturned() throws Exception {
+        Bulkhead bulkhead = new Bulkhead("connection", 1, 1);
+        Assert.assertTrue(bulkhead.enter());
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch started = new CountDownLatch(1);
+            Future<Boolean> queued = executor.submit(() -> {
+                started.countDown();
+                return bulkhead.enter();
+            });
+            started.await();
+            while (bulkhead.getQueueDepth() == 0) {
+                Thread.sleep(5);
+            }
+            // The queue holds one call, so a further one fails at once
+            Assert.assertFalse(bulkhead.enter());
+
+            bulkhead.exit();
+            Assert.assertTrue(queued.get(5, TimeUnit.SECONDS));
+            Assert.assertEquals(bulkhead.getQueueDepth(), 0);
+            Assert.assertEquals(bulkhead.getInFlightCount(), 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testNewCallDoesNotOvertakeQueuedCall() throws Exception {
+        System.setProperty(Bulkhead.QUEUE_TIMEOUT_PROPERTY, "100");
+        Bulkhead bulkhead = new Bulkhead("connection", 1, 1);
+        Assert.assertTrue(bulkhead.enter());
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Boolean> queued = executor.submit(bulkhead::enter);
+            while (bulkhead.getQueueDepth() == 0) {
+                Thread.sleep(5);
+            }
+
+            // The returned slot goes to the queued call, not to the call arriving right after the release
+            bulkhead.exit();
+            Assert.assertFalse(bulkhead.enter());
+            Assert.assertTrue(queued.get(5, TimeUnit.SECONDS));
+            Assert.assertEquals(Bulkhead.getTotalRejectedCount(), 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testQueuedCallTimesOut() {
+        System.setProperty(Bulkhead.QUEUE_TIMEOUT_PROPERTY, "10");
+        Bulkhead bulkhead = new Bulkhead("connection", 1, 1);
+        Assert.assertTrue(bulkhead.enter());
+
+        Assert.assertFalse(bulkhead.enter());
+        Assert.assertEquals(bulkhead.getQueueDepth(), 0);
+        Assert.assertEquals(bulkhead.getRejectedCount(), 1);
+    }
+
+    @Test
+    public void testConnectorBulkheadFromSystemProperties() {
+        System.setProperty("ballerina.mi.bulkhead.boundedConnector.maxConcurrentCalls", "8");
+        System.setProperty("ballerina.mi.bulkhead.boundedConnector.maxQueuedCalls", "16");
+
+        Bulkhead bulkhead = Bulkhead.forConnector("boundedConnector");
+
+        Assert.assertNotNull(bulkhead);
+        Assert.assertSame(Bulkhead.forConnector("boundedConnector"), bulkhead);
+        Assert.assertEquals(bulkhead.getMaxConcurrentCalls(), 8);
+        Assert.assertEquals(bulkhead.getMaxQueuedCalls(), 16);
+        Assert.assertNull(Bulkhead.forConnector("unboundedConnector"));
+        Assert.assertEquals(Bulkhead.getConnectorBulkheads().keySet(), Set.of("boundedConnector"));
+    }
+
+    @Test
+    public void testTryEnterDoesNotQueue() {
+        System.setProperty(Bulkhead.QUEUE_TIMEOUT_PROPERTY, "5000");
+        Bulkhead bulkhead = new Bulkhead("connection", 1, 4);
+        Assert.assertTrue(bulkhead.tryEnter());
+
+        long start = System.nanoTime();
+        Assert.assertFalse(bulkhead.tryEnter());
+        Assert.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+        Assert.assertEquals(bulkhead.getQueueDepth(), 0);
+        Assert.assertEquals(bulkhead.getRejectedCount(), 1);
+
+        bulkhead.exit();
+        Assert.assertTrue(bulkhead.tryEnter());
+    }
+
+    @Test
+    public void testForgottenConnectorBulkheadIsReadAgain() {
+        System.setProperty("ballerina.mi.bulkhead.boundedConnector.maxConcurrentCalls", "8");
+        Bulkhead bulkhead = Bulkhead.forConnector("boundedConnector");
+
+        Bulkhead.forget("boundedConnector");
+        System.setProperty("ballerina.mi.bulkhead.boundedConnector.maxConcurrentCalls", "2");
+
+        Bulkhead reloaded = Bulkhead.forConnector("boundedConnector");
+        Assert.assertNotSame(reloaded, bulkhead);
+        Assert.assertEquals(reloaded.getMaxConcurrentCalls(), 2);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testBulkheadWithoutSlotsIsRejected() {
+        new Bulkhead("connection", 0, 0);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi;
+
+import io.ballerina.runtime.api.values.BObject;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for ClientConnections.
+ */
+public class ClientConnectionsTest {
+
+    @BeforeMethod
+    public void clearConnections() {
+        ClientConnections.clear();
+    }
+
+    @Test
+    public void testIdleConnectionsAreEvicted() {
+        BalConnectorConnection idle = connection(2);
+        BalConnectorConnection busy = connection(1);
+        ClientConnections.register(idle);
+        ClientConnections.register(busy);
+        ClientPool.Lease lease = busy.acquire(null);
+
+        Assert.assertEquals(ClientConnections.getConnectionCount(), 2);
+        Assert.assertEquals(ClientConnections.getLiveClientCount(), 3);
+
+        Assert.assertEquals(ClientConnections.evictIdle(System.nanoTime() + 1_000_000_000L, 1L), 2);
+        Assert.assertEquals(ClientConnections.getLiveClientCount(), 1);
+        Assert.assertEquals(ClientConnections.getEvictedClientCount(), 2);
+        Assert.assertEquals(ClientConnections.getConnectionCount(), 2);
+        lease.release();
+    }
+
+    @Test
+    public void testClosedConnectionIsForgotten() throws Exception {
+        BalConnectorConnection connection = connection(1);
+        ClientConnections.register(connection);
+
+        connection.close();
+
+        Assert.assertEquals(ClientConnections.getConnectionCount(), 0);
+        Assert.assertEquals(ClientConnections.getLiveClientCount(), 0);
+        Assert.assertEquals(ClientConnections.getEvictedClientCount(), 0);
+    }
+
+    @Test
+    public void testSweeperIsStoppedWithLastRuntime() {
+        System.setProperty(ClientConnections.IDLE_TIMEOUT_PROPERTY, "60");
+        try {
+            ClientConnections.register(connection(1));
+            Assert.assertTrue(ClientConnections.isSweeperRunning());
+
+            ClientConnections.stopSweeper();
+            Assert.assertFalse(ClientConnections.isSweeperRunning());
+
+            ClientConnections.register(connection(1));
+            Assert.assertTrue(ClientConnections.isSweeperRunning());
+        } finally {
+            System.clearProperty(ClientConnections.IDLE_TIMEOUT_PROPERTY);
+            ClientConnections.stopSweeper();
+        }
+    }
+
+    @Test
+    public void testRebuildCount() {
+        ClientConnections.recordRebuild();
+
+        Assert.assertEquals(ClientConnections.getRebuildCount(), 1);
+    }
+
+    @Test
+    public void testQueuedCallCount() {
+        BalConnectorConnection bounded = connection(1);
+        Bulkhead bulkhead = mock(Bulkhead.class);
+        when(bulkhead.getQueueDepth()).thenReturn(3);
+        bounded.setBulkhead(bulkhead);
+        ClientConnections.register(bounded);
+        ClientConnections.register(connection(1));
+
+        Assert.assertEquals(ClientConnections.getQueuedCallCount(), 3);
+    }
+
+    private static BalConnectorConnection connection(int clients) {
+        BObject[] objects = new BObject[clients];
+        for (int i = 0; i < clients; i++) {
+            objects[i] = mock(BObject.class);
+        }
+        ClientPool pool = new ClientPool(objects, ClientPool.ROUND_ROBIN);
+        return new BalConnectorConnection(null, () -> pool, Map.of(), null);
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi;
+
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.types.Parameter;
+import io.ballerina.runtime.api.values.BObject;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for ClientPool.
+ */
+public class ClientPoolTest {
+
+    @Test
+    public void testRoundRobinHandsOutClientsInTurn() {
+        BObject[] clients = {mock(BObject.class), mock(BObject.class), mock(BObject.class)};
+        ClientPool pool = new ClientPool(clients, ClientPool.ROUND_ROBIN);
+
+        for (int i = 0; i < 6; i++) {
+            int slot = pool.acquire();
+            Assert.assertSame(pool.client(slot), clients[i % 3]);
+            pool.release(slot);
+        }
+        Assert.assertEquals(pool.inFlight(), 0);
+    }
+
+    @Test
+    public void testLeastBusyPicksClientWithFewestCalls() {
+        BObject[] clients = {mock(BObject.class), mock(BObject.class), mock(BObject.class)};
+        ClientPool pool = new ClientPool(clients, ClientPool.LEAST_BUSY);
+
+        int first = pool.acquire();
+        int second = pool.acquire();
+        int third = pool.acquire();
+        Assert.assertNotEquals(first, second);
+        Assert.assertNotEquals(second, third);
+        Assert.assertNotEquals(first, third);
+        Assert.assertEquals(pool.inFlight(), 3);
+
+        pool.release(second);
+        Assert.assertEquals(pool.acquire(), second);
+    }
+
+    @Test
+    public void testSingleClientPool() {
+        BObject client = mock(BObject.class);
+        ClientPool pool = new ClientPool(new BObject[]{client}, ClientPool.LEAST_BUSY);
+
+        int slot = pool.acquire();
+        Assert.assertSame(pool.client(slot), client);
+        Assert.assertEquals(pool.inFlight(), 1);
+        pool.release(slot);
+        Assert.assertEquals(pool.size(), 1);
+        Assert.assertEquals(pool.strategy(), ClientPool.LEAST_BUSY);
+    }
+
+    @Test
+    public void testStrategyNames() {
+        Assert.assertTrue(ClientPool.isStrategy("RoundRobin"));
+        Assert.assertTrue(ClientPool.isStrategy("LeastBusy"));
+        Assert.assertFalse(ClientPool.isStrategy("Random"));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testEmptyPoolIsRejected() {
+        new ClientPool(new BObject[0], ClientPool.ROUND_ROBIN);
+    }
+
+    @Test
+    public void testRetiredPoolClosesClientsAfterCallsComplete() {
+        BObject client = closeableClient();
+        Runtime runtime = mock(Runtime.class);
+        ClientPool pool = new ClientPool(new BObject[]{client}, ClientPool.ROUND_ROBIN, runtime);
+
+        int slot = pool.acquire();
+        pool.retire();
+        Assert.assertEquals(pool.acquire(), -1);
+        Assert.assertFalse(pool.isClosed());
+        verify(runtime, never()).callMethod(any(BObject.class), anyString(), any());
+
+        pool.release(slot);
+        Assert.assertTrue(pool.isClosed());
+        verify(runtime, times(1)).callMethod(eq(client), eq("close"), isNull());
+
+        pool.retire();
+        verify(runtime, times(1)).callMethod(eq(client), eq("close"), isNull());
+    }
+
+    @Test
+    public void testClientsWithoutCloseMethodAreNotCalled() {
+        BObject client = mock(BObject.class);
+        ObjectType type = mock(ObjectType.class);
+        when(type.getMethods()).thenReturn(new MethodType[0]);
+        when(client.getOriginalType()).thenReturn(type);
+        Runtime runtime = mock(Runtime.class);
+        ClientPool pool = new ClientPool(new BObject[]{client}, ClientPool.ROUND_ROBIN, runtime);
+
+        pool.retire();
+
+        Assert.assertTrue(pool.isClosed());
+        verify(runtime, never()).callMethod(any(BObject.class), anyString(), any());
+    }
+
+    @Test
+    public void testLease() {
+        BObject client = mock(BObject.class);
+        ClientPool pool = new ClientPool(new BObject[]{client}, ClientPool.ROUND_ROBIN);
+
+        ClientPool.Lease lease = new ClientPool.Lease(pool, pool.acquire());
+        Assert.assertSame(lease.client(), client);
+        lease.release();
+        Assert.assertEquals(pool.inFlight(), 0);
+    }
+
+    private static BObject closeableClient() {
+        MethodType close = mock(MethodType.class);
+        when(close.getName()).thenReturn("close");
+        when(close.getParameters()).thenReturn(new Parameter[0]);
+        ObjectType type = mock(ObjectType.class);
+        when(type.getMethods()).thenReturn(new MethodType[]{close});
+        BObject client = mock(BObject.class);
+        when(client.getOriginalType()).thenReturn(type);
+        return client;
+    }
+}
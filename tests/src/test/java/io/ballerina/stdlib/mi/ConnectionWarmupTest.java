@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.values.BObject;
+import org.apache.axiom.om.OMElement;
+import org.apache.axiom.om.util.AXIOMUtil;
+import org.apache.synapse.ManagedLifecycle;
+import org.apache.synapse.Mediator;
+import org.apache.synapse.MessageContext;
+import org.apache.synapse.config.Entry;
+import org.apache.synapse.config.SynapseConfiguration;
+import org.apache.synapse.config.xml.MediatorFactoryFinder;
+import org.apache.synapse.core.SynapseEnvironment;
+import org.mockito.InOrder;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.integration.connector.core.connection.ConnectionHandler;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Tests for ConnectionWarmup.
+ */
+public class ConnectionWarmupTest {
+
+    @Test
+    public void testEagerConnectionsOfConnectorAreInitialised() throws Exception {
+        OMElement eager = AXIOMUtil.stringToOM("<project5.init><name>eagerConnection</name>"
+                + "<connectionType>project5_SimpleClient</connectionType><eagerInit>true</eagerInit></project5.init>");
+        OMElement lazy = AXIOMUtil.stringToOM("<project5.init><name>lazyConnection</name></project5.init>");
+        OMElement otherConnector = AXIOMUtil.stringToOM(
+                "<other.init><name>otherConnection</name><eagerInit>true</eagerInit></other.init>");
+        SynapseEnvironment environment = environment(eager, lazy, otherConnector);
+        MessageContext context = mock(MessageContext.class);
+        when(environment.createMessageContext()).thenReturn(context);
+        Mediator init = mock(Mediator.class);
+        MediatorFactoryFinder finder = mock(MediatorFactoryFinder.class);
+        when(finder.getMediator(eq(eager), any(Properties.class))).thenReturn(init);
+
+        try (MockedStatic<MediatorFactoryFinder> finderMock = Mockito.mockStatic(MediatorFactoryFinder.class)) {
+            finderMock.when(MediatorFactoryFinder::getInstance).thenReturn(finder);
+
+            Assert.assertEquals(ConnectionWarmup.run(environment, "project5", runtime(mock(Runtime.class))), 1);
+        }
+
+        verify(init).mediate(context);
+        verify(finder, never()).getMediator(eq(lazy), any(Properties.class));
+        verify(finder, never()).getMediator(eq(otherConnector), any(Properties.class));
+    }
+
+    @Test
+    public void testProbeIsCalledOnEachClient() throws Exception {
+        OMElement eager = AXIOMUtil.stringToOM("<project5.init><name>probedConnection</name>"
+                + "<eagerInit>true</eagerInit><eagerInitProbe>ping</eagerInitProbe></project5.init>");
+        SynapseEnvironment environment = environment(eager);
+        when(environment.createMessageContext()).thenReturn(mock(MessageContext.class));
+        MediatorFactoryFinder finder = mock(MediatorFactoryFinder.class);
+        when(finder.getMediator(eq(eager), any(Properties.class))).thenReturn(mock(Mediator.class));
+        BObject first = mock(BObject.class);
+        BObject second = mock(BObject.class);
+        ClientPool pool = new ClientPool(new BObject[]{first, second}, ClientPool.ROUND_ROBIN);
+        BalConnectorConnection connection = new BalConnectorConnection(null, () -> pool, Map.of(), null);
+        ConnectionHandler handler = mock(ConnectionHandler.class);
+        when(handler.getConnection("project5", "probedConnection")).thenReturn(connection);
+        Runtime runtime = mock(Runtime.class);
+
+        try (MockedStatic<MediatorFactoryFinder> finderMock = Mockito.mockStatic(MediatorFactoryFinder.class);
+             MockedStatic<ConnectionHandler> handlerMock = Mockito.mockStatic(ConnectionHandler.class)) {
+            finderMock.when(MediatorFactoryFinder::getInstance).thenReturn(finder);
+            handlerMock.when(ConnectionHandler::getConnectionHandler).thenReturn(handler);
+
+            Assert.assertEquals(ConnectionWarmup.run(environment, "project5", runtime(runtime)), 1);
+        }
+
+        verify(runtime).callMethod(eq(first), eq("ping"), isNull());
+        verify(runtime).callMethod(eq(second), eq("ping"), isNull());
+    }
+
+    @Test
+    public void testFailedInitialisationIsNotCounted() throws Exception {
+        OMElement eager = AXIOMUtil.stringToOM(
+                "<project5.init><name>brokenConnection</name><eagerInit>true</eagerInit></project5.init>");
+        SynapseEnvironment environment = environment(eager);
+        MessageContext context = mock(MessageContext.class);
+        when(environment.createMessageContext()).thenReturn(context);
+        Mediator init = mock(Mediator.class);
+        when(init.mediate(context)).thenThrow(new IllegalStateException("connection refused"));
+        MediatorFactoryFinder finder = mock(MediatorFactoryFinder.class);
+        when(finder.getMediator(eq(eager), any(Properties.class))).thenReturn(init);
+
+        try (MockedStatic<MediatorFactoryFinder> finderMock = Mockito.mockStatic(MediatorFactoryFinder.class)) {
+            finderMock.when(MediatorFactoryFinder::getInstance).thenReturn(finder);
+
+            Assert.assertEquals(ConnectionWarmup.run(environment, "project5", runtime(mock(Runtime.class))), 0);
+        }
+    }
+
+    @Test
+    public void testInitMediatorIsDestroyedAfterUse() throws Exception {
+        OMElement eager = AXIOMUtil.stringToOM(
+                "<project5.init><name>eagerConnection</name><eagerInit>true</eagerInit></project5.init>");
+        SynapseEnvironment environment = environment(eager);
+        MessageContext context = mock(MessageContext.class);
+        when(environment.createMessageContext()).thenReturn(context);
+        Mediator init = mock(Mediator.class, withSettings().extraInterfaces(ManagedLifecycle.class));
+        when(init.mediate(context)).thenThrow(new IllegalStateException("connection refused"));
+        MediatorFactoryFinder finder = mock(MediatorFactoryFinder.class);
+        when(finder.getMediator(eq(eager), any(Properties.class))).thenReturn(init);
+
+        try (MockedStatic<MediatorFactoryFinder> finderMock = Mockito.mockStatic(MediatorFactoryFinder.class)) {
+            finderMock.when(MediatorFactoryFinder::getInstance).thenReturn(finder);
+
+            ConnectionWarmup.run(environment, "project5", runtime(mock(Runtime.class)));
+        }
+
+        InOrder order = inOrder(init);
+        order.verify((ManagedLifecycle) init).init(environment);
+        order.verify(init).mediate(context);
+        order.verify((ManagedLifecycle) init).destroy();
+    }
+
+    @Test
+    public void testScheduledWarmupRunsOnceEnvironmentIsInitialised() {
+        SynapseEnvironment environment = environment();
+        when(environment.isInitialized()).thenReturn(false, true);
+        ConnectionWarmup.reset();
+
+        try {
+            ConnectionWarmup.schedule(environment, "project6", runtime(mock(Runtime.class)));
+            ConnectionWarmup.schedule(environment, "project6", runtime(mock(Runtime.class)));
+
+            verify(environment, timeout(5_000)).getSynapseConfiguration();
+        } finally {
+            ConnectionWarmup.cancel("project6");
+        }
+        verify(environment, times(2)).isInitialized();
+    }
+
+    @Test
+    public void testScheduleWithoutEnvironmentIsIgnored() {
+        ConnectionWarmup.reset();
+        ConnectionWarmup.schedule(null, "project5", runtime(mock(Runtime.class)));
+    }
+
+    private static SynapseEnvironment environment(OMElement... initElements) {
+        Map<String, Object> localEntries = new LinkedHashMap<>();
+        for (int i = 0; i < initElements.length; i++) {
+            Entry entry = mock(Entry.class);
+            when(entry.getValue()).thenReturn(initElements[i]);
+            localEntries.put("entry" + i, entry);
+        }
+        SynapseConfiguration configuration = mock(SynapseConfiguration.class);
+        when(configuration.getLocalRegistry()).thenReturn(localEntries);
+        when(configuration.getProperties()).thenReturn(new Properties());
+        SynapseEnvironment environment = mock(SynapseEnvironment.class);
+        when(environment.getSynapseConfiguration()).thenReturn(configuration);
+        return environment;
+    }
+
+    private static ModuleRuntime runtime(Runtime runtime) {
+        Module module = mock(Module.class);
+        when(module.getName()).thenReturn("project5");
+        return new ModuleRuntime(module, runtime);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Tests for JsonValueWriter.
+ */
+public class JsonValueWriterTest {
+
+    @Test
+    public void testNestedValueToJsonElement() {
+        JsonElement element = JsonValueWriter.toJsonElement(sampleValue());
+
+        Assert.assertEquals(element.toString(),
+                "{\"name\":\"café \\\"x\\\"\",\"price\":10.25,\"count\":3,\"active\":true,\"note\":null,"
+                        + "\"scores\":[1.5,2.0]}");
+    }
+
+    @Test
+    public void testStreamMatchesJsonElement() throws Exception {
+        BMap<BString, Object> value = sampleValue();
+
+        String streamed = new String(JsonValueWriter.toInputStream(value).readAllBytes(), StandardCharsets.UTF_8);
+
+        Assert.assertEquals(streamed, JsonValueWriter.toJsonElement(value).toString());
+    }
+
+    @Test
+    public void testScalarsAndNull() {
+        Assert.assertEquals(JsonValueWriter.toJsonElement(null), JsonNull.INSTANCE);
+        Assert.assertEquals(JsonValueWriter.toJsonElement(123L).toString(), "123");
+        Assert.assertEquals(JsonValueWriter.toJsonElement(false).toString(), "false");
+        Assert.assertEquals(JsonValueWriter.toJsonElement(StringUtils.fromString("text")).getAsString(), "text");
+    }
+
+    @Test
+    public void testEmptyArrayIsStreamed() throws Exception {
+        BArray empty = ValueCreator.createArrayValue(new long[0]);
+
+        Assert.assertEquals(new String(JsonValueWriter.toInputStream(empty).readAllBytes(), StandardCharsets.UTF_8),
+                "[]");
+    }
+
+    private static BMap<BString, Object> sampleValue() {
+        BMap<BString, Object> value = ValueCreator.createMapValue();
+        value.put(StringUtils.fromString("name"), StringUtils.fromString("café \"x\""));
+        value.put(StringUtils.fromString("price"), ValueCreator.createDecimalValue(new BigDecimal("10.25")));
+        value.put(StringUtils.fromString("count"), 3L);
+        value.put(StringUtils.fromString("active"), true);
+        value.put(StringUtils.fromString("note"), null);
+        value.put(StringUtils.fromString("scores"), ValueCreator.createArrayValue(new double[] { 1.5, 2.0 }));
+        return value;
+    }
+}
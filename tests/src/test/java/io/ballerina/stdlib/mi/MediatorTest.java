@@ -18,9 +18,17 @@
 
 package io.ballerina.stdlib.mi;
 
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.Runtime;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
 /**
  * Tests for Mediator class.
  * Note: Full integration tests require Ballerina runtime initialization.
@@ -116,4 +124,49 @@ public class MediatorTest {
         mediator.setVersion("");
         Assert.assertEquals(mediator.getVersion(), "");
     }
+
+    @Test
+    public void testInitStartsRuntimeAtDeployment() {
+        try (MockedStatic<Runtime> runtimeMock = Mockito.mockStatic(Runtime.class)) {
+            Runtime mockRuntime = mock(Runtime.class);
+            runtimeMock.when(() -> Runtime.from(any(Module.class))).thenReturn(mockRuntime);
+
+            Mediator mediator = new Mediator();
+            mediator.setOrgName("deployOrg");
+            mediator.setModuleName("deployModule");
+            mediator.setVersion("1");
+            Assert.assertNull(RuntimeRegistry.find("deployOrg", "deployModule", "1"));
+
+            mediator.init(null);
+
+            ModuleRuntime started = RuntimeRegistry.find("deployOrg", "deployModule", "1");
+            Assert.assertNotNull(started);
+            Assert.assertSame(started.runtime(), mockRuntime);
+            verify(mockRuntime).start();
+        }
+    }
+
+    @Test
+    public void testInitFailureIsDeferredToFirstMessage() {
+        try (MockedStatic<Runtime> runtimeMock = Mockito.mockStatic(Runtime.class)) {
+            runtimeMock.when(() -> Runtime.from(any(Module.class))).thenThrow(new IllegalStateException("boom"));
+
+            Mediator mediator = new Mediator();
+            mediator.setOrgName("deployOrg");
+            mediator.setModuleName("failingModule");
+            mediator.setVersion("1");
+
+            mediator.init(null);
+
+            Assert.assertNull(RuntimeRegistry.find("deployOrg", "failingModule", "1"));
+        }
+    }
+
+    @Test
+    public void testInitWithoutModuleDoesNothing() {
+        try (MockedStatic<Runtime> runtimeMock = Mockito.mockStatic(Runtime.class)) {
+            new Mediator().init(null);
+            runtimeMock.verifyNoInteractions();
+        }
+    }
 }
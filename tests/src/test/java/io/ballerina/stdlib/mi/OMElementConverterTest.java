@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi;
+
+import io.ballerina.runtime.api.types.XmlNodeType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BXml;
+import io.ballerina.runtime.api.values.BXmlItem;
+import org.apache.axiom.om.OMElement;
+import org.apache.axiom.om.util.AXIOMUtil;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import javax.xml.namespace.QName;
+
+/**
+ * Tests for OMElementConverter.
+ */
+public class OMElementConverterTest {
+
+    private static final String XML = "<p:order xmlns:p=\"urn:p\" xmlns:q=\"urn:q\" id=\"1\" q:ref=\"r1\">"
+            + "<p:item>pen</p:item><!-- note --><?proc data?><total>10.5</total></p:order>";
+
+    @Test
+    public void testElementNameAttributesAndNamespaces() throws Exception {
+        BXml bXml = OMElementConverter.toBXml(AXIOMUtil.stringToOM(XML));
+
+        Assert.assertTrue(bXml instanceof BXmlItem);
+        BXmlItem item = (BXmlItem) bXml;
+        Assert.assertEquals(item.getQName(), new QName("urn:p", "order"));
+        BMap<BString, BString> attributes = item.getAttributesMap();
+        Assert.assertEquals(attributes.get(StringUtils.fromString("id")).getValue(), "1");
+        Assert.assertEquals(attributes.get(StringUtils.fromString("{urn:q}ref")).getValue(), "r1");
+        Assert.assertEquals(attributes.get(StringUtils.fromString(BXmlItem.XMLNS_NS_URI_PREFIX + "p")).getValue(),
+                "urn:p");
+        Assert.assertEquals(attributes.get(StringUtils.fromString(BXmlItem.XMLNS_NS_URI_PREFIX + "q")).getValue(),
+                "urn:q");
+    }
+
+    @Test
+    public void testChildrenKeepTheirKindAndOrder() throws Exception {
+        BXml children = ((BXmlItem) OMElementConverter.toBXml(AXIOMUtil.stringToOM(XML))).children();
+
+        Assert.assertEquals(children.size(), 4);
+        Assert.assertEquals(children.getItem(0).getNodeType(), XmlNodeType.ELEMENT);
+        Assert.assertEquals(children.getItem(0).getTextValue(), "pen");
+        Assert.assertEquals(children.getItem(1).getNodeType(), XmlNodeType.COMMENT);
+        Assert.assertEquals(children.getItem(2).getNodeType(), XmlNodeType.PI);
+        Assert.assertEquals(children.getItem(3).getTextValue(), "10.5");
+    }
+
+    @Test
+    public void testSourceTreeRemainsUsable() throws Exception {
+        OMElement omElement = AXIOMUtil.stringToOM(XML);
+
+        OMElementConverter.toBXml(omElement);
+
+        Assert.assertEquals(omElement.getFirstElement().getText(), "pen");
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        OMElement converted = BXmlConverter.toOMElement(OMElementConverter.toBXml(AXIOMUtil.stringToOM(XML)));
+
+        Assert.assertEquals(converted.getQName(), new QName("urn:p", "order"));
+        Assert.assertEquals(converted.getAttributeValue(new QName("urn:q", "ref")), "r1");
+        Assert.assertEquals(converted.getFirstElement().getText(), "pen");
+    }
+}
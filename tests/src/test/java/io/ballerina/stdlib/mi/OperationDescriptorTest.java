@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi;
+
+import org.apache.axiom.om.OMElement;
+import org.apache.axiom.om.util.AXIOMUtil;
+import org.apache.synapse.MessageContext;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for OperationDescriptor parsing and binding.
+ */
+public class OperationDescriptorTest {
+
+    private static final String DESCRIPTOR_XML =
+            "<operation xmlns=\"http://ws.apache.org/ns/synapse\" name=\"getUser\">"
+                    + "<property name=\"param0\" value=\"userId\"/>"
+                    + "<property name=\"paramType0\" value=\"string\"/>"
+                    + "<property name=\"paramSize\" value=\"1\"/>"
+                    + "<property name=\"functionType\" value=\"REMOTE\"/>"
+                    + "</operation>";
+
+    @Test
+    public void testFromOMElement() throws Exception {
+        OperationDescriptor descriptor = OperationDescriptor.fromOMElement(AXIOMUtil.stringToOM(DESCRIPTOR_XML));
+
+        Assert.assertEquals(descriptor.getOperationName(), "getUser");
+        Assert.assertEquals(descriptor.size(), 4);
+        Assert.assertEquals(descriptor.get("param0"), "userId");
+        Assert.assertEquals(descriptor.get("paramType0"), "string");
+        Assert.assertEquals(descriptor.get(Constants.SIZE), "1");
+        Assert.assertEquals(descriptor.get(Constants.FUNCTION_TYPE), "REMOTE");
+        Assert.assertNull(descriptor.get("param1"));
+    }
+
+    @Test
+    public void testFromOMElementIgnoresUnknownElements() throws Exception {
+        OMElement element = AXIOMUtil.stringToOM(
+                "<operation name=\"op\"><comment/><property name=\"a\" value=\"\"/></operation>");
+        OperationDescriptor descriptor = OperationDescriptor.fromOMElement(element);
+
+        Assert.assertEquals(descriptor.size(), 1);
+        Assert.assertEquals(descriptor.get("a"), "");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testFromOMElementRejectsEntryWithoutValue() throws Exception {
+        OperationDescriptor.fromOMElement(AXIOMUtil.stringToOM(
+                "<operation name=\"op\"><property name=\"a\"/></operation>"));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testFromOMElementRejectsNull() {
+        OperationDescriptor.fromOMElement(null);
+    }
+
+    @Test
+    public void testBindSetsDescriptor() {
+        MessageContext context = mock(MessageContext.class);
+        OperationDescriptor descriptor = new OperationDescriptor("op", Map.of("paramSize", "0"));
+
+        OperationDescriptor.bind(context, descriptor);
+
+        verify(context).setProperty(Constants.OPERATION_DESCRIPTOR, descriptor);
+    }
+
+    @Test
+    public void testBindNullClearsStaleDescriptor() {
+        MessageContext context = mock(MessageContext.class);
+        Set<String> keys = new HashSet<>(Set.of(Constants.OPERATION_DESCRIPTOR, "other"));
+        when(context.getProperty(Constants.OPERATION_DESCRIPTOR))
+                .thenReturn(new OperationDescriptor("previous", Map.of()));
+        when(context.getPropertyKeySet()).thenReturn((Set) keys);
+
+        OperationDescriptor.bind(context, null);
+
+        Assert.assertFalse(keys.contains(Constants.OPERATION_DESCRIPTOR));
+        Assert.assertTrue(keys.contains("other"));
+        verify(context, never()).setProperty(Constants.OPERATION_DESCRIPTOR, null);
+    }
+
+    @Test
+    public void testMediatorParsesDescriptorOnce() throws Exception {
+        Mediator mediator = new Mediator();
+        Assert.assertNull(mediator.getOperationDescriptor());
+
+        mediator.setOperationDescriptor(AXIOMUtil.stringToOM(DESCRIPTOR_XML));
+
+        OperationDescriptor descriptor = mediator.getOperationDescriptor();
+        Assert.assertNotNull(descriptor);
+        Assert.assertSame(mediator.getOperationDescriptor(), descriptor);
+        Assert.assertEquals(descriptor.get("param0"), "userId");
+    }
+
+    @Test
+    public void testConnectorFunctionParsesDescriptor() throws Exception {
+        BalConnectorFunction function = new BalConnectorFunction();
+        function.setOperationDescriptor(AXIOMUtil.stringToOM(DESCRIPTOR_XML));
+
+        Assert.assertEquals(function.getOperationDescriptor().getOperationName(), "getUser");
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.values.BObject;
+import org.apache.axiom.om.util.AXIOMUtil;
+import org.apache.synapse.MessageContext;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import javax.management.Attribute;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for OperationMetrics.
+ */
+public class OperationMetricsTest {
+
+    @BeforeMethod
+    public void setUp() {
+        // Other tests may have stopped the last runtime, which removes the control MBean
+        OperationMetrics.publishControl();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        OperationMetrics.setEnabled(false);
+        OperationMetrics.clear();
+    }
+
+    @Test
+    public void testNothingIsRecordedWhenDisabled() {
+        OperationMetrics.setEnabled(false);
+
+        OperationMetrics.Sample sample = OperationMetrics.start("gmail", "sendMessage");
+
+        Assert.assertNull(sample);
+        Assert.assertEquals(OperationMetrics.mark(null), 0L);
+        OperationMetrics.record(null, OperationMetrics.Phase.CALL, 0L);
+        OperationMetrics.succeeded(null);
+    }
+
+    @Test
+    public void testCallsAndPhasesAreRecorded() {
+        OperationMetrics.setEnabled(true);
+
+        OperationMetrics.Sample first = OperationMetrics.start("gmail", "sendMessage");
+        OperationMetrics.record(first, OperationMetrics.Phase.BINDING, System.nanoTime() - 2_000_000L);
+        OperationMetrics.record(first, OperationMetrics.Phase.CALL, System.nanoTime() - 30_000_000L);
+        OperationMetrics.succeeded(first);
+        OperationMetrics.Sample second = OperationMetrics.start("gmail", "sendMessage");
+        OperationMetrics.record(second, OperationMetrics.Phase.CALL, System.nanoTime() - 1_000_000L);
+        OperationMetrics.failed(second, "BALLERINA_EXECUTION_ERROR");
+
+        OperationMetrics metrics = OperationMetrics.get("gmail", "sendMessage");
+        Assert.assertEquals(metrics.getInvocationCount(), 2);
+        Assert.assertEquals(metrics.getErrorCount(), 1);
+        Assert.assertEquals(metrics.getErrorCounts(), Map.of("BALLERINA_EXECUTION_ERROR", 1L));
+        Map<String, long[]> histograms = metrics.getLatencyHistograms();
+        Assert.assertEquals(sum(histograms.get("call")), 2);
+        Assert.assertEquals(sum(histograms.get("binding")), 1);
+        // Phases that did not run are not recorded as zero
+        Assert.assertEquals(sum(histograms.get("payloadWriter")), 0);
+        Assert.assertEquals(histograms.get("call").length, metrics.getLatencyBucketBoundsMicros().length + 1);
+        Assert.assertTrue(metrics.getMaxLatencyMicros().get("call") >= 30_000L);
+        Assert.assertTrue(metrics.getMeanLatencyMicros().get("call") >= 15_500.0);
+
+        metrics.reset();
+        Assert.assertEquals(metrics.getInvocationCount(), 0);
+        Assert.assertEquals(metrics.getErrorCount(), 0);
+    }
+
+    @Test
+    public void testMetricsArePublishedAndControlledOverJmx() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName control = OperationMetrics.controlName();
+
+        server.setAttribute(control, new Attribute("Enabled", true));
+        Assert.assertTrue(OperationMetrics.isEnabled());
+        OperationMetrics.succeeded(OperationMetrics.start("salesforce", "query"));
+
+        ObjectName operation = new ObjectName(
+                "ballerina.mi:type=Operation,connector=\"salesforce\",operation=\"query\"");
+        Assert.assertEquals(server.getAttribute(operation, "InvocationCount"), 1L);
+        Assert.assertEquals(server.getAttribute(control, "OperationCount"), 1);
+
+        server.setAttribute(control, new Attribute("Enabled", false));
+        Assert.assertNull(OperationMetrics.start("salesforce", "query"));
+
+        OperationMetrics.clear();
+        Assert.assertFalse(server.isRegistered(operation));
+    }
+
+    @Test
+    public void testConnectionCountsArePublishedOverJmx() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName control = OperationMetrics.controlName();
+        ClientConnections.clear();
+        ClientPool pool = new ClientPool(new BObject[]{mock(BObject.class), mock(BObject.class)}, ClientPool.ROUND_ROBIN);
+        BalConnectorConnection connection = new BalConnectorConnection(null, () -> pool, Map.of(), null);
+        ClientConnections.register(connection);
+        ClientConnections.recordRebuild();
+        try {
+            Assert.assertEquals(server.getAttribute(control, "ConnectionCount"), 1);
+            Assert.assertEquals(server.getAttribute(control, "LiveClientCount"), 2);
+            Assert.assertEquals(server.getAttribute(control, "RebuildCount"), 1L);
+            Assert.assertEquals(server.getAttribute(control, "EvictedClientCount"), 0L);
+            Assert.assertEquals(server.getAttribute(control, "QueuedCallCount"), 0);
+        } finally {
+            ClientConnections.clear();
+        }
+    }
+
+    @Test
+    public void testBulkheadCountsArePublishedOverJmx() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName control = OperationMetrics.controlName();
+        ClientConnections.clear();
+        Bulkhead.clear();
+        System.setProperty("ballerina.mi.bulkhead.meteredConnector.maxConcurrentCalls", "4");
+        Bulkhead connectorBulkhead = Bulkhead.forConnector("meteredConnector");
+        Bulkhead connectionBulkhead = new Bulkhead("connection", 1, 0);
+        ClientPool pool = new ClientPool(new BObject[]{mock(BObject.class)}, ClientPool.ROUND_ROBIN);
+        BalConnectorConnection connection = new BalConnectorConnection(null, () -> pool, Map.of(), connectionBulkhead);
+        ClientConnections.register(connection);
+        try {
+            Assert.assertTrue(connectorBulkhead.enter());
+            Assert.assertTrue(connectionBulkhead.enter());
+            Assert.assertFalse(connectionBulkhead.enter());
+
+            Assert.assertEquals(server.getAttribute(control, "InFlightCallCount"), 1);
+            Assert.assertEquals(server.getAttribute(control, "QueuedCallCount"), 0);
+            Assert.assertEquals(server.getAttribute(control, "ConnectorInFlightCallCount"), 1);
+            Assert.assertEquals(server.getAttribute(control, "ConnectorQueuedCallCount"), 0);
+            Assert.assertEquals(server.getAttribute(control, "RejectedCallCount"), 1L);
+        } finally {
+            System.clearProperty("ballerina.mi.bulkhead.meteredConnector.maxConcurrentCalls");
+            ClientConnections.clear();
+            Bulkhead.clear();
+        }
+    }
+
+    @Test
+    public void testControlIsRemovedWhenUnpublished() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        OperationMetrics.get("slack", "postMessage");
+        Assert.assertTrue(server.isRegistered(OperationMetrics.controlName()));
+
+        OperationMetrics.unpublish();
+        Assert.assertFalse(server.isRegistered(OperationMetrics.controlName()));
+        Assert.assertEquals(server.queryNames(null, null).stream()
+                .filter(name -> OperationMetrics.DOMAIN.equals(name.getDomain())).count(), 0L);
+
+        OperationMetrics.publishControl();
+        Assert.assertTrue(server.isRegistered(OperationMetrics.controlName()));
+    }
+
+    @Test
+    public void testOperationOfMessage() throws Exception {
+        OperationMetrics.setEnabled(true);
+        Module module = mock(Module.class);
+        when(module.getName()).thenReturn("slack");
+        MessageContext context = mock(MessageContext.class);
+        when(context.getProperty(Constants.MODULE_RUNTIME)).thenReturn(new ModuleRuntime(module, mock(Runtime.class)));
+        when(context.getProperty(Constants.OPERATION_DESCRIPTOR)).thenReturn(OperationDescriptor.fromOMElement(
+                AXIOMUtil.stringToOM("<operation name=\"postMessage\"/>")));
+
+        OperationMetrics.succeeded(OperationMetrics.start(context));
+
+        Assert.assertEquals(OperationMetrics.get("slack", "postMessage").getInvocationCount(), 1);
+    }
+
+    private static long sum(long[] counts) {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+}
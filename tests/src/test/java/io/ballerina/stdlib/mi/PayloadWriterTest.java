@@ -20,9 +20,15 @@ package io.ballerina.stdlib.mi;
 
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BXml;
 import org.apache.axiom.om.OMAbstractFactory;
 import org.apache.axiom.om.OMElement;
 import org.apache.axiom.om.OMFactory;
+import org.apache.axiom.om.OMSourcedElement;
 import org.apache.axiom.soap.SOAP11Constants;
 import org.apache.axiom.soap.SOAP12Constants;
 import org.apache.axiom.soap.SOAPBody;
@@ -31,14 +37,19 @@ import org.apache.axis2.AxisFault;
 import org.apache.synapse.commons.json.JsonUtil;
 import org.apache.synapse.core.axis2.Axis2MessageContext;
 import org.apache.synapse.util.AXIOMUtils;
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.testng.annotations.Test;
 
 import javax.xml.namespace.QName;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 
 /**
  * Tests for PayloadWriter utility class.
@@ -100,6 +111,66 @@ public class PayloadWriterTest {
         }
     }
 
+    @Test
+    public void testOverwriteBody_BallerinaMapIsStreamedAsJson() throws Exception {
+        try (MockedStatic<JsonUtil> jsonUtilMock = Mockito.mockStatic(JsonUtil.class)) {
+            Axis2MessageContext synCtx = mock(Axis2MessageContext.class);
+            org.apache.axis2.context.MessageContext axis2MsgCtx = mock(org.apache.axis2.context.MessageContext.class);
+            when(synCtx.getAxis2MessageContext()).thenReturn(axis2MsgCtx);
+
+            BMap<BString, Object> map = ValueCreator.createMapValue();
+            map.put(StringUtils.fromString("key"), StringUtils.fromString("value"));
+            ArgumentCaptor<InputStream> captor = ArgumentCaptor.forClass(InputStream.class);
+
+            PayloadWriter.overwriteBody(synCtx, map);
+
+            jsonUtilMock.verify(() -> JsonUtil.getNewJsonPayload(eq(axis2MsgCtx), captor.capture(), eq(true),
+                    eq(true)));
+            jsonUtilMock.verify(() -> JsonUtil.getNewJsonPayload(any(), anyString(), anyBoolean(), anyBoolean()),
+                    never());
+            assertEquals(new String(captor.getValue().readAllBytes(), StandardCharsets.UTF_8), "{\"key\":\"value\"}");
+            verify(axis2MsgCtx).setProperty("messageType", "application/json");
+            verify(axis2MsgCtx).setProperty("contentType", "application/json");
+            verify(axis2MsgCtx).removeProperty("NO_ENTITY_BODY");
+        }
+    }
+
+    @Test
+    public void testOverwriteBody_BallerinaXmlIsAttachedLazily() throws AxisFault {
+        try (MockedStatic<JsonUtil> jsonUtilMock = Mockito.mockStatic(JsonUtil.class)) {
+            Axis2MessageContext synCtx = mock(Axis2MessageContext.class);
+            org.apache.axis2.context.MessageContext axis2MsgCtx = mock(org.apache.axis2.context.MessageContext.class);
+            when(synCtx.getAxis2MessageContext()).thenReturn(axis2MsgCtx);
+            SOAPEnvelope envelope = mock(SOAPEnvelope.class);
+            SOAPBody body = mock(SOAPBody.class);
+            when(axis2MsgCtx.getEnvelope()).thenReturn(envelope);
+            when(envelope.getBody()).thenReturn(body);
+
+            BXml result = ValueCreator.createXmlValue("<p:order xmlns:p=\"urn:p\"><p:item>pen</p:item></p:order>");
+            ArgumentCaptor<OMElement> captor = ArgumentCaptor.forClass(OMElement.class);
+
+            PayloadWriter.overwriteBody(synCtx, result);
+
+            verify(body).addChild(captor.capture());
+            OMSourcedElement element = (OMSourcedElement) captor.getValue();
+            assertEquals(element.getQName(), new QName("urn:p", "order"));
+            assertFalse(element.isExpanded());
+            assertEquals(element.getFirstElement().getText(), "pen");
+            jsonUtilMock.verify(() -> JsonUtil.removeJsonPayload(axis2MsgCtx));
+            verify(axis2MsgCtx).setProperty("messageType", "application/xml");
+            verify(axis2MsgCtx).removeProperty("NO_ENTITY_BODY");
+        }
+    }
+
+    @Test(expectedExceptions = AxisFault.class, expectedExceptionsMessageRegExp = ".*not a valid XML payload.*")
+    public void testOverwriteBody_BallerinaXmlWithoutChildElement() throws AxisFault {
+        Axis2MessageContext synCtx = mock(Axis2MessageContext.class);
+        org.apache.axis2.context.MessageContext axis2MsgCtx = mock(org.apache.axis2.context.MessageContext.class);
+        when(synCtx.getAxis2MessageContext()).thenReturn(axis2MsgCtx);
+
+        PayloadWriter.overwriteBody(synCtx, ValueCreator.createXmlValue("<order>text</order>"));
+    }
+
     @Test
     public void testOverwriteBody_XmlPayload() throws AxisFault {
         try (MockedStatic<JsonUtil> jsonUtilMock = Mockito.mockStatic(JsonUtil.class)) {
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi;
+
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.values.BArray;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for PrimitiveArrayDecoder.
+ */
+public class PrimitiveArrayDecoderTest {
+
+    @Test
+    public void testIntArrayIsDecodedIntoLongStorage() {
+        BArray array = PrimitiveArrayDecoder.decodeIntArray(" [1, -2,\n3 ,9223372036854775807] ");
+
+        Assert.assertNotNull(array);
+        Assert.assertEquals(array.getElementType().getTag(), TypeTags.INT_TAG);
+        Assert.assertEquals(array.getIntArray(), new long[]{1L, -2L, 3L, Long.MAX_VALUE});
+    }
+
+    @Test
+    public void testIntArrayRejectsValuesTheJsonPathWouldNotReadAsInts() {
+        Assert.assertNull(PrimitiveArrayDecoder.decodeIntArray("[1.5]"));
+        Assert.assertNull(PrimitiveArrayDecoder.decodeIntArray("[-0]"));
+        Assert.assertNull(PrimitiveArrayDecoder.decodeIntArray("[007]"));
+        Assert.assertNull(PrimitiveArrayDecoder.decodeIntArray("[92233720368547758070]"));
+        Assert.assertNull(PrimitiveArrayDecoder.decodeIntArray("[\"1\"]"));
+        Assert.assertNull(PrimitiveArrayDecoder.decodeIntArray("[1, null]"));
+    }
+
+    @Test
+    public void testFloatArrayMatchesDoubleParsing() {
+        String[] literals = {"0", "-0", "1.5", "-3.14", "0.1", "2e10", "1.7976931348623157E308", "4.9e-324",
+                "123456789012345678", "0.000001234", "3.141592653589793"};
+        BArray array = PrimitiveArrayDecoder.decodeFloatArray("[" + String.join(",", literals) + "]");
+
+        Assert.assertNotNull(array);
+        double[] values = array.getFloatArray();
+        Assert.assertEquals(values.length, literals.length);
+        for (int i = 0; i < literals.length; i++) {
+            Assert.assertEquals(Double.doubleToLongBits(values[i]),
+                    Double.doubleToLongBits(Double.parseDouble(literals[i])), literals[i]);
+        }
+    }
+
+    @Test
+    public void testBooleanArray() {
+        BArray array = PrimitiveArrayDecoder.decodeBooleanArray("[true,false, true]");
+
+        Assert.assertNotNull(array);
+        Assert.assertEquals(array.getBooleanArray(), new boolean[]{true, false, true});
+        Assert.assertNull(PrimitiveArrayDecoder.decodeBooleanArray("[TRUE]"));
+    }
+
+    @Test
+    public void testEmptyArray() {
+        Assert.assertEquals(PrimitiveArrayDecoder.decodeIntArray("[]").size(), 0);
+        Assert.assertEquals(PrimitiveArrayDecoder.decodeFloatArray("[ ]").size(), 0);
+    }
+
+    @Test
+    public void testTemplateQuotingAndTrailingCommaAreAccepted() {
+        Assert.assertEquals(PrimitiveArrayDecoder.decodeIntArray(" '[1, 2, ]' ").getIntArray(), new long[]{1L, 2L});
+        Assert.assertEquals(PrimitiveArrayDecoder.decodeBooleanArray("[true,\n]").getBooleanArray(),
+                new boolean[]{true});
+        Assert.assertEquals(PrimitiveArrayDecoder.decodeFloatArray("'[]'").size(), 0);
+    }
+
+    @Test
+    public void testMalformedInputFallsBack() {
+        Assert.assertNull(PrimitiveArrayDecoder.decodeIntArray(null));
+        Assert.assertNull(PrimitiveArrayDecoder.decodeIntArray("1, 2"));
+        Assert.assertNull(PrimitiveArrayDecoder.decodeIntArray("[1, 2"));
+        Assert.assertNull(PrimitiveArrayDecoder.decodeIntArray("[,]"));
+        Assert.assertNull(PrimitiveArrayDecoder.decodeIntArray("[1,,]"));
+        Assert.assertNull(PrimitiveArrayDecoder.decodeIntArray("'[1, 2]"));
+        Assert.assertNull(PrimitiveArrayDecoder.decodeIntArray("[1 2]"));
+        Assert.assertNull(PrimitiveArrayDecoder.decodeIntArray("[1] x"));
+        Assert.assertNull(PrimitiveArrayDecoder.decodeFloatArray("[[1.0]]"));
+        Assert.assertNull(PrimitiveArrayDecoder.decodeFloatArray("[NaN]"));
+    }
+
+    @Test
+    public void testLargeArrayGrowsToExactSize() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 1000; i++) {
+            json.append(i == 0 ? "" : ",").append(i);
+        }
+        BArray array = PrimitiveArrayDecoder.decodeIntArray(json.append(']').toString());
+
+        Assert.assertEquals(array.size(), 1000);
+        Assert.assertEquals(array.getIntArray().length, 1000);
+        Assert.assertEquals(array.getInt(999), 999L);
+    }
+}
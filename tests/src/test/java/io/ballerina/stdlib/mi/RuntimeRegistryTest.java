@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.values.BObject;
+import org.apache.synapse.MessageContext;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for RuntimeRegistry.
+ */
+public class RuntimeRegistryTest {
+
+    // The registry is process-wide, so every test uses its own module coordinates
+
+    @Test
+    public void testRuntimeIsStartedOncePerModule() {
+        try (MockedStatic<Runtime> runtimeMock = Mockito.mockStatic(Runtime.class)) {
+            Runtime mockRuntime = mock(Runtime.class);
+            runtimeMock.when(() -> Runtime.from(any(Module.class))).thenReturn(mockRuntime);
+
+            Assert.assertNull(RuntimeRegistry.find("regOrg", "startOnce", "1.0.0"));
+
+            ModuleRuntime first = RuntimeRegistry.getOrStart("regOrg", "startOnce", "1.0.0");
+            ModuleRuntime second = RuntimeRegistry.getOrStart("regOrg", "startOnce", "1.0.0");
+
+            Assert.assertSame(first, second);
+            Assert.assertSame(RuntimeRegistry.find("regOrg", "startOnce", "1.0.0"), first);
+            Assert.assertSame(first.runtime(), mockRuntime);
+            Assert.assertEquals(first.module().getName(), "startOnce");
+            runtimeMock.verify(() -> Runtime.from(any(Module.class)), times(1));
+            verify(mockRuntime).init();
+            verify(mockRuntime).start();
+        }
+    }
+
+    @Test
+    public void testModulesGetIndependentRuntimes() {
+        try (MockedStatic<Runtime> runtimeMock = Mockito.mockStatic(Runtime.class)) {
+            runtimeMock.when(() -> Runtime.from(any(Module.class))).thenAnswer(invocation -> mock(Runtime.class));
+
+            ModuleRuntime first = RuntimeRegistry.getOrStart("regOrg", "moduleA", "1.0.0");
+            ModuleRuntime second = RuntimeRegistry.getOrStart("regOrg", "moduleB", "1.0.0");
+            ModuleRuntime otherVersion = RuntimeRegistry.getOrStart("regOrg", "moduleA", "2.0.0");
+
+            Assert.assertNotSame(first.runtime(), second.runtime());
+            Assert.assertNotSame(first.runtime(), otherVersion.runtime());
+            Assert.assertEquals(second.module().getName(), "moduleB");
+        }
+    }
+
+    @Test
+    public void testRuntimeIsStoppedWhenLastArtifactReleasesIt() {
+        try (MockedStatic<Runtime> runtimeMock = Mockito.mockStatic(Runtime.class)) {
+            Runtime mockRuntime = mock(Runtime.class);
+            runtimeMock.when(() -> Runtime.from(any(Module.class))).thenReturn(mockRuntime);
+
+            RuntimeRegistry.retain("regOrg", "released", "1.0.0");
+            RuntimeRegistry.retain("regOrg", "released", "1.0.0");
+            ModuleRuntime moduleRuntime = RuntimeRegistry.getOrStart("regOrg", "released", "1.0.0");
+
+            RuntimeRegistry.release("regOrg", "released", "1.0.0");
+            verify(mockRuntime, never()).stop();
+            Assert.assertFalse(moduleRuntime.asyncExecutor().isShutdown());
+            Assert.assertNotNull(RuntimeRegistry.find("regOrg", "released", "1.0.0"));
+
+            RuntimeRegistry.release("regOrg", "released", "1.0.0");
+            verify(mockRuntime).stop();
+            Assert.assertTrue(moduleRuntime.asyncExecutor().isShutdown());
+            Assert.assertNull(RuntimeRegistry.find("regOrg", "released", "1.0.0"));
+
+            // A further release of a module nobody retains is ignored
+            RuntimeRegistry.release("regOrg", "released", "1.0.0");
+            verify(mockRuntime, times(1)).stop();
+        }
+    }
+
+    @Test
+    public void testOperationMBeansAreRemovedWhenRuntimeIsStopped() throws Exception {
+        try (MockedStatic<Runtime> runtimeMock = Mockito.mockStatic(Runtime.class)) {
+            runtimeMock.when(() -> Runtime.from(any(Module.class))).thenAnswer(invocation -> mock(Runtime.class));
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName operation = new ObjectName(OperationMetrics.DOMAIN + ":type=Operation,connector="
+                    + ObjectName.quote("metered") + ",operation=" + ObjectName.quote("send"));
+
+            RuntimeRegistry.retain("regOrg", "metered", "1.0.0");
+            RuntimeRegistry.getOrStart("regOrg", "metered", "1.0.0");
+            OperationMetrics.get("metered", "send");
+            Assert.assertTrue(server.isRegistered(operation));
+
+            RuntimeRegistry.release("regOrg", "metered", "1.0.0");
+            Assert.assertFalse(server.isRegistered(operation));
+        }
+    }
+
+    @Test
+    public void testConnectionsAreClosedWhenRuntimeIsStopped() {
+        try (MockedStatic<Runtime> runtimeMock = Mockito.mockStatic(Runtime.class)) {
+            runtimeMock.when(() -> Runtime.from(any(Module.class))).thenAnswer(invocation -> mock(Runtime.class));
+
+            RuntimeRegistry.retain("regOrg", "connected", "1.0.0");
+            ModuleRuntime moduleRuntime = RuntimeRegistry.getOrStart("regOrg", "connected", "1.0.0");
+            ClientPool pool = new ClientPool(new BObject[]{mock(BObject.class)}, ClientPool.ROUND_ROBIN);
+            BalConnectorConnection connection = new BalConnectorConnection(moduleRuntime, () -> pool,
+                    Map.of("url", "a"), null);
+            ClientConnections.register(connection);
+            Assert.assertTrue(connection.isCurrent(Map.of("url", "a")));
+
+            RuntimeRegistry.release("regOrg", "connected", "1.0.0");
+
+            Assert.assertTrue(pool.isRetired());
+            Assert.assertNull(connection.getClientPool());
+            Assert.assertFalse(connection.isCurrent(Map.of("url", "a")));
+            Assert.assertNull(connection.acquire(null));
+        }
+    }
+
+    @Test
+    public void testReleasedModuleIsStartedAgainOnNextUse() {
+        try (MockedStatic<Runtime> runtimeMock = Mockito.mockStatic(Runtime.class)) {
+            runtimeMock.when(() -> Runtime.from(any(Module.class))).thenAnswer(invocation -> mock(Runtime.class));
+
+            RuntimeRegistry.retain("regOrg", "redeployed", "1.0.0");
+            ModuleRuntime first = RuntimeRegistry.getOrStart("regOrg", "redeployed", "1.0.0");
+            RuntimeRegistry.release("regOrg", "redeployed", "1.0.0");
+
+            ModuleRuntime second = RuntimeRegistry.getOrStart("regOrg", "redeployed", "1.0.0");
+            Assert.assertNotSame(second.runtime(), first.runtime());
+            verify(second.runtime(), never()).stop();
+        }
+    }
+
+    @Test
+    public void testCurrentModuleUsesBoundRuntime() {
+        Module module = new Module("regOrg", "bound", "1.0.0");
+        ModuleRuntime moduleRuntime = new ModuleRuntime(module, mock(Runtime.class));
+        MessageContext context = mock(MessageContext.class);
+
+        RuntimeRegistry.bind(context, moduleRuntime);
+        verify(context).setProperty(Constants.MODULE_RUNTIME, moduleRuntime);
+
+        when(context.getProperty(Constants.MODULE_RUNTIME)).thenReturn(moduleRuntime);
+        Assert.assertSame(RuntimeRegistry.currentModule(context), module);
+    }
+
+    @Test
+    public void testCurrentModuleIsNullWhenNoRuntimeIsBound() {
+        MessageContext context = mock(MessageContext.class);
+        Assert.assertNull(RuntimeRegistry.currentModule(context));
+        Assert.assertNull(RuntimeRegistry.currentModule(null));
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for RuntimeWarmup.
+ */
+public class RuntimeWarmupTest {
+
+    @AfterMethod
+    public void tearDown() {
+        System.clearProperty(RuntimeWarmup.WARMUP_PROPERTY);
+        RuntimeWarmup.reset();
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        Assert.assertFalse(RuntimeWarmup.isEnabled());
+    }
+
+    @Test
+    public void testRunIfEnabledSkipsWhenDisabled() {
+        Assert.assertFalse(RuntimeWarmup.runIfEnabled());
+    }
+
+    @Test
+    public void testEnabledBySystemProperty() {
+        System.setProperty(RuntimeWarmup.WARMUP_PROPERTY, "true");
+        Assert.assertTrue(RuntimeWarmup.isEnabled());
+    }
+
+    @Test
+    public void testRunExercisesConversionPaths() {
+        Assert.assertEquals(RuntimeWarmup.run(0), 0);
+        // Warm-up is best effort and stops early rather than throwing
+        int completed = RuntimeWarmup.run(3);
+        Assert.assertTrue(completed >= 0 && completed <= 3);
+    }
+
+    @Test
+    public void testRunIfEnabledRunsOnce() {
+        System.setProperty(RuntimeWarmup.WARMUP_PROPERTY, "true");
+        System.setProperty(RuntimeWarmup.ITERATIONS_PROPERTY, "1");
+        try {
+            Assert.assertTrue(RuntimeWarmup.runIfEnabled());
+            Assert.assertFalse(RuntimeWarmup.runIfEnabled());
+        } finally {
+            System.clearProperty(RuntimeWarmup.ITERATIONS_PROPERTY);
+        }
+    }
+}
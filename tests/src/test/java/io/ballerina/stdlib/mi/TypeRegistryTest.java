@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for TypeRegistry.
+ */
+public class TypeRegistryTest {
+
+    private final Module module = new Module("testOrg", "typeModule", "1");
+
+    @BeforeMethod
+    public void setUp() {
+        TypeRegistry.clear();
+    }
+
+    @Test
+    public void testRecordTypeIsResolvedOnce() {
+        try (MockedStatic<ValueCreator> valueCreatorMock = Mockito.mockStatic(ValueCreator.class)) {
+            Type recordType = mockRecord(valueCreatorMock, "Config");
+            BTypedesc typedesc = mock(BTypedesc.class);
+            valueCreatorMock.when(() -> ValueCreator.createTypedescValue(recordType)).thenReturn(typedesc);
+
+            Assert.assertSame(TypeRegistry.getRecordType(module, "Config"), recordType);
+            Assert.assertSame(TypeRegistry.getRecordType(module, "Config"), recordType);
+            Assert.assertSame(TypeRegistry.getRecordTypedesc(module, "Config"), typedesc);
+
+            valueCreatorMock.verify(() -> ValueCreator.createRecordValue(module, "Config"), times(1));
+            Assert.assertEquals(TypeRegistry.getMissCount(), 1);
+            Assert.assertEquals(TypeRegistry.getHitCount(), 2);
+            Assert.assertEquals(TypeRegistry.size(), 1);
+        }
+    }
+
+    @Test
+    public void testModulesAreKeyedByCoordinates() {
+        try (MockedStatic<ValueCreator> valueCreatorMock = Mockito.mockStatic(ValueCreator.class)) {
+            Type recordType = mockRecord(valueCreatorMock, "Config");
+
+            TypeRegistry.getRecordType(module, "Config");
+            TypeRegistry.getRecordType(new Module("testOrg", "typeModule", "1"), "Config");
+            TypeRegistry.getRecordType(new Module("testOrg", "otherModule", "1"), "Config");
+
+            Assert.assertEquals(TypeRegistry.size(), 2);
+            Assert.assertEquals(TypeRegistry.getHitCount(), 1);
+        }
+    }
+
+    @Test
+    public void testFailedResolutionIsNotCached() {
+        try (MockedStatic<ValueCreator> valueCreatorMock = Mockito.mockStatic(ValueCreator.class)) {
+            valueCreatorMock.when(() -> ValueCreator.createRecordValue(any(Module.class), eq("Missing")))
+                    .thenThrow(new IllegalStateException("not loadable"));
+
+            Assert.assertThrows(IllegalStateException.class, () -> TypeRegistry.getRecordType(module, "Missing"));
+            Assert.assertThrows(IllegalStateException.class, () -> TypeRegistry.getRecordType(module, "Missing"));
+            Assert.assertEquals(TypeRegistry.size(), 0);
+            Assert.assertEquals(TypeRegistry.getMissCount(), 2);
+        }
+    }
+
+    @Test
+    public void testInvalidateDropsTypesAndKeepsCounters() {
+        try (MockedStatic<ValueCreator> valueCreatorMock = Mockito.mockStatic(ValueCreator.class)) {
+            mockRecord(valueCreatorMock, "Config");
+
+            TypeRegistry.getRecordType(module, "Config");
+            TypeRegistry.invalidate();
+            Assert.assertEquals(TypeRegistry.size(), 0);
+
+            TypeRegistry.getRecordType(module, "Config");
+            valueCreatorMock.verify(() -> ValueCreator.createRecordValue(module, "Config"), times(2));
+            Assert.assertEquals(TypeRegistry.getMissCount(), 2);
+            Assert.assertEquals(TypeRegistry.size(), 1);
+        }
+    }
+
+    @Test
+    public void testResolveRecordModule() {
+        Assert.assertSame(TypeRegistry.resolveRecordModule(module, null, null, null), module);
+        Assert.assertSame(TypeRegistry.resolveRecordModule(module, "", "", null), module);
+        Assert.assertSame(TypeRegistry.resolveRecordModule(module, "testOrg", "typeModule", "1"), module);
+
+        Module external = TypeRegistry.resolveRecordModule(module, "ballerina", "time", "2");
+        Assert.assertEquals(external.getOrg(), "ballerina");
+        Assert.assertEquals(external.getName(), "time");
+    }
+
+    @Test
+    public void testPreloadFromOperationDescriptor() {
+        try (MockedStatic<ValueCreator> valueCreatorMock = Mockito.mockStatic(ValueCreator.class)) {
+            mockRecord(valueCreatorMock, "User");
+            valueCreatorMock.when(() -> ValueCreator.createRecordValue(any(Module.class), eq("Broken")))
+                    .thenThrow(new IllegalStateException("not loadable"));
+
+            OperationDescriptor descriptor = new OperationDescriptor("createUser", Map.of(
+                    "param0_recordName", "User",
+                    "param1_recordName", "Broken",
+                    "param1_recordOrg", "other",
+                    "param1_recordModule", "lib",
+                    "paramSize", "2"));
+            TypeRegistry.preload(module, descriptor);
+
+            Assert.assertEquals(TypeRegistry.size(), 1);
+            TypeRegistry.getRecordType(module, "User");
+            Assert.assertEquals(TypeRegistry.getHitCount(), 1);
+        }
+    }
+
+    private Type mockRecord(MockedStatic<ValueCreator> valueCreatorMock, String recordName) {
+        BMap<BString, Object> recordValue = mock(BMap.class);
+        Type recordType = mock(Type.class);
+        when(recordValue.getType()).thenReturn(recordType);
+        valueCreatorMock.when(() -> ValueCreator.createRecordValue(any(Module.class), eq(recordName)))
+                .thenReturn(recordValue);
+        return recordType;
+    }
+}
@@ -21,28 +21,47 @@ package io.ballerina.stdlib.mi.executor;
 import io.ballerina.runtime.api.Module;
 import io.ballerina.runtime.api.Runtime;
 import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.*;
 import io.ballerina.runtime.internal.values.MapValueImpl;
 import io.ballerina.stdlib.mi.BallerinaExecutionException;
 import io.ballerina.stdlib.mi.BXmlConverter;
 import io.ballerina.stdlib.mi.Constants;
+import io.ballerina.stdlib.mi.ModuleRuntime;
+import io.ballerina.stdlib.mi.OperationDescriptor;
+import io.ballerina.stdlib.mi.OperationMetrics;
+import io.ballerina.stdlib.mi.OperationMetricsMXBean;
 import io.ballerina.stdlib.mi.TypeConverter;
 import io.ballerina.stdlib.mi.utils.SynapseUtils;
+import org.apache.axiom.om.util.AXIOMUtil;
 import org.apache.synapse.MessageContext;
+import org.apache.synapse.SynapseConstants;
 import org.apache.synapse.SynapseException;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.lang.management.ManagementFactory;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -86,6 +105,161 @@ public class BalExecutorTest {
         }
     }
 
+    @Test
+    public void testExecuteAsync_WritesResultOnExecutorThread() throws Exception {
+        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
+            BalExecutor executor = new BalExecutor();
+            Runtime runtime = mock(Runtime.class);
+            Module module = mock(Module.class);
+            MessageContext context = mock(MessageContext.class);
+
+            synapseUtilsMock.when(() -> SynapseUtils.getPropertyAsString(context, Constants.SIZE))
+                    .thenReturn("0");
+            synapseUtilsMock.when(() -> SynapseUtils.getPropertyAsString(context, Constants.FUNCTION_NAME))
+                    .thenReturn("testFunction");
+            synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, Constants.RESPONSE_VARIABLE))
+                    .thenReturn("result");
+            synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, Constants.OVERWRITE_BODY))
+                    .thenReturn("false");
+            when(runtime.callFunction(any(Module.class), anyString(), any(), any())).thenReturn("success");
+
+            List<Runnable> submitted = new ArrayList<>();
+            CompletableFuture<Void> execution = executor.executeAsync(runtime, module, context, submitted::add);
+
+            // Nothing runs on the calling thread
+            Assert.assertFalse(execution.isDone());
+            verify(runtime, never()).callFunction(any(Module.class), anyString(), any(), any());
+
+            Assert.assertEquals(submitted.size(), 1);
+            submitted.get(0).run();
+            Assert.assertTrue(execution.isDone());
+            Assert.assertFalse(execution.isCompletedExceptionally());
+            verify(context).setVariable(eq("result"), any());
+        }
+    }
+
+    @Test
+    public void testExecute_RecordsOperationMetrics() throws Exception {
+        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
+            BalExecutor executor = new BalExecutor();
+            Runtime runtime = mock(Runtime.class);
+            Module module = mock(Module.class);
+            when(module.getName()).thenReturn("metricsModule");
+            MessageContext context = mock(MessageContext.class);
+            when(context.getProperty(Constants.MODULE_RUNTIME)).thenReturn(new ModuleRuntime(module, runtime));
+            when(context.getProperty(Constants.OPERATION_DESCRIPTOR)).thenReturn(OperationDescriptor.fromOMElement(
+                    AXIOMUtil.stringToOM("<operation name=\"metricsOperation\"/>")));
+
+            synapseUtilsMock.when(() -> SynapseUtils.getPropertyAsString(context, Constants.SIZE))
+                    .thenReturn("0");
+            synapseUtilsMock.when(() -> SynapseUtils.getPropertyAsString(context, Constants.FUNCTION_NAME))
+                    .thenReturn("testFunction");
+            synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, Constants.RESPONSE_VARIABLE))
+                    .thenReturn("result");
+            synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, Constants.OVERWRITE_BODY))
+                    .thenReturn("false");
+            when(runtime.callFunction(any(Module.class), anyString(), any(), any())).thenReturn("success");
+
+            OperationMetrics.setEnabled(true);
+            try {
+                executor.execute(runtime, module, context);
+            } finally {
+                OperationMetrics.setEnabled(false);
+            }
+
+            ObjectName name = new ObjectName(
+                    "ballerina.mi:type=Operation,connector=\"metricsModule\",operation=\"metricsOperation\"");
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            Assert.assertEquals(server.getAttribute(name, "InvocationCount"), 1L);
+            Assert.assertEquals(server.getAttribute(name, "ErrorCount"), 0L);
+            Map<String, Long> maxLatencies = JMX.newMXBeanProxy(server, name, OperationMetricsMXBean.class)
+                    .getMaxLatencyMicros();
+            Assert.assertTrue(maxLatencies.containsKey("call"));
+            server.invoke(name, "reset", null, null);
+        }
+    }
+
+    @Test
+    public void testExecute_FailureIsRecordedWithErrorCodeOfFailure() throws Exception {
+        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
+            BalExecutor executor = new BalExecutor();
+            Runtime runtime = mock(Runtime.class);
+            Module module = mock(Module.class);
+            when(module.getName()).thenReturn("errorCodeModule");
+            MessageContext context = mock(MessageContext.class);
+            when(context.getProperty(Constants.MODULE_RUNTIME)).thenReturn(new ModuleRuntime(module, runtime));
+            when(context.getProperty(Constants.OPERATION_DESCRIPTOR)).thenReturn(OperationDescriptor.fromOMElement(
+                    AXIOMUtil.stringToOM("<operation name=\"failingOperation\"/>")));
+            // Left on the message by an earlier failure in the same flow
+            when(context.getProperty(SynapseConstants.ERROR_CODE)).thenReturn("BACKEND_UNAVAILABLE");
+
+            synapseUtilsMock.when(() -> SynapseUtils.getPropertyAsString(context, Constants.SIZE))
+                    .thenReturn("0");
+            synapseUtilsMock.when(() -> SynapseUtils.getPropertyAsString(context, Constants.FUNCTION_NAME))
+                    .thenReturn("testFunction");
+            synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, Constants.RESPONSE_VARIABLE))
+                    .thenReturn("result");
+            synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, Constants.OVERWRITE_BODY))
+                    .thenReturn("false");
+            when(runtime.callFunction(any(Module.class), anyString(), any(), any()))
+                    .thenReturn(ErrorCreator.createError(StringUtils.fromString("backend failed")));
+
+            OperationMetrics.setEnabled(true);
+            try {
+                Assert.expectThrows(BallerinaExecutionException.class, () -> executor.execute(runtime, module, context));
+            } finally {
+                OperationMetrics.setEnabled(false);
+            }
+
+            ObjectName name = new ObjectName(
+                    "ballerina.mi:type=Operation,connector=\"errorCodeModule\",operation=\"failingOperation\"");
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            Assert.assertEquals(JMX.newMXBeanProxy(server, name, OperationMetricsMXBean.class).getErrorCounts(),
+                    Map.of(BallerinaExecutionException.ERROR_CODE, 1L));
+            server.invoke(name, "reset", null, null);
+        }
+    }
+
+    @Test
+    public void testExecuteAsync_BErrorCompletesExceptionally() throws Exception {
+        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
+            BalExecutor executor = new BalExecutor();
+            Runtime runtime = mock(Runtime.class);
+            Module module = mock(Module.class);
+            MessageContext context = mock(MessageContext.class);
+
+            synapseUtilsMock.when(() -> SynapseUtils.getPropertyAsString(context, Constants.SIZE))
+                    .thenReturn("0");
+            synapseUtilsMock.when(() -> SynapseUtils.getPropertyAsString(context, Constants.FUNCTION_NAME))
+                    .thenReturn("testFunction");
+            synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, Constants.RESPONSE_VARIABLE))
+                    .thenReturn("result");
+            synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, Constants.OVERWRITE_BODY))
+                    .thenReturn("false");
+            BError error = ErrorCreator.createError(StringUtils.fromString("backend failed"));
+            when(runtime.callFunction(any(Module.class), anyString(), any(), any())).thenReturn(error);
+
+            CompletableFuture<Void> execution = executor.executeAsync(runtime, module, context, Runnable::run);
+
+            Assert.assertTrue(execution.isCompletedExceptionally());
+            CompletionException e = Assert.expectThrows(CompletionException.class, execution::join);
+            Assert.assertTrue(e.getCause() instanceof BallerinaExecutionException);
+            verify(context, never()).setVariable(anyString(), any());
+        }
+    }
+
+    @Test(expectedExceptions = SynapseException.class)
+    public void testExecuteAsync_UnsupportedCallableFailsBeforeDispatch() throws Exception {
+        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
+            BalExecutor executor = new BalExecutor();
+            MessageContext context = mock(MessageContext.class);
+            synapseUtilsMock.when(() -> SynapseUtils.getPropertyAsString(context, Constants.SIZE))
+                    .thenReturn("0");
+
+            executor.executeAsync(mock(Runtime.class), "not-callable", context, Runnable::run);
+        }
+    }
+
     @Test
     public void testExecute_EmptyParamSize() throws Exception {
         try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
@@ -1255,12 +1429,11 @@ public class BalExecutorTest {
             when(bString.getValue()).thenReturn("value");
             Assert.assertEquals(method.invoke(executor, bString), "value");
 
-            BArray bArray = mock(BArray.class);
-            typeConverterMock.when(() -> TypeConverter.arrayToJsonString(bArray)).thenReturn("[1,2]");
+            BArray bArray = ValueCreator.createArrayValue(new long[] { 1, 2 });
             Assert.assertEquals(method.invoke(executor, bArray).toString(), "[1,2]");
 
-            MapValueImpl<?, ?> bMap = mock(MapValueImpl.class);
-            when(bMap.getJSONString()).thenReturn("{\"k\":\"v\"}");
+            BMap<BString, Object> bMap = ValueCreator.createMapValue();
+            bMap.put(StringUtils.fromString("k"), StringUtils.fromString("v"));
             Assert.assertEquals(method.invoke(executor, bMap).toString(), "{\"k\":\"v\"}");
 
             Assert.assertEquals(method.invoke(executor, 123).toString(), "123");
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi.executor;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.IntersectionType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for ConversionPlan.
+ */
+public class ConversionPlanTest {
+
+    @Test
+    public void testPlanIsCompiledOncePerType() {
+        RecordType recordType = recordType("Person", "name");
+
+        ConversionPlan first = ConversionPlan.forType(recordType);
+        ConversionPlan second = ConversionPlan.forType(recordType);
+
+        Assert.assertSame(first, second);
+        Assert.assertSame(ConversionPlan.forRecord(recordType), first);
+        verify(recordType, times(1)).getFields();
+    }
+
+    @Test
+    public void testClearDropsCompiledPlans() {
+        RecordType recordType = recordType("Cleared", "name");
+
+        ConversionPlan first = ConversionPlan.forType(recordType);
+        ConversionPlan.clear();
+
+        Assert.assertNotSame(ConversionPlan.forType(recordType), first);
+        verify(recordType, times(2)).getFields();
+    }
+
+    @Test
+    public void testReferencesAndIntersectionsShareTheEffectivePlan() {
+        RecordType recordType = recordType("Person", "name");
+        IntersectionType readonlyType = mock(IntersectionType.class);
+        when(readonlyType.getTag()).thenReturn(TypeTags.INTERSECTION_TAG);
+        when(readonlyType.getEffectiveType()).thenReturn(recordType);
+
+        Assert.assertSame(ConversionPlan.forType(readonlyType), ConversionPlan.forType(recordType));
+    }
+
+    @Test
+    public void testValueAlreadyOfTargetTypeIsNotCopied() {
+        RecordType recordType = recordType("Person", "name");
+        BMap<BString, Object> typedValue = mock(BMap.class);
+        when(typedValue.getType()).thenReturn(recordType);
+
+        ArrayType arrayType = mock(ArrayType.class);
+        when(arrayType.getTag()).thenReturn(TypeTags.ARRAY_TAG);
+        BArray typedArray = mock(BArray.class);
+        when(typedArray.getType()).thenReturn(arrayType);
+
+        try (MockedStatic<ValueCreator> valueCreatorMock = Mockito.mockStatic(ValueCreator.class)) {
+            Assert.assertSame(DataTransformer.convertValueToType(typedValue, recordType), typedValue);
+            Assert.assertSame(DataTransformer.convertValueToType(typedArray, arrayType), typedArray);
+            valueCreatorMock.verify(() -> ValueCreator.createRecordValue(any(Module.class), any(String.class)), never());
+            valueCreatorMock.verify(() -> ValueCreator.createArrayValue(arrayType), never());
+        }
+    }
+
+    @Test
+    public void testPrimitiveArrayIsPassedToOpenArrayOfSameElementType() {
+        ArrayType intArrayType = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+        BArray decoded = ValueCreator.createArrayValue(new long[]{1L, 2L, 3L});
+        BArray generic = ValueCreator.createArrayValue(TypeCreator.createArrayType(PredefinedTypes.TYPE_JSON));
+        generic.append(1L);
+
+        Assert.assertSame(DataTransformer.convertValueToType(decoded, intArrayType), decoded);
+        BArray converted = (BArray) DataTransformer.convertValueToType(generic, intArrayType);
+        Assert.assertNotSame(converted, generic);
+        Assert.assertEquals(converted.getInt(0), 1L);
+    }
+
+    @Test
+    public void testClosedPrimitiveArrayIsCopiedToOpenArray() {
+        ArrayType intArrayType = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+        BArray closed = ValueCreator.createArrayValue(TypeCreator.createArrayType(PredefinedTypes.TYPE_INT, 2));
+        closed.add(0, 4L);
+        closed.add(1, 5L);
+
+        BArray converted = (BArray) DataTransformer.convertValueToType(closed, intArrayType);
+
+        Assert.assertNotSame(converted, closed);
+        Assert.assertSame(converted.getType(), intArrayType);
+        Assert.assertEquals(converted.size(), 2);
+        Assert.assertEquals(converted.getInt(1), 5L);
+    }
+
+    @Test
+    public void testRecursiveRecordTypeCompiles() {
+        RecordType node = mock(RecordType.class);
+        Field next = mock(Field.class);
+        when(next.getFieldName()).thenReturn("next");
+        when(next.getFieldType()).thenReturn(node);
+        when(node.getTag()).thenReturn(TypeTags.RECORD_TYPE_TAG);
+        when(node.getName()).thenReturn("Node");
+        when(node.getFields()).thenReturn(Map.of("next", next));
+
+        try (MockedStatic<ValueCreator> valueCreatorMock = Mockito.mockStatic(ValueCreator.class);
+             MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class)) {
+            BString nextKey = mock(BString.class);
+            stringUtilsMock.when(() -> StringUtils.fromString("next")).thenReturn(nextKey);
+            BMap<BString, Object> inner = mock(BMap.class);
+            BMap<BString, Object> outer = mock(BMap.class);
+            when(outer.containsKey(nextKey)).thenReturn(true);
+            when(outer.get(nextKey)).thenReturn(inner);
+            BMap<BString, Object> typedOuter = mock(BMap.class);
+            BMap<BString, Object> typedInner = mock(BMap.class);
+            valueCreatorMock.when(() -> ValueCreator.createRecordValue(any(), any(String.class)))
+                    .thenReturn(typedOuter, typedInner);
+
+            Assert.assertSame(DataTransformer.convertValueToType(outer, node), typedOuter);
+            verify(typedOuter).put(nextKey, typedInner);
+        }
+    }
+
+    @Test
+    public void testUnionPrefersRecordMemberThenStringCoercion() {
+        RecordType recordType = recordType("Person", "name");
+        Type stringType = mock(Type.class);
+        when(stringType.getTag()).thenReturn(TypeTags.STRING_TAG);
+        UnionType unionType = mock(UnionType.class);
+        when(unionType.getTag()).thenReturn(TypeTags.UNION_TAG);
+        when(unionType.getMemberTypes()).thenReturn(List.of(stringType, recordType));
+
+        try (MockedStatic<ValueCreator> valueCreatorMock = Mockito.mockStatic(ValueCreator.class);
+             MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class)) {
+            BString nameKey = mock(BString.class);
+            stringUtilsMock.when(() -> StringUtils.fromString("name")).thenReturn(nameKey);
+            BString coerced = mock(BString.class);
+            stringUtilsMock.when(() -> StringUtils.fromString("42")).thenReturn(coerced);
+            when(nameKey.getValue()).thenReturn("name");
+            BMap<BString, Object> source = mock(BMap.class);
+            when(source.getKeys()).thenReturn(new BString[]{nameKey});
+            when(source.isEmpty()).thenReturn(false);
+            when(source.containsKey(nameKey)).thenReturn(true);
+            when(source.get(nameKey)).thenReturn(nameKey);
+            BMap<BString, Object> typed = mock(BMap.class);
+            valueCreatorMock.when(() -> ValueCreator.createRecordValue(any(), any(String.class))).thenReturn(typed);
+
+            Assert.assertSame(DataTransformer.convertValueToType(source, unionType), typed);
+            Assert.assertSame(DataTransformer.convertValueToType(42L, unionType), coerced);
+        }
+    }
+
+    private static RecordType recordType(String name, String... fieldNames) {
+        RecordType recordType = mock(RecordType.class);
+        Map<String, Field> fields = new LinkedHashMap<>();
+        for (String fieldName : fieldNames) {
+            Field field = mock(Field.class);
+            Type fieldType = mock(Type.class);
+            when(fieldType.getTag()).thenReturn(TypeTags.STRING_TAG);
+            when(field.getFieldName()).thenReturn(fieldName);
+            when(field.getFieldType()).thenReturn(fieldType);
+            fields.put(fieldName, field);
+        }
+        when(recordType.getTag()).thenReturn(TypeTags.RECORD_TYPE_TAG);
+        when(recordType.getName()).thenReturn(name);
+        when(recordType.getFields()).thenReturn(fields);
+        return recordType;
+    }
+}
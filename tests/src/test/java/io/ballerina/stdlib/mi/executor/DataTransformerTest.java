@@ -23,11 +23,13 @@ import io.ballerina.runtime.api.types.*;
 import io.ballerina.runtime.api.utils.JsonUtils;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.values.MapValueImpl;
 import io.ballerina.stdlib.mi.Constants;
+import io.ballerina.stdlib.mi.TypeRegistry;
 import io.ballerina.stdlib.mi.utils.SynapseUtils;
 import org.apache.synapse.MessageContext;
 import org.apache.synapse.SynapseException;
@@ -35,9 +37,11 @@ import org.ballerinalang.langlib.value.FromJsonStringWithType;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import java.lang.reflect.Method;
+import java.math.BigDecimal;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -53,9 +57,15 @@ import static org.mockito.Mockito.when;
  */
 public class DataTransformerTest {
 
+    @BeforeMethod
+    public void clearTypeRegistry() {
+        // Record types are cached process-wide; each test stubs its own
+        TypeRegistry.clear();
+    }
+
     @Test
     public void testTransformNestedTableTo2DArray() {
-        try (MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class)) {
+        try (MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class, Mockito.CALLS_REAL_METHODS)) {
             BString innerArrayKey = mock(BString.class);
             BString valueKey = mock(BString.class);
 
@@ -84,15 +94,18 @@ public class DataTransformerTest {
             when(innerRow2.size()).thenReturn(1);
             when(innerRow2.get(valueKey)).thenReturn("hello");
 
-            String result = DataTransformer.transformNestedTableTo2DArray(outerArray);
+            BArray result = DataTransformer.transformNestedTableTo2DArray(outerArray);
 
-            Assert.assertEquals(result, "[[10,\"hello\"]]");
+            Assert.assertEquals(result.size(), 1);
+            BArray row = (BArray) result.get(0);
+            Assert.assertEquals(row.get(0), 10L);
+            Assert.assertEquals(row.get(1).toString(), "hello");
         }
     }
 
     @Test
     public void testTransformTableArrayToSimpleArray() {
-        try (MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class)) {
+        try (MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class, Mockito.CALLS_REAL_METHODS)) {
             BString valueKey = mock(BString.class);
             stringUtilsMock.when(() -> StringUtils.fromString("value")).thenReturn(valueKey);
 
@@ -101,8 +114,7 @@ public class DataTransformerTest {
 
             BMap row1 = mock(BMap.class);
             when(tableArray.get(0)).thenReturn(row1);
-            BString strVal = mock(BString.class);
-            when(strVal.getValue()).thenReturn("foo");
+            BString strVal = StringUtils.fromString("foo");
             when(row1.get(valueKey)).thenReturn(strVal);
 
             BMap row2 = mock(BMap.class);
@@ -113,16 +125,18 @@ public class DataTransformerTest {
             when(tableArray.get(2)).thenReturn(row3);
             when(row3.get(valueKey)).thenReturn(true);
 
-            String result = DataTransformer.transformTableArrayToSimpleArray(tableArray);
+            BArray result = DataTransformer.transformTableArrayToSimpleArray(tableArray);
 
-            Assert.assertEquals(result, "[\"foo\",42,true]");
+            Assert.assertEquals(result.size(), 3);
+            Assert.assertSame(result.get(0), strVal);
+            Assert.assertEquals(result.get(1), 42L);
+            Assert.assertEquals(result.get(2), true);
         }
     }
 
     @Test
     public void testReconstructRecordFromFields() {
-        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class);
-             MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class)) {
+        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
 
             MessageContext context = mock(MessageContext.class);
             String prefix = "testPrefix";
@@ -137,68 +151,43 @@ public class DataTransformerTest {
 
             when(context.getProperty(prefix + "_param2")).thenReturn(null);
 
-            Object expectedBallerinaRecord = new Object();
-            jsonUtilsMock.when(() -> JsonUtils.parse(anyString())).thenReturn(expectedBallerinaRecord);
+            BMap<BString, Object> record = (BMap<BString, Object>) DataTransformer.reconstructRecordFromFields(prefix, context);
 
-            Object result = DataTransformer.reconstructRecordFromFields(prefix, context);
-
-            Assert.assertEquals(result, expectedBallerinaRecord);
+            Assert.assertEquals(record.get(StringUtils.fromString("name")).toString(), "Alice");
+            Assert.assertEquals(record.get(StringUtils.fromString("age")), 30L);
         }
     }
 
     @Test
     public void testParseInnerTableValues() {
-        Assert.assertEquals(DataTransformer.parseInnerTableValues(null, null), "[]");
-        Assert.assertEquals(DataTransformer.parseInnerTableValues("", null), "[]");
-        Assert.assertEquals(DataTransformer.parseInnerTableValues("[]", null), "[]");
+        Assert.assertEquals(DataTransformer.parseInnerTableValues(null, null).size(), 0);
+        Assert.assertEquals(DataTransformer.parseInnerTableValues("", null).size(), 0);
+        Assert.assertEquals(DataTransformer.parseInnerTableValues("[]", null).size(), 0);
     }
 
     @Test
-    public void testAppendJsonValue_Direct() {
-        StringBuilder sb = new StringBuilder();
-
-        DataTransformer.appendJsonValue(sb, null);
-        Assert.assertEquals(sb.toString(), "null");
-
-        sb.setLength(0);
-        DataTransformer.appendJsonValue(sb, true);
-        Assert.assertEquals(sb.toString(), "true");
-
-        sb.setLength(0);
-        DataTransformer.appendJsonValue(sb, false);
-        Assert.assertEquals(sb.toString(), "false");
-
-        sb.setLength(0);
-        DataTransformer.appendJsonValue(sb, 123);
-        Assert.assertEquals(sb.toString(), "123");
-
-        sb.setLength(0);
-        DataTransformer.appendJsonValue(sb, 12.34);
-        Assert.assertEquals(sb.toString(), "12.34");
-
-        sb.setLength(0);
-        DataTransformer.appendJsonValue(sb, "hello");
-        Assert.assertEquals(sb.toString(), "\"hello\"");
-
-        sb.setLength(0);
-        DataTransformer.appendJsonValue(sb, "say \"hello\"");
-        Assert.assertEquals(sb.toString(), "\"say \\\"hello\\\"\"");
+    public void testToJsonScalar_Direct() {
+        Assert.assertNull(DataTransformer.toJsonScalar(null));
+        Assert.assertEquals(DataTransformer.toJsonScalar(true), true);
+        Assert.assertEquals(DataTransformer.toJsonScalar(false), false);
+        Assert.assertEquals(DataTransformer.toJsonScalar(123), 123L);
+        Assert.assertEquals(((BDecimal) DataTransformer.toJsonScalar(12.34)).decimalValue(), new BigDecimal("12.34"));
+        Assert.assertEquals(DataTransformer.toJsonScalar("hello").toString(), "hello");
+        Assert.assertEquals(DataTransformer.toJsonScalar("say \"hello\"").toString(), "say \"hello\"");
     }
 
     @Test
-    public void testEscapeJsonString() {
-        Assert.assertEquals(DataTransformer.escapeJsonString(null), "");
-        Assert.assertEquals(DataTransformer.escapeJsonString("hello"), "hello");
-        Assert.assertEquals(DataTransformer.escapeJsonString("hello\nworld"), "hello\\nworld");
-        Assert.assertEquals(DataTransformer.escapeJsonString("hello\tworld"), "hello\\tworld");
-        Assert.assertEquals(DataTransformer.escapeJsonString("hello\\world"), "hello\\\\world");
-        Assert.assertEquals(DataTransformer.escapeJsonString("say \"hi\""), "say \\\"hi\\\"");
-        Assert.assertEquals(DataTransformer.escapeJsonString("line1\rline2"), "line1\\rline2");
+    public void testToJsonScalar_TextThatIsNotJsonStaysString() {
+        Assert.assertEquals(DataTransformer.toJsonScalar("NaN").toString(), "NaN");
+        Assert.assertEquals(DataTransformer.toJsonScalar("+5").toString(), "+5");
+        Assert.assertEquals(DataTransformer.toJsonScalar("007").toString(), "007");
+        Assert.assertEquals(DataTransformer.toJsonScalar("TRUE").toString(), "TRUE");
+        Assert.assertEquals(DataTransformer.toJsonScalar("hello\nworld").toString(), "hello\nworld");
     }
 
     @Test(expectedExceptions = SynapseException.class)
     public void testTransformTableArrayToSimpleArray_MissingValue() {
-        try (MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class)) {
+        try (MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class, Mockito.CALLS_REAL_METHODS)) {
             BString valueKey = mock(BString.class);
             stringUtilsMock.when(() -> StringUtils.fromString("value")).thenReturn(valueKey);
 
@@ -273,8 +262,7 @@ public class DataTransformerTest {
 
     @Test
     public void testReconstructRecordFromFields_AllTypes() {
-        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class);
-             MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class)) {
+        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
 
             MessageContext context = mock(MessageContext.class);
             String prefix = "testPrefix";
@@ -297,20 +285,12 @@ public class DataTransformerTest {
 
             when(context.getProperty(prefix + "_param4")).thenReturn(null);
 
-            Object expectedBallerinaRecord = new Object();
-            jsonUtilsMock.when(() -> JsonUtils.parse(anyString())).thenAnswer(invocation -> {
-                String json = invocation.getArgument(0);
-                Assert.assertTrue(json.contains("\"isReady\":true"));
-                Assert.assertTrue(json.contains("\"count\":42"));
-                Assert.assertTrue(json.contains("\"score\":3.14"));
-                Assert.assertTrue(json.contains("\"price\":10.5"));
-                return expectedBallerinaRecord;
-            });
-
-            synapseUtilsMock.when(() -> SynapseUtils.cleanupJsonString(anyString())).thenAnswer(i -> i.getArgument(0));
+            BMap<BString, Object> record = (BMap<BString, Object>) DataTransformer.reconstructRecordFromFields(prefix, context);
 
-            Object result = DataTransformer.reconstructRecordFromFields(prefix, context);
-            Assert.assertEquals(result, expectedBallerinaRecord);
+            Assert.assertEquals(record.get(StringUtils.fromString("isReady")), true);
+            Assert.assertEquals(record.get(StringUtils.fromString("count")), 42L);
+            Assert.assertEquals(record.get(StringUtils.fromString("score")), 3.14d);
+            Assert.assertEquals(((BDecimal) record.get(StringUtils.fromString("price"))).decimalValue(), new BigDecimal("10.50"));
         }
     }
 
@@ -480,13 +460,16 @@ public class DataTransformerTest {
 
         when(outerRow.get(1)).thenReturn("[{value=100}, {value=test}]");
 
-        String result = DataTransformer.transformMIStudioNestedTableTo2DArray(outerArray, null);
-        Assert.assertEquals(result, "[[100,\"test\"]]");
+        BArray result = DataTransformer.transformMIStudioNestedTableTo2DArray(outerArray, null);
+        Assert.assertEquals(result.size(), 1);
+        BArray row = (BArray) result.get(0);
+        Assert.assertEquals(row.get(0), 100L);
+        Assert.assertEquals(row.get(1).toString(), "test");
     }
 
     @Test
     public void testTransformNestedTableTo2DArray_EmptyInnerArray() {
-        try (MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class)) {
+        try (MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class, Mockito.CALLS_REAL_METHODS)) {
             BString innerArrayKey = mock(BString.class);
             BString valueKey = mock(BString.class);
 
@@ -500,14 +483,15 @@ public class DataTransformerTest {
             when(outerArray.get(0)).thenReturn(outerRow);
             when(outerRow.get(innerArrayKey)).thenReturn(null);
 
-            String result = DataTransformer.transformNestedTableTo2DArray(outerArray);
-            Assert.assertEquals(result, "[[]]");
+            BArray result = DataTransformer.transformNestedTableTo2DArray(outerArray);
+            Assert.assertEquals(result.size(), 1);
+            Assert.assertEquals(((BArray) result.get(0)).size(), 0);
         }
     }
 
     @Test
     public void testTransformNestedTableTo2DArray_NonBMapOuterElement() {
-        try (MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class)) {
+        try (MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class, Mockito.CALLS_REAL_METHODS)) {
             BString innerArrayKey = mock(BString.class);
             BString valueKey = mock(BString.class);
 
@@ -518,8 +502,9 @@ public class DataTransformerTest {
             when(outerArray.size()).thenReturn(1);
             when(outerArray.get(0)).thenReturn("not a BMap");
 
-            String result = DataTransformer.transformNestedTableTo2DArray(outerArray);
-            Assert.assertEquals(result, "[[]]");
+            BArray result = DataTransformer.transformNestedTableTo2DArray(outerArray);
+            Assert.assertEquals(result.size(), 1);
+            Assert.assertEquals(((BArray) result.get(0)).size(), 0);
         }
     }
 
@@ -529,8 +514,9 @@ public class DataTransformerTest {
         when(outerArray.size()).thenReturn(1);
         when(outerArray.get(0)).thenReturn("not a BArray");
 
-        String result = DataTransformer.transformMIStudioNestedTableTo2DArray(outerArray, null);
-        Assert.assertEquals(result, "[[]]");
+        BArray result = DataTransformer.transformMIStudioNestedTableTo2DArray(outerArray, null);
+        Assert.assertEquals(result.size(), 1);
+        Assert.assertEquals(((BArray) result.get(0)).size(), 0);
     }
 
     @Test
@@ -542,87 +528,61 @@ public class DataTransformerTest {
         when(outerArray.get(0)).thenReturn(outerRow);
         when(outerRow.size()).thenReturn(1);
 
-        String result = DataTransformer.transformMIStudioNestedTableTo2DArray(outerArray, null);
-        Assert.assertEquals(result, "[[]]");
+        BArray result = DataTransformer.transformMIStudioNestedTableTo2DArray(outerArray, null);
+        Assert.assertEquals(result.size(), 1);
+        Assert.assertEquals(((BArray) result.get(0)).size(), 0);
     }
 
     @Test
     public void testGetMapParameter_BMapDirect() {
-        try (MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class);
-             MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
-
-            MessageContext context = mock(MessageContext.class);
-            String jsonStr = "{\"a\":1}";
-            BMap parsedMap = mock(BMap.class);
-
-            synapseUtilsMock.when(() -> SynapseUtils.cleanupJsonString(jsonStr)).thenReturn(jsonStr);
-            jsonUtilsMock.when(() -> JsonUtils.parse(jsonStr)).thenReturn(parsedMap);
+        MessageContext context = mock(MessageContext.class);
 
-            BMap result = DataTransformer.getMapParameter(jsonStr, context, "val");
-            Assert.assertEquals(result, parsedMap);
-        }
+        BMap result = DataTransformer.getMapParameter("{\"a\":1}", context, "val");
+        Assert.assertEquals(result.get(StringUtils.fromString("a")), 1L);
     }
 
     @Test
     public void testGetMapParameter_EmptyArray() {
-        try (MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class);
-             MockedStatic<ValueCreator> valueCreatorMock = Mockito.mockStatic(ValueCreator.class);
-             MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
-
-            MessageContext context = mock(MessageContext.class);
-            BArray emptyArray = mock(BArray.class);
-            when(emptyArray.size()).thenReturn(0);
-
-            synapseUtilsMock.when(() -> SynapseUtils.cleanupJsonString("[]")).thenReturn("[]");
-            jsonUtilsMock.when(() -> JsonUtils.parse("[]")).thenReturn(emptyArray);
-
-            BMap emptyMap = mock(BMap.class);
-            valueCreatorMock.when(ValueCreator::createMapValue).thenReturn(emptyMap);
+        MessageContext context = mock(MessageContext.class);
 
-            BMap result = DataTransformer.getMapParameter("[]", context, "val");
-            Assert.assertEquals(result, emptyMap);
-        }
+        BMap result = DataTransformer.getMapParameter("[]", context, "val");
+        Assert.assertEquals(result.size(), 0);
     }
 
     @Test(expectedExceptions = SynapseException.class)
     public void testGetMapParameter_InvalidInput() {
-        try (MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class);
-             MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
+        MessageContext context = mock(MessageContext.class);
 
-            MessageContext context = mock(MessageContext.class);
-            BArray array = mock(BArray.class);
-            when(array.size()).thenReturn(1);
-            when(array.get(0)).thenReturn("not a map or array");
+        DataTransformer.getMapParameter("[\"not a map or array\"]", context, "val");
+    }
 
-            synapseUtilsMock.when(() -> SynapseUtils.cleanupJsonString("invalid")).thenReturn("invalid");
-            jsonUtilsMock.when(() -> JsonUtils.parse("invalid")).thenReturn(array);
+    @Test(expectedExceptions = SynapseException.class)
+    public void testGetMapParameter_MalformedJson() {
+        MessageContext context = mock(MessageContext.class);
 
-            DataTransformer.getMapParameter("invalid", context, "val");
-        }
+        DataTransformer.getMapParameter("invalid", context, "val");
     }
 
     @Test
     public void testGetMapParameter_WithQuotes() {
-        try (MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class);
-             MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
+        MessageContext context = mock(MessageContext.class);
 
-            MessageContext context = mock(MessageContext.class);
-            String quotedJson = "'{\"a\":1}'";
-            String unquotedJson = "{\"a\":1}";
-            BMap parsedMap = mock(BMap.class);
+        BMap result = DataTransformer.getMapParameter("'{\"a\":1}'", context, "val");
+        Assert.assertEquals(result.get(StringUtils.fromString("a")), 1L);
+    }
 
-            synapseUtilsMock.when(() -> SynapseUtils.cleanupJsonString(unquotedJson)).thenReturn(unquotedJson);
-            jsonUtilsMock.when(() -> JsonUtils.parse(unquotedJson)).thenReturn(parsedMap);
+    @Test
+    public void testGetMapParameter_TrailingCommas() {
+        MessageContext context = mock(MessageContext.class);
 
-            BMap result = DataTransformer.getMapParameter(quotedJson, context, "val");
-            Assert.assertEquals(result, parsedMap);
-        }
+        BMap result = DataTransformer.getMapParameter(" {\"a\":[1, 2, ], \"b\":\"x, }\", } ", context, "val");
+        Assert.assertEquals(((BArray) result.get(StringUtils.fromString("a"))).size(), 2);
+        Assert.assertEquals(result.get(StringUtils.fromString("b")).toString(), "x, }");
     }
 
     @Test
     public void testReconstructRecordFromFields_JsonType() {
-        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class);
-             MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class)) {
+        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
 
             MessageContext context = mock(MessageContext.class);
             String prefix = "testPrefix";
@@ -631,23 +591,60 @@ public class DataTransformerTest {
             when(context.getProperty(prefix + "_paramType0")).thenReturn(Constants.JSON);
             synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, "data"))
                     .thenReturn("{\"nested\":true}");
-            synapseUtilsMock.when(() -> SynapseUtils.cleanupJsonString("{\"nested\":true}"))
-                    .thenReturn("{\"nested\":true}");
 
             when(context.getProperty(prefix + "_param1")).thenReturn(null);
 
-            Object expectedBallerinaRecord = new Object();
-            jsonUtilsMock.when(() -> JsonUtils.parse(anyString())).thenReturn(expectedBallerinaRecord);
+            BMap<BString, Object> record = (BMap<BString, Object>) DataTransformer.reconstructRecordFromFields(prefix, context);
 
-            Object result = DataTransformer.reconstructRecordFromFields(prefix, context);
-            Assert.assertEquals(result, expectedBallerinaRecord);
+            Assert.assertEquals(((BMap<BString, Object>) record.get(StringUtils.fromString("data"))).get(StringUtils.fromString("nested")), true);
+        }
+    }
+
+    @Test
+    public void testReconstructRecordFromFields_JsonTypeWithUnquotedKeys() {
+        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
+
+            MessageContext context = mock(MessageContext.class);
+            String prefix = "testPrefix";
+
+            when(context.getProperty(prefix + "_param0")).thenReturn("data");
+            when(context.getProperty(prefix + "_paramType0")).thenReturn(Constants.JSON);
+            synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, "data"))
+                    .thenReturn("{nested: true, count: 2}");
+
+            when(context.getProperty(prefix + "_param1")).thenReturn(null);
+
+            BMap<BString, Object> record = (BMap<BString, Object>) DataTransformer.reconstructRecordFromFields(prefix, context);
+
+            BMap<BString, Object> data = (BMap<BString, Object>) record.get(StringUtils.fromString("data"));
+            Assert.assertEquals(data.get(StringUtils.fromString("nested")), true);
+            Assert.assertEquals(data.get(StringUtils.fromString("count")), 2L);
+        }
+    }
+
+    @Test
+    public void testReconstructRecordFromFields_RecordTypeWithSingleQuotedStrings() {
+        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
+
+            MessageContext context = mock(MessageContext.class);
+            String prefix = "testPrefix";
+
+            when(context.getProperty(prefix + "_param0")).thenReturn("person");
+            when(context.getProperty(prefix + "_paramType0")).thenReturn(Constants.RECORD);
+            synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, "person"))
+                    .thenReturn("{'name': 'John'}");
+
+            when(context.getProperty(prefix + "_param1")).thenReturn(null);
+
+            BMap<BString, Object> record = (BMap<BString, Object>) DataTransformer.reconstructRecordFromFields(prefix, context);
+
+            Assert.assertEquals(((BMap<BString, Object>) record.get(StringUtils.fromString("person"))).get(StringUtils.fromString("name")).toString(), "John");
         }
     }
 
     @Test
     public void testReconstructRecordFromFields_RecordType() {
-        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class);
-             MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class)) {
+        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
 
             MessageContext context = mock(MessageContext.class);
             String prefix = "testPrefix";
@@ -656,23 +653,18 @@ public class DataTransformerTest {
             when(context.getProperty(prefix + "_paramType0")).thenReturn(Constants.RECORD);
             synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, "person"))
                     .thenReturn("{\"name\":\"John\"}");
-            synapseUtilsMock.when(() -> SynapseUtils.cleanupJsonString("{\"name\":\"John\"}"))
-                    .thenReturn("{\"name\":\"John\"}");
 
             when(context.getProperty(prefix + "_param1")).thenReturn(null);
 
-            Object expectedBallerinaRecord = new Object();
-            jsonUtilsMock.when(() -> JsonUtils.parse(anyString())).thenReturn(expectedBallerinaRecord);
+            BMap<BString, Object> record = (BMap<BString, Object>) DataTransformer.reconstructRecordFromFields(prefix, context);
 
-            Object result = DataTransformer.reconstructRecordFromFields(prefix, context);
-            Assert.assertEquals(result, expectedBallerinaRecord);
+            Assert.assertEquals(((BMap<BString, Object>) record.get(StringUtils.fromString("person"))).get(StringUtils.fromString("name")).toString(), "John");
         }
     }
 
     @Test
     public void testReconstructRecordFromFields_ArrayType() {
-        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class);
-             MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class)) {
+        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
 
             MessageContext context = mock(MessageContext.class);
             String prefix = "testPrefix";
@@ -681,23 +673,20 @@ public class DataTransformerTest {
             when(context.getProperty(prefix + "_paramType0")).thenReturn(Constants.ARRAY);
             synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, "items"))
                     .thenReturn("[1,2,3]");
-            synapseUtilsMock.when(() -> SynapseUtils.cleanupJsonString("[1,2,3]"))
-                    .thenReturn("[1,2,3]");
 
             when(context.getProperty(prefix + "_param1")).thenReturn(null);
 
-            Object expectedBallerinaRecord = new Object();
-            jsonUtilsMock.when(() -> JsonUtils.parse(anyString())).thenReturn(expectedBallerinaRecord);
+            BMap<BString, Object> record = (BMap<BString, Object>) DataTransformer.reconstructRecordFromFields(prefix, context);
 
-            Object result = DataTransformer.reconstructRecordFromFields(prefix, context);
-            Assert.assertEquals(result, expectedBallerinaRecord);
+            BArray items = (BArray) record.get(StringUtils.fromString("items"));
+            Assert.assertEquals(items.size(), 3);
+            Assert.assertEquals(items.get(0), 1L);
         }
     }
 
     @Test
     public void testReconstructRecordFromFields_MapType() {
-        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class);
-             MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class)) {
+        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
 
             MessageContext context = mock(MessageContext.class);
             String prefix = "testPrefix";
@@ -706,23 +695,18 @@ public class DataTransformerTest {
             when(context.getProperty(prefix + "_paramType0")).thenReturn(Constants.MAP);
             synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, "mappings"))
                     .thenReturn("{\"key1\":\"val1\"}");
-            synapseUtilsMock.when(() -> SynapseUtils.cleanupJsonString("{\"key1\":\"val1\"}"))
-                    .thenReturn("{\"key1\":\"val1\"}");
 
             when(context.getProperty(prefix + "_param1")).thenReturn(null);
 
-            Object expectedBallerinaRecord = new Object();
-            jsonUtilsMock.when(() -> JsonUtils.parse(anyString())).thenReturn(expectedBallerinaRecord);
+            BMap<BString, Object> record = (BMap<BString, Object>) DataTransformer.reconstructRecordFromFields(prefix, context);
 
-            Object result = DataTransformer.reconstructRecordFromFields(prefix, context);
-            Assert.assertEquals(result, expectedBallerinaRecord);
+            Assert.assertEquals(((BMap<BString, Object>) record.get(StringUtils.fromString("mappings"))).get(StringUtils.fromString("key1")).toString(), "val1");
         }
     }
 
     @Test
     public void testReconstructRecordFromFields_EmptyArraySkipped() {
-        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class);
-             MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class)) {
+        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
 
             MessageContext context = mock(MessageContext.class);
             String prefix = "testPrefix";
@@ -734,18 +718,15 @@ public class DataTransformerTest {
 
             when(context.getProperty(prefix + "_param1")).thenReturn(null);
 
-            Object expectedBallerinaRecord = new Object();
-            jsonUtilsMock.when(() -> JsonUtils.parse(anyString())).thenReturn(expectedBallerinaRecord);
+            BMap<BString, Object> record = (BMap<BString, Object>) DataTransformer.reconstructRecordFromFields(prefix, context);
 
-            Object result = DataTransformer.reconstructRecordFromFields(prefix, context);
-            Assert.assertEquals(result, expectedBallerinaRecord);
+            Assert.assertFalse(record.containsKey(StringUtils.fromString("items")));
         }
     }
 
     @Test
     public void testReconstructRecordFromFields_NestedField() {
-        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class);
-             MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class)) {
+        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
 
             MessageContext context = mock(MessageContext.class);
             String prefix = "testPrefix";
@@ -757,18 +738,15 @@ public class DataTransformerTest {
 
             when(context.getProperty(prefix + "_param1")).thenReturn(null);
 
-            Object expectedBallerinaRecord = new Object();
-            jsonUtilsMock.when(() -> JsonUtils.parse(anyString())).thenReturn(expectedBallerinaRecord);
+            BMap<BString, Object> record = (BMap<BString, Object>) DataTransformer.reconstructRecordFromFields(prefix, context);
 
-            Object result = DataTransformer.reconstructRecordFromFields(prefix, context);
-            Assert.assertEquals(result, expectedBallerinaRecord);
+            Assert.assertEquals(((BMap<BString, Object>) record.get(StringUtils.fromString("address"))).get(StringUtils.fromString("city")).toString(), "New York");
         }
     }
 
     @Test
     public void testReconstructRecordFromFields_UnionType() {
-        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class);
-             MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class)) {
+        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
 
             MessageContext context = mock(MessageContext.class);
             String prefix = "testPrefix";
@@ -777,16 +755,12 @@ public class DataTransformerTest {
             when(context.getProperty(prefix + "_paramType0")).thenReturn(Constants.UNION);
             synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, "unionField"))
                     .thenReturn("{\"nested\":true}");
-            synapseUtilsMock.when(() -> SynapseUtils.cleanupJsonString("{\"nested\":true}"))
-                    .thenReturn("{\"nested\":true}");
 
             when(context.getProperty(prefix + "_param1")).thenReturn(null);
 
-            Object expectedBallerinaRecord = new Object();
-            jsonUtilsMock.when(() -> JsonUtils.parse(anyString())).thenReturn(expectedBallerinaRecord);
+            BMap<BString, Object> record = (BMap<BString, Object>) DataTransformer.reconstructRecordFromFields(prefix, context);
 
-            Object result = DataTransformer.reconstructRecordFromFields(prefix, context);
-            Assert.assertEquals(result, expectedBallerinaRecord);
+            Assert.assertEquals(((BMap<BString, Object>) record.get(StringUtils.fromString("unionField"))).get(StringUtils.fromString("nested")), true);
         }
     }
 
@@ -808,29 +782,21 @@ public class DataTransformerTest {
 
     @Test
     public void testGetMapParameter_NonStringParam() {
-        try (MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class);
-             MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
-
-            MessageContext context = mock(MessageContext.class);
-            Object param = new Object() {
-                @Override
-                public String toString() {
-                    return "{\"a\":1}";
-                }
-            };
-            BMap parsedMap = mock(BMap.class);
-
-            synapseUtilsMock.when(() -> SynapseUtils.cleanupJsonString("{\"a\":1}")).thenReturn("{\"a\":1}");
-            jsonUtilsMock.when(() -> JsonUtils.parse("{\"a\":1}")).thenReturn(parsedMap);
+        MessageContext context = mock(MessageContext.class);
+        Object param = new Object() {
+            @Override
+            public String toString() {
+                return "{\"a\":1}";
+            }
+        };
 
-            BMap result = DataTransformer.getMapParameter(param, context, "val");
-            Assert.assertEquals(result, parsedMap);
-        }
+        BMap result = DataTransformer.getMapParameter(param, context, "val");
+        Assert.assertEquals(result.get(StringUtils.fromString("a")), 1L);
     }
 
     @Test
     public void testTransformNestedTableTo2DArray_MultipleRows() {
-        try (MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class)) {
+        try (MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class, Mockito.CALLS_REAL_METHODS)) {
             BString innerArrayKey = mock(BString.class);
             BString valueKey = mock(BString.class);
 
@@ -862,14 +828,16 @@ public class DataTransformerTest {
             when(innerRow2.size()).thenReturn(1);
             when(innerRow2.get(valueKey)).thenReturn(2);
 
-            String result = DataTransformer.transformNestedTableTo2DArray(outerArray);
-            Assert.assertEquals(result, "[[1],[2]]");
+            BArray result = DataTransformer.transformNestedTableTo2DArray(outerArray);
+            Assert.assertEquals(result.size(), 2);
+            Assert.assertEquals(((BArray) result.get(0)).get(0), 1L);
+            Assert.assertEquals(((BArray) result.get(1)).get(0), 2L);
         }
     }
 
     @Test
     public void testTransformNestedTableTo2DArray_InnerElementNotBMap() {
-        try (MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class)) {
+        try (MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class, Mockito.CALLS_REAL_METHODS)) {
             BString innerArrayKey = mock(BString.class);
             BString valueKey = mock(BString.class);
 
@@ -886,38 +854,21 @@ public class DataTransformerTest {
             when(innerArray.size()).thenReturn(1);
             when(innerArray.get(0)).thenReturn("plainValue");
 
-            String result = DataTransformer.transformNestedTableTo2DArray(outerArray);
-            Assert.assertEquals(result, "[[\"plainValue\"]]");
+            BArray result = DataTransformer.transformNestedTableTo2DArray(outerArray);
+            Assert.assertEquals(((BArray) result.get(0)).get(0).toString(), "plainValue");
         }
     }
 
     @Test
     public void testTransformNestedTableTo2DArray_BMapWithoutSingleValue() {
-        try (MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class)) {
-            BString innerArrayKey = mock(BString.class);
-            BString valueKey = mock(BString.class);
-
-            stringUtilsMock.when(() -> StringUtils.fromString("innerArray")).thenReturn(innerArrayKey);
-            stringUtilsMock.when(() -> StringUtils.fromString("value")).thenReturn(valueKey);
-
-            BArray outerArray = mock(BArray.class);
-            when(outerArray.size()).thenReturn(1);
-
-            BMap outerRow = mock(BMap.class);
-            when(outerArray.get(0)).thenReturn(outerRow);
-            BArray innerArray = mock(BArray.class);
-            when(outerRow.get(innerArrayKey)).thenReturn(innerArray);
-            when(innerArray.size()).thenReturn(1);
+        BArray outerArray = (BArray) JsonUtils.parse("[{\"innerArray\": [{\"value\": 1, \"b\": 2}]}]");
 
-            BMap innerRow = mock(BMap.class);
-            when(innerArray.get(0)).thenReturn(innerRow);
-            when(innerRow.containsKey(valueKey)).thenReturn(true);
-            when(innerRow.size()).thenReturn(2);
-            when(innerRow.toString()).thenReturn("{\"a\":1,\"b\":2}");
+        BArray result = DataTransformer.transformNestedTableTo2DArray(outerArray);
 
-            String result = DataTransformer.transformNestedTableTo2DArray(outerArray);
-            Assert.assertEquals(result, "[[{\"a\":1,\"b\":2}]]");
-        }
+        BMap<BString, Object> innerRow = (BMap<BString, Object>) ((BArray) result.get(0)).get(0);
+        Assert.assertEquals(innerRow.size(), 2);
+        Assert.assertEquals(innerRow.get(StringUtils.fromString("value")), 1L);
+        Assert.assertEquals(innerRow.get(StringUtils.fromString("b")), 2L);
     }
 
     @Test
@@ -935,8 +886,10 @@ public class DataTransformerTest {
         when(outerRow2.size()).thenReturn(2);
         when(outerRow2.get(1)).thenReturn("[{value=2}]");
 
-        String result = DataTransformer.transformMIStudioNestedTableTo2DArray(outerArray, null);
-        Assert.assertEquals(result, "[[1],[2]]");
+        BArray result = DataTransformer.transformMIStudioNestedTableTo2DArray(outerArray, null);
+        Assert.assertEquals(result.size(), 2);
+        Assert.assertEquals(((BArray) result.get(0)).get(0), 1L);
+        Assert.assertEquals(((BArray) result.get(1)).get(0), 2L);
     }
 
     @Test
@@ -946,14 +899,16 @@ public class DataTransformerTest {
             synapseUtilsMock.when(() -> SynapseUtils.resolveSynapseExpressions(innerTableStr, null))
                     .thenReturn(innerTableStr);
 
-            String result = DataTransformer.parseInnerTableValues(innerTableStr, null);
-            Assert.assertEquals(result, "[100,\"hello\"]");
+            BArray result = DataTransformer.parseInnerTableValues(innerTableStr, null);
+            Assert.assertEquals(result.size(), 2);
+            Assert.assertEquals(result.get(0), 100L);
+            Assert.assertEquals(result.get(1).toString(), "hello");
         }
     }
 
     @Test
     public void testTransformTableArrayToSimpleArray_NonBStringValue() {
-        try (MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class)) {
+        try (MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class, Mockito.CALLS_REAL_METHODS)) {
             BString valueKey = mock(BString.class);
             stringUtilsMock.when(() -> StringUtils.fromString("value")).thenReturn(valueKey);
 
@@ -970,30 +925,28 @@ public class DataTransformerTest {
             };
             when(row.get(valueKey)).thenReturn(complexValue);
 
-            String result = DataTransformer.transformTableArrayToSimpleArray(tableArray);
-            Assert.assertEquals(result, "[\"complex\"]");
+            BArray result = DataTransformer.transformTableArrayToSimpleArray(tableArray);
+            Assert.assertTrue(result.get(0) instanceof BString);
+            Assert.assertEquals(result.get(0).toString(), "complex");
         }
     }
 
     @Test
-    public void testAppendJsonValue_LongNumber() {
-        StringBuilder sb = new StringBuilder();
-        DataTransformer.appendJsonValue(sb, 1234567890123L);
-        Assert.assertEquals(sb.toString(), "1234567890123");
+    public void testToJsonScalar_LongNumber() {
+        Assert.assertEquals(DataTransformer.toJsonScalar(1234567890123L), 1234567890123L);
     }
 
     @Test
-    public void testAppendJsonValue_NegativeDouble() {
-        StringBuilder sb = new StringBuilder();
-        DataTransformer.appendJsonValue(sb, -3.14);
-        Assert.assertEquals(sb.toString(), "-3.14");
+    public void testToJsonScalar_NegativeDouble() {
+        Assert.assertEquals(((BDecimal) DataTransformer.toJsonScalar(-3.14)).decimalValue(), new BigDecimal("-3.14"));
     }
 
     @Test
-    public void testEscapeJsonString_AllEscapes() {
-        String input = "a\\b\"c\nd\re\tf";
-        String expected = "a\\\\b\\\"c\\nd\\re\\tf";
-        Assert.assertEquals(DataTransformer.escapeJsonString(input), expected);
+    public void testToJsonScalar_MapsAndArraysAreKept() {
+        Object map = JsonUtils.parse("{\"a\": 1}");
+        Object array = JsonUtils.parse("[1, 2]");
+        Assert.assertSame(DataTransformer.toJsonScalar(map), map);
+        Assert.assertSame(DataTransformer.toJsonScalar(array), array);
     }
 
     @Test
@@ -1056,10 +1009,17 @@ public class DataTransformerTest {
 
     @Test
     public void testGetMapParameter_TableArray() {
-        try (MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class);
-             MockedStatic<ValueCreator> valueCreatorMock = Mockito.mockStatic(ValueCreator.class);
-             MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class);
-             MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
+        MessageContext context = mock(MessageContext.class);
+
+        BMap result = DataTransformer.getMapParameter("[{\"key\":\"myKey\",\"value\":\"myValue\"}]", context, "param0");
+        Assert.assertEquals(result.size(), 1);
+        Assert.assertEquals(result.get(StringUtils.fromString("myKey")).toString(), "myValue");
+    }
+
+    @Test
+    public void testGetMapParameter_TableArray_BArrayInput() {
+        try (MockedStatic<ValueCreator> valueCreatorMock = Mockito.mockStatic(ValueCreator.class);
+             MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class)) {
 
             MessageContext context = mock(MessageContext.class);
             BArray tableArray = mock(BArray.class);
@@ -1081,15 +1041,11 @@ public class DataTransformerTest {
             Object[] keys = { keyFieldName, valueFieldName };
             when(row.getKeys()).thenReturn(keys);
 
-            synapseUtilsMock.when(() -> SynapseUtils.cleanupJsonString("[{\"key\":\"myKey\",\"value\":\"myValue\"}]"))
-                    .thenReturn("[{\"key\":\"myKey\",\"value\":\"myValue\"}]");
-            jsonUtilsMock.when(() -> JsonUtils.parse("[{\"key\":\"myKey\",\"value\":\"myValue\"}]"))
-                    .thenReturn(tableArray);
 
             BMap resultMap = mock(BMap.class);
             valueCreatorMock.when(ValueCreator::createMapValue).thenReturn(resultMap);
 
-            BMap result = DataTransformer.getMapParameter("[{\"key\":\"myKey\",\"value\":\"myValue\"}]", context, "param0");
+            BMap result = DataTransformer.getMapParameter(tableArray, context, "param0");
             Assert.assertEquals(result, resultMap);
         }
     }
@@ -1101,8 +1057,9 @@ public class DataTransformerTest {
             synapseUtilsMock.when(() -> SynapseUtils.resolveSynapseExpressions(innerTableStr, null))
                     .thenReturn("[{value=item1}]");
 
-            String result = DataTransformer.parseInnerTableValues(innerTableStr, null);
-            Assert.assertEquals(result, "[\"item1\"]");
+            BArray result = DataTransformer.parseInnerTableValues(innerTableStr, null);
+            Assert.assertEquals(result.size(), 1);
+            Assert.assertEquals(result.get(0).toString(), "item1");
         }
     }
 
@@ -1113,8 +1070,9 @@ public class DataTransformerTest {
             synapseUtilsMock.when(() -> SynapseUtils.resolveSynapseExpressions(innerTableStr, null))
                     .thenReturn("[{value=123}, {value=45.67}]");
 
-            String result = DataTransformer.parseInnerTableValues(innerTableStr, null);
-            Assert.assertEquals(result, "[123,45.67]");
+            BArray result = DataTransformer.parseInnerTableValues(innerTableStr, null);
+            Assert.assertEquals(result.get(0), 123L);
+            Assert.assertEquals(((BDecimal) result.get(1)).decimalValue(), new BigDecimal("45.67"));
         }
     }
 
@@ -1125,42 +1083,35 @@ public class DataTransformerTest {
             synapseUtilsMock.when(() -> SynapseUtils.resolveSynapseExpressions(innerTableStr, null))
                     .thenReturn("[{value=true}, {value=false}]");
 
-            String result = DataTransformer.parseInnerTableValues(innerTableStr, null);
-            Assert.assertEquals(result, "[true,false]");
+            BArray result = DataTransformer.parseInnerTableValues(innerTableStr, null);
+            Assert.assertEquals(result.get(0), true);
+            Assert.assertEquals(result.get(1), false);
         }
     }
 
     @Test
-    public void testAppendJsonValue_BooleanTrue() {
-        StringBuilder sb = new StringBuilder();
-        DataTransformer.appendJsonValue(sb, true);
-        Assert.assertEquals(sb.toString(), "true");
+    public void testToJsonScalar_BooleanTrue() {
+        Assert.assertEquals(DataTransformer.toJsonScalar("true"), true);
     }
 
     @Test
-    public void testAppendJsonValue_BooleanFalse() {
-        StringBuilder sb = new StringBuilder();
-        DataTransformer.appendJsonValue(sb, false);
-        Assert.assertEquals(sb.toString(), "false");
+    public void testToJsonScalar_BooleanFalse() {
+        Assert.assertEquals(DataTransformer.toJsonScalar("false"), false);
     }
 
     @Test
-    public void testAppendJsonValue_IntegerZero() {
-        StringBuilder sb = new StringBuilder();
-        DataTransformer.appendJsonValue(sb, 0);
-        Assert.assertEquals(sb.toString(), "0");
+    public void testToJsonScalar_IntegerZero() {
+        Assert.assertEquals(DataTransformer.toJsonScalar(0), 0L);
     }
 
     @Test
-    public void testAppendJsonValue_ZeroPointZero() {
-        StringBuilder sb = new StringBuilder();
-        DataTransformer.appendJsonValue(sb, 0.0);
-        Assert.assertEquals(sb.toString(), "0.0");
+    public void testToJsonScalar_ZeroPointZero() {
+        Assert.assertEquals(((BDecimal) DataTransformer.toJsonScalar(0.0)).decimalValue(), new BigDecimal("0.0"));
     }
 
     @Test
     public void testTransformTableArrayToSimpleArray_NumberValue() {
-        try (MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class)) {
+        try (MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class, Mockito.CALLS_REAL_METHODS)) {
             BString valueKey = mock(BString.class);
             stringUtilsMock.when(() -> StringUtils.fromString("value")).thenReturn(valueKey);
 
@@ -1171,14 +1122,14 @@ public class DataTransformerTest {
             when(tableArray.get(0)).thenReturn(row);
             when(row.get(valueKey)).thenReturn(100);
 
-            String result = DataTransformer.transformTableArrayToSimpleArray(tableArray);
-            Assert.assertEquals(result, "[100]");
+            BArray result = DataTransformer.transformTableArrayToSimpleArray(tableArray);
+            Assert.assertEquals(result.get(0), 100L);
         }
     }
 
     @Test
     public void testTransformTableArrayToSimpleArray_BooleanValue() {
-        try (MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class)) {
+        try (MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class, Mockito.CALLS_REAL_METHODS)) {
             BString valueKey = mock(BString.class);
             stringUtilsMock.when(() -> StringUtils.fromString("value")).thenReturn(valueKey);
 
@@ -1189,21 +1140,21 @@ public class DataTransformerTest {
             when(tableArray.get(0)).thenReturn(row);
             when(row.get(valueKey)).thenReturn(Boolean.TRUE);
 
-            String result = DataTransformer.transformTableArrayToSimpleArray(tableArray);
-            Assert.assertEquals(result, "[true]");
+            BArray result = DataTransformer.transformTableArrayToSimpleArray(tableArray);
+            Assert.assertEquals(result.get(0), true);
         }
     }
 
     @Test
     public void testParseInnerTableValues_EmptyBrackets() {
-        String result = DataTransformer.parseInnerTableValues("[]", null);
-        Assert.assertEquals(result, "[]");
+        BArray result = DataTransformer.parseInnerTableValues("[]", null);
+        Assert.assertEquals(result.size(), 0);
     }
 
     @Test
     public void testParseInnerTableValues_WhitespaceOnly() {
-        String result = DataTransformer.parseInnerTableValues("   ", null);
-        Assert.assertEquals(result, "[]");
+        BArray result = DataTransformer.parseInnerTableValues("   ", null);
+        Assert.assertEquals(result.size(), 0);
     }
 
     @Test
@@ -1211,16 +1162,23 @@ public class DataTransformerTest {
         BArray outerArray = mock(BArray.class);
         when(outerArray.size()).thenReturn(0);
 
-        String result = DataTransformer.transformMIStudioNestedTableTo2DArray(outerArray, null);
-        Assert.assertEquals(result, "[]");
+        BArray result = DataTransformer.transformMIStudioNestedTableTo2DArray(outerArray, null);
+        Assert.assertEquals(result.size(), 0);
     }
 
     @Test
     public void testGetMapParameter_2DArrayWithFieldNames() {
-        try (MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class);
-             MockedStatic<ValueCreator> valueCreatorMock = Mockito.mockStatic(ValueCreator.class);
-             MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class);
-             MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
+        MessageContext context = mock(MessageContext.class);
+        when(context.getProperty("mapRecordFields0")).thenReturn(null);
+
+        BMap result = DataTransformer.getMapParameter("[[\"myKey\",\"myValue\"]]", context, "param0");
+        Assert.assertEquals(result.get(StringUtils.fromString("myKey")).toString(), "myValue");
+    }
+
+    @Test
+    public void testGetMapParameter_2DArrayWithFieldNames_BArrayInput() {
+        try (MockedStatic<ValueCreator> valueCreatorMock = Mockito.mockStatic(ValueCreator.class);
+             MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class)) {
 
             MessageContext context = mock(MessageContext.class);
             BArray array2D = mock(BArray.class);
@@ -1237,54 +1195,52 @@ public class DataTransformerTest {
             when(innerRow.get(0)).thenReturn("myKey");
             when(innerRow.get(1)).thenReturn("myValue");
 
-            synapseUtilsMock.when(() -> SynapseUtils.cleanupJsonString("[[\"myKey\",\"myValue\"]]"))
-                    .thenReturn("[[\"myKey\",\"myValue\"]]");
-            jsonUtilsMock.when(() -> JsonUtils.parse("[[\"myKey\",\"myValue\"]]"))
-                    .thenReturn(array2D);
 
             BMap resultMap = mock(BMap.class);
             valueCreatorMock.when(ValueCreator::createMapValue).thenReturn(resultMap);
 
             when(context.getProperty("mapRecordFields0")).thenReturn(null);
 
-            BMap result = DataTransformer.getMapParameter("[[\"myKey\",\"myValue\"]]", context, "param0");
+            BMap result = DataTransformer.getMapParameter(array2D, context, "param0");
             Assert.assertEquals(result, resultMap);
         }
     }
 
     @Test
     public void testTransformNestedTableTo2DArray_BMapWithNoValueField() {
-        try (MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class)) {
-            BString innerArrayKey = mock(BString.class);
-            BString valueKey = mock(BString.class);
+        BArray outerArray = (BArray) JsonUtils.parse("[{\"innerArray\": [{\"name\": \"x\"}]}]");
 
-            stringUtilsMock.when(() -> StringUtils.fromString("innerArray")).thenReturn(innerArrayKey);
-            stringUtilsMock.when(() -> StringUtils.fromString("value")).thenReturn(valueKey);
+        BArray result = DataTransformer.transformNestedTableTo2DArray(outerArray);
 
-            BArray outerArray = mock(BArray.class);
-            when(outerArray.size()).thenReturn(1);
+        BMap<BString, Object> innerRow = (BMap<BString, Object>) ((BArray) result.get(0)).get(0);
+        Assert.assertEquals(innerRow.get(StringUtils.fromString("name")).toString(), "x");
+    }
 
-            BMap outerRow = mock(BMap.class);
-            when(outerArray.get(0)).thenReturn(outerRow);
-            BArray innerArray = mock(BArray.class);
-            when(outerRow.get(innerArrayKey)).thenReturn(innerArray);
-            when(innerArray.size()).thenReturn(1);
+    @Test
+    public void testGetMapParameter_2DArrayWithMoreThan2Columns() {
+        MessageContext context = mock(MessageContext.class);
+        when(context.getProperty("mapRecordFields0")).thenReturn("fieldA,fieldB");
+
+        BMap result = DataTransformer.getMapParameter("[[\"myKey\",\"value1\",\"value2\"]]", context, "param0");
+        BMap recordValue = (BMap) result.get(StringUtils.fromString("myKey"));
+        Assert.assertEquals(recordValue.get(StringUtils.fromString("fieldA")).toString(), "value1");
+        Assert.assertEquals(recordValue.get(StringUtils.fromString("fieldB")).toString(), "value2");
+    }
 
-            BMap innerRow = mock(BMap.class);
-            when(innerArray.get(0)).thenReturn(innerRow);
-            when(innerRow.containsKey(valueKey)).thenReturn(false);
+    @Test
+    public void testGetMapParameter_2DArrayWithIndexOfPrefixedKey() {
+        MessageContext context = mock(MessageContext.class);
+        when(context.getProperty("mapRecordFields12")).thenReturn("fieldA,fieldB");
 
-            String result = DataTransformer.transformNestedTableTo2DArray(outerArray);
-            Assert.assertTrue(result.startsWith("[["));
-        }
+        BMap result = DataTransformer.getMapParameter("[[\"myKey\",\"value1\",\"value2\"]]", context, 12);
+        BMap recordValue = (BMap) result.get(StringUtils.fromString("myKey"));
+        Assert.assertEquals(recordValue.get(StringUtils.fromString("fieldB")).toString(), "value2");
     }
 
     @Test
-    public void testGetMapParameter_2DArrayWithMoreThan2Columns() {
-        try (MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class);
-             MockedStatic<ValueCreator> valueCreatorMock = Mockito.mockStatic(ValueCreator.class);
-             MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class);
-             MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
+    public void testGetMapParameter_2DArrayWithMoreThan2Columns_BArrayInput() {
+        try (MockedStatic<ValueCreator> valueCreatorMock = Mockito.mockStatic(ValueCreator.class);
+             MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class)) {
 
             MessageContext context = mock(MessageContext.class);
             BArray array2D = mock(BArray.class);
@@ -1302,10 +1258,6 @@ public class DataTransformerTest {
             when(innerRow.get(1)).thenReturn("value1");
             when(innerRow.get(2)).thenReturn("value2");
 
-            synapseUtilsMock.when(() -> SynapseUtils.cleanupJsonString("[[\"myKey\",\"value1\",\"value2\"]]"))
-                    .thenReturn("[[\"myKey\",\"value1\",\"value2\"]]");
-            jsonUtilsMock.when(() -> JsonUtils.parse("[[\"myKey\",\"value1\",\"value2\"]]"))
-                    .thenReturn(array2D);
 
             BMap resultMap = mock(BMap.class);
             BMap recordValue = mock(BMap.class);
@@ -1313,17 +1265,27 @@ public class DataTransformerTest {
 
             when(context.getProperty("mapRecordFields0")).thenReturn("fieldA,fieldB");
 
-            BMap result = DataTransformer.getMapParameter("[[\"myKey\",\"value1\",\"value2\"]]", context, "param0");
+            BMap result = DataTransformer.getMapParameter(array2D, context, "param0");
             Assert.assertEquals(result, resultMap);
         }
     }
 
     @Test
     public void testGetMapParameter_TableArrayWithMultipleFields() {
-        try (MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class);
-             MockedStatic<ValueCreator> valueCreatorMock = Mockito.mockStatic(ValueCreator.class);
-             MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class);
-             MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
+        MessageContext context = mock(MessageContext.class);
+
+        BMap result = DataTransformer.getMapParameter(
+                "[{\"key\":\"testKey\",\"value\":\"val1\",\"otherField\":\"val2\"}]", context, "param0");
+        BMap recordValue = (BMap) result.get(StringUtils.fromString("testKey"));
+        Assert.assertEquals(recordValue.size(), 2);
+        Assert.assertEquals(recordValue.get(StringUtils.fromString("value")).toString(), "val1");
+        Assert.assertEquals(recordValue.get(StringUtils.fromString("otherField")).toString(), "val2");
+    }
+
+    @Test
+    public void testGetMapParameter_TableArrayWithMultipleFields_BArrayInput() {
+        try (MockedStatic<ValueCreator> valueCreatorMock = Mockito.mockStatic(ValueCreator.class);
+             MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class)) {
 
             MessageContext context = mock(MessageContext.class);
             BArray tableArray = mock(BArray.class);
@@ -1355,26 +1317,29 @@ public class DataTransformerTest {
             when(valueFieldName.getValue()).thenReturn("value");
             when(otherFieldName.getValue()).thenReturn("otherField");
 
-            synapseUtilsMock.when(() -> SynapseUtils.cleanupJsonString(anyString()))
-                    .thenAnswer(i -> i.getArgument(0));
-            jsonUtilsMock.when(() -> JsonUtils.parse(anyString()))
-                    .thenReturn(tableArray);
 
             BMap resultMap = mock(BMap.class);
             BMap recordValue = mock(BMap.class);
             valueCreatorMock.when(ValueCreator::createMapValue).thenReturn(resultMap, recordValue);
 
-            BMap result = DataTransformer.getMapParameter("{}", context, "param0");
+            BMap result = DataTransformer.getMapParameter(tableArray, context, "param0");
             Assert.assertEquals(result, resultMap);
         }
     }
 
     @Test
     public void testGetMapParameter_2DArrayWithEmptyRow() {
-        try (MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class);
-             MockedStatic<ValueCreator> valueCreatorMock = Mockito.mockStatic(ValueCreator.class);
-             MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class);
-             MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
+        MessageContext context = mock(MessageContext.class);
+        when(context.getProperty("mapRecordFields0")).thenReturn(null);
+
+        BMap result = DataTransformer.getMapParameter("[[]]", context, "param0");
+        Assert.assertEquals(result.size(), 0);
+    }
+
+    @Test
+    public void testGetMapParameter_2DArrayWithEmptyRow_BArrayInput() {
+        try (MockedStatic<ValueCreator> valueCreatorMock = Mockito.mockStatic(ValueCreator.class);
+             MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class)) {
 
             MessageContext context = mock(MessageContext.class);
             BArray array2D = mock(BArray.class);
@@ -1386,25 +1351,20 @@ public class DataTransformerTest {
             when(array2D.get(0)).thenReturn(emptyRow);
             when(emptyRow.size()).thenReturn(0);  // Empty row
 
-            synapseUtilsMock.when(() -> SynapseUtils.cleanupJsonString("[[]]"))
-                    .thenReturn("[[]]");
-            jsonUtilsMock.when(() -> JsonUtils.parse("[[]]"))
-                    .thenReturn(array2D);
 
             BMap resultMap = mock(BMap.class);
             valueCreatorMock.when(ValueCreator::createMapValue).thenReturn(resultMap);
 
             when(context.getProperty("mapRecordFields0")).thenReturn(null);
 
-            BMap result = DataTransformer.getMapParameter("[[]]", context, "param0");
+            BMap result = DataTransformer.getMapParameter(array2D, context, "param0");
             Assert.assertEquals(result, resultMap);
         }
     }
 
     @Test
     public void testReconstructRecordFromFields_UnionMemberTypeSkipped() {
-        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class);
-             MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class)) {
+        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
 
             MessageContext context = mock(MessageContext.class);
             String prefix = "testPrefix";
@@ -1421,23 +1381,18 @@ public class DataTransformerTest {
 
             when(context.getProperty(prefix + "_param1")).thenReturn(null);
 
-            synapseUtilsMock.when(() -> SynapseUtils.findParentUnionPath("data", java.util.Set.of("data")))
-                    .thenReturn("data");
             synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, "data"))
                     .thenReturn(null);
 
-            Object expectedBallerinaRecord = new Object();
-            jsonUtilsMock.when(() -> JsonUtils.parse(anyString())).thenReturn(expectedBallerinaRecord);
+            BMap<BString, Object> record = (BMap<BString, Object>) DataTransformer.reconstructRecordFromFields(prefix, context);
 
-            Object result = DataTransformer.reconstructRecordFromFields(prefix, context);
-            Assert.assertEquals(result, expectedBallerinaRecord);
+            Assert.assertFalse(record.containsKey(StringUtils.fromString("data")));
         }
     }
 
     @Test
     public void testReconstructRecordFromFields_SynapseExpressionResolution() {
-        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class);
-             MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class)) {
+        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
 
             MessageContext context = mock(MessageContext.class);
             String prefix = "testPrefix";
@@ -1451,18 +1406,15 @@ public class DataTransformerTest {
 
             when(context.getProperty(prefix + "_param1")).thenReturn(null);
 
-            Object expectedBallerinaRecord = new Object();
-            jsonUtilsMock.when(() -> JsonUtils.parse(anyString())).thenReturn(expectedBallerinaRecord);
+            BMap<BString, Object> record = (BMap<BString, Object>) DataTransformer.reconstructRecordFromFields(prefix, context);
 
-            Object result = DataTransformer.reconstructRecordFromFields(prefix, context);
-            Assert.assertEquals(result, expectedBallerinaRecord);
+            Assert.assertEquals(record.get(StringUtils.fromString("dynamicField")).toString(), "resolvedValue");
         }
     }
 
     @Test
     public void testReconstructRecordFromFields_NullFieldValue() {
-        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class);
-             MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class)) {
+        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
 
             MessageContext context = mock(MessageContext.class);
             String prefix = "testPrefix";
@@ -1474,18 +1426,15 @@ public class DataTransformerTest {
 
             when(context.getProperty(prefix + "_param1")).thenReturn(null);
 
-            Object expectedBallerinaRecord = new Object();
-            jsonUtilsMock.when(() -> JsonUtils.parse(anyString())).thenReturn(expectedBallerinaRecord);
+            BMap<BString, Object> record = (BMap<BString, Object>) DataTransformer.reconstructRecordFromFields(prefix, context);
 
-            Object result = DataTransformer.reconstructRecordFromFields(prefix, context);
-            Assert.assertEquals(result, expectedBallerinaRecord);
+            Assert.assertFalse(record.containsKey(StringUtils.fromString("nullField")));
         }
     }
 
     @Test
     public void testReconstructRecordFromFields_UnionFieldWithSelectedType() {
-        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class);
-             MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class)) {
+        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
 
             MessageContext context = mock(MessageContext.class);
             String prefix = "testPrefix";
@@ -1500,23 +1449,18 @@ public class DataTransformerTest {
             when(context.getProperty(prefix + "_unionMember0")).thenReturn(null);
             synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, "unionField"))
                     .thenReturn("{\"nested\":true}");
-            synapseUtilsMock.when(() -> SynapseUtils.cleanupJsonString("{\"nested\":true}"))
-                    .thenReturn("{\"nested\":true}");
 
             when(context.getProperty(prefix + "_param1")).thenReturn(null);
 
-            Object expectedBallerinaRecord = new Object();
-            jsonUtilsMock.when(() -> JsonUtils.parse(anyString())).thenReturn(expectedBallerinaRecord);
+            BMap<BString, Object> record = (BMap<BString, Object>) DataTransformer.reconstructRecordFromFields(prefix, context);
 
-            Object result = DataTransformer.reconstructRecordFromFields(prefix, context);
-            Assert.assertEquals(result, expectedBallerinaRecord);
+            Assert.assertEquals(((BMap<BString, Object>) record.get(StringUtils.fromString("unionField"))).get(StringUtils.fromString("nested")), true);
         }
     }
 
     @Test
     public void testReconstructRecordFromFields_NonUnionWithUnionMember() {
-        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class);
-             MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class)) {
+        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
 
             MessageContext context = mock(MessageContext.class);
             String prefix = "testPrefix";
@@ -1526,19 +1470,14 @@ public class DataTransformerTest {
             when(context.getProperty(prefix + "_paramType0")).thenReturn(Constants.STRING);
             when(context.getProperty(prefix + "_unionMember0")).thenReturn("stringType");
 
-            // Parent union path exists and matches
-            synapseUtilsMock.when(() -> SynapseUtils.findParentUnionPath(anyString(), any()))
-                    .thenReturn(null);  // No parent union path
             synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, "childField"))
                     .thenReturn("testValue");
 
             when(context.getProperty(prefix + "_param1")).thenReturn(null);
 
-            Object expectedBallerinaRecord = new Object();
-            jsonUtilsMock.when(() -> JsonUtils.parse(anyString())).thenReturn(expectedBallerinaRecord);
+            BMap<BString, Object> record = (BMap<BString, Object>) DataTransformer.reconstructRecordFromFields(prefix, context);
 
-            Object result = DataTransformer.reconstructRecordFromFields(prefix, context);
-            Assert.assertEquals(result, expectedBallerinaRecord);
+            Assert.assertEquals(record.get(StringUtils.fromString("childField")).toString(), "testValue");
         }
     }
 
@@ -1663,10 +1602,16 @@ public class DataTransformerTest {
 
     @Test
     public void testGetMapParameter_TableArrayWithBStringKey() {
-        try (MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class);
-             MockedStatic<ValueCreator> valueCreatorMock = Mockito.mockStatic(ValueCreator.class);
-             MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class);
-             MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
+        MessageContext context = mock(MessageContext.class);
+
+        BMap result = DataTransformer.getMapParameter("[{\"key\":\"actualKey\",\"value\":\"myValue\"}]", context, "param0");
+        Assert.assertEquals(result.get(StringUtils.fromString("actualKey")).toString(), "myValue");
+    }
+
+    @Test
+    public void testGetMapParameter_TableArrayWithBStringKey_BArrayInput() {
+        try (MockedStatic<ValueCreator> valueCreatorMock = Mockito.mockStatic(ValueCreator.class);
+             MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class)) {
 
             MessageContext context = mock(MessageContext.class);
             BArray tableArray = mock(BArray.class);
@@ -1692,25 +1637,28 @@ public class DataTransformerTest {
             Object[] keys = { keyFieldName, valueFieldName };
             when(row.getKeys()).thenReturn(keys);
 
-            synapseUtilsMock.when(() -> SynapseUtils.cleanupJsonString(anyString()))
-                    .thenAnswer(i -> i.getArgument(0));
-            jsonUtilsMock.when(() -> JsonUtils.parse(anyString()))
-                    .thenReturn(tableArray);
 
             BMap resultMap = mock(BMap.class);
             valueCreatorMock.when(ValueCreator::createMapValue).thenReturn(resultMap);
 
-            BMap result = DataTransformer.getMapParameter("{}", context, "param0");
+            BMap result = DataTransformer.getMapParameter(tableArray, context, "param0");
             Assert.assertEquals(result, resultMap);
         }
     }
 
     @Test
     public void testGetMapParameter_2DArrayWithBStringKey() {
-        try (MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class);
-             MockedStatic<ValueCreator> valueCreatorMock = Mockito.mockStatic(ValueCreator.class);
-             MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class);
-             MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
+        MessageContext context = mock(MessageContext.class);
+        when(context.getProperty("mapRecordFields0")).thenReturn(null);
+
+        BMap result = DataTransformer.getMapParameter("[[\"key\",\"value\"]]", context, "param0");
+        Assert.assertEquals(result.get(StringUtils.fromString("key")).toString(), "value");
+    }
+
+    @Test
+    public void testGetMapParameter_2DArrayWithBStringKey_BArrayInput() {
+        try (MockedStatic<ValueCreator> valueCreatorMock = Mockito.mockStatic(ValueCreator.class);
+             MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class)) {
 
             MessageContext context = mock(MessageContext.class);
             BArray array2D = mock(BArray.class);
@@ -1728,27 +1676,24 @@ public class DataTransformerTest {
             when(innerRow.get(0)).thenReturn(keyBString);  // BString key
             when(innerRow.get(1)).thenReturn("myValue");
 
-            synapseUtilsMock.when(() -> SynapseUtils.cleanupJsonString(anyString()))
-                    .thenAnswer(i -> i.getArgument(0));
-            jsonUtilsMock.when(() -> JsonUtils.parse(anyString()))
-                    .thenReturn(array2D);
 
             BMap resultMap = mock(BMap.class);
             valueCreatorMock.when(ValueCreator::createMapValue).thenReturn(resultMap);
 
             when(context.getProperty("mapRecordFields0")).thenReturn(null);
 
-            BMap result = DataTransformer.getMapParameter("[[\"key\",\"value\"]]", context, "param0");
+            BMap result = DataTransformer.getMapParameter(array2D, context, "param0");
             Assert.assertEquals(result, resultMap);
         }
     }
 
     @Test(expectedExceptions = SynapseException.class)
     public void testCreateRecordValue_NullJson_MissingRecordName() {
-        try (MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class)) {
+        try (MockedStatic<DataTransformer> dataTransformerMock =
+                     Mockito.mockStatic(DataTransformer.class, Mockito.CALLS_REAL_METHODS)) {
             MessageContext context = mock(MessageContext.class);
-            // No flattened fields; reconstruction still calls JsonUtils.parse("{}")
-            jsonUtilsMock.when(() -> JsonUtils.parse(anyString())).thenReturn(new Object());
+            dataTransformerMock.when(() -> DataTransformer.reconstructRecordFromFields(eq("param0"), eq(context), anyBoolean(), anyBoolean()))
+                    .thenReturn(new Object());
             when(context.getProperty("param0_recordName")).thenReturn(null);
 
             DataTransformer.createRecordValue(null, "param0", context, 0);
@@ -1863,8 +1808,7 @@ public class DataTransformerTest {
 
     @Test
     public void testReconstructRecordFromFields_UnionAndArraySkipBranches() {
-        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class);
-             MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class)) {
+        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
             MessageContext context = mock(MessageContext.class);
             String prefix = "pref";
 
@@ -1888,21 +1832,16 @@ public class DataTransformerTest {
                     .thenReturn(null);
             synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, "items"))
                     .thenReturn("[]");
-            synapseUtilsMock.when(() -> SynapseUtils.findParentUnionPath(anyString(), any()))
-                    .thenReturn("choice");
 
-            Object expected = new Object();
-            jsonUtilsMock.when(() -> JsonUtils.parse(anyString())).thenReturn(expected);
+            BMap<BString, Object> record = (BMap<BString, Object>) DataTransformer.reconstructRecordFromFields(prefix, context);
 
-            Object result = DataTransformer.reconstructRecordFromFields(prefix, context);
-            Assert.assertEquals(result, expected);
+            Assert.assertEquals(record.size(), 0);
         }
     }
 
     @Test
     public void testReconstructRecordFromFields_JsonAndMapInvalidSyntax_FallbackToString() {
-        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class);
-             MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class)) {
+        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
             MessageContext context = mock(MessageContext.class);
             String prefix = "pref";
 
@@ -1916,27 +1855,24 @@ public class DataTransformerTest {
                     .thenReturn("{bad");
             synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, "tableMap"))
                     .thenReturn("not-json");
-            synapseUtilsMock.when(() -> SynapseUtils.cleanupJsonString(anyString()))
-                    .thenAnswer(i -> i.getArgument(0));
-
-            Object expected = new Object();
-            jsonUtilsMock.when(() -> JsonUtils.parse(anyString())).thenAnswer(invocation -> {
-                String serialized = invocation.getArgument(0);
-                Assert.assertTrue(serialized.contains("\"payload\":\"{bad\""));
-                Assert.assertTrue(serialized.contains("\"tableMap\":\"not-json\""));
-                return expected;
-            });
-
-            Object result = DataTransformer.reconstructRecordFromFields(prefix, context);
-            Assert.assertEquals(result, expected);
+
+            BMap<BString, Object> record = (BMap<BString, Object>) DataTransformer.reconstructRecordFromFields(prefix, context);
+
+            Assert.assertEquals(record.get(StringUtils.fromString("payload")).toString(), "{bad");
+            Assert.assertEquals(record.get(StringUtils.fromString("tableMap")).toString(), "not-json");
         }
     }
 
     @Test(expectedExceptions = SynapseException.class)
     public void testGetMapParameter_TableRowWithoutKey_ThrowsSynapseException() {
-        try (MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class);
-             MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class);
-             MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class)) {
+        MessageContext context = mock(MessageContext.class);
+
+        DataTransformer.getMapParameter("[{\"key\":null}]", context, "param0");
+    }
+
+    @Test(expectedExceptions = SynapseException.class)
+    public void testGetMapParameter_TableRowWithoutKey_BArrayInput_ThrowsSynapseException() {
+        try (MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class)) {
             MessageContext context = mock(MessageContext.class);
             BArray table = mock(BArray.class);
             BMap row = mock(BMap.class);
@@ -1948,19 +1884,25 @@ public class DataTransformerTest {
             when(row.get(keyToken)).thenReturn(null);
             stringUtilsMock.when(() -> StringUtils.fromString("key")).thenReturn(keyToken);
 
-            synapseUtilsMock.when(() -> SynapseUtils.cleanupJsonString(anyString()))
-                    .thenAnswer(i -> i.getArgument(0));
-            jsonUtilsMock.when(() -> JsonUtils.parse(anyString())).thenReturn(table);
 
-            DataTransformer.getMapParameter("[{\"key\":null}]", context, "param0");
+            DataTransformer.getMapParameter(table, context, "param0");
         }
     }
 
     @Test
     public void testGetMapParameter_2DArrayWithOverflowIndex_UsesDefaultFieldNames() {
-        try (MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class);
-             MockedStatic<ValueCreator> valueCreatorMock = Mockito.mockStatic(ValueCreator.class);
-             MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
+        MessageContext context = mock(MessageContext.class);
+
+        BMap actual = DataTransformer.getMapParameter("[[\"id1\",\"v1\",\"v2\"]]", context,
+                "param999999999999999999999");
+        BMap recordValue = (BMap) actual.get(StringUtils.fromString("id1"));
+        Assert.assertEquals(recordValue.get(StringUtils.fromString("field0")).toString(), "v1");
+        Assert.assertEquals(recordValue.get(StringUtils.fromString("field1")).toString(), "v2");
+    }
+
+    @Test
+    public void testGetMapParameter_2DArrayWithOverflowIndex_UsesDefaultFieldNames_BArrayInput() {
+        try (MockedStatic<ValueCreator> valueCreatorMock = Mockito.mockStatic(ValueCreator.class)) {
             MessageContext context = mock(MessageContext.class);
             BArray outer = mock(BArray.class);
             BArray row = mock(BArray.class);
@@ -1973,12 +1915,9 @@ public class DataTransformerTest {
             when(row.get(1)).thenReturn("v1");
             when(row.get(2)).thenReturn("v2");
 
-            synapseUtilsMock.when(() -> SynapseUtils.cleanupJsonString(anyString()))
-                    .thenAnswer(i -> i.getArgument(0));
-            jsonUtilsMock.when(() -> JsonUtils.parse(anyString())).thenReturn(outer);
             valueCreatorMock.when(ValueCreator::createMapValue).thenReturn(resultMap);
 
-            BMap actual = DataTransformer.getMapParameter("[[\"id1\",\"v1\",\"v2\"]]", context,
+            BMap actual = DataTransformer.getMapParameter(outer, context,
                     "param999999999999999999999");
             Assert.assertEquals(actual, resultMap);
         }
@@ -1987,46 +1926,54 @@ public class DataTransformerTest {
     @Test
     public void testSetNestedField_Array2D_FlattensValues() throws Exception {
         Method method = DataTransformer.class.getDeclaredMethod("setNestedField",
-                com.google.gson.JsonObject.class, String.class, Object.class, String.class,
-                MessageContext.class, String.class, int.class);
+                BMap.class, BString[].class, Object.class, RecordFieldLayout.Field.class, MessageContext.class);
         method.setAccessible(true);
 
-        com.google.gson.JsonObject root = new com.google.gson.JsonObject();
-        MessageContext context = mock(MessageContext.class);
-        method.invoke(null, root, "payload.items", "[[1,2],[3,null]]", Constants.ARRAY, context, "testPrefix", 0);
+        BMap<BString, Object> root = ValueCreator.createMapValue();
+        RecordFieldLayout.Field field = layoutField("payload.items", Constants.ARRAY);
+        method.invoke(null, root, field.keys(false), "[[1,2],[3,null]]", field, mock(MessageContext.class));
 
-        Assert.assertTrue(root.getAsJsonObject("payload").get("items").isJsonArray());
-        Assert.assertEquals(root.getAsJsonObject("payload").getAsJsonArray("items").size(), 3);
+        BMap<BString, Object> payload = (BMap<BString, Object>) root.get(StringUtils.fromString("payload"));
+        Assert.assertTrue(payload.get(StringUtils.fromString("items")) instanceof BArray);
+        Assert.assertEquals(((BArray) payload.get(StringUtils.fromString("items"))).size(), 3);
     }
 
     @Test
     public void testSetNestedField_Map2D_BuildsObjectFromPairs() throws Exception {
         Method method = DataTransformer.class.getDeclaredMethod("setNestedField",
-                com.google.gson.JsonObject.class, String.class, Object.class, String.class,
-                MessageContext.class, String.class, int.class);
+                BMap.class, BString[].class, Object.class, RecordFieldLayout.Field.class, MessageContext.class);
         method.setAccessible(true);
 
-        com.google.gson.JsonObject root = new com.google.gson.JsonObject();
-        MessageContext context = mock(MessageContext.class);
-        method.invoke(null, root, "payload.mapValues", "[[\"k1\",\"v1\"],[\"k2\",2]]", Constants.MAP, context, "testPrefix", 0);
+        BMap<BString, Object> root = ValueCreator.createMapValue();
+        RecordFieldLayout.Field field = layoutField("payload.mapValues", Constants.MAP);
+        method.invoke(null, root, field.keys(false), "[[\"k1\",\"v1\"],[\"k2\",2]]", field,
+                mock(MessageContext.class));
 
-        com.google.gson.JsonObject mapObj = root.getAsJsonObject("payload").getAsJsonObject("mapValues");
-        Assert.assertEquals(mapObj.get("k1").getAsString(), "v1");
-        Assert.assertEquals(mapObj.get("k2").getAsInt(), 2);
+        BMap<BString, Object> payload = (BMap<BString, Object>) root.get(StringUtils.fromString("payload"));
+        BMap<BString, Object> mapValues = (BMap<BString, Object>) payload.get(StringUtils.fromString("mapValues"));
+        Assert.assertEquals(mapValues.get(StringUtils.fromString("k1")).toString(), "v1");
+        Assert.assertEquals(mapValues.get(StringUtils.fromString("k2")), 2L);
     }
 
     @Test
     public void testSetNestedField_MapInvalidJson_FallsBackToString() throws Exception {
         Method method = DataTransformer.class.getDeclaredMethod("setNestedField",
-                com.google.gson.JsonObject.class, String.class, Object.class, String.class,
-                MessageContext.class, String.class, int.class);
+                BMap.class, BString[].class, Object.class, RecordFieldLayout.Field.class, MessageContext.class);
         method.setAccessible(true);
 
-        com.google.gson.JsonObject root = new com.google.gson.JsonObject();
-        MessageContext context = mock(MessageContext.class);
-        method.invoke(null, root, "payload.raw", "{bad", Constants.MAP, context, "testPrefix", 0);
+        BMap<BString, Object> root = ValueCreator.createMapValue();
+        RecordFieldLayout.Field field = layoutField("payload.raw", Constants.MAP);
+        method.invoke(null, root, field.keys(false), "{bad", field, mock(MessageContext.class));
 
-        Assert.assertEquals(root.getAsJsonObject("payload").get("raw").getAsString(), "{bad");
+        BMap<BString, Object> payload = (BMap<BString, Object>) root.get(StringUtils.fromString("payload"));
+        Assert.assertEquals(payload.get(StringUtils.fromString("raw")).toString(), "{bad");
+    }
+
+    private static RecordFieldLayout.Field layoutField(String path, String type) {
+        MessageContext context = mock(MessageContext.class);
+        when(context.getProperty("testPrefix_param0")).thenReturn(path);
+        when(context.getProperty("testPrefix_paramType0")).thenReturn(type);
+        return RecordFieldLayout.resolve("testPrefix", context).fields().get(0);
     }
 
     @Test
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi.executor;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.apache.synapse.MessageContext;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for JsonElementConverter.
+ */
+public class JsonElementConverterTest {
+
+    @Test
+    public void testObjectBecomesJsonMap() {
+        JsonElement element = JsonParser.parseString(
+                "{\"id\": 7, \"name\": \"item\", \"active\": true, \"note\": null, \"tags\": [\"a\", \"b\"]}");
+
+        Object result = JsonElementConverter.toJson(element);
+
+        Assert.assertTrue(result instanceof BMap);
+        BMap<BString, Object> map = (BMap<BString, Object>) result;
+        Assert.assertEquals(map.get(StringUtils.fromString("id")), 7L);
+        Assert.assertEquals(map.get(StringUtils.fromString("name")).toString(), "item");
+        Assert.assertEquals(map.get(StringUtils.fromString("active")), true);
+        Assert.assertTrue(map.containsKey(StringUtils.fromString("note")));
+        Assert.assertNull(map.get(StringUtils.fromString("note")));
+        BArray tags = (BArray) map.get(StringUtils.fromString("tags"));
+        Assert.assertEquals(tags.size(), 2);
+        Assert.assertEquals(tags.get(1).toString(), "b");
+    }
+
+    @Test
+    public void testNumbersFollowBallerinaJsonParsing() {
+        Assert.assertEquals(JsonElementConverter.toNumber("42"), 42L);
+        Assert.assertEquals(JsonElementConverter.toNumber("-0"), -0.0d);
+        Assert.assertEquals(((BDecimal) JsonElementConverter.toNumber("10.5")).decimalValue(), new BigDecimal("10.5"));
+        Assert.assertEquals(((BDecimal) JsonElementConverter.toNumber("1e3")).decimalValue(), new BigDecimal("1e3"));
+        Assert.assertEquals(((BDecimal) JsonElementConverter.toNumber("92233720368547758070")).decimalValue(),
+                new BigDecimal("92233720368547758070"));
+    }
+
+    @Test
+    public void testNumberLiteralsFollowJsonGrammar() {
+        for (String literal : new String[]{"0", "-0", "42", "-7", "10.5", "1e3", "1.5E-2", "2e+10"}) {
+            Assert.assertTrue(JsonElementConverter.isNumber(literal), literal);
+        }
+        for (String text : new String[]{"", "-", "+5", "007", "1.", ".5", "1e", "NaN", "Infinity", " 1", "0x10"}) {
+            Assert.assertFalse(JsonElementConverter.isNumber(text), text);
+        }
+    }
+
+    @Test
+    public void testNullAndScalars() {
+        Assert.assertNull(JsonElementConverter.toJson(null));
+        Assert.assertNull(JsonElementConverter.toJson(JsonNull.INSTANCE));
+        Assert.assertEquals(JsonElementConverter.toJson(JsonParser.parseString("\"text\"")).toString(), "text");
+        Assert.assertEquals(JsonElementConverter.toJson(JsonParser.parseString("false")), false);
+    }
+
+    @Test
+    public void testReaderBuildsSameValuesAsTree() throws Exception {
+        String json = "{\"id\": 7, \"price\": 10.5, \"items\": [{\"sku\": \"a\"}, null], \"ok\": false}";
+
+        Object read = JsonElementConverter.read(new JsonReader(new StringReader(json)));
+        Object converted = JsonElementConverter.toJson(JsonParser.parseString(json));
+
+        Assert.assertEquals(read.toString(), converted.toString());
+        BMap<BString, Object> map = (BMap<BString, Object>) read;
+        Assert.assertEquals(map.get(StringUtils.fromString("id")), 7L);
+        Assert.assertTrue(map.get(StringUtils.fromString("price")) instanceof BDecimal);
+        Assert.assertEquals(((BArray) map.get(StringUtils.fromString("items"))).size(), 2);
+    }
+
+    @Test
+    public void testParametersFromJsonElementsAreNotReparsed() {
+        MessageContext context = mock(MessageContext.class);
+        try (MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class)) {
+            Object json = DataTransformer.getJsonParameter(JsonParser.parseString("{\"a\": [1, 2]}"));
+            BMap map = DataTransformer.getMapParameter(JsonParser.parseString("{\"k\": \"v\"}"), context, "param0");
+
+            Assert.assertTrue(json instanceof BMap);
+            Assert.assertEquals(map.get(StringUtils.fromString("k")).toString(), "v");
+            jsonUtilsMock.verify(() -> JsonUtils.parse(anyString()), Mockito.never());
+        }
+    }
+
+    @Test
+    public void testRecordParameterFromJsonElementWithoutRecordType() {
+        MessageContext context = mock(MessageContext.class);
+
+        Object record = DataTransformer.createRecordValueFromJsonElement(
+                JsonParser.parseString("{\"id\": 3}"), "param0", context, 0);
+
+        Assert.assertTrue(record instanceof BMap);
+        Assert.assertEquals(((BMap<BString, Object>) record).get(StringUtils.fromString("id")), 3L);
+    }
+}
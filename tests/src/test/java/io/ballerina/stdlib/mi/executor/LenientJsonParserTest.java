@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi.executor;
+
+import com.google.gson.JsonParseException;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+
+/**
+ * Tests for LenientJsonParser.
+ */
+public class LenientJsonParserTest {
+
+    @Test
+    public void testObjectsAndArraysUseJsonTypes() {
+        BMap<BString, Object> map = (BMap<BString, Object>) LenientJsonParser.parse(
+                "{\"name\":\"alice\",\"tags\":[\"a\",\"b\"],\"active\":true,\"manager\":null}");
+
+        Assert.assertEquals(map.getType(), JsonElementConverter.jsonMapType());
+        Assert.assertEquals(map.get(StringUtils.fromString("name")).toString(), "alice");
+        BArray tags = (BArray) map.get(StringUtils.fromString("tags"));
+        Assert.assertEquals(tags.getType(), JsonElementConverter.jsonArrayType());
+        Assert.assertEquals(tags.size(), 2);
+        Assert.assertEquals(map.get(StringUtils.fromString("active")), true);
+        Assert.assertTrue(map.containsKey(StringUtils.fromString("manager")));
+        Assert.assertNull(map.get(StringUtils.fromString("manager")));
+    }
+
+    @Test
+    public void testNumbersAreTypedLikeJsonParsing() {
+        BArray numbers = (BArray) LenientJsonParser.parse("[1, -2, 1.5, 2e3, 92233720368547758070, -0]");
+
+        Assert.assertEquals(numbers.get(0), 1L);
+        Assert.assertEquals(numbers.get(1), -2L);
+        Assert.assertEquals(((BDecimal) numbers.get(2)).decimalValue(), new BigDecimal("1.5"));
+        Assert.assertEquals(((BDecimal) numbers.get(3)).decimalValue(), new BigDecimal("2e3"));
+        Assert.assertEquals(((BDecimal) numbers.get(4)).decimalValue(), new BigDecimal("92233720368547758070"));
+        Assert.assertEquals(numbers.get(5), -0.0d);
+    }
+
+    @Test
+    public void testTemplateQuotingAndTrailingCommasAreAccepted() {
+        BMap<BString, Object> map = (BMap<BString, Object>) LenientJsonParser.parse(
+                "  '{\"items\": [1, 2, ], \"nested\": {\"a\": 1,\n},}'  ");
+
+        Assert.assertEquals(((BArray) map.get(StringUtils.fromString("items"))).size(), 2);
+        Assert.assertEquals(((BMap<BString, Object>) map.get(StringUtils.fromString("nested"))).size(), 1);
+        Assert.assertEquals(((BArray) LenientJsonParser.parse("'[]'")).size(), 0);
+    }
+
+    @Test
+    public void testStringContentIsKeptVerbatim() {
+        BArray values = (BArray) LenientJsonParser.parse("[\"a, ]\", \"it's\", \"tab\\tquote\\\"\\u00e9\\/\"]");
+
+        Assert.assertEquals(values.get(0).toString(), "a, ]");
+        Assert.assertEquals(values.get(1).toString(), "it's");
+        Assert.assertEquals(values.get(2).toString(), "tab\tquote\"\u00e9/");
+    }
+
+    @Test
+    public void testScalarValues() {
+        Assert.assertEquals(LenientJsonParser.parse("\"text\"").toString(), "text");
+        Assert.assertEquals(LenientJsonParser.parse(" 42 "), 42L);
+        Assert.assertEquals(LenientJsonParser.parse("false"), false);
+        Assert.assertNull(LenientJsonParser.parse("null"));
+    }
+
+    @Test
+    public void testLenientParsingAcceptsGsonGrammar() {
+        BMap<BString, Object> map = (BMap<BString, Object>) LenientJsonParser.parseLenient(
+                " '{a: 1, 'b': 'it\\'s', c: [\"x\"]}' ");
+
+        Assert.assertEquals(map.get(StringUtils.fromString("a")), 1L);
+        Assert.assertEquals(map.get(StringUtils.fromString("b")).toString(), "it's");
+        Assert.assertEquals(((BArray) map.get(StringUtils.fromString("c"))).get(0).toString(), "x");
+        Assert.assertEquals(((BArray) LenientJsonParser.parseLenient("[1, 2, ]")).size(), 2);
+    }
+
+    @Test(expectedExceptions = JsonParseException.class)
+    public void testLenientParsingRejectsTextGsonCannotRead() {
+        LenientJsonParser.parseLenient("{a: 1} trailing");
+    }
+
+    @Test
+    public void testMalformedInputIsRejected() {
+        String[] invalid = {"", "'", "{", "[1 2]", "[1,,2]", "[,]", "{\"a\" 1}", "{a:1}", "\"open", "tru",
+                "[01]", "[1.]", "[+1]", "[NaN]", "{\"a\":1} x", "'[1]", "\"\\x\"", "\"\\u12\""};
+        for (String text : invalid) {
+            try {
+                LenientJsonParser.parse(text);
+                Assert.fail("Expected a parse failure for: " + text);
+            } catch (IllegalArgumentException e) {
+                Assert.assertTrue(e.getMessage().contains("at position"), text);
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi.executor;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.types.Parameter;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BObject;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for MethodSignatureIndex.
+ */
+public class MethodSignatureIndexTest {
+
+    @Test
+    public void testParameterTypeLookup() {
+        Type first = mock(Type.class);
+        Type second = mock(Type.class);
+        ObjectType objectType = objectType(method("create", first, second), method("list"));
+
+        MethodSignatureIndex index = MethodSignatureIndex.forType(objectType);
+
+        Assert.assertSame(index.parameterType("create", 0), first);
+        Assert.assertSame(index.parameterType("create", 1), second);
+        Assert.assertNull(index.parameterType("create", 2));
+        Assert.assertNull(index.parameterType("list", 0));
+        Assert.assertNull(index.parameterType("missing", 0));
+        Assert.assertNull(index.parameterType("create", -1));
+    }
+
+    @Test
+    public void testIndexIsBuiltOncePerType() {
+        ObjectType objectType = objectType(method("get", mock(Type.class)));
+
+        Assert.assertSame(MethodSignatureIndex.forType(objectType), MethodSignatureIndex.forType(objectType));
+        verify(objectType, times(1)).getMethods();
+    }
+
+    @Test
+    public void testEvictDropsIndexesOfStoppedModule() {
+        Module stopped = new Module("testOrg", "stopped", "1");
+        ObjectType evicted = objectType(method("get", mock(Type.class)));
+        when(evicted.getPackage()).thenReturn(stopped);
+        ObjectType kept = objectType(method("get", mock(Type.class)));
+        when(kept.getPackage()).thenReturn(new Module("testOrg", "running", "1"));
+
+        MethodSignatureIndex evictedIndex = MethodSignatureIndex.forType(evicted);
+        MethodSignatureIndex keptIndex = MethodSignatureIndex.forType(kept);
+        MethodSignatureIndex.evict(stopped);
+
+        Assert.assertNotSame(MethodSignatureIndex.forType(evicted), evictedIndex);
+        Assert.assertSame(MethodSignatureIndex.forType(kept), keptIndex);
+    }
+
+    @Test
+    public void testSameNameFallsThroughToMethodDeclaringIndex() {
+        Type type = mock(Type.class);
+        ObjectType objectType = objectType(method("get"), method("get", mock(Type.class), type));
+
+        Assert.assertSame(MethodSignatureIndex.forType(objectType).parameterType("get", 1), type);
+    }
+
+    @Test
+    public void testGetMethodParameterTypeUsesIndex() {
+        Type type = mock(Type.class);
+        ObjectType objectType = objectType(method("send", type));
+        BObject bObject = mock(BObject.class);
+        when(bObject.getOriginalType()).thenReturn(objectType);
+
+        Assert.assertSame(DataTransformer.getMethodParameterType(bObject, "send", 0), type);
+        Assert.assertSame(DataTransformer.getMethodParameterType(bObject, "send", 0), type);
+        verify(objectType, times(1)).getMethods();
+    }
+
+    private static ObjectType objectType(MethodType... methods) {
+        ObjectType objectType = mock(ObjectType.class);
+        when(objectType.getMethods()).thenReturn(methods);
+        return objectType;
+    }
+
+    private static MethodType method(String name, Type... parameterTypes) {
+        MethodType method = mock(MethodType.class);
+        Parameter[] params = new Parameter[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            params[i] = new Parameter("p" + i, false, parameterTypes[i]);
+        }
+        when(method.getName()).thenReturn(name);
+        when(method.getParameters()).thenReturn(params);
+        return method;
+    }
+}
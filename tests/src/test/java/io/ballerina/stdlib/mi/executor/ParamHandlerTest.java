@@ -33,15 +33,20 @@ import org.apache.axiom.om.OMElement;
 import org.apache.axiom.om.util.AXIOMUtil;
 import org.apache.synapse.MessageContext;
 import org.apache.synapse.SynapseException;
+import org.apache.synapse.commons.json.JsonUtil;
+import org.apache.synapse.core.axis2.Axis2MessageContext;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayInputStream;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -445,7 +450,7 @@ public class ParamHandlerTest {
                     .thenReturn("{\"key\":\"value\"}");
 
             Object mockMap = mock(BMap.class);
-            dataTransformerMock.when(() -> DataTransformer.getMapParameter(any(), eq(context), eq("param0")))
+            dataTransformerMock.when(() -> DataTransformer.getMapParameter(any(), eq(context), eq(0)))
                     .thenReturn(mockMap);
 
             Object result = handler.getParameter(context, "param0", "paramType0", 0);
@@ -524,8 +529,7 @@ public class ParamHandlerTest {
 
     @Test
     public void testGetParameter_ArrayType_RecordElementType() {
-        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class);
-             MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class)) {
+        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
 
             MessageContext context = mock(MessageContext.class);
             ParamHandler handler = new ParamHandler();
@@ -536,23 +540,19 @@ public class ParamHandlerTest {
                     .thenReturn(Constants.ARRAY);
             synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, "arrayParam"))
                     .thenReturn("[{\"name\":\"test\"}]");
-            synapseUtilsMock.when(() -> SynapseUtils.cleanupJsonString(any()))
-                    .thenReturn("[{\"name\":\"test\"}]");
 
             when(context.getProperty("arrayElementType0")).thenReturn("record");
 
-            BArray mockArray = mock(BArray.class);
-            jsonUtilsMock.when(() -> JsonUtils.parse("[{\"name\":\"test\"}]")).thenReturn(mockArray);
-
-            Object result = handler.getParameter(context, "param0", "paramType0", 0);
-            Assert.assertEquals(result, mockArray);
+            BArray result = (BArray) handler.getParameter(context, "param0", "paramType0", 0);
+            Assert.assertEquals(result.size(), 1);
+            BMap<BString, Object> record = (BMap<BString, Object>) result.get(0);
+            Assert.assertEquals(record.get(StringUtils.fromString("name")).toString(), "test");
         }
     }
 
     @Test
     public void testGetParameter_ArrayType_FloatElementType() {
         try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class);
-             MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class);
              MockedStatic<ValueCreator> valueCreatorMock = Mockito.mockStatic(ValueCreator.class)) {
 
             MessageContext context = mock(MessageContext.class);
@@ -564,17 +564,9 @@ public class ParamHandlerTest {
                     .thenReturn(Constants.ARRAY);
             synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, "floatArrayParam"))
                     .thenReturn("[1.5, 2.5]");
-            synapseUtilsMock.when(() -> SynapseUtils.cleanupJsonString(any()))
-                    .thenReturn("[1.5, 2.5]");
 
             when(context.getProperty("arrayElementType1")).thenReturn("float");
 
-            BArray mockArray = mock(BArray.class);
-            when(mockArray.size()).thenReturn(2);
-            when(mockArray.get(0)).thenReturn(1.5);
-            when(mockArray.get(1)).thenReturn(2.5);
-            jsonUtilsMock.when(() -> JsonUtils.parse("[1.5, 2.5]")).thenReturn(mockArray);
-
             BArray resultArray = mock(BArray.class);
             valueCreatorMock.when(() -> ValueCreator.createArrayValue(any(double[].class)))
                     .thenReturn(resultArray);
@@ -586,6 +578,50 @@ public class ParamHandlerTest {
 
     @Test
     public void testGetParameter_ArrayType_DefaultSimpleArray() {
+        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
+
+            MessageContext context = mock(MessageContext.class);
+            ParamHandler handler = new ParamHandler();
+
+            synapseUtilsMock.when(() -> SynapseUtils.getPropertyAsString(context, "param2"))
+                    .thenReturn("intArrayParam");
+            synapseUtilsMock.when(() -> SynapseUtils.getPropertyAsString(context, "paramType2"))
+                    .thenReturn(Constants.ARRAY);
+            synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, "intArrayParam"))
+                    .thenReturn("[1, 2, 3]");
+
+            when(context.getProperty("arrayElementType2")).thenReturn("string");
+
+            BArray result = (BArray) handler.getParameter(context, "param2", "paramType2", 2);
+            Assert.assertEquals(result.size(), 3);
+            Assert.assertEquals(result.get(0), 1L);
+        }
+    }
+
+    @Test
+    public void testGetParameter_ArrayType_QuotedTemplateValueWithTrailingComma() {
+        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
+            MessageContext context = mock(MessageContext.class);
+            ParamHandler handler = new ParamHandler();
+
+            synapseUtilsMock.when(() -> SynapseUtils.getPropertyAsString(context, "param2"))
+                    .thenReturn("stringArrayParam");
+            synapseUtilsMock.when(() -> SynapseUtils.getPropertyAsString(context, "paramType2"))
+                    .thenReturn(Constants.ARRAY);
+            synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, "stringArrayParam"))
+                    .thenReturn("'[\"a, ]\", \"b\", ]'");
+            when(context.getProperty("arrayElementType2")).thenReturn("string");
+
+            BArray result = (BArray) handler.getParameter(context, "param2", "paramType2", 2);
+
+            Assert.assertEquals(result.size(), 2);
+            Assert.assertEquals(result.get(0).toString(), "a, ]");
+            Assert.assertEquals(result.get(1).toString(), "b");
+        }
+    }
+
+    @Test
+    public void testGetParameter_ArrayType_IntElementType_DecodedWithoutJsonParse() {
         try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class);
              MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class)) {
 
@@ -598,18 +634,12 @@ public class ParamHandlerTest {
                     .thenReturn(Constants.ARRAY);
             synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, "intArrayParam"))
                     .thenReturn("[1, 2, 3]");
-            synapseUtilsMock.when(() -> SynapseUtils.cleanupJsonString(any()))
-                    .thenReturn("[1, 2, 3]");
-
             when(context.getProperty("arrayElementType2")).thenReturn("int");
 
-            BArray mockArray = mock(BArray.class);
-            when(mockArray.size()).thenReturn(3);
-            when(mockArray.get(0)).thenReturn(1L);
-            jsonUtilsMock.when(() -> JsonUtils.parse("[1, 2, 3]")).thenReturn(mockArray);
+            BArray result = (BArray) handler.getParameter(context, "param2", "paramType2", 2);
 
-            Object result = handler.getParameter(context, "param2", "paramType2", 2);
-            Assert.assertEquals(result, mockArray);
+            Assert.assertEquals(result.getIntArray(), new long[]{1L, 2L, 3L});
+            jsonUtilsMock.verify(() -> JsonUtils.parse(anyString()), Mockito.never());
         }
     }
 
@@ -637,6 +667,53 @@ public class ParamHandlerTest {
         }
     }
 
+    @Test
+    public void testGetParameter_PayloadBindingReadsJsonStream() {
+        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class);
+             MockedStatic<JsonUtil> jsonUtilMock = Mockito.mockStatic(JsonUtil.class)) {
+            Axis2MessageContext context = mock(Axis2MessageContext.class);
+            org.apache.axis2.context.MessageContext axis2Context = mock(org.apache.axis2.context.MessageContext.class);
+            when(context.getAxis2MessageContext()).thenReturn(axis2Context);
+            ParamHandler handler = new ParamHandler();
+
+            synapseUtilsMock.when(() -> SynapseUtils.getPropertyAsString(context, "param0")).thenReturn("body");
+            synapseUtilsMock.when(() -> SynapseUtils.getPropertyAsString(context, "paramType0"))
+                    .thenReturn(Constants.JSON);
+            synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, "body"))
+                    .thenReturn(Constants.PAYLOAD_BINDING);
+            jsonUtilMock.when(() -> JsonUtil.getJsonPayload(axis2Context)).thenReturn(
+                    new ByteArrayInputStream("{\"orders\": [1, 2]}".getBytes(StandardCharsets.UTF_8)));
+
+            Object result = handler.getParameter(context, "param0", "paramType0", 0);
+
+            Assert.assertTrue(result instanceof BMap);
+            BArray orders = (BArray) ((BMap<?, ?>) result).get(StringUtils.fromString("orders"));
+            Assert.assertEquals(orders.size(), 2);
+            synapseUtilsMock.verify(() -> SynapseUtils.resolveSynapseExpressions(any(), any()), Mockito.never());
+        }
+    }
+
+    @Test
+    public void testGetParameter_PayloadBindingWithoutJsonStreamEvaluatesExpression() {
+        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class);
+             MockedStatic<DataTransformer> dataTransformerMock = Mockito.mockStatic(DataTransformer.class)) {
+            MessageContext context = mock(MessageContext.class);
+            ParamHandler handler = new ParamHandler();
+
+            synapseUtilsMock.when(() -> SynapseUtils.getPropertyAsString(context, "param0")).thenReturn("body");
+            synapseUtilsMock.when(() -> SynapseUtils.getPropertyAsString(context, "paramType0"))
+                    .thenReturn(Constants.JSON);
+            synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, "body"))
+                    .thenReturn(Constants.PAYLOAD_BINDING);
+            synapseUtilsMock.when(() -> SynapseUtils.resolveSynapseExpressions(Constants.PAYLOAD_BINDING, context))
+                    .thenReturn("{\"a\":1}");
+            Object parsed = new Object();
+            dataTransformerMock.when(() -> DataTransformer.getJsonParameter("{\"a\":1}")).thenReturn(parsed);
+
+            Assert.assertSame(handler.getParameter(context, "param0", "paramType0", 0), parsed);
+        }
+    }
+
     @Test
     public void testConvertPathParam_BooleanFalse() {
         ParamHandler handler = new ParamHandler();
@@ -892,8 +969,6 @@ public class ParamHandlerTest {
                     .thenReturn(Constants.ARRAY);
             synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, "recordsParam"))
                     .thenReturn(input);
-            synapseUtilsMock.when(() -> SynapseUtils.cleanupJsonString(input))
-                    .thenReturn(input);
             when(context.getProperty("arrayElementType0")).thenReturn("record");
 
             Object result = handler.getParameter(context, "param0", "paramType0", 0);
@@ -914,7 +989,6 @@ public class ParamHandlerTest {
                     .thenReturn(Constants.ARRAY);
             synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, "unionArrayParam"))
                     .thenReturn(input);
-            synapseUtilsMock.when(() -> SynapseUtils.cleanupJsonString(input)).thenReturn(input);
             when(context.getProperty("arrayElementType0")).thenReturn("union");
 
             Object result = handler.getParameter(context, "param0", "paramType0", 0);
@@ -979,11 +1053,10 @@ public class ParamHandlerTest {
 
     @Test(expectedExceptions = SynapseException.class)
     public void testGetParameter_ArrayRecordType_ParseException() {
-        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class);
-             MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class)) {
+        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
             MessageContext context = mock(MessageContext.class);
             ParamHandler handler = new ParamHandler();
-            String input = "[{\"name\":\"alice\"}]";
+            String input = "[{\"name\":\"alice\"}";
 
             synapseUtilsMock.when(() -> SynapseUtils.getPropertyAsString(context, "param0"))
                     .thenReturn("recordsParam");
@@ -991,11 +1064,7 @@ public class ParamHandlerTest {
                     .thenReturn(Constants.ARRAY);
             synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, "recordsParam"))
                     .thenReturn(input);
-            synapseUtilsMock.when(() -> SynapseUtils.cleanupJsonString(input))
-                    .thenReturn(input);
             when(context.getProperty("arrayElementType0")).thenReturn("record");
-            jsonUtilsMock.when(() -> JsonUtils.parse(input))
-                    .thenThrow(new RuntimeException("invalid record array"));
 
             handler.getParameter(context, "param0", "paramType0", 0);
         }
@@ -1003,11 +1072,10 @@ public class ParamHandlerTest {
 
     @Test(expectedExceptions = SynapseException.class)
     public void testGetParameter_ArrayFloatType_ParseException() {
-        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class);
-             MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class)) {
+        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
             MessageContext context = mock(MessageContext.class);
             ParamHandler handler = new ParamHandler();
-            String input = "[1.2,2.3]";
+            String input = "[1.2,oops]";
 
             synapseUtilsMock.when(() -> SynapseUtils.getPropertyAsString(context, "param1"))
                     .thenReturn("floatArrayParam");
@@ -1015,11 +1083,7 @@ public class ParamHandlerTest {
                     .thenReturn(Constants.ARRAY);
             synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, "floatArrayParam"))
                     .thenReturn(input);
-            synapseUtilsMock.when(() -> SynapseUtils.cleanupJsonString(input))
-                    .thenReturn(input);
             when(context.getProperty("arrayElementType1")).thenReturn("float");
-            jsonUtilsMock.when(() -> JsonUtils.parse(input))
-                    .thenThrow(new RuntimeException("invalid float array"));
 
             handler.getParameter(context, "param1", "paramType1", 1);
         }
@@ -1027,11 +1091,10 @@ public class ParamHandlerTest {
 
     @Test(expectedExceptions = SynapseException.class)
     public void testGetParameter_Array2DType_ParseException() {
-        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class);
-             MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class)) {
+        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
             MessageContext context = mock(MessageContext.class);
             ParamHandler handler = new ParamHandler();
-            String input = "[{\"innerArray\":[1,2]}]";
+            String input = "[{\"innerArray\":[1,2]}";
 
             synapseUtilsMock.when(() -> SynapseUtils.getPropertyAsString(context, "param2"))
                     .thenReturn("twoDParam");
@@ -1039,11 +1102,7 @@ public class ParamHandlerTest {
                     .thenReturn(Constants.ARRAY);
             synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, "twoDParam"))
                     .thenReturn(input);
-            synapseUtilsMock.when(() -> SynapseUtils.cleanupJsonString(input))
-                    .thenReturn(input);
             when(context.getProperty("arrayElementType2")).thenReturn("array");
-            jsonUtilsMock.when(() -> JsonUtils.parse(input))
-                    .thenThrow(new RuntimeException("invalid 2d array"));
 
             handler.getParameter(context, "param2", "paramType2", 2);
         }
@@ -1051,11 +1110,10 @@ public class ParamHandlerTest {
 
     @Test(expectedExceptions = SynapseException.class)
     public void testGetParameter_ArrayUnionType_ParseException() {
-        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class);
-             MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class)) {
+        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
             MessageContext context = mock(MessageContext.class);
             ParamHandler handler = new ParamHandler();
-            String input = "[{\"type\":\"int\",\"value\":\"1\"}]";
+            String input = "[{\"type\":\"int\",\"value\":\"1\"}";
 
             synapseUtilsMock.when(() -> SynapseUtils.getPropertyAsString(context, "param3"))
                     .thenReturn("unionParam");
@@ -1063,11 +1121,7 @@ public class ParamHandlerTest {
                     .thenReturn(Constants.ARRAY);
             synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, "unionParam"))
                     .thenReturn(input);
-            synapseUtilsMock.when(() -> SynapseUtils.cleanupJsonString(input))
-                    .thenReturn(input);
             when(context.getProperty("arrayElementType3")).thenReturn("union");
-            jsonUtilsMock.when(() -> JsonUtils.parse(input))
-                    .thenThrow(new RuntimeException("invalid union array"));
 
             handler.getParameter(context, "param3", "paramType3", 3);
         }
@@ -1075,11 +1129,10 @@ public class ParamHandlerTest {
 
     @Test(expectedExceptions = SynapseException.class)
     public void testGetParameter_ArrayDefaultType_ParseException() {
-        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class);
-             MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class)) {
+        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
             MessageContext context = mock(MessageContext.class);
             ParamHandler handler = new ParamHandler();
-            String input = "[1,2,3]";
+            String input = "[1,2,3";
 
             synapseUtilsMock.when(() -> SynapseUtils.getPropertyAsString(context, "param4"))
                     .thenReturn("defaultArrayParam");
@@ -1087,11 +1140,7 @@ public class ParamHandlerTest {
                     .thenReturn(Constants.ARRAY);
             synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, "defaultArrayParam"))
                     .thenReturn(input);
-            synapseUtilsMock.when(() -> SynapseUtils.cleanupJsonString(input))
-                    .thenReturn(input);
-            when(context.getProperty("arrayElementType4")).thenReturn("int");
-            jsonUtilsMock.when(() -> JsonUtils.parse(input))
-                    .thenThrow(new RuntimeException("invalid default array"));
+            when(context.getProperty("arrayElementType4")).thenReturn("string");
 
             handler.getParameter(context, "param4", "paramType4", 4);
         }
@@ -1099,8 +1148,7 @@ public class ParamHandlerTest {
 
     @Test
     public void testGetParameter_ArrayType_FloatElementType_NonArrayParsedObject() {
-        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class);
-             MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class)) {
+        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
             MessageContext context = mock(MessageContext.class);
             ParamHandler handler = new ParamHandler();
             String input = "{\"n\":1}";
@@ -1111,21 +1159,16 @@ public class ParamHandlerTest {
                     .thenReturn(Constants.ARRAY);
             synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, "floatArrayAsObject"))
                     .thenReturn(input);
-            synapseUtilsMock.when(() -> SynapseUtils.cleanupJsonString(input))
-                    .thenReturn(input);
             when(context.getProperty("arrayElementType5")).thenReturn("float");
 
-            Object parsedObj = new Object();
-            jsonUtilsMock.when(() -> JsonUtils.parse(input)).thenReturn(parsedObj);
-
-            Object result = handler.getParameter(context, "param5", "paramType5", 5);
-            Assert.assertSame(result, parsedObj);
+            BMap<BString, Object> result = (BMap<BString, Object>) handler.getParameter(context, "param5", "paramType5", 5);
+            Assert.assertEquals(result.get(StringUtils.fromString("n")), 1L);
         }
     }
 
     @Test
     public void testTransformUnionTableToArray_InvalidBranches() throws Exception {
-        try (MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class)) {
+        try (MockedStatic<StringUtils> stringUtilsMock = Mockito.mockStatic(StringUtils.class, Mockito.CALLS_REAL_METHODS)) {
             ParamHandler handler = new ParamHandler();
             Method method = ParamHandler.class.getDeclaredMethod("transformUnionTableToArray", BArray.class);
             method.setAccessible(true);
@@ -1163,8 +1206,13 @@ public class ParamHandlerTest {
             when(row4.get(typeKey)).thenReturn("decimal");
             when(row4.get(valueKey)).thenReturn("12.5");
 
-            String output = (String) method.invoke(handler, rows);
-            Assert.assertEquals(output, "[\"x\",\"y\",\"not-bool\",\"\",12.5]");
+            BArray output = (BArray) method.invoke(handler, rows);
+            Assert.assertEquals(output.size(), 5);
+            Assert.assertEquals(output.get(0).toString(), "x");
+            Assert.assertEquals(output.get(1).toString(), "y");
+            Assert.assertEquals(output.get(2).toString(), "not-bool");
+            Assert.assertEquals(output.get(3).toString(), "");
+            Assert.assertEquals(((BDecimal) output.get(4)).decimalValue(), new BigDecimal("12.5"));
         }
     }
 
@@ -1248,65 +1296,48 @@ public class ParamHandlerTest {
     @Test
     public void testGetParameter_ArrayType_NestedTableBMap_UsesTransformNestedTableTo2DArray() {
         try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class);
-             MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class);
              MockedStatic<DataTransformer> dataTransformerMock = Mockito.mockStatic(DataTransformer.class)) {
             ParamHandler handler = new ParamHandler();
             MessageContext context = mock(MessageContext.class);
             String raw = "[{\"innerArray\":[{\"value\":1}]}]";
-            String transformed = "[[1]]";
+            BArray transformed = mock(BArray.class);
 
             synapseUtilsMock.when(() -> SynapseUtils.getPropertyAsString(context, "param6")).thenReturn("nested2d");
             synapseUtilsMock.when(() -> SynapseUtils.getPropertyAsString(context, "paramType6")).thenReturn(Constants.ARRAY);
             synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, "nested2d")).thenReturn(raw);
-            synapseUtilsMock.when(() -> SynapseUtils.cleanupJsonString(raw)).thenReturn(raw);
             when(context.getProperty("arrayElementType6")).thenReturn("array");
 
-            BArray parsedOuter = mock(BArray.class);
-            BMap firstRow = mock(BMap.class);
-            when(parsedOuter.size()).thenReturn(1);
-            when(parsedOuter.get(0)).thenReturn(firstRow);
-            when(firstRow.containsKey(any(BString.class))).thenReturn(true);
-
-            Object transformedParsed = new Object();
-            jsonUtilsMock.when(() -> JsonUtils.parse(raw)).thenReturn(parsedOuter);
-            dataTransformerMock.when(() -> DataTransformer.transformNestedTableTo2DArray(parsedOuter)).thenReturn(transformed);
-            jsonUtilsMock.when(() -> JsonUtils.parse(transformed)).thenReturn(transformedParsed);
+            dataTransformerMock.when(() -> DataTransformer.transformNestedTableTo2DArray(any(BArray.class)))
+                    .thenReturn(transformed);
 
             Object result = handler.getParameter(context, "param6", "paramType6", 6);
-            Assert.assertSame(result, transformedParsed);
+            Assert.assertSame(result, transformed);
+            dataTransformerMock.verify(() -> DataTransformer.transformNestedTableTo2DArray(any(BArray.class)),
+                    Mockito.times(1));
         }
     }
 
     @Test
     public void testGetParameter_ArrayType_MiStudioNestedTable_UsesTransformMIStudioNestedTableTo2DArray() {
         try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class);
-             MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class);
              MockedStatic<DataTransformer> dataTransformerMock = Mockito.mockStatic(DataTransformer.class)) {
             ParamHandler handler = new ParamHandler();
             MessageContext context = mock(MessageContext.class);
             String raw = "[[\"a\",\"b\"]]";
-            String transformed = "[[\"a\",\"b\"]]";
+            BArray transformed = mock(BArray.class);
 
             synapseUtilsMock.when(() -> SynapseUtils.getPropertyAsString(context, "param7")).thenReturn("nestedMi");
             synapseUtilsMock.when(() -> SynapseUtils.getPropertyAsString(context, "paramType7")).thenReturn(Constants.ARRAY);
             synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, "nestedMi")).thenReturn(raw);
-            synapseUtilsMock.when(() -> SynapseUtils.cleanupJsonString(raw)).thenReturn(raw);
             when(context.getProperty("arrayElementType7")).thenReturn("array");
 
-            BArray parsedOuter = mock(BArray.class);
-            BArray firstRow = mock(BArray.class);
-            when(parsedOuter.size()).thenReturn(1);
-            when(parsedOuter.get(0)).thenReturn(firstRow);
-            when(firstRow.size()).thenReturn(2);
-
-            Object transformedParsed = new Object();
-            jsonUtilsMock.when(() -> JsonUtils.parse(raw)).thenReturn(parsedOuter);
-            dataTransformerMock.when(() -> DataTransformer.transformMIStudioNestedTableTo2DArray(parsedOuter, context))
-                    .thenReturn(transformed);
-            jsonUtilsMock.when(() -> JsonUtils.parse(transformed)).thenReturn(transformedParsed);
+            dataTransformerMock.when(() -> DataTransformer.transformMIStudioNestedTableTo2DArray(any(BArray.class),
+                    any(MessageContext.class))).thenReturn(transformed);
 
             Object result = handler.getParameter(context, "param7", "paramType7", 7);
-            Assert.assertSame(result, transformedParsed);
+            Assert.assertSame(result, transformed);
+            dataTransformerMock.verify(() -> DataTransformer.transformMIStudioNestedTableTo2DArray(any(BArray.class),
+                    any(MessageContext.class)), Mockito.times(1));
         }
     }
 
@@ -1344,7 +1375,37 @@ public class ParamHandlerTest {
         when(rows.size()).thenReturn(1);
         when(rows.get(0)).thenReturn("not-a-map");
 
-        String output = (String) method.invoke(handler, rows);
-        Assert.assertEquals(output, "[]");
+        BArray output = (BArray) method.invoke(handler, rows);
+        Assert.assertEquals(output.size(), 0);
+    }
+
+    @Test
+    public void testGetParameter_ArrayRecordTable_BuildsRecordsFromParsedRows() {
+        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
+            MessageContext context = mock(MessageContext.class);
+            ParamHandler handler = new ParamHandler();
+            String input = "[[\"alice\", 30, \"\"], [\"bob\", 41, \"admin\"]]";
+
+            synapseUtilsMock.when(() -> SynapseUtils.getPropertyAsString(context, "param0"))
+                    .thenReturn("recordsParam");
+            synapseUtilsMock.when(() -> SynapseUtils.getPropertyAsString(context, "paramType0"))
+                    .thenReturn(Constants.ARRAY);
+            synapseUtilsMock.when(() -> SynapseUtils.getPropertyAsString(context, "arrayRecordFields0"))
+                    .thenReturn("name, age, role");
+            synapseUtilsMock.when(() -> SynapseUtils.lookupTemplateParameter(context, "recordsParam"))
+                    .thenReturn(input);
+            when(context.getProperty("arrayElementType0")).thenReturn("record");
+
+            BArray result = (BArray) handler.getParameter(context, "param0", "paramType0", 0);
+
+            Assert.assertEquals(result.size(), 2);
+            BMap<BString, Object> first = (BMap<BString, Object>) result.get(0);
+            BMap<BString, Object> second = (BMap<BString, Object>) result.get(1);
+            Assert.assertEquals(first.get(StringUtils.fromString("name")).toString(), "alice");
+            Assert.assertEquals(first.get(StringUtils.fromString("age")), 30L);
+            Assert.assertTrue(first.containsKey(StringUtils.fromString("role")));
+            Assert.assertNull(first.get(StringUtils.fromString("role")));
+            Assert.assertEquals(second.get(StringUtils.fromString("role")).toString(), "admin");
+        }
     }
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi.executor;
+
+import io.ballerina.stdlib.mi.Constants;
+import io.ballerina.stdlib.mi.OperationDescriptor;
+import org.apache.axiom.om.util.AXIOMUtil;
+import org.apache.synapse.MessageContext;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for ParameterBinding.
+ */
+public class ParameterBindingTest {
+
+    @Test
+    public void testBindingIsKeptWithOperationDescriptor() throws Exception {
+        OperationDescriptor descriptor = OperationDescriptor.fromOMElement(AXIOMUtil.stringToOM(
+                "<operation name=\"listUsers\">"
+                        + "<property name=\"param0\" value=\"ids\"/>"
+                        + "<property name=\"paramType0\" value=\"array\"/>"
+                        + "<property name=\"arrayElementType0\" value=\"int\"/>"
+                        + "</operation>"));
+        MessageContext first = mock(MessageContext.class);
+        MessageContext second = mock(MessageContext.class);
+        when(first.getProperty(Constants.OPERATION_DESCRIPTOR)).thenReturn(descriptor);
+        when(second.getProperty(Constants.OPERATION_DESCRIPTOR)).thenReturn(descriptor);
+
+        ParameterBinding binding = ParameterBinding.ofFunctionArgument(first, 0);
+
+        Assert.assertSame(ParameterBinding.ofFunctionArgument(second, 0), binding);
+        Assert.assertEquals(binding.paramName(), "ids");
+        Assert.assertEquals(binding.paramType(), Constants.ARRAY);
+        Assert.assertEquals(binding.arrayElementType(), Constants.INT);
+        Assert.assertNull(binding.inputModeParameter());
+    }
+
+    @Test
+    public void testBindingFromContextPropertiesIsResolvedPerMessage() {
+        MessageContext context = mock(MessageContext.class);
+        when(context.getProperty("param3")).thenReturn("name");
+        when(context.getProperty("paramType3")).thenReturn(Constants.STRING);
+
+        ParameterBinding binding = ParameterBinding.ofFunctionArgument(context, 3);
+        Assert.assertEquals(binding.paramName(), "name");
+
+        when(context.getProperty("param3")).thenReturn("fullName");
+        Assert.assertEquals(ParameterBinding.ofFunctionArgument(context, 3).paramName(), "fullName");
+    }
+
+    @Test
+    public void testMissingTypeDefaultsToString() {
+        MessageContext context = mock(MessageContext.class);
+        when(context.getProperty("param1")).thenReturn("name");
+
+        Assert.assertEquals(ParameterBinding.ofFunctionArgument(context, 1).paramType(), Constants.STRING);
+    }
+
+    @Test
+    public void testConnectionParameterKeys() {
+        MessageContext context = mock(MessageContext.class);
+        when(context.getProperty("SAP_JCO_CLIENT_param0")).thenReturn("destination");
+        when(context.getProperty("SAP_JCO_CLIENT_paramType0")).thenReturn(Constants.UNION);
+
+        ParameterBinding binding = ParameterBinding.of(context, "SAP_JCO_CLIENT_param0",
+                "SAP_JCO_CLIENT_paramType0");
+
+        Assert.assertEquals(binding.keyPrefix(), "SAP_JCO_CLIENT_");
+        Assert.assertEquals(binding.paramIndex(), 0);
+        Assert.assertFalse(binding.isUnionMember());
+        Assert.assertEquals(binding.unionTypeParameter(), "destinationDataType");
+        Assert.assertEquals(binding.unionMemberKey("destinationConfig"),
+                "SAP_JCO_CLIENT_param0UnionDestinationConfig");
+    }
+
+    @Test
+    public void testIndexIsReadAfterParamWhenPrefixHasDigits() {
+        MessageContext context = mock(MessageContext.class);
+
+        ParameterBinding binding = ParameterBinding.of(context, "HTTP2_CLIENT_param12", "HTTP2_CLIENT_paramType12");
+
+        Assert.assertEquals(binding.keyPrefix(), "HTTP2_CLIENT_");
+        Assert.assertEquals(binding.paramIndex(), 12);
+    }
+
+    @Test
+    public void testUnionMemberUsesTypeKeyAsType() {
+        MessageContext context = mock(MessageContext.class);
+        when(context.getProperty("param0UnionInt")).thenReturn("count");
+
+        ParameterBinding binding = ParameterBinding.of(context, "param0UnionInt", Constants.INT);
+
+        Assert.assertTrue(binding.isUnionMember());
+        Assert.assertEquals(binding.paramName(), "count");
+        Assert.assertEquals(binding.paramType(), Constants.INT);
+    }
+
+    @Test
+    public void testKeysWithoutValidIndex() {
+        MessageContext context = mock(MessageContext.class);
+
+        Assert.assertEquals(ParameterBinding.of(context, "paramX", "paramTypeX").paramIndex(), -1);
+        Assert.assertEquals(ParameterBinding.of(context, "param99999999999", "paramType99999999999").paramIndex(),
+                -1);
+    }
+
+    @Test
+    public void testDualModeArrayMetadata() {
+        MessageContext context = mock(MessageContext.class);
+        when(context.getProperty("param2")).thenReturn("users");
+        when(context.getProperty("paramType2")).thenReturn(Constants.ARRAY);
+        when(context.getProperty("param2_dualMode")).thenReturn("true");
+        when(context.getProperty("param2_inputModeField")).thenReturn("usersInputMode");
+        when(context.getProperty("param2_jsonField")).thenReturn("usersJson");
+        when(context.getProperty("arrayElementType2")).thenReturn(Constants.RECORD);
+        when(context.getProperty("arrayRecordFields2")).thenReturn("name,age");
+
+        ParameterBinding binding = ParameterBinding.ofFunctionArgument(context, 2);
+
+        Assert.assertEquals(binding.inputModeParameter(), "usersInputMode");
+        Assert.assertEquals(binding.jsonParameter(), "usersJson");
+        Assert.assertEquals(binding.arrayElementType(), Constants.RECORD);
+        Assert.assertEquals(binding.arrayRecordFields(), "name,age");
+    }
+
+    @Test
+    public void testIndexKeysAreSharedPerPrefixAndIndex() {
+        ParameterBinding.IndexKeys keys = ParameterBinding.indexKeys(3);
+
+        Assert.assertSame(ParameterBinding.indexKeys("", 3), keys);
+        Assert.assertEquals(keys.recordName(), "param3_recordName");
+        Assert.assertEquals(keys.recordVersion(), "param3_recordVersion");
+        Assert.assertEquals(keys.typedescDefault(), "param3_typedescDefault");
+        Assert.assertEquals(keys.mapRecordFields(), "mapRecordFields3");
+        Assert.assertEquals(ParameterBinding.indexKeys("HTTP_CLIENT_", 3).recordOrg(), "HTTP_CLIENT_param3_recordOrg");
+        Assert.assertEquals(ParameterBinding.indexKeys(-1).recordModule(), "param-1_recordModule");
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi.executor;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.mi.Constants;
+import io.ballerina.stdlib.mi.ModuleRuntime;
+import io.ballerina.stdlib.mi.OperationDescriptor;
+import org.apache.axiom.om.util.AXIOMUtil;
+import org.apache.synapse.MessageContext;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for RecordFieldLayout and the record reconstruction built on it.
+ */
+public class RecordFieldLayoutTest {
+
+    @Test
+    public void testLayoutIsKeptWithOperationDescriptor() throws Exception {
+        OperationDescriptor descriptor = OperationDescriptor.fromOMElement(AXIOMUtil.stringToOM(
+                "<operation name=\"createUser\">"
+                        + "<property name=\"param0_param0\" value=\"name\"/>"
+                        + "<property name=\"param0_paramType0\" value=\"string\"/>"
+                        + "</operation>"));
+        MessageContext first = mock(MessageContext.class);
+        MessageContext second = mock(MessageContext.class);
+        when(first.getProperty(Constants.OPERATION_DESCRIPTOR)).thenReturn(descriptor);
+        when(second.getProperty(Constants.OPERATION_DESCRIPTOR)).thenReturn(descriptor);
+
+        RecordFieldLayout layout = RecordFieldLayout.of("param0", first);
+
+        Assert.assertSame(RecordFieldLayout.of("param0", second), layout);
+        Assert.assertEquals(layout.fields().size(), 1);
+        Assert.assertEquals(layout.fields().get(0).path(), "name");
+    }
+
+    @Test
+    public void testLayoutFromContextPropertiesIsKeptPerOperation() {
+        Module module = new Module("layoutOrg", "perOperation", "1");
+        MessageContext send = context(module, "send");
+        when(send.getProperty("layoutTest_param0")).thenReturn("host");
+        when(send.getProperty("layoutTest_paramType0")).thenReturn(Constants.STRING);
+        MessageContext receive = context(module, "receive");
+        when(receive.getProperty("layoutTest_param0")).thenReturn("hosts");
+        when(receive.getProperty("layoutTest_paramType0")).thenReturn(Constants.ARRAY);
+        when(receive.getProperty("layoutTest_arrayElementType0")).thenReturn(Constants.RECORD);
+        when(receive.getProperty("layoutTest_arrayRecordFields0")).thenReturn("name,port");
+
+        RecordFieldLayout sendLayout = RecordFieldLayout.of("layoutTest", send);
+        RecordFieldLayout receiveLayout = RecordFieldLayout.of("layoutTest", receive);
+
+        Assert.assertNotSame(receiveLayout, sendLayout);
+        Assert.assertEquals(sendLayout.fields().get(0).path(), "host");
+        Assert.assertEquals(receiveLayout.fields().get(0).tableColumns(), "name,port");
+        Assert.assertSame(RecordFieldLayout.of("layoutTest", send), sendLayout);
+        Assert.assertSame(RecordFieldLayout.of("layoutTest", receive), receiveLayout);
+    }
+
+    @Test
+    public void testLayoutsAreDroppedWhenModuleIsEvicted() {
+        Module module = new Module("layoutOrg", "evicted", "1");
+        MessageContext context = context(module, "send");
+        when(context.getProperty("evictTest_param0")).thenReturn("host");
+        when(context.getProperty("evictTest_paramType0")).thenReturn(Constants.STRING);
+        RecordFieldLayout layout = RecordFieldLayout.of("evictTest", context);
+
+        RecordFieldLayout.evict(module);
+
+        Assert.assertNotSame(RecordFieldLayout.of("evictTest", context), layout);
+    }
+
+    @Test
+    public void testLayoutWithoutModuleIsResolvedPerCall() {
+        MessageContext context = mock(MessageContext.class);
+        when(context.getProperty("arrayModeTest_param0")).thenReturn("hosts");
+        when(context.getProperty("arrayModeTest_paramType0")).thenReturn(Constants.ARRAY);
+
+        RecordFieldLayout layout = RecordFieldLayout.of("arrayModeTest", context);
+        Assert.assertNull(layout.fields().get(0).tableColumns());
+
+        when(context.getProperty("arrayModeTest_arrayElementType0")).thenReturn(Constants.RECORD);
+        when(context.getProperty("arrayModeTest_arrayRecordFields0")).thenReturn("name,port");
+        RecordFieldLayout resolved = RecordFieldLayout.of("arrayModeTest", context);
+
+        Assert.assertNotSame(resolved, layout);
+        Assert.assertEquals(resolved.fields().get(0).tableColumns(), "name,port");
+    }
+
+    @Test
+    public void testDisabledPathPrefixExcludesNestedFields() {
+        MessageContext context = mock(MessageContext.class);
+        when(context.getProperty("enableTest_param0")).thenReturn("proxy.host");
+        when(context.getProperty("enableTest_paramType0")).thenReturn(Constants.STRING);
+        when(context.getProperty("enableTest_param1")).thenReturn("proxy.port");
+        when(context.getProperty("enableTest_paramType1")).thenReturn(Constants.INT);
+        when(context.getProperty("enableTest_param2")).thenReturn("timeout");
+        when(context.getProperty("enableTest_paramType2")).thenReturn(Constants.DECIMAL);
+        when(context.getProperty("enable_proxy")).thenReturn("false");
+        when(context.getProperty("proxy_host")).thenReturn("localhost");
+        when(context.getProperty("proxy_port")).thenReturn("8080");
+        when(context.getProperty("timeout")).thenReturn("30.5");
+
+        BMap<BString, Object> record =
+                (BMap<BString, Object>) DataTransformer.reconstructRecordFromFields("enableTest", context);
+
+        Assert.assertFalse(record.containsKey(StringUtils.fromString("proxy")));
+        Assert.assertEquals(((BDecimal) record.get(StringUtils.fromString("timeout"))).decimalValue(),
+                new BigDecimal("30.5"));
+    }
+
+    @Test
+    public void testOnlySelectedUnionMemberFieldsAreSet() {
+        MessageContext context = mock(MessageContext.class);
+        when(context.getProperty("unionTest_param0")).thenReturn("auth");
+        when(context.getProperty("unionTest_paramType0")).thenReturn(Constants.UNION);
+        when(context.getProperty("unionTest_dataType0")).thenReturn("authDataType");
+        when(context.getProperty("unionTest_param1")).thenReturn("auth.token");
+        when(context.getProperty("unionTest_paramType1")).thenReturn(Constants.STRING);
+        when(context.getProperty("unionTest_unionMember1")).thenReturn("BearerTokenConfig");
+        when(context.getProperty("unionTest_param2")).thenReturn("auth.username");
+        when(context.getProperty("unionTest_paramType2")).thenReturn(Constants.STRING);
+        when(context.getProperty("unionTest_unionMember2")).thenReturn("CredentialsConfig");
+        when(context.getProperty("authDataType")).thenReturn("BearerTokenConfig");
+        when(context.getProperty("auth_token")).thenReturn("secret");
+        when(context.getProperty("auth_username")).thenReturn("admin");
+
+        RecordFieldLayout layout = RecordFieldLayout.of("unionTest", context);
+        Map<String, String> selected = layout.selectedUnionMembers(context);
+        BMap<BString, Object> parent =
+                (BMap<BString, Object>) DataTransformer.reconstructRecordFromFields("unionTest", context, true, false);
+        BMap<BString, Object> member =
+                (BMap<BString, Object>) DataTransformer.reconstructRecordFromFields("unionTest", context, true, true);
+
+        Assert.assertEquals(selected, Map.of("auth", "BearerTokenConfig"));
+        BMap<BString, Object> auth = (BMap<BString, Object>) parent.get(StringUtils.fromString("auth"));
+        Assert.assertEquals(auth.get(StringUtils.fromString("token")).toString(), "secret");
+        Assert.assertFalse(auth.containsKey(StringUtils.fromString("username")));
+        Assert.assertEquals(member.get(StringUtils.fromString("token")).toString(), "secret");
+    }
+
+    @Test
+    public void testReconstructionDoesNotReparseJson() {
+        MessageContext context = mock(MessageContext.class);
+        when(context.getProperty("parseTest_param0")).thenReturn("settings.retries");
+        when(context.getProperty("parseTest_paramType0")).thenReturn(Constants.INT);
+        when(context.getProperty("parseTest_param1")).thenReturn("headers");
+        when(context.getProperty("parseTest_paramType1")).thenReturn(Constants.MAP);
+        when(context.getProperty("settings_retries")).thenReturn("3");
+        when(context.getProperty("headers")).thenReturn("[[\"Accept\",\"text/plain\"]]");
+
+        try (MockedStatic<JsonUtils> jsonUtilsMock = Mockito.mockStatic(JsonUtils.class)) {
+            BMap<BString, Object> record =
+                    (BMap<BString, Object>) DataTransformer.reconstructRecordFromFields("parseTest", context);
+
+            BMap<BString, Object> settings = (BMap<BString, Object>) record.get(StringUtils.fromString("settings"));
+            BMap<BString, Object> headers = (BMap<BString, Object>) record.get(StringUtils.fromString("headers"));
+            Assert.assertEquals(settings.get(StringUtils.fromString("retries")), 3L);
+            Assert.assertEquals(headers.get(StringUtils.fromString("Accept")).toString(), "text/plain");
+            jsonUtilsMock.verify(() -> JsonUtils.parse(anyString()), Mockito.never());
+        }
+    }
+
+    private static MessageContext context(Module module, String operation) {
+        MessageContext context = mock(MessageContext.class);
+        when(context.getProperty(Constants.MODULE_RUNTIME)).thenReturn(new ModuleRuntime(module, mock(Runtime.class)));
+        when(context.getProperty(Constants.FUNCTION_NAME)).thenReturn(operation);
+        return context;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi.executor;
+
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.mi.BallerinaExecutionException;
+import io.ballerina.stdlib.mi.Constants;
+import io.ballerina.stdlib.mi.utils.SynapseUtils;
+import org.apache.synapse.MessageContext;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for ResourceFunctionInvoker handle resolution.
+ */
+public class ResourceFunctionInvokerTest {
+
+    @Test
+    public void testForRuntimeWithoutSchedulerFails() {
+        Runtime runtime = mock(Runtime.class);
+        Assert.assertThrows(NoSuchFieldException.class, () -> ResourceFunctionInvoker.forRuntime(runtime));
+    }
+
+    @Test
+    public void testFailedResolutionIsNotCached() {
+        Runtime runtime = mock(Runtime.class);
+        Assert.assertThrows(NoSuchFieldException.class, () -> ResourceFunctionInvoker.forRuntime(runtime));
+        // A second attempt must resolve again instead of returning a half-initialised invoker
+        Assert.assertThrows(NoSuchFieldException.class, () -> ResourceFunctionInvoker.forRuntime(runtime));
+    }
+
+    @Test
+    public void testResolutionFailureSurfacesAsExecutionException() throws Exception {
+        try (MockedStatic<SynapseUtils> synapseUtilsMock = Mockito.mockStatic(SynapseUtils.class)) {
+            BalExecutor executor = new BalExecutor();
+            Runtime runtime = mock(Runtime.class);
+            BObject bObject = mock(BObject.class);
+            MessageContext context = mock(MessageContext.class);
+
+            synapseUtilsMock.when(() -> SynapseUtils.getPropertyAsString(context, Constants.SIZE))
+                    .thenReturn("0");
+            synapseUtilsMock.when(() -> SynapseUtils.getPropertyAsString(context, Constants.FUNCTION_TYPE))
+                    .thenReturn(Constants.FUNCTION_TYPE_RESOURCE);
+            synapseUtilsMock.when(() -> SynapseUtils.getPropertyAsString(context, Constants.JVM_METHOD_NAME))
+                    .thenReturn("$get$users");
+
+            BallerinaExecutionException e = Assert.expectThrows(BallerinaExecutionException.class,
+                    () -> executor.execute(runtime, bObject, context));
+            Assert.assertTrue(e.getMessage().startsWith("Resource invocation failed"));
+            Assert.assertTrue(e.getCause() instanceof NoSuchFieldException);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mi.utils;
+
+import org.apache.synapse.MessageContext;
+import org.apache.synapse.util.xpath.SynapseExpression;
+import org.mockito.MockedConstruction;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for SynapseExpressionCache.
+ */
+public class SynapseExpressionCacheTest {
+
+    @BeforeMethod
+    public void setUp() {
+        SynapseExpressionCache.clear();
+    }
+
+    @Test
+    public void testExpressionIsCompiledOnceAndReused() throws Exception {
+        try (MockedConstruction<SynapseExpression> construction = Mockito.mockConstruction(SynapseExpression.class)) {
+            SynapseExpression first = SynapseExpressionCache.get("payload.id");
+            SynapseExpression second = SynapseExpressionCache.get("payload.id");
+            SynapseExpressionCache.get("vars.name");
+
+            Assert.assertSame(second, first);
+            Assert.assertEquals(construction.constructed().size(), 2);
+            Assert.assertEquals(SynapseExpressionCache.getHitCount(), 1);
+            Assert.assertEquals(SynapseExpressionCache.getMissCount(), 2);
+            Assert.assertEquals(SynapseExpressionCache.size(), 2);
+        }
+    }
+
+    @Test
+    public void testResolvingTemplateValuesReusesCompiledExpressions() {
+        MessageContext first = mock(MessageContext.class);
+        MessageContext second = mock(MessageContext.class);
+        try (MockedConstruction<SynapseExpression> construction = Mockito.mockConstruction(SynapseExpression.class,
+                (expression, ctx) -> {
+                    when(expression.stringValueOf(first)).thenReturn("1");
+                    when(expression.stringValueOf(second)).thenReturn("2");
+                })) {
+            Assert.assertEquals(SynapseUtils.resolveSynapseExpressions("id=${payload.id}", first), "id=1");
+            Assert.assertEquals(SynapseUtils.resolveSynapseExpressions("id=${payload.id}", second), "id=2");
+
+            Assert.assertEquals(construction.constructed().size(), 1);
+            Assert.assertEquals(SynapseExpressionCache.getHitCount(), 1);
+        }
+    }
+
+    @Test
+    public void testFailedCompilationIsNotCached() {
+        try (MockedConstruction<SynapseExpression> ignored = Mockito.mockConstruction(SynapseExpression.class,
+                (expression, ctx) -> {
+                    throw new IllegalStateException("bad expression");
+                })) {
+            Assert.assertThrows(RuntimeException.class, () -> SynapseExpressionCache.get("payload.("));
+            Assert.assertEquals(SynapseExpressionCache.size(), 0);
+        }
+    }
+
+    @Test
+    public void testClearResetsCounters() throws Exception {
+        try (MockedConstruction<SynapseExpression> ignored = Mockito.mockConstruction(SynapseExpression.class)) {
+            SynapseExpressionCache.get("payload.id");
+            SynapseExpressionCache.get("payload.id");
+        }
+        SynapseExpressionCache.clear();
+
+        Assert.assertEquals(SynapseExpressionCache.size(), 0);
+        Assert.assertEquals(SynapseExpressionCache.getHitCount(), 0);
+        Assert.assertEquals(SynapseExpressionCache.getMissCount(), 0);
+    }
+}
@@ -19,12 +19,15 @@
 package io.ballerina.stdlib.mi.utils;
 
 import io.ballerina.stdlib.mi.Constants;
+import io.ballerina.stdlib.mi.OperationDescriptor;
+import org.apache.axiom.om.util.AXIOMUtil;
 import org.apache.synapse.MessageContext;
 import org.apache.synapse.mediators.template.TemplateContext;
 import org.apache.synapse.util.xpath.SynapseExpression;
 import org.mockito.MockedConstruction;
 import org.mockito.Mockito;
 import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import java.util.HashMap;
@@ -36,6 +39,12 @@ import static org.mockito.Mockito.when;
 
 public class SynapseUtilsTest {
 
+    @BeforeMethod
+    public void clearExpressionCache() {
+        // Expressions compiled under a mocked construction must not leak into other tests
+        SynapseExpressionCache.clear();
+    }
+
     @Test
     public void testGetPropertyAsString() {
         MessageContext context = mock(MessageContext.class);
@@ -46,6 +55,20 @@ public class SynapseUtilsTest {
         Assert.assertNull(SynapseUtils.getPropertyAsString(context, "missing"));
     }
 
+    @Test
+    public void testGetPropertyAsStringPrefersOperationDescriptor() throws Exception {
+        MessageContext context = mock(MessageContext.class);
+        OperationDescriptor descriptor = OperationDescriptor.fromOMElement(AXIOMUtil.stringToOM(
+                "<operation name=\"op\"><property name=\"paramType0\" value=\"int\"/></operation>"));
+        when(context.getProperty(Constants.OPERATION_DESCRIPTOR)).thenReturn(descriptor);
+        when(context.getProperty("paramType0")).thenReturn("string");
+        when(context.getProperty("connectionName")).thenReturn("conn1");
+
+        Assert.assertEquals(SynapseUtils.getPropertyAsString(context, "paramType0"), "int");
+        // Keys the descriptor does not define still resolve from the message context
+        Assert.assertEquals(SynapseUtils.getPropertyAsString(context, "connectionName"), "conn1");
+    }
+
     @Test
     public void testResolveSynapseExpressions() {
         MessageContext context = mock(MessageContext.class);
@@ -161,6 +184,42 @@ public class SynapseUtilsTest {
         Assert.assertNull(result);
     }
 
+    @Test
+    public void testCleanupJsonString_MultipleTrailingCommas() {
+        String json = "{\"a\":1, \"b\":2, }";
+        Assert.assertEquals(SynapseUtils.cleanupJsonString(json), "{\"a\":1, \"b\":2}");
+
+        String arrayJson = "[1, 2, 3, ]";
+        Assert.assertEquals(SynapseUtils.cleanupJsonString(arrayJson), "[1, 2, 3]");
+    }
+
+    @Test
+    public void testCleanupJsonString_NestedTrailingCommas() {
+        String json = "{\"arr\":[1, 2, ], }";
+        Assert.assertEquals(SynapseUtils.cleanupJsonString(json), "{\"arr\":[1, 2]}");
+    }
+
+    @Test
+    public void testCleanupJsonString_CommasInsideStringsAreKept() {
+        String json = "'{\"a\":\"x, }\", \"b\":\"q\\\", ]\", }'";
+        Assert.assertEquals(SynapseUtils.cleanupJsonString(json), "{\"a\":\"x, }\", \"b\":\"q\\\", ]\"}");
+    }
+
+    @Test
+    public void testCleanupJsonString_NoTrailingCommas() {
+        String json = "{\"a\":1, \"b\":2}";
+        Assert.assertEquals(SynapseUtils.cleanupJsonString(json), "{\"a\":1, \"b\":2}");
+    }
+
+    @Test
+    public void testGetPropertyAsString_NonStringValue() {
+        MessageContext context = mock(MessageContext.class);
+        when(context.getProperty("intKey")).thenReturn(123);
+
+        String result = SynapseUtils.getPropertyAsString(context, "intKey");
+        Assert.assertEquals(result, "123");
+    }
+
     @Test
     public void testFindParentUnionPath() {
         java.util.Set<String> unionPaths = new java.util.HashSet<>();
@@ -195,36 +254,6 @@ public class SynapseUtilsTest {
         Assert.assertNull(result);
     }
 
-    @Test
-    public void testCleanupJsonString_MultipleTrailingCommas() {
-        String json = "{\"a\":1, \"b\":2, }";
-        Assert.assertEquals(SynapseUtils.cleanupJsonString(json), "{\"a\":1, \"b\":2}");
-
-        String arrayJson = "[1, 2, 3, ]";
-        Assert.assertEquals(SynapseUtils.cleanupJsonString(arrayJson), "[1, 2, 3]");
-    }
-
-    @Test
-    public void testCleanupJsonString_NestedTrailingCommas() {
-        String json = "{\"arr\":[1, 2, ], }";
-        Assert.assertEquals(SynapseUtils.cleanupJsonString(json), "{\"arr\":[1, 2]}");
-    }
-
-    @Test
-    public void testCleanupJsonString_NoTrailingCommas() {
-        String json = "{\"a\":1, \"b\":2}";
-        Assert.assertEquals(SynapseUtils.cleanupJsonString(json), "{\"a\":1, \"b\":2}");
-    }
-
-    @Test
-    public void testGetPropertyAsString_NonStringValue() {
-        MessageContext context = mock(MessageContext.class);
-        when(context.getProperty("intKey")).thenReturn(123);
-
-        String result = SynapseUtils.getPropertyAsString(context, "intKey");
-        Assert.assertEquals(result, "123");
-    }
-
     @Test
     public void testResolveSynapseExpressions_NullContext() {
         String text = "plain text without expressions";
@@ -138,6 +138,7 @@ public class ConnectorZipValidationTest {
         Path testComponentXml = componentDir.resolve("component.xml");
         Assert.assertTrue(Files.exists(testComponentXml), "component.xml does not exist in 'functions' for project: " + projectName);
         compareFileContent(testComponentXml, expectedPath.resolve("functions").resolve("component.xml"));
+        compareOperationTemplates(componentDir, expectedPath.resolve("functions"));
 
         // Validate lib directory and jar
         Path libDir = connectorPath.resolve("lib");
@@ -278,6 +279,7 @@ public class ConnectorZipValidationTest {
             Assert.assertTrue(Files.exists(expectedComponentXml),
                     "Expected component.xml does not exist in 'functions' for project: " + projectName);
             compareFileContent(testComponentXml, expectedComponentXml);
+            compareOperationTemplates(functionsDir, expectedPath.resolve("functions"));
         } else {
             // Multi-client: read connector.xml to find per-client component folders
             String connectorXmlContent = new String(Files.readAllBytes(connectorXml), StandardCharsets.UTF_8);
@@ -304,6 +306,7 @@ public class ConnectorZipValidationTest {
                 Assert.assertTrue(Files.exists(expectedClientComponentXml),
                         "Expected component.xml does not exist in '" + clientFolder + "' for project: " + projectName);
                 compareFileContent(clientComponentXml, expectedClientComponentXml);
+                compareOperationTemplates(clientDir, expectedPath.resolve(clientFolder));
             }
         }
 
@@ -434,6 +437,25 @@ public class ConnectorZipValidationTest {
         return connectorCmd;
     }
 
+    /**
+     * Compares every expected operation template ({@code <operation>.xml}) of a component folder against the
+     * generated one.
+     */
+    private void compareOperationTemplates(Path componentDir, Path expectedComponentDir) throws IOException {
+        try (var expectedFiles = Files.list(expectedComponentDir)) {
+            List<Path> operationTemplates = expectedFiles
+                    .filter(path -> path.getFileName().toString().endsWith(".xml"))
+                    .filter(path -> !path.getFileName().toString().equals("component.xml"))
+                    .toList();
+            for (Path expectedTemplate : operationTemplates) {
+                Path generatedTemplate = componentDir.resolve(expectedTemplate.getFileName());
+                Assert.assertTrue(Files.exists(generatedTemplate),
+                        "Operation template " + expectedTemplate.getFileName() + " was not generated in " + componentDir);
+                compareFileContent(generatedTemplate, expectedTemplate);
+            }
+        }
+    }
+
     private void compareFileContent(Path actualFilePath, Path expectedFilePath) throws IOException {
         String actualContent = new String(Files.readAllBytes(actualFilePath)).replaceAll("\\r\\n", "\n");
         String expectedContent = new String(Files.readAllBytes(expectedFilePath)).replaceAll("\\r\\n", "\n");
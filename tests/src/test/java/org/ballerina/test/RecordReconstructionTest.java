@@ -16,6 +16,9 @@
 
 package org.ballerina.test;
 
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.mi.executor.DataTransformer;
 import io.ballerina.stdlib.mi.utils.SynapseUtils;
 import org.apache.synapse.MessageContext;
@@ -47,64 +50,47 @@ public class RecordReconstructionTest {
     }
 
     /**
-     * Tests the setNestedField method to ensure it correctly creates nested JSON objects
-     * and sets values using dot notation paths.
+     * Tests that reconstruction creates nested maps for dot notation field paths and
+     * converts each value to its field type.
      */
     @Test(description = "Verify setNestedField creates proper nested structure")
     public void testSetNestedField() throws Exception {
-        // Use reflection to access the private setNestedField method
-        Method setNestedFieldMethod = DataTransformer.class.getDeclaredMethod(
-                "setNestedField",
-                com.google.gson.JsonObject.class,
-                String.class,
-                Object.class,
-                String.class,
-                MessageContext.class,
-                String.class,
-                int.class
-        );
-        setNestedFieldMethod.setAccessible(true);
-
-        com.google.gson.JsonObject rootObject = new com.google.gson.JsonObject();
-
-        // Test simple field
-        setNestedFieldMethod.invoke(null, rootObject, "httpVersion", "HTTP_1_1", "string", messageContext, "testPrefix", 0);
-        Assert.assertTrue(rootObject.has("httpVersion"), "Simple field should be set");
-        Assert.assertEquals(rootObject.get("httpVersion").getAsString(), "HTTP_1_1");
-
-        // Test nested field (2 levels)
-        setNestedFieldMethod.invoke(null, rootObject, "http1Settings.keepAlive", "ALWAYS", "string", messageContext, "testPrefix", 1);
-        Assert.assertTrue(rootObject.has("http1Settings"), "Nested object should be created");
-        Assert.assertTrue(rootObject.getAsJsonObject("http1Settings").has("keepAlive"),
-                "Nested field should be set");
-        Assert.assertEquals(rootObject.getAsJsonObject("http1Settings").get("keepAlive").getAsString(),
-                "ALWAYS");
-
-        // Test deeply nested field (3 levels)
-        setNestedFieldMethod.invoke(null, rootObject, "http1Settings.proxy.host", "localhost", "string", messageContext, "testPrefix", 2);
-        Assert.assertTrue(rootObject.getAsJsonObject("http1Settings").has("proxy"),
-                "Second level nested object should be created");
-        Assert.assertTrue(rootObject.getAsJsonObject("http1Settings")
-                        .getAsJsonObject("proxy").has("host"),
-                "Deeply nested field should be set");
-        Assert.assertEquals(rootObject.getAsJsonObject("http1Settings")
-                        .getAsJsonObject("proxy").get("host").getAsString(),
-                "localhost");
-
-        // Test integer field
-        setNestedFieldMethod.invoke(null, rootObject, "http1Settings.proxy.port", "8080", "int", messageContext, "testPrefix", 3);
-        Assert.assertEquals(rootObject.getAsJsonObject("http1Settings")
-                        .getAsJsonObject("proxy").get("port").getAsLong(),
-                8080L);
-
-        // Test boolean field
-        setNestedFieldMethod.invoke(null, rootObject, "cache.enabled", "true", "boolean", messageContext, "testPrefix", 4);
-        Assert.assertTrue(rootObject.getAsJsonObject("cache").get("enabled").getAsBoolean());
-
-        // Test float field
-        setNestedFieldMethod.invoke(null, rootObject, "cache.evictionFactor", "0.75", "float", messageContext, "testPrefix", 5);
-        Assert.assertEquals(rootObject.getAsJsonObject("cache").get("evictionFactor").getAsDouble(),
-                0.75, 0.001);
+        String propertyPrefix = "nestedTest";
+        String[][] fields = {
+                {"httpVersion", "string", "HTTP_1_1"},
+                {"http1Settings.keepAlive", "string", "ALWAYS"},
+                {"http1Settings.proxy.host", "string", "localhost"},
+                {"http1Settings.proxy.port", "int", "8080"},
+                {"cache.enabled", "boolean", "true"},
+                {"cache.evictionFactor", "float", "0.75"}
+        };
+        for (int i = 0; i < fields.length; i++) {
+            messageContext.setProperty(propertyPrefix + "_param" + i, fields[i][0]);
+            messageContext.setProperty(propertyPrefix + "_paramType" + i, fields[i][1]);
+            messageContext.setProperty(fields[i][0].replace(".", "_"), fields[i][2]);
+        }
+
+        BMap<BString, Object> rootObject =
+                (BMap<BString, Object>) DataTransformer.reconstructRecordFromFields(propertyPrefix, messageContext);
+
+        // Simple field
+        Assert.assertEquals(rootObject.get(StringUtils.fromString("httpVersion")).toString(), "HTTP_1_1");
+
+        // Nested field (2 levels)
+        BMap<BString, Object> http1Settings = (BMap<BString, Object>) rootObject.get(StringUtils.fromString("http1Settings"));
+        Assert.assertNotNull(http1Settings, "Nested object should be created");
+        Assert.assertEquals(http1Settings.get(StringUtils.fromString("keepAlive")).toString(), "ALWAYS");
+
+        // Deeply nested field (3 levels) and integer field
+        BMap<BString, Object> proxy = (BMap<BString, Object>) http1Settings.get(StringUtils.fromString("proxy"));
+        Assert.assertNotNull(proxy, "Second level nested object should be created");
+        Assert.assertEquals(proxy.get(StringUtils.fromString("host")).toString(), "localhost");
+        Assert.assertEquals(proxy.get(StringUtils.fromString("port")), 8080L);
+
+        // Boolean and float fields
+        BMap<BString, Object> cache = (BMap<BString, Object>) rootObject.get(StringUtils.fromString("cache"));
+        Assert.assertEquals(cache.get(StringUtils.fromString("enabled")), true);
+        Assert.assertEquals((Double) cache.get(StringUtils.fromString("evictionFactor")), 0.75, 0.001);
     }
 
     /**
@@ -19,6 +19,7 @@
 package io.ballerina.mi.generator;
 
 import com.github.jknack.handlebars.Handlebars;
+import com.github.jknack.handlebars.Options;
 import io.ballerina.compiler.api.symbols.ArrayTypeSymbol;
 import io.ballerina.compiler.api.symbols.TypeDescKind;
 import io.ballerina.compiler.api.symbols.TypeSymbol;
@@ -171,19 +172,19 @@ public final class HandlebarsHelperRegistry {
         });
         handlebar.registerHelper("writeComponentXmlProperties", (context, options) -> {
             Component component = (Component) context;
+            String indent = propertyIndent(options);
             StringBuilder result = new StringBuilder();
             List<PathParamType> pathParams = component.getPathParams();
             for (int i = 0; i < pathParams.size(); i++) {
-                XmlPropertyWriter.writeComponentXmlPathProperty(pathParams.get(i), i, result, i == 0);
+                XmlPropertyWriter.writeComponentXmlPathProperty(pathParams.get(i), i, result, i == 0, indent);
             }
             List<Type> queryParams = component.getQueryParams();
             for (int i = 0; i < queryParams.size(); i++) {
                 XmlPropertyWriter.writeComponentXmlQueryProperty(queryParams.get(i), i, result);
             }
             boolean hasPreviousProperties = !pathParams.isEmpty() || !queryParams.isEmpty();
-            String indent = hasPreviousProperties ? "        " : "";
             result.append(String.format("%s<property name=\"returnType\" value=\"%s\"/>\n",
-                    indent, component.getReturnType()));
+                    hasPreviousProperties ? indent : "", component.getReturnType()));
             return new Handlebars.SafeString(result.toString());
         });
         handlebar.registerHelper("writeConfigXmlParameters", (context, options) -> {
@@ -234,8 +235,9 @@ public final class HandlebarsHelperRegistry {
                 List<FunctionParam> functionParams = connection.getInitComponent().getFunctionParams();
                 int[] indexHolder = {0};
                 boolean[] isFirst = {true};
+                String indent = propertyIndent(options);
                 for (FunctionParam functionParam : functionParams) {
-                    XmlPropertyWriter.writeXmlParamProperties(functionParam, connection.getConnectionType().toUpperCase(), result, indexHolder, isFirst);
+                    XmlPropertyWriter.writeXmlParamProperties(functionParam, connection.getConnectionType().toUpperCase(), result, indexHolder, isFirst, indent);
                 }
             }
             String output = result.toString();
@@ -292,13 +294,24 @@ public final class HandlebarsHelperRegistry {
                 int[] fieldIndexHolder = {0};
                 String recordParamName = recordParam.getValue();
                 for (FunctionParam fieldParam : recordParam.getRecordFieldParams()) {
-                    XmlPropertyWriter.writeFunctionRecordFieldProperties(fieldParam, recordParamName, result, fieldIndexHolder);
+                    XmlPropertyWriter.writeFunctionRecordFieldProperties(fieldParam, recordParamName, result,
+                            fieldIndexHolder, propertyIndent(options));
                 }
             }
             return new Handlebars.SafeString(result.toString());
         });
     }
 
+    /**
+     * Returns the indentation of the property lines an XML helper writes, taken from the helper's
+     * {@code indent} hash argument (a number of spaces) so that it follows the template line the helper is
+     * called from.
+     */
+    private static String propertyIndent(Options options) {
+        Integer columns = options.hash("indent");
+        return columns != null ? " ".repeat(columns) : XmlPropertyWriter.PROPERTY_INDENT;
+    }
+
     // ─── JSON Property Helpers ────────────────────────────────────────────────
 
     private static void registerJsonHelpers(Handlebars handlebar) {
@@ -50,6 +50,11 @@ import static io.ballerina.mi.util.Constants.RECORD;
  */
 public final class XmlPropertyWriter {
 
+    /**
+     * Indentation of property elements written directly under a template's {@code <sequence>}.
+     */
+    static final String PROPERTY_INDENT = "        ";
+
     private XmlPropertyWriter() {
         // Utility class — no instantiation
     }
@@ -60,12 +65,21 @@ public final class XmlPropertyWriter {
      * Writes XML property elements for a single path parameter.
      */
     static void writeComponentXmlPathProperty(PathParamType parameter, int index, StringBuilder result, boolean isFirstPathParam) {
+        writeComponentXmlPathProperty(parameter, index, result, isFirstPathParam, PROPERTY_INDENT);
+    }
+
+    /**
+     * Writes XML property elements for a single path parameter, indenting every line but the first by
+     * {@code indent}; the first path property follows the indentation of the template line it is written on.
+     */
+    static void writeComponentXmlPathProperty(PathParamType parameter, int index, StringBuilder result,
+                                              boolean isFirstPathParam, String indent) {
         if (isFirstPathParam) {
             result.append(String.format("<property name=\"pathParam%d\" value=\"%s\"/>\n", index, parameter.name));
         } else {
-            result.append(String.format("        <property name=\"pathParam%d\" value=\"%s\"/>\n", index, parameter.name));
+            result.append(String.format("%s<property name=\"pathParam%d\" value=\"%s\"/>\n", indent, index, parameter.name));
         }
-        result.append(String.format("        <property name=\"pathParamType%d\" value=\"%s\"/>\n", index, parameter.typeName));
+        result.append(String.format("%s<property name=\"pathParamType%d\" value=\"%s\"/>\n", indent, index, parameter.typeName));
     }
 
     /**
@@ -154,27 +168,33 @@ public final class XmlPropertyWriter {
      */
     static void writeXmlParamProperties(FunctionParam functionParam, String connectionType,
                                         StringBuilder result, int[] indexHolder, boolean[] isFirst) {
+        writeXmlParamProperties(functionParam, connectionType, result, indexHolder, isFirst, PROPERTY_INDENT);
+    }
+
+    static void writeXmlParamProperties(FunctionParam functionParam, String connectionType,
+                                        StringBuilder result, int[] indexHolder, boolean[] isFirst,
+                                        String indent) {
         if (functionParam.isTypeDescriptor() && !(functionParam instanceof UnionFunctionParam)) {
             return;
         }
 
         if (functionParam instanceof RecordFunctionParam recordParam && !recordParam.getRecordFieldParams().isEmpty()) {
             if (!isFirst[0]) {
-                result.append("\n        ");
+                result.append("\n").append(indent);
             }
             result.append(String.format("<property name=\"%s_param%d\" value=\"%s\"/>",
                     connectionType, indexHolder[0], recordParam.getValue()));
-            result.append(String.format("\n        <property name=\"%s_paramType%d\" value=\"%s\"/>",
-                    connectionType, indexHolder[0], RECORD));
-            result.append(String.format("\n        <property name=\"%s_param%d_recordName\" value=\"%s\"/>",
-                    connectionType, indexHolder[0], recordParam.getRecordName()));
+            result.append(String.format("\n%s<property name=\"%s_paramType%d\" value=\"%s\"/>",
+                    indent, connectionType, indexHolder[0], RECORD));
+            result.append(String.format("\n%s<property name=\"%s_param%d_recordName\" value=\"%s\"/>",
+                    indent, connectionType, indexHolder[0], recordParam.getRecordName()));
             if (recordParam.getRecordOrg() != null) {
-                result.append(String.format("\n        <property name=\"%s_param%d_recordOrg\" value=\"%s\"/>",
-                        connectionType, indexHolder[0], recordParam.getRecordOrg()));
+                result.append(String.format("\n%s<property name=\"%s_param%d_recordOrg\" value=\"%s\"/>",
+                        indent, connectionType, indexHolder[0], recordParam.getRecordOrg()));
             }
             if (recordParam.getRecordModule() != null) {
-                result.append(String.format("\n        <property name=\"%s_param%d_recordModule\" value=\"%s\"/>",
-                        connectionType, indexHolder[0], recordParam.getRecordModule()));
+                result.append(String.format("\n%s<property name=\"%s_param%d_recordModule\" value=\"%s\"/>",
+                        indent, connectionType, indexHolder[0], recordParam.getRecordModule()));
             }
             isFirst[0] = false;
             indexHolder[0]++;
@@ -182,24 +202,25 @@ public final class XmlPropertyWriter {
             int[] fieldIndexHolder = {0};
             String recordParamName = recordParam.getValue();
             for (FunctionParam fieldParam : recordParam.getRecordFieldParams()) {
-                writeRecordFieldParamProperties(fieldParam, connectionType, recordParamName, result, fieldIndexHolder);
+                writeRecordFieldParamProperties(fieldParam, connectionType, recordParamName, result, fieldIndexHolder,
+                        indent);
             }
         } else if (functionParam instanceof UnionFunctionParam unionParam && !unionParam.isTypeDescriptor()) {
             // Init-context union parameter (e.g. DestinationConfig|map<string>).
             // Write: paramN / paramTypeN / dataTypeN (discriminator key) then, for each union member,
             // write the member pointer property and — for record members — all flattened field properties.
             if (!isFirst[0]) {
-                result.append("\n        ");
+                result.append("\n").append(indent);
             }
             int currentIndex = indexHolder[0];
             String sanitizedParamName = Utils.sanitizeParamName(unionParam.getValue());
 
             result.append(String.format("<property name=\"%s_param%d\" value=\"%s\"/>",
                     connectionType, currentIndex, unionParam.getValue()));
-            result.append(String.format("\n        <property name=\"%s_paramType%d\" value=\"%s\"/>",
-                    connectionType, currentIndex, unionParam.getParamType()));
-            result.append(String.format("\n        <property name=\"%s_dataType%d\" value=\"%s\"/>",
-                    connectionType, currentIndex, sanitizedParamName + "DataType"));
+            result.append(String.format("\n%s<property name=\"%s_paramType%d\" value=\"%s\"/>",
+                    indent, connectionType, currentIndex, unionParam.getParamType()));
+            result.append(String.format("\n%s<property name=\"%s_dataType%d\" value=\"%s\"/>",
+                    indent, connectionType, currentIndex, sanitizedParamName + "DataType"));
             isFirst[0] = false;
             indexHolder[0]++;
 
@@ -215,19 +236,19 @@ public final class XmlPropertyWriter {
                     String capitalizedTypeName = org.apache.commons.lang3.StringUtils.capitalize(memberTypeName);
                     String recordParamName = sanitizedParamName + "_" + memberTypeName;
                     // e.g. SAP_JCO_CLIENT_param0UnionDestinationConfig = configurations_DestinationConfig
-                    result.append(String.format("\n        <property name=\"%s_param%dUnion%s\" value=\"%s\"/>",
-                            connectionType, currentIndex, capitalizedTypeName, recordParamName));
+                    result.append(String.format("\n%s<property name=\"%s_param%dUnion%s\" value=\"%s\"/>",
+                            indent, connectionType, currentIndex, capitalizedTypeName, recordParamName));
                     int[] fieldIndexHolder = {0};
                     for (FunctionParam fieldParam : recordMemberParam.getRecordFieldParams()) {
                         writeRecordFieldParamPropertiesWithUnionMember(fieldParam, connectionType, recordParamName,
-                                result, fieldIndexHolder, memberTypeName);
+                                result, fieldIndexHolder, memberTypeName, indent, new java.util.HashSet<>());
                     }
                 } else if ("map".equals(memberParam.getParamType())) {
                     // e.g. SAP_JCO_CLIENT_param0UnionMap = configMap
                     // Value must match the <parameter> name written by writeXmlParameterElements
                     // (sanitizedParamName + "Map") and the uischema field name.
-                    result.append(String.format("\n        <property name=\"%s_param%dUnionMap\" value=\"%s\"/>",
-                            connectionType, currentIndex, sanitizedParamName + "Map"));
+                    result.append(String.format("\n%s<property name=\"%s_param%dUnionMap\" value=\"%s\"/>",
+                            indent, connectionType, currentIndex, sanitizedParamName + "Map"));
                 } else {
                     // Primitive or array union member (string, int, boolean, float, decimal, array).
                     // Emit a pointer so ParamHandler.getUnionParameter() can resolve the selected member
@@ -235,31 +256,31 @@ public final class XmlPropertyWriter {
                     String memberType = memberParam.getParamType();
                     if (memberType != null && !memberType.isEmpty()) {
                         String capitalizedType = org.apache.commons.lang3.StringUtils.capitalize(memberType);
-                        result.append(String.format("\n        <property name=\"%s_param%dUnion%s\" value=\"%s_%s\"/>",
-                                connectionType, currentIndex, capitalizedType, sanitizedParamName, memberType));
+                        result.append(String.format("\n%s<property name=\"%s_param%dUnion%s\" value=\"%s_%s\"/>",
+                                indent, connectionType, currentIndex, capitalizedType, sanitizedParamName, memberType));
                     }
                 }
             }
         } else {
             if (!isFirst[0]) {
-                result.append("\n        ");
+                result.append("\n").append(indent);
             }
             int currentIndex = indexHolder[0];
             result.append(String.format("<property name=\"%s_param%d\" value=\"%s\"/>",
                     connectionType, currentIndex, functionParam.getValue()));
-            result.append(String.format("\n        <property name=\"%s_paramType%d\" value=\"%s\"/>",
-                    connectionType, currentIndex, functionParam.getParamType()));
+            result.append(String.format("\n%s<property name=\"%s_paramType%d\" value=\"%s\"/>",
+                    indent, connectionType, currentIndex, functionParam.getParamType()));
             
             if (functionParam instanceof RecordFunctionParam recordParam) {
-                result.append(String.format("\n        <property name=\"%s_param%d_recordName\" value=\"%s\"/>",
-                        connectionType, currentIndex, recordParam.getRecordName()));
+                result.append(String.format("\n%s<property name=\"%s_param%d_recordName\" value=\"%s\"/>",
+                        indent, connectionType, currentIndex, recordParam.getRecordName()));
                 if (recordParam.getRecordModule() != null) {
-                    result.append(String.format("\n        <property name=\"%s_param%d_recordModule\" value=\"%s\"/>",
-                            connectionType, currentIndex, recordParam.getRecordModule()));
+                    result.append(String.format("\n%s<property name=\"%s_param%d_recordModule\" value=\"%s\"/>",
+                            indent, connectionType, currentIndex, recordParam.getRecordModule()));
                 }
                 if (recordParam.getRecordOrg() != null) {
-                    result.append(String.format("\n        <property name=\"%s_param%d_recordOrg\" value=\"%s\"/>",
-                            connectionType, currentIndex, recordParam.getRecordOrg()));
+                    result.append(String.format("\n%s<property name=\"%s_param%d_recordOrg\" value=\"%s\"/>",
+                            indent, connectionType, currentIndex, recordParam.getRecordOrg()));
                 }
                 // version is often null/empty for local modules
                 
@@ -267,7 +288,8 @@ public final class XmlPropertyWriter {
                 int[] fieldIndexHolder = {0};
                 String recordParamName = recordParam.getValue();
                 for (FunctionParam fieldParam : recordParam.getRecordFieldParams()) {
-                    writeRecordFieldParamProperties(fieldParam, connectionType, recordParamName, result, fieldIndexHolder);
+                    writeRecordFieldParamProperties(fieldParam, connectionType, recordParamName, result, fieldIndexHolder,
+                        indent);
                 }
             }
             
@@ -285,8 +307,15 @@ public final class XmlPropertyWriter {
     static void writeRecordFieldParamProperties(FunctionParam fieldParam, String connectionType,
                                                 String recordParamName, StringBuilder result,
                                                 int[] fieldIndexHolder) {
+        writeRecordFieldParamProperties(fieldParam, connectionType, recordParamName, result, fieldIndexHolder,
+                PROPERTY_INDENT);
+    }
+
+    static void writeRecordFieldParamProperties(FunctionParam fieldParam, String connectionType,
+                                                String recordParamName, StringBuilder result,
+                                                int[] fieldIndexHolder, String indent) {
         writeRecordFieldParamPropertiesWithUnionMember(fieldParam, connectionType, recordParamName, result,
-                fieldIndexHolder, null);
+                fieldIndexHolder, null, indent, new java.util.HashSet<>());
     }
 
     /**
@@ -297,36 +326,36 @@ public final class XmlPropertyWriter {
     static void writeRecordFieldParamPropertiesWithUnionMember(FunctionParam fieldParam, String connectionType,
                                                                String recordParamName, StringBuilder result,
                                                                int[] fieldIndexHolder, String unionMemberType) {
-        writeRecordFieldParamPropertiesWithUnionMember(fieldParam, connectionType, recordParamName, result, fieldIndexHolder, unionMemberType, new java.util.HashSet<>());
+        writeRecordFieldParamPropertiesWithUnionMember(fieldParam, connectionType, recordParamName, result, fieldIndexHolder, unionMemberType, PROPERTY_INDENT, new java.util.HashSet<>());
     }
 
     static void writeRecordFieldParamPropertiesWithUnionMember(FunctionParam fieldParam, String connectionType,
                                                                String recordParamName, StringBuilder result,
                                                                int[] fieldIndexHolder, String unionMemberType,
-                                                               java.util.Set<String> visitedTypes) {
+                                                               String indent, java.util.Set<String> visitedTypes) {
         if (fieldParam instanceof RecordFunctionParam nestedRecordParam && !nestedRecordParam.getRecordFieldParams().isEmpty()) {
             for (FunctionParam nestedFieldParam : nestedRecordParam.getRecordFieldParams()) {
                 writeRecordFieldParamPropertiesWithUnionMember(nestedFieldParam, connectionType, recordParamName,
-                        result, fieldIndexHolder, unionMemberType, visitedTypes);
+                        result, fieldIndexHolder, unionMemberType, indent, visitedTypes);
             }
         } else if (fieldParam instanceof UnionFunctionParam unionFieldParam) {
-            result.append("\n        ");
+            result.append("\n").append(indent);
             String fieldValue = fieldParam.getValue();
             result.append(String.format("<property name=\"%s_%s_param%d\" value=\"%s\"/>",
                     connectionType, recordParamName, fieldIndexHolder[0], fieldValue));
-            result.append(String.format("\n        <property name=\"%s_%s_paramType%d\" value=\"%s\"/>",
-                    connectionType, recordParamName, fieldIndexHolder[0], fieldParam.getParamType()));
+            result.append(String.format("\n%s<property name=\"%s_%s_paramType%d\" value=\"%s\"/>",
+                    indent, connectionType, recordParamName, fieldIndexHolder[0], fieldParam.getParamType()));
             String sanitizedParamName = Utils.sanitizeParamName(fieldValue);
             
             if (!unionFieldParam.isTypeDescriptor()) {
-                result.append(String.format("\n        <property name=\"%s_%s_dataType%d\" value=\"%s\"/>",
-                        connectionType, recordParamName, fieldIndexHolder[0],
+                result.append(String.format("\n%s<property name=\"%s_%s_dataType%d\" value=\"%s\"/>",
+                        indent, connectionType, recordParamName, fieldIndexHolder[0],
                         sanitizedParamName + "DataType"));
             }
 
             if (unionMemberType != null) {
-                result.append(String.format("\n        <property name=\"%s_%s_unionMember%d\" value=\"%s\"/>",
-                        connectionType, recordParamName, fieldIndexHolder[0], unionMemberType));
+                result.append(String.format("\n%s<property name=\"%s_%s_unionMember%d\" value=\"%s\"/>",
+                        indent, connectionType, recordParamName, fieldIndexHolder[0], unionMemberType));
             }
 
             fieldIndexHolder[0]++;
@@ -346,7 +375,7 @@ public final class XmlPropertyWriter {
                         }
                         for (FunctionParam recordField : recordMemberParam.getRecordFieldParams()) {
                             writeRecordFieldParamPropertiesWithUnionMember(recordField, connectionType, recordParamName,
-                                    result, fieldIndexHolder, memberTypeName, visitedTypes);
+                                    result, fieldIndexHolder, memberTypeName, indent, visitedTypes);
                         }
                         if (memberTypeName != null) {
                             visitedTypes.remove(memberTypeName);
@@ -355,16 +384,16 @@ public final class XmlPropertyWriter {
                 }
             }
         } else {
-            result.append("\n        ");
+            result.append("\n").append(indent);
             String fieldValue = fieldParam.getValue();
             result.append(String.format("<property name=\"%s_%s_param%d\" value=\"%s\"/>",
                     connectionType, recordParamName, fieldIndexHolder[0], fieldValue));
-            result.append(String.format("\n        <property name=\"%s_%s_paramType%d\" value=\"%s\"/>",
-                    connectionType, recordParamName, fieldIndexHolder[0], fieldParam.getParamType()));
+            result.append(String.format("\n%s<property name=\"%s_%s_paramType%d\" value=\"%s\"/>",
+                    indent, connectionType, recordParamName, fieldIndexHolder[0], fieldParam.getParamType()));
 
             if (unionMemberType != null) {
-                result.append(String.format("\n        <property name=\"%s_%s_unionMember%d\" value=\"%s\"/>",
-                        connectionType, recordParamName, fieldIndexHolder[0], unionMemberType));
+                result.append(String.format("\n%s<property name=\"%s_%s_unionMember%d\" value=\"%s\"/>",
+                        indent, connectionType, recordParamName, fieldIndexHolder[0], unionMemberType));
             }
 
             fieldIndexHolder[0]++;
@@ -380,24 +409,35 @@ public final class XmlPropertyWriter {
      */
     static void writeFunctionRecordFieldProperties(FunctionParam fieldParam, String recordParamName,
                                                    StringBuilder result, int[] fieldIndexHolder) {
-        writeFunctionRecordFieldProperties(fieldParam, recordParamName, result, fieldIndexHolder, new java.util.HashSet<>());
+        writeFunctionRecordFieldProperties(fieldParam, recordParamName, result, fieldIndexHolder, PROPERTY_INDENT);
+    }
+
+    /**
+     * Writes the record field properties with each element on a new line indented by {@code indent}.
+     */
+    static void writeFunctionRecordFieldProperties(FunctionParam fieldParam, String recordParamName,
+                                                   StringBuilder result, int[] fieldIndexHolder, String indent) {
+        writeFunctionRecordFieldProperties(fieldParam, recordParamName, result, fieldIndexHolder, indent,
+                new java.util.HashSet<>());
     }
 
     static void writeFunctionRecordFieldProperties(FunctionParam fieldParam, String recordParamName,
-                                                   StringBuilder result, int[] fieldIndexHolder, java.util.Set<String> visitedTypes) {
+                                                   StringBuilder result, int[] fieldIndexHolder, String indent,
+                                                   java.util.Set<String> visitedTypes) {
         if (fieldParam instanceof RecordFunctionParam nestedRecordParam && !nestedRecordParam.getRecordFieldParams().isEmpty()) {
             for (FunctionParam nestedFieldParam : nestedRecordParam.getRecordFieldParams()) {
-                writeFunctionRecordFieldProperties(nestedFieldParam, recordParamName, result, fieldIndexHolder, visitedTypes);
+                writeFunctionRecordFieldProperties(nestedFieldParam, recordParamName, result, fieldIndexHolder, indent,
+                        visitedTypes);
             }
         } else if (fieldParam instanceof UnionFunctionParam unionFieldParam) {
             String fieldValue = fieldParam.getValue();
-            result.append(String.format("\n        <property name=\"%s_param%d\" value=\"%s\"/>",
-                    recordParamName, fieldIndexHolder[0], fieldValue));
-            result.append(String.format("\n        <property name=\"%s_paramType%d\" value=\"%s\"/>",
-                    recordParamName, fieldIndexHolder[0], fieldParam.getParamType()));
+            result.append(String.format("\n%s<property name=\"%s_param%d\" value=\"%s\"/>",
+                    indent, recordParamName, fieldIndexHolder[0], fieldValue));
+            result.append(String.format("\n%s<property name=\"%s_paramType%d\" value=\"%s\"/>",
+                    indent, recordParamName, fieldIndexHolder[0], fieldParam.getParamType()));
             String sanitizedParamName = Utils.sanitizeParamName(fieldValue);
-            result.append(String.format("\n        <property name=\"%s_dataType%d\" value=\"%s\"/>",
-                    recordParamName, fieldIndexHolder[0],
+            result.append(String.format("\n%s<property name=\"%s_dataType%d\" value=\"%s\"/>",
+                    indent, recordParamName, fieldIndexHolder[0],
                     sanitizedParamName + "DataType"));
             fieldIndexHolder[0]++;
 
@@ -415,7 +455,7 @@ public final class XmlPropertyWriter {
                     }
                     for (FunctionParam recordField : recordMemberParam.getRecordFieldParams()) {
                         writeFunctionRecordFieldPropertiesWithUnionMember(recordField, recordParamName,
-                                result, fieldIndexHolder, memberTypeName, visitedTypes);
+                                result, fieldIndexHolder, memberTypeName, indent, visitedTypes);
                     }
                     if (memberTypeName != null) {
                         visitedTypes.remove(memberTypeName);
@@ -426,16 +466,16 @@ public final class XmlPropertyWriter {
             // Handle array fields - add element type and record field names for table-to-JSON conversion
             String fieldValue = fieldParam.getValue();
             String sanitizedFieldValue = Utils.sanitizeParamName(fieldValue);
-            result.append(String.format("\n        <property name=\"%s_param%d\" value=\"%s\"/>",
-                    recordParamName, fieldIndexHolder[0], fieldValue));
-            result.append(String.format("\n        <property name=\"%s_paramType%d\" value=\"%s\"/>",
-                    recordParamName, fieldIndexHolder[0], fieldParam.getParamType()));
+            result.append(String.format("\n%s<property name=\"%s_param%d\" value=\"%s\"/>",
+                    indent, recordParamName, fieldIndexHolder[0], fieldValue));
+            result.append(String.format("\n%s<property name=\"%s_paramType%d\" value=\"%s\"/>",
+                    indent, recordParamName, fieldIndexHolder[0], fieldParam.getParamType()));
 
             // Add array element type
             String elementTypeName = arrayFieldParam.getArrayElementTypeName();
             if (elementTypeName != null && !elementTypeName.isEmpty()) {
-                result.append(String.format("\n        <property name=\"%s_arrayElementType%d\" value=\"%s\"/>",
-                        recordParamName, fieldIndexHolder[0], elementTypeName));
+                result.append(String.format("\n%s<property name=\"%s_arrayElementType%d\" value=\"%s\"/>",
+                        indent, recordParamName, fieldIndexHolder[0], elementTypeName));
             }
 
             // Add record field names for arrays of records (for table-to-JSON conversion)
@@ -444,25 +484,25 @@ public final class XmlPropertyWriter {
                 String fieldNames = elementFields.stream()
                         .map(FunctionParam::getValue)
                         .collect(Collectors.joining(","));
-                result.append(String.format("\n        <property name=\"%s_arrayRecordFields%d\" value=\"%s\"/>",
-                        recordParamName, fieldIndexHolder[0], fieldNames));
+                result.append(String.format("\n%s<property name=\"%s_arrayRecordFields%d\" value=\"%s\"/>",
+                        indent, recordParamName, fieldIndexHolder[0], fieldNames));
 
                 // Add dual input mode properties for nested record arrays (Table/JSON selector)
-                result.append(String.format("\n        <property name=\"%s_param%d_dualMode\" value=\"true\"/>",
-                        recordParamName, fieldIndexHolder[0]));
-                result.append(String.format("\n        <property name=\"%s_param%d_inputModeField\" value=\"%sInputMode\"/>",
-                        recordParamName, fieldIndexHolder[0], sanitizedFieldValue));
-                result.append(String.format("\n        <property name=\"%s_param%d_jsonField\" value=\"%sJson\"/>",
-                        recordParamName, fieldIndexHolder[0], sanitizedFieldValue));
+                result.append(String.format("\n%s<property name=\"%s_param%d_dualMode\" value=\"true\"/>",
+                        indent, recordParamName, fieldIndexHolder[0]));
+                result.append(String.format("\n%s<property name=\"%s_param%d_inputModeField\" value=\"%sInputMode\"/>",
+                        indent, recordParamName, fieldIndexHolder[0], sanitizedFieldValue));
+                result.append(String.format("\n%s<property name=\"%s_param%d_jsonField\" value=\"%sJson\"/>",
+                        indent, recordParamName, fieldIndexHolder[0], sanitizedFieldValue));
             }
 
             fieldIndexHolder[0]++;
         } else {
             String fieldValue = fieldParam.getValue();
-            result.append(String.format("\n        <property name=\"%s_param%d\" value=\"%s\"/>",
-                    recordParamName, fieldIndexHolder[0], fieldValue));
-            result.append(String.format("\n        <property name=\"%s_paramType%d\" value=\"%s\"/>",
-                    recordParamName, fieldIndexHolder[0], fieldParam.getParamType()));
+            result.append(String.format("\n%s<property name=\"%s_param%d\" value=\"%s\"/>",
+                    indent, recordParamName, fieldIndexHolder[0], fieldValue));
+            result.append(String.format("\n%s<property name=\"%s_paramType%d\" value=\"%s\"/>",
+                    indent, recordParamName, fieldIndexHolder[0], fieldParam.getParamType()));
             fieldIndexHolder[0]++;
         }
     }
@@ -473,33 +513,34 @@ public final class XmlPropertyWriter {
     static void writeFunctionRecordFieldPropertiesWithUnionMember(FunctionParam fieldParam, String recordParamName,
                                                                   StringBuilder result, int[] fieldIndexHolder,
                                                                   String unionMemberType) {
-        writeFunctionRecordFieldPropertiesWithUnionMember(fieldParam, recordParamName, result, fieldIndexHolder, unionMemberType, new java.util.HashSet<>());
+        writeFunctionRecordFieldPropertiesWithUnionMember(fieldParam, recordParamName, result, fieldIndexHolder, unionMemberType, PROPERTY_INDENT, new java.util.HashSet<>());
     }
 
     static void writeFunctionRecordFieldPropertiesWithUnionMember(FunctionParam fieldParam, String recordParamName,
                                                                   StringBuilder result, int[] fieldIndexHolder,
-                                                                  String unionMemberType, java.util.Set<String> visitedTypes) {
+                                                                  String unionMemberType, String indent,
+                                                                  java.util.Set<String> visitedTypes) {
         if (fieldParam instanceof RecordFunctionParam nestedRecordParam && !nestedRecordParam.getRecordFieldParams().isEmpty()) {
             for (FunctionParam nestedFieldParam : nestedRecordParam.getRecordFieldParams()) {
                 writeFunctionRecordFieldPropertiesWithUnionMember(nestedFieldParam, recordParamName,
-                        result, fieldIndexHolder, unionMemberType, visitedTypes);
+                        result, fieldIndexHolder, unionMemberType, indent, visitedTypes);
             }
         } else if (fieldParam instanceof UnionFunctionParam unionFieldParam) {
             String fieldValue = fieldParam.getValue();
-            result.append(String.format("\n        <property name=\"%s_param%d\" value=\"%s\"/>",
-                    recordParamName, fieldIndexHolder[0], fieldValue));
-            result.append(String.format("\n        <property name=\"%s_paramType%d\" value=\"%s\"/>",
-                    recordParamName, fieldIndexHolder[0], fieldParam.getParamType()));
+            result.append(String.format("\n%s<property name=\"%s_param%d\" value=\"%s\"/>",
+                    indent, recordParamName, fieldIndexHolder[0], fieldValue));
+            result.append(String.format("\n%s<property name=\"%s_paramType%d\" value=\"%s\"/>",
+                    indent, recordParamName, fieldIndexHolder[0], fieldParam.getParamType()));
             String sanitizedParamName = Utils.sanitizeParamName(fieldValue);
             
             if (!unionFieldParam.isTypeDescriptor()) {
-                result.append(String.format("\n        <property name=\"%s_dataType%d\" value=\"%s\"/>",
-                        recordParamName, fieldIndexHolder[0],
+                result.append(String.format("\n%s<property name=\"%s_dataType%d\" value=\"%s\"/>",
+                        indent, recordParamName, fieldIndexHolder[0],
                         sanitizedParamName + "DataType"));
             }
             if (unionMemberType != null) {
-                result.append(String.format("\n        <property name=\"%s_unionMember%d\" value=\"%s\"/>",
-                        recordParamName, fieldIndexHolder[0], unionMemberType));
+                result.append(String.format("\n%s<property name=\"%s_unionMember%d\" value=\"%s\"/>",
+                        indent, recordParamName, fieldIndexHolder[0], unionMemberType));
             }
             fieldIndexHolder[0]++;
 
@@ -518,7 +559,7 @@ public final class XmlPropertyWriter {
                         }
                         for (FunctionParam recordField : recordMemberParam.getRecordFieldParams()) {
                             writeFunctionRecordFieldPropertiesWithUnionMember(recordField, recordParamName,
-                                    result, fieldIndexHolder, memberTypeName, visitedTypes);
+                                    result, fieldIndexHolder, memberTypeName, indent, visitedTypes);
                         }
                         if (memberTypeName != null) {
                             visitedTypes.remove(memberTypeName);
@@ -528,13 +569,13 @@ public final class XmlPropertyWriter {
             }
         } else {
             String fieldValue = fieldParam.getValue();
-            result.append(String.format("\n        <property name=\"%s_param%d\" value=\"%s\"/>",
-                    recordParamName, fieldIndexHolder[0], fieldValue));
-            result.append(String.format("\n        <property name=\"%s_paramType%d\" value=\"%s\"/>",
-                    recordParamName, fieldIndexHolder[0], fieldParam.getParamType()));
+            result.append(String.format("\n%s<property name=\"%s_param%d\" value=\"%s\"/>",
+                    indent, recordParamName, fieldIndexHolder[0], fieldValue));
+            result.append(String.format("\n%s<property name=\"%s_paramType%d\" value=\"%s\"/>",
+                    indent, recordParamName, fieldIndexHolder[0], fieldParam.getParamType()));
             if (unionMemberType != null) {
-                result.append(String.format("\n        <property name=\"%s_unionMember%d\" value=\"%s\"/>",
-                        recordParamName, fieldIndexHolder[0], unionMemberType));
+                result.append(String.format("\n%s<property name=\"%s_unionMember%d\" value=\"%s\"/>",
+                        indent, recordParamName, fieldIndexHolder[0], unionMemberType));
             }
             fieldIndexHolder[0]++;
         }